@@ -1,13 +1,20 @@
 package cn.hutool.bloomfilter;
 
+import cn.hutool.bloomfilter.bitMap.LongMap;
 import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.util.CharsetUtil;
 import cn.hutool.core.util.HashUtil;
 
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.BitSet;
 
 /**
@@ -38,6 +45,21 @@ public class BitSetBloomFilter implements BloomFilter {
 		this.bitSet = new BitSet(this.bitSetSize);
 	}
 
+	/**
+	 * 构造，使用已有的BitSet
+	 *
+	 * @param bitSet             BitSet
+	 * @param bitSetSize         位数
+	 * @param addedElements      预计所要包含的记录
+	 * @param hashFunctionNumber 哈希函数的个数
+	 */
+	private BitSetBloomFilter(BitSet bitSet, int bitSetSize, int addedElements, int hashFunctionNumber) {
+		this.bitSet = bitSet;
+		this.bitSetSize = bitSetSize;
+		this.addedElements = addedElements;
+		this.hashFunctionNumber = hashFunctionNumber;
+	}
+
 	/**
 	 * 通过文件初始化过滤器.
 	 *
@@ -115,6 +137,50 @@ public class BitSetBloomFilter implements BloomFilter {
 		return Math.pow((1 - Math.exp(-hashFunctionNumber * (double) addedElements / bitSetSize)), hashFunctionNumber);
 	}
 
+	/**
+	 * 将过滤器以二进制格式写出，包括头（哈希函数个数、位数）和原始的位数组，不关闭流
+	 *
+	 * @param out 输出流
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.36
+	 */
+	public void writeTo(OutputStream out) throws IORuntimeException {
+		final BloomFilterFormat format = new BloomFilterFormat(BloomFilterFormat.TYPE_BIT_SET, hashFunctionNumber, addedElements, bitSetSize);
+		// toLongArray不包含末尾的0，补齐到位数对应的长度
+		final long[] longs = Arrays.copyOf(bitSet.toLongArray(), format.longSize());
+		final DataOutputStream dataOut = new DataOutputStream(IoUtil.toBuffered(out));
+		try {
+			format.writeHeader(dataOut);
+			BloomFilterFormat.writeLongs(dataOut, new LongMap(longs));
+			dataOut.flush();
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 从{@link #writeTo(OutputStream)}写出的数据中读取过滤器，只读取过滤器本身的字节，不关闭流
+	 *
+	 * @param in 输入流
+	 * @return BitSetBloomFilter
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 * @since 5.8.36
+	 */
+	public static BitSetBloomFilter readFrom(InputStream in) throws IORuntimeException {
+		// 不使用缓冲流，避免预读过滤器之后的数据，调用方可继续读取流中剩余的内容
+		final DataInputStream dataIn = new DataInputStream(in);
+		try {
+			final BloomFilterFormat format = BloomFilterFormat.readHeader(dataIn, BloomFilterFormat.TYPE_BIT_SET);
+			if (format.numBits > Integer.MAX_VALUE) {
+				throw new IORuntimeException("Invalid bit set size: {}", format.numBits);
+			}
+			final BitSet bitSet = BitSet.valueOf(BloomFilterFormat.readLongs(dataIn, format.longSize()));
+			return new BitSetBloomFilter(bitSet, (int) format.numBits, format.extra, format.numHashFunctions);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
 	/**
 	 * 将字符串的字节表示进行多哈希编码.
 	 *
@@ -0,0 +1,157 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.LongArrayBitMap;
+import cn.hutool.core.io.IORuntimeException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 布隆过滤器二进制格式，文件由24字节的头和原始的long数组组成，所有数值为大端序：
+ * <pre>
+ * | magic(4) | version(2) | type(2) | 哈希函数个数(4) | 附加值(4) | 位数(8) | long数组 ... |
+ * </pre>
+ * 头的长度为8的倍数，保证映射后long数组按8字节对齐。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class BloomFilterFormat {
+
+	/**
+	 * 魔数，即"HTBF"
+	 */
+	static final int MAGIC = 0x48544246;
+	/**
+	 * 格式版本
+	 */
+	static final short VERSION = 1;
+	/**
+	 * 头长度
+	 */
+	static final int HEADER_SIZE = 24;
+	/**
+	 * 读写long数组时每次处理的long数
+	 */
+	private static final int CHUNK_LONGS = 8192;
+
+	/**
+	 * 类型：{@link OptimalBloomFilter}及其子类
+	 */
+	static final short TYPE_OPTIMAL = 1;
+	/**
+	 * 类型：{@link BitSetBloomFilter}
+	 */
+	static final short TYPE_BIT_SET = 2;
+
+	final short type;
+	final int numHashFunctions;
+	final int extra;
+	final long numBits;
+
+	/**
+	 * 构造
+	 *
+	 * @param type             类型
+	 * @param numHashFunctions 哈希函数个数
+	 * @param extra            附加值，由类型决定含义
+	 * @param numBits          位数
+	 */
+	BloomFilterFormat(short type, int numHashFunctions, int extra, long numBits) {
+		this.type = type;
+		this.numHashFunctions = numHashFunctions;
+		this.extra = extra;
+		this.numBits = numBits;
+	}
+
+	/**
+	 * @return long数组的长度
+	 */
+	int longSize() {
+		return (int) ((numBits + Long.SIZE - 1) / Long.SIZE);
+	}
+
+	/**
+	 * 写出头
+	 *
+	 * @param out 输出
+	 * @throws IOException IO异常
+	 */
+	void writeHeader(DataOutput out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeShort(VERSION);
+		out.writeShort(type);
+		out.writeInt(numHashFunctions);
+		out.writeInt(extra);
+		out.writeLong(numBits);
+	}
+
+	/**
+	 * 读取并校验头
+	 *
+	 * @param in           输入
+	 * @param expectedType 期望的类型
+	 * @return 头信息
+	 * @throws IOException IO异常
+	 */
+	static BloomFilterFormat readHeader(DataInput in, short expectedType) throws IOException {
+		if (MAGIC != in.readInt()) {
+			throw new IORuntimeException("Not a bloom filter data!");
+		}
+		final short version = in.readShort();
+		if (VERSION != version) {
+			throw new IORuntimeException("Unsupported bloom filter version: {}", version);
+		}
+		final short type = in.readShort();
+		if (expectedType != type) {
+			throw new IORuntimeException("Bloom filter type mismatch, expected {} but {}", expectedType, type);
+		}
+		final BloomFilterFormat format = new BloomFilterFormat(type, in.readInt(), in.readInt(), in.readLong());
+		if (format.numHashFunctions <= 0 || format.numBits <= 0) {
+			throw new IORuntimeException("Invalid bloom filter header!");
+		}
+		return format;
+	}
+
+	/**
+	 * 分块写出BitMap中的所有long
+	 *
+	 * @param out    输出
+	 * @param bitMap BitMap
+	 * @throws IOException IO异常
+	 */
+	static void writeLongs(DataOutput out, LongArrayBitMap bitMap) throws IOException {
+		final int size = bitMap.longSize();
+		final ByteBuffer chunk = ByteBuffer.allocate(Math.min(size, CHUNK_LONGS) * Long.BYTES);
+		for (int i = 0; i < size; i++) {
+			chunk.putLong(bitMap.getLong(i));
+			if (false == chunk.hasRemaining()) {
+				out.write(chunk.array(), 0, chunk.position());
+				chunk.clear();
+			}
+		}
+		out.write(chunk.array(), 0, chunk.position());
+	}
+
+	/**
+	 * 分块读取指定个数的long
+	 *
+	 * @param in   输入
+	 * @param size long的个数
+	 * @return long数组
+	 * @throws IOException IO异常
+	 */
+	static long[] readLongs(DataInput in, int size) throws IOException {
+		final long[] longs = new long[size];
+		final byte[] chunk = new byte[Math.min(size, CHUNK_LONGS) * Long.BYTES];
+		int count;
+		for (int i = 0; i < size; i += count) {
+			count = Math.min(size - i, CHUNK_LONGS);
+			in.readFully(chunk, 0, count * Long.BYTES);
+			ByteBuffer.wrap(chunk, 0, count * Long.BYTES).asLongBuffer().get(longs, i, count);
+		}
+		return longs;
+	}
+}
@@ -1,5 +1,7 @@
 package cn.hutool.bloomfilter;
 
+import cn.hutool.core.lang.Assert;
+
 /**
  * 布隆过滤器工具
  *
@@ -29,4 +31,78 @@ public class BloomFilterUtil {
 	public static BitMapBloomFilter createBitMap(int m) {
 		return new BitMapBloomFilter(m);
 	}
+
+	/**
+	 * 创建按照预计元素数和误判率计算大小的布隆过滤器
+	 *
+	 * @param expectedInsertions 预计加入的元素数
+	 * @param fpp                期望的误判率，取值(0, 1)
+	 * @return OptimalBloomFilter
+	 * @since 5.8.36
+	 */
+	public static OptimalBloomFilter createOptimal(long expectedInsertions, double fpp) {
+		return new OptimalBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 创建线程安全的布隆过滤器，多个线程可以无锁地同时加入和查询
+	 *
+	 * @param expectedInsertions 预计加入的元素数
+	 * @param fpp                期望的误判率，取值(0, 1)
+	 * @return ConcurrentBloomFilter
+	 * @since 5.8.36
+	 */
+	public static ConcurrentBloomFilter createConcurrent(long expectedInsertions, double fpp) {
+		return new ConcurrentBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 创建可扩容的布隆过滤器，元素数超过当前容量时自动追加更大的过滤器，总误判率不超过指定值
+	 *
+	 * @param initialCapacity 初始容量
+	 * @param fpp             期望的误判率，取值(0, 1)
+	 * @return ScalableBloomFilter
+	 * @since 5.8.36
+	 */
+	public static ScalableBloomFilter createScalable(long initialCapacity, double fpp) {
+		return new ScalableBloomFilter(initialCapacity, fpp);
+	}
+
+	/**
+	 * 创建支持移除元素的计数布隆过滤器
+	 *
+	 * @param expectedInsertions 预计加入的元素数
+	 * @param fpp                期望的误判率，取值(0, 1)
+	 * @return CountingBloomFilter
+	 * @since 5.8.36
+	 */
+	public static CountingBloomFilter createCounting(long expectedInsertions, double fpp) {
+		return new CountingBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 计算最优的位数，即：{@code m = -n * ln(p) / (ln2)^2}
+	 *
+	 * @param expectedInsertions 预计加入的元素数
+	 * @param fpp                期望的误判率，取值(0, 1)
+	 * @return 位数
+	 * @since 5.8.36
+	 */
+	public static long optimalNumOfBits(long expectedInsertions, double fpp) {
+		Assert.isTrue(expectedInsertions > 0, "Expected insertions must be positive: {}", expectedInsertions);
+		Assert.isTrue(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1): {}", fpp);
+		return Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+	}
+
+	/**
+	 * 计算最优的哈希函数个数，即：{@code k = m / n * ln2}
+	 *
+	 * @param expectedInsertions 预计加入的元素数
+	 * @param numBits            位数
+	 * @return 哈希函数个数
+	 * @since 5.8.36
+	 */
+	public static int optimalNumOfHashFunctions(long expectedInsertions, long numBits) {
+		return Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+	}
 }
@@ -0,0 +1,91 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.AtomicLongMap;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 线程安全的布隆过滤器，多个线程可以无锁地同时加入和查询<br>
+ * 位数和哈希函数个数的计算与{@link OptimalBloomFilter}相同，位存储使用{@link AtomicLongMap}，
+ * 每个位通过CAS设置，不会因并发修改同一个long而丢失位（产生假阴性）。<br>
+ * 与{@link OptimalBloomFilter}使用相同的二进制格式，通过{@link #readFrom(InputStream)}或{@link #readFrom(File)}恢复的过滤器同样是线程安全的。<br>
+ * 映射的内存无法使用CAS修改，因此不提供内存映射加载，只需查询时可使用{@link OptimalBloomFilter#map(File)}。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class ConcurrentBloomFilter extends OptimalBloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedInsertions 预计加入的元素数
+	 * @param fpp                期望的误判率，取值(0, 1)
+	 */
+	public ConcurrentBloomFilter(long expectedInsertions, double fpp) {
+		this(BloomFilterUtil.optimalNumOfBits(expectedInsertions, fpp), expectedInsertions);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param numBits            位数
+	 * @param expectedInsertions 预计加入的元素数
+	 */
+	private ConcurrentBloomFilter(long numBits, long expectedInsertions) {
+		this(new AtomicLongMap(numOfLongs(numBits)), numBits, BloomFilterUtil.optimalNumOfHashFunctions(expectedInsertions, numBits));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bitMap           {@link AtomicLongMap}
+	 * @param numBits          位数
+	 * @param numHashFunctions 哈希函数个数
+	 */
+	private ConcurrentBloomFilter(AtomicLongMap bitMap, long numBits, int numHashFunctions) {
+		super(bitMap, numBits, numHashFunctions);
+	}
+
+	/**
+	 * 从{@link #writeTo(OutputStream)}写出的数据中读取线程安全的过滤器，数据读入{@link AtomicLongMap}，只读取过滤器本身的字节，不关闭流
+	 *
+	 * @param in 输入流
+	 * @return ConcurrentBloomFilter
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 */
+	public static ConcurrentBloomFilter readFrom(InputStream in) throws IORuntimeException {
+		// 不使用缓冲流，避免预读过滤器之后的数据
+		final DataInputStream dataIn = new DataInputStream(in);
+		try {
+			final BloomFilterFormat format = BloomFilterFormat.readHeader(dataIn, BloomFilterFormat.TYPE_OPTIMAL);
+			final long[] longs = BloomFilterFormat.readLongs(dataIn, numOfLongs(format.numBits));
+			return new ConcurrentBloomFilter(new AtomicLongMap(longs), format.numBits, format.numHashFunctions);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 从{@link #writeTo(OutputStream)}写出的文件中读取线程安全的过滤器，位数组读入堆中的{@link AtomicLongMap}<br>
+	 * 只需查询而无需加入时，可使用{@link OptimalBloomFilter#map(File)}避免复制（其查询是线程安全的）。
+	 *
+	 * @param file 文件
+	 * @return ConcurrentBloomFilter
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 */
+	public static ConcurrentBloomFilter readFrom(File file) throws IORuntimeException {
+		try (final InputStream in = IoUtil.toBuffered(IoUtil.toStream(file))) {
+			return readFrom(in);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.hash.MurmurHash;
+
+/**
+ * 计数布隆过滤器（Counting Bloom Filter），支持移除元素<br>
+ * 每个位置使用4位计数器代替单个位，加入时计数器加1，移除时减1，计数器为0时表示位置未被占用。
+ * 位数和哈希函数个数的计算与{@link OptimalBloomFilter}相同，占用空间为其4倍。<br>
+ * 计数器达到最大值15后不再增减，以避免溢出导致误删（产生假阴性）。只能移除确实加入过的元素，移除未加入的元素可能导致其它元素被误判为不存在。<br>
+ * 此类非线程安全。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class CountingBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 每个计数器的位数
+	 */
+	private static final int COUNTER_BITS = 4;
+	/**
+	 * 每个long包含的计数器数
+	 */
+	private static final int COUNTERS_PER_LONG = Long.SIZE / COUNTER_BITS;
+	/**
+	 * 计数器最大值
+	 */
+	private static final long MAX_COUNT = (1L << COUNTER_BITS) - 1;
+
+	private final long[] counters;
+	private final long numCounters;
+	private final int numHashFunctions;
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedInsertions 预计加入的元素数
+	 * @param fpp                期望的误判率，取值(0, 1)
+	 */
+	public CountingBloomFilter(long expectedInsertions, double fpp) {
+		final long numCounters = BloomFilterUtil.optimalNumOfBits(expectedInsertions, fpp);
+		Assert.isTrue(numCounters <= (long) Integer.MAX_VALUE * COUNTERS_PER_LONG, "Too many counters: {}", numCounters);
+		this.numCounters = numCounters;
+		this.numHashFunctions = BloomFilterUtil.optimalNumOfHashFunctions(expectedInsertions, numCounters);
+		this.counters = new long[(int) ((numCounters + COUNTERS_PER_LONG - 1) / COUNTERS_PER_LONG)];
+	}
+
+	@Override
+	public boolean contains(String str) {
+		final long[] hash = MurmurHash.hash128(str);
+		long combinedHash = hash[0];
+		for (int i = 0; i < numHashFunctions; i++) {
+			if (0 == getCount((combinedHash & Long.MAX_VALUE) % numCounters)) {
+				return false;
+			}
+			combinedHash += hash[1];
+		}
+		return true;
+	}
+
+	/**
+	 * 加入字符串，所有对应的计数器加1<br>
+	 * 与其它布隆过滤器不同，已存在的字符串也会再次计数，以便多次加入后需要多次移除
+	 *
+	 * @param str 字符串
+	 * @return 加入前是否不存在
+	 */
+	@Override
+	public boolean add(String str) {
+		final long[] hash = MurmurHash.hash128(str);
+		long combinedHash = hash[0];
+		boolean changed = false;
+		long index;
+		for (int i = 0; i < numHashFunctions; i++) {
+			index = (combinedHash & Long.MAX_VALUE) % numCounters;
+			final long count = getCount(index);
+			if (0 == count) {
+				changed = true;
+			}
+			if (count < MAX_COUNT) {
+				setCount(index, count + 1);
+			}
+			combinedHash += hash[1];
+		}
+		return changed;
+	}
+
+	/**
+	 * 移除字符串，所有对应的计数器减1，不存在时不做操作
+	 *
+	 * @param str 字符串
+	 * @return 是否移除，不存在返回{@code false}
+	 */
+	public boolean remove(String str) {
+		if (false == contains(str)) {
+			return false;
+		}
+
+		final long[] hash = MurmurHash.hash128(str);
+		long combinedHash = hash[0];
+		long index;
+		for (int i = 0; i < numHashFunctions; i++) {
+			index = (combinedHash & Long.MAX_VALUE) % numCounters;
+			final long count = getCount(index);
+			// 已饱和的计数器无法确定真实计数，保持不变
+			if (count < MAX_COUNT) {
+				setCount(index, count - 1);
+			}
+			combinedHash += hash[1];
+		}
+		return true;
+	}
+
+	/**
+	 * @return 计数器个数
+	 */
+	public long getNumCounters() {
+		return this.numCounters;
+	}
+
+	/**
+	 * @return 哈希函数个数
+	 */
+	public int getNumHashFunctions() {
+		return this.numHashFunctions;
+	}
+
+	private long getCount(long index) {
+		final int shift = (int) (index % COUNTERS_PER_LONG) * COUNTER_BITS;
+		return (counters[(int) (index / COUNTERS_PER_LONG)] >>> shift) & MAX_COUNT;
+	}
+
+	private void setCount(long index, long count) {
+		final int i = (int) (index / COUNTERS_PER_LONG);
+		final int shift = (int) (index % COUNTERS_PER_LONG) * COUNTER_BITS;
+		counters[i] = (counters[i] & ~(MAX_COUNT << shift)) | (count << shift);
+	}
+}
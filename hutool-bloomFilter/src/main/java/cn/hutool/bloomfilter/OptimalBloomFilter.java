@@ -0,0 +1,223 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.BitMap;
+import cn.hutool.bloomfilter.bitMap.LongArrayBitMap;
+import cn.hutool.bloomfilter.bitMap.LongMap;
+import cn.hutool.bloomfilter.bitMap.MappedLongMap;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.hash.MurmurHash;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectStreamException;
+import java.io.OutputStream;
+
+/**
+ * 按照预计元素数和误判率计算大小的布隆过滤器<br>
+ * 与{@link BitMapBloomFilter}固定使用5个哈希函数不同，此过滤器按照以下公式计算最优的位数m和哈希函数个数k：
+ * <pre>
+ * m = -n * ln(p) / (ln2)^2
+ * k = m / n * ln2
+ * </pre>
+ * 哈希使用一次128位{@link MurmurHash}计算得到h1和h2，第i个位置为{@code h1 + i * h2}（双重哈希），无需k次独立的哈希计算。<br>
+ * 位数使用long索引，最多支持约1370亿位（{@code 2^31 * 64}），可满足数十亿元素的去重。<br>
+ * 此类非线程安全，多线程共享时请使用{@link ConcurrentBloomFilter}。<br>
+ * 通过{@link #writeTo(OutputStream)}可将过滤器保存为紧凑的二进制格式，使用{@link #readFrom(InputStream)}读入堆中，
+ * 或使用{@link #map(File)}直接映射文件，无需复制即可查询。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class OptimalBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 最大位数，受long[]数组长度限制
+	 */
+	private static final long MAX_BITS = (long) Integer.MAX_VALUE * BitMap.MACHINE64;
+
+	private final BitMap bitMap;
+	private final long numBits;
+	private final int numHashFunctions;
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedInsertions 预计加入的元素数
+	 * @param fpp                期望的误判率，取值(0, 1)
+	 */
+	public OptimalBloomFilter(long expectedInsertions, double fpp) {
+		this(BloomFilterUtil.optimalNumOfBits(expectedInsertions, fpp), expectedInsertions);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param numBits            位数
+	 * @param expectedInsertions 预计加入的元素数
+	 */
+	private OptimalBloomFilter(long numBits, long expectedInsertions) {
+		this(new LongMap(numOfLongs(numBits)), numBits, BloomFilterUtil.optimalNumOfHashFunctions(expectedInsertions, numBits));
+	}
+
+	/**
+	 * 构造，使用自定义的{@link BitMap}，BitMap需能容纳numBits个位
+	 *
+	 * @param bitMap           {@link BitMap}
+	 * @param numBits          位数
+	 * @param numHashFunctions 哈希函数个数
+	 */
+	protected OptimalBloomFilter(BitMap bitMap, long numBits, int numHashFunctions) {
+		Assert.isTrue(numBits > 0, "Num of bits must be positive: {}", numBits);
+		Assert.isTrue(numHashFunctions > 0, "Num of hash functions must be positive: {}", numHashFunctions);
+		this.bitMap = bitMap;
+		this.numBits = numBits;
+		this.numHashFunctions = numHashFunctions;
+	}
+
+	@Override
+	public boolean contains(String str) {
+		final long[] hash = MurmurHash.hash128(str);
+		long combinedHash = hash[0];
+		for (int i = 0; i < numHashFunctions; i++) {
+			if (false == bitMap.contains((combinedHash & Long.MAX_VALUE) % numBits)) {
+				return false;
+			}
+			combinedHash += hash[1];
+		}
+		return true;
+	}
+
+	@Override
+	public boolean add(String str) {
+		final long[] hash = MurmurHash.hash128(str);
+		long combinedHash = hash[0];
+		boolean changed = false;
+		for (int i = 0; i < numHashFunctions; i++) {
+			changed |= bitMap.addIfAbsent((combinedHash & Long.MAX_VALUE) % numBits);
+			combinedHash += hash[1];
+		}
+		return changed;
+	}
+
+	/**
+	 * @return 位数
+	 */
+	public long getNumBits() {
+		return this.numBits;
+	}
+
+	/**
+	 * @return 哈希函数个数
+	 */
+	public int getNumHashFunctions() {
+		return this.numHashFunctions;
+	}
+
+	/**
+	 * 计算加入指定数量元素后的误判率，即：{@code (1 - e^(-k * n / m)) ^ k}
+	 *
+	 * @param insertions 已加入的元素数
+	 * @return 误判率
+	 */
+	public double getFalsePositiveProbability(long insertions) {
+		return Math.pow(1 - Math.exp(-numHashFunctions * (double) insertions / numBits), numHashFunctions);
+	}
+
+	/**
+	 * 将过滤器以二进制格式写出，包括头（哈希函数个数、位数）和原始的位数组，不关闭流
+	 *
+	 * @param out 输出流
+	 * @throws IORuntimeException IO异常
+	 */
+	public void writeTo(OutputStream out) throws IORuntimeException {
+		Assert.isInstanceOf(LongArrayBitMap.class, bitMap, "BitMap [{}] can not be written!", bitMap.getClass());
+		final DataOutputStream dataOut = new DataOutputStream(IoUtil.toBuffered(out));
+		try {
+			new BloomFilterFormat(BloomFilterFormat.TYPE_OPTIMAL, numHashFunctions, 0, numBits).writeHeader(dataOut);
+			BloomFilterFormat.writeLongs(dataOut, (LongArrayBitMap) bitMap);
+			dataOut.flush();
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 从{@link #writeTo(OutputStream)}写出的数据中读取过滤器，数据读入堆中，只读取过滤器本身的字节，不关闭流
+	 *
+	 * @param in 输入流
+	 * @return OptimalBloomFilter
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 */
+	public static OptimalBloomFilter readFrom(InputStream in) throws IORuntimeException {
+		// 不使用缓冲流，避免预读过滤器之后的数据，调用方可继续读取流中剩余的内容
+		final DataInputStream dataIn = new DataInputStream(in);
+		try {
+			final BloomFilterFormat format = BloomFilterFormat.readHeader(dataIn, BloomFilterFormat.TYPE_OPTIMAL);
+			final long[] longs = BloomFilterFormat.readLongs(dataIn, numOfLongs(format.numBits));
+			return new OptimalBloomFilter(new LongMap(longs), format.numBits, format.numHashFunctions);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 使用内存映射加载{@link #writeTo(OutputStream)}写出的文件，位数组不复制到堆中，加载后即可查询<br>
+	 * 加入的元素只保存在内存中，不会写回文件，见{@link MappedLongMap}；序列化时位数组复制到堆中，反序列化得到普通的过滤器
+	 *
+	 * @param file 文件
+	 * @return OptimalBloomFilter
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 */
+	public static OptimalBloomFilter map(File file) throws IORuntimeException {
+		final BloomFilterFormat format;
+		try (final DataInputStream dataIn = new DataInputStream(IoUtil.toStream(file))) {
+			format = BloomFilterFormat.readHeader(dataIn, BloomFilterFormat.TYPE_OPTIMAL);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		final MappedLongMap bitMap = new MappedLongMap(file, BloomFilterFormat.HEADER_SIZE, numOfLongs(format.numBits));
+		return new OptimalBloomFilter(bitMap, format.numBits, format.numHashFunctions);
+	}
+
+	/**
+	 * 序列化时替换为堆中的副本，内存映射的{@link MappedLongMap}不可序列化
+	 *
+	 * @return 被序列化的对象
+	 * @throws ObjectStreamException 序列化异常
+	 */
+	protected Object writeReplace() throws ObjectStreamException {
+		if (false == (bitMap instanceof MappedLongMap)) {
+			return this;
+		}
+		final MappedLongMap mapped = (MappedLongMap) bitMap;
+		final long[] longs = new long[mapped.longSize()];
+		for (int i = 0; i < longs.length; i++) {
+			longs[i] = mapped.getLong(i);
+		}
+		return new OptimalBloomFilter(new LongMap(longs), numBits, numHashFunctions);
+	}
+
+	/**
+	 * @return 使用的{@link BitMap}
+	 */
+	protected BitMap getBitMap() {
+		return this.bitMap;
+	}
+
+	/**
+	 * 检查位数并计算所需的long数
+	 *
+	 * @param numBits 位数
+	 * @return long数
+	 */
+	protected static int numOfLongs(long numBits) {
+		Assert.isTrue(numBits > 0 && numBits <= MAX_BITS, "Num of bits must be in (0, {}]: {}", MAX_BITS, numBits);
+		return (int) ((numBits + BitMap.MACHINE64 - 1) / BitMap.MACHINE64);
+	}
+}
@@ -0,0 +1,137 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 可扩容的布隆过滤器（Scalable Bloom Filter）<br>
+ * 预计元素数未知时，固定大小的布隆过滤器要么浪费空间，要么在元素超出预期后误判率急剧上升。
+ * 此过滤器由多个{@link OptimalBloomFilter}组成，当前过滤器的元素数达到其容量时，追加一个容量为{@code growth}倍、
+ * 误判率为{@code ratio}倍的新过滤器，新元素只加入最新的过滤器，查询时检查所有过滤器。<br>
+ * 第i个过滤器的误判率为{@code p * (1 - ratio) * ratio^i}，因此总误判率不超过{@code p}。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class ScalableBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认容量增长倍数
+	 */
+	public static final int DEFAULT_GROWTH = 2;
+	/**
+	 * 默认误判率收紧比例
+	 */
+	public static final double DEFAULT_TIGHTENING_RATIO = 0.5;
+
+	private final double fpp;
+	private final int growth;
+	private final double tighteningRatio;
+	private final List<OptimalBloomFilter> filters = new ArrayList<>();
+
+	/**
+	 * 当前过滤器的容量
+	 */
+	private long currentCapacity;
+	/**
+	 * 当前过滤器的元素数
+	 */
+	private long currentCount;
+	/**
+	 * 所有过滤器的元素数
+	 */
+	private long count;
+
+	/**
+	 * 构造，容量每次增长2倍，误判率每次收紧为0.5倍
+	 *
+	 * @param initialCapacity 初始容量
+	 * @param fpp             总误判率，取值(0, 1)
+	 */
+	public ScalableBloomFilter(long initialCapacity, double fpp) {
+		this(initialCapacity, fpp, DEFAULT_GROWTH, DEFAULT_TIGHTENING_RATIO);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param initialCapacity 初始容量
+	 * @param fpp             总误判率，取值(0, 1)
+	 * @param growth          每次扩容时容量的增长倍数，不小于1
+	 * @param tighteningRatio 每次扩容时误判率的收紧比例，取值(0, 1)
+	 */
+	public ScalableBloomFilter(long initialCapacity, double fpp, int growth, double tighteningRatio) {
+		Assert.isTrue(initialCapacity > 0, "Initial capacity must be positive: {}", initialCapacity);
+		Assert.isTrue(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1): {}", fpp);
+		Assert.isTrue(growth >= 1, "Growth must be >= 1: {}", growth);
+		Assert.isTrue(tighteningRatio > 0 && tighteningRatio < 1, "Tightening ratio must be in (0, 1): {}", tighteningRatio);
+		this.fpp = fpp;
+		this.growth = growth;
+		this.tighteningRatio = tighteningRatio;
+		this.currentCapacity = initialCapacity;
+		addFilter();
+	}
+
+	@Override
+	public synchronized boolean contains(String str) {
+		// 倒序检查，较新的过滤器容量更大，包含的元素更多
+		for (int i = filters.size() - 1; i >= 0; i--) {
+			if (filters.get(i).contains(str)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public synchronized boolean add(String str) {
+		if (contains(str)) {
+			return false;
+		}
+		if (currentCount >= currentCapacity) {
+			currentCapacity = Math.min(Long.MAX_VALUE / growth, currentCapacity) * growth;
+			currentCount = 0;
+			addFilter();
+		}
+		filters.get(filters.size() - 1).add(str);
+		currentCount++;
+		count++;
+		return true;
+	}
+
+	/**
+	 * @return 加入的元素数（不含被判定为已存在的元素）
+	 */
+	public synchronized long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * @return 过滤器个数
+	 */
+	public synchronized int getFilterCount() {
+		return filters.size();
+	}
+
+	/**
+	 * @return 所有过滤器的总位数
+	 */
+	public synchronized long getNumBits() {
+		long numBits = 0;
+		for (final OptimalBloomFilter filter : filters) {
+			numBits += filter.getNumBits();
+		}
+		return numBits;
+	}
+
+	/**
+	 * 追加一个过滤器，误判率为{@code p * (1 - ratio) * ratio^i}
+	 */
+	private void addFilter() {
+		final double filterFpp = fpp * (1 - tighteningRatio) * Math.pow(tighteningRatio, filters.size());
+		filters.add(new OptimalBloomFilter(currentCapacity, Math.max(filterFpp, Double.MIN_NORMAL)));
+	}
+}
@@ -0,0 +1,84 @@
+package cn.hutool.bloomfilter.bitMap;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 线程安全的BitMap，使用{@link AtomicLongArray}存储，加入和移除使用CAS修改所在的long，无锁<br>
+ * 与{@link LongMap}相比，多个线程同时修改同一个long中的不同位时不会丢失位，适用于多线程共享同一个布隆过滤器的场景。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class AtomicLongMap implements LongArrayBitMap, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final AtomicLongArray longs;
+
+	/**
+	 * 构造
+	 *
+	 * @param size 容量，即long的个数
+	 */
+	public AtomicLongMap(int size) {
+		longs = new AtomicLongArray(size);
+	}
+
+	/**
+	 * 构造，复制已有的long数组作为初始值
+	 *
+	 * @param longs long数组
+	 */
+	public AtomicLongMap(long[] longs) {
+		this.longs = new AtomicLongArray(longs);
+	}
+
+	@Override
+	public void add(long i) {
+		addIfAbsent(i);
+	}
+
+	@Override
+	public boolean addIfAbsent(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long mask = 1L << (i & (BitMap.MACHINE64 - 1));
+		long old;
+		do {
+			old = longs.get(r);
+			if ((old & mask) != 0) {
+				return false;
+			}
+		} while (false == longs.compareAndSet(r, old, old | mask));
+		return true;
+	}
+
+	@Override
+	public boolean contains(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long c = i & (BitMap.MACHINE64 - 1);
+		return ((longs.get(r) >>> c) & 1) == 1;
+	}
+
+	@Override
+	public void remove(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long mask = 1L << (i & (BitMap.MACHINE64 - 1));
+		long old;
+		do {
+			old = longs.get(r);
+			if ((old & mask) == 0) {
+				return;
+			}
+		} while (false == longs.compareAndSet(r, old, old & ~mask));
+	}
+
+	@Override
+	public int longSize() {
+		return longs.length();
+	}
+
+	@Override
+	public long getLong(int index) {
+		return longs.get(index);
+	}
+}
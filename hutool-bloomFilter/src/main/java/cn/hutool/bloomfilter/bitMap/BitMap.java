@@ -18,6 +18,22 @@ public interface BitMap{
 	 */
 	void add(long i);
 
+	/**
+	 * 值不存在时加入值，并返回是否加入<br>
+	 * 默认实现为先检查再加入，非原子操作，线程安全的实现应重写此方法
+	 *
+	 * @param i 值
+	 * @return 是否加入，值已存在返回{@code false}
+	 * @since 5.8.36
+	 */
+	default boolean addIfAbsent(long i) {
+		if (contains(i)) {
+			return false;
+		}
+		add(i);
+		return true;
+	}
+
 	/**
 	 * 检查是否包含值
 	 *
@@ -3,7 +3,8 @@ package cn.hutool.bloomfilter.bitMap;
 import java.io.Serializable;
 
 /**
- * 过滤器BitMap在32位机器上.这个类能发生更好的效果.一般情况下建议使用此类
+ * 过滤器BitMap在32位机器上.这个类能发生更好的效果.一般情况下建议使用此类<br>
+ * 此类非线程安全，多线程同时加入时可能丢失位，并发场景请使用{@link AtomicLongMap}
  *
  * @author loolly
  *
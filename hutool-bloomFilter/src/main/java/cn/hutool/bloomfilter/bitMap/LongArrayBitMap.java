@@ -0,0 +1,26 @@
+package cn.hutool.bloomfilter.bitMap;
+
+/**
+ * 使用long数组按位存储的BitMap，第i位存储在第{@code i / 64}个long的第{@code i % 64}位<br>
+ * 通过此接口可以按long读取原始数据，用于快速序列化。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public interface LongArrayBitMap extends BitMap {
+
+	/**
+	 * 获取long的个数
+	 *
+	 * @return long的个数
+	 */
+	int longSize();
+
+	/**
+	 * 获取指定序号的long
+	 *
+	 * @param index 序号
+	 * @return long值
+	 */
+	long getLong(int index);
+}
@@ -3,12 +3,13 @@ package cn.hutool.bloomfilter.bitMap;
 import java.io.Serializable;
 
 /**
- * 过滤器BitMap在64位机器上.这个类能发生更好的效果.一般机器不建议使用
+ * 过滤器BitMap在64位机器上.这个类能发生更好的效果.一般机器不建议使用<br>
+ * 此类非线程安全，多线程同时加入时可能丢失位，并发场景请使用{@link AtomicLongMap}
  *
  * @author loolly
  *
  */
-public class LongMap implements BitMap, Serializable {
+public class LongMap implements LongArrayBitMap, Serializable {
 	private static final long serialVersionUID = 1L;
 
 	private final long[] longs;
@@ -29,6 +30,16 @@ public class LongMap implements BitMap, Serializable {
 		longs = new long[size];
 	}
 
+	/**
+	 * 构造，使用已有的long数组作为存储
+	 *
+	 * @param longs long数组
+	 * @since 5.8.36
+	 */
+	public LongMap(long[] longs) {
+		this.longs = longs;
+	}
+
 	@Override
 	public void add(long i) {
 		int r = (int) (i / BitMap.MACHINE64);
@@ -50,4 +61,14 @@ public class LongMap implements BitMap, Serializable {
 		longs[r] &= ~(1L << c);
 	}
 
+	@Override
+	public int longSize() {
+		return longs.length;
+	}
+
+	@Override
+	public long getLong(int index) {
+		return longs[index];
+	}
+
 }
@@ -0,0 +1,95 @@
+package cn.hutool.bloomfilter.bitMap;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 内存映射文件的BitMap，数据直接从映射的文件中读取，不占用Java堆，加载时无需复制数据，适用于GB级的布隆过滤器<br>
+ * 文件中的long为大端序（与{@link java.io.DataOutputStream#writeLong(long)}一致），按1GB分段映射以支持超过2GB的文件。<br>
+ * 文件可写时映射使用{@link FileChannel.MapMode#PRIVATE}模式，加入和移除只修改内存中的副本，不会写回文件；
+ * 文件只读时使用{@link FileChannel.MapMode#READ_ONLY}模式，加入和移除抛出{@link java.nio.ReadOnlyBufferException}。查询是线程安全的，修改非线程安全。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class MappedLongMap implements LongArrayBitMap {
+
+	/**
+	 * 每段的long数，每段1GB
+	 */
+	private static final int SEGMENT_SHIFT = 27;
+	private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+	private final MappedByteBuffer[] segments;
+	private final int size;
+
+	/**
+	 * 构造，映射文件中从指定位置开始的size个long
+	 *
+	 * @param file     文件
+	 * @param position 数据开始位置
+	 * @param size     long的个数
+	 * @throws IORuntimeException IO异常或文件长度不足
+	 */
+	public MappedLongMap(File file, long position, int size) throws IORuntimeException {
+		Assert.isTrue(size >= 0, "Size must be >= 0: {}", size);
+		this.size = size;
+		this.segments = new MappedByteBuffer[(int) (((long) size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+		// 映射建立后即可关闭文件
+		// PRIVATE模式要求通道可写，但修改不会写回文件
+		final boolean writable = file.canWrite();
+		final FileChannel.MapMode mode = writable ? FileChannel.MapMode.PRIVATE : FileChannel.MapMode.READ_ONLY;
+		try (final RandomAccessFile raf = new RandomAccessFile(file, writable ? "rw" : "r")) {
+			final FileChannel channel = raf.getChannel();
+			if (channel.size() < position + (long) size * Long.BYTES) {
+				throw new IORuntimeException("File [{}] is truncated, expected {} longs after position {}", file, size, position);
+			}
+			for (int i = 0; i < segments.length; i++) {
+				final long start = (long) i << SEGMENT_SHIFT;
+				final long count = Math.min(SEGMENT_MASK + 1, size - start);
+				segments[i] = channel.map(mode, position + start * Long.BYTES, count * Long.BYTES);
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	@Override
+	public void add(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		setLong(r, getLong(r) | (1L << (i & (BitMap.MACHINE64 - 1))));
+	}
+
+	@Override
+	public boolean contains(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long c = i & (BitMap.MACHINE64 - 1);
+		return ((getLong(r) >>> c) & 1) == 1;
+	}
+
+	@Override
+	public void remove(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		setLong(r, getLong(r) & ~(1L << (i & (BitMap.MACHINE64 - 1))));
+	}
+
+	@Override
+	public int longSize() {
+		return this.size;
+	}
+
+	@Override
+	public long getLong(int index) {
+		return segments[index >>> SEGMENT_SHIFT].getLong((index & SEGMENT_MASK) << 3);
+	}
+
+	private void setLong(int index, long value) {
+		segments[index >>> SEGMENT_SHIFT].putLong((index & SEGMENT_MASK) << 3, value);
+	}
+}
@@ -0,0 +1,206 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BloomFilterUtilTest {
+
+	@Test
+	public void optimalSizeTest() {
+		// 100万元素，1%误判率，约958万位，7个哈希函数
+		final long numBits = BloomFilterUtil.optimalNumOfBits(1000000, 0.01);
+		assertEquals(9585059, numBits);
+		assertEquals(7, BloomFilterUtil.optimalNumOfHashFunctions(1000000, numBits));
+	}
+
+	@Test
+	public void optimalFilterTest() {
+		final OptimalBloomFilter filter = BloomFilterUtil.createOptimal(10000, 0.01);
+		for (int i = 0; i < 10000; i++) {
+			filter.add("key" + i);
+		}
+		for (int i = 0; i < 10000; i++) {
+			assertTrue(filter.contains("key" + i));
+		}
+		assertFalse(filter.add("key0"));
+		assertEquals(0.01, filter.getFalsePositiveProbability(10000), 0.001);
+
+		int falsePositive = 0;
+		for (int i = 0; i < 10000; i++) {
+			if (filter.contains("other" + i)) {
+				falsePositive++;
+			}
+		}
+		// 期望约100个误判
+		assertTrue(falsePositive < 200, "False positive: " + falsePositive);
+	}
+
+	@Test
+	public void scalableFilterTest() {
+		final ScalableBloomFilter filter = BloomFilterUtil.createScalable(1000, 0.01);
+		for (int i = 0; i < 20000; i++) {
+			filter.add("key" + i);
+		}
+		assertTrue(filter.getFilterCount() > 1);
+		for (int i = 0; i < 20000; i++) {
+			assertTrue(filter.contains("key" + i));
+		}
+
+		int falsePositive = 0;
+		for (int i = 0; i < 10000; i++) {
+			if (filter.contains("other" + i)) {
+				falsePositive++;
+			}
+		}
+		assertTrue(falsePositive < 200, "False positive: " + falsePositive);
+	}
+
+	@Test
+	public void countingFilterTest() {
+		final CountingBloomFilter filter = BloomFilterUtil.createCounting(1000, 0.01);
+		assertTrue(filter.add("abc"));
+		assertTrue(filter.add("123"));
+		assertTrue(filter.contains("abc"));
+
+		assertTrue(filter.remove("abc"));
+		assertFalse(filter.contains("abc"));
+		assertTrue(filter.contains("123"));
+		assertFalse(filter.remove("abc"));
+
+		// 加入两次需要移除两次
+		filter.add("ddd");
+		filter.add("ddd");
+		filter.remove("ddd");
+		assertTrue(filter.contains("ddd"));
+		filter.remove("ddd");
+		assertFalse(filter.contains("ddd"));
+	}
+
+	@Test
+	public void concurrentFilterTest() throws InterruptedException {
+		final ConcurrentBloomFilter filter = BloomFilterUtil.createConcurrent(100000, 0.01);
+		final int threadCount = 8;
+		final CountDownLatch latch = new CountDownLatch(threadCount);
+		for (int t = 0; t < threadCount; t++) {
+			final int offset = t;
+			ThreadUtil.execute(() -> {
+				for (int i = offset; i < 100000; i += threadCount) {
+					filter.add("key" + i);
+				}
+				latch.countDown();
+			});
+		}
+		latch.await();
+
+		// 并发加入不能丢失位
+		for (int i = 0; i < 100000; i++) {
+			assertTrue(filter.contains("key" + i));
+		}
+	}
+
+	@Test
+	public void writeAndReadTest() {
+		final OptimalBloomFilter filter = BloomFilterUtil.createOptimal(1000, 0.01);
+		for (int i = 0; i < 1000; i++) {
+			filter.add("key" + i);
+		}
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		filter.writeTo(out);
+		// 头24字节 + 位数组
+		assertEquals(24 + (filter.getNumBits() + 63) / 64 * 8, out.size());
+
+		final OptimalBloomFilter read = OptimalBloomFilter.readFrom(new ByteArrayInputStream(out.toByteArray()));
+		assertEquals(filter.getNumBits(), read.getNumBits());
+		assertEquals(filter.getNumHashFunctions(), read.getNumHashFunctions());
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(read.contains("key" + i));
+		}
+		assertFalse(read.contains("other"));
+	}
+
+	@Test
+	public void mapTest() throws IOException {
+		final ConcurrentBloomFilter filter = BloomFilterUtil.createConcurrent(1000, 0.01);
+		for (int i = 0; i < 1000; i++) {
+			filter.add("key" + i);
+		}
+		final File file = FileUtil.createTempFile();
+		try {
+			try (final OutputStream out = FileUtil.getOutputStream(file)) {
+				filter.writeTo(out);
+			}
+			final long length = file.length();
+
+			final OptimalBloomFilter mapped = OptimalBloomFilter.map(file);
+			for (int i = 0; i < 1000; i++) {
+				assertTrue(mapped.contains("key" + i));
+			}
+			// 加入的元素不写回文件
+			assertTrue(mapped.add("new"));
+			assertTrue(mapped.contains("new"));
+			assertEquals(length, file.length());
+			try (final InputStream in = FileUtil.getInputStream(file)) {
+				assertFalse(OptimalBloomFilter.readFrom(in).contains("new"));
+			}
+
+			// 映射的过滤器序列化为堆中的副本
+			final OptimalBloomFilter copied = ObjectUtil.deserialize(ObjectUtil.serialize(mapped));
+			assertTrue(copied.contains("key0"));
+			assertTrue(copied.contains("new"));
+
+			// 读入线程安全的过滤器
+			final ConcurrentBloomFilter concurrent = ConcurrentBloomFilter.readFrom(file);
+			for (int i = 0; i < 1000; i++) {
+				assertTrue(concurrent.contains("key" + i));
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void bitSetWriteAndReadTest() {
+		final BitSetBloomFilter filter = BloomFilterUtil.createBitSet(2000, 1000, 8);
+		filter.add("abc");
+		filter.add("123");
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		filter.writeTo(out);
+
+		final BitSetBloomFilter read = BitSetBloomFilter.readFrom(new ByteArrayInputStream(out.toByteArray()));
+		assertTrue(read.contains("abc"));
+		assertTrue(read.contains("123"));
+		assertEquals(filter.getFalsePositiveProbability(), read.getFalsePositiveProbability());
+	}
+
+	@Test
+	public void readMultipleFromStreamTest() throws IOException {
+		final ConcurrentBloomFilter concurrent = BloomFilterUtil.createConcurrent(1000, 0.01);
+		concurrent.add("abc");
+		final BitSetBloomFilter bitSet = BloomFilterUtil.createBitSet(2000, 1000, 8);
+		bitSet.add("123");
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		concurrent.writeTo(out);
+		bitSet.writeTo(out);
+		out.write(0x7F);
+
+		// 读取过滤器不预读之后的数据
+		final InputStream in = new ByteArrayInputStream(out.toByteArray());
+		final ConcurrentBloomFilter readConcurrent = ConcurrentBloomFilter.readFrom(in);
+		assertTrue(readConcurrent.contains("abc"));
+		assertTrue(BitSetBloomFilter.readFrom(in).contains("123"));
+		assertEquals(0x7F, in.read());
+		assertEquals(-1, in.read());
+	}
+}
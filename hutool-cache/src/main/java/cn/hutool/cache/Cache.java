@@ -1,6 +1,8 @@
 package cn.hutool.cache;
 
 import cn.hutool.cache.impl.CacheObj;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.StatsRecorder;
 import cn.hutool.core.lang.func.Func0;
 
 import java.io.Serializable;
@@ -176,6 +178,18 @@ public interface Cache<K, V> extends Iterable<V>, Serializable {
 	 */
 	boolean containsKey(K key);
 
+	/**
+	 * 获取未过期的值，不更新访问时间和淘汰顺序，不记录命中统计，用于包装缓存（如{@link cn.hutool.cache.impl.LoadingCache}）加载前的二次检查<br>
+	 * 默认实现为判断存在后不更新访问时间获取，实现类可重写为更轻量的读取
+	 *
+	 * @param key 键
+	 * @return 值，不存在或已过期返回{@code null}
+	 * @since 5.8.36
+	 */
+	default V getQuietly(K key) {
+		return containsKey(key) ? get(key, false) : null;
+	}
+
 	/**
 	 * 设置监听
 	 *
@@ -186,4 +200,36 @@ public interface Cache<K, V> extends Iterable<V>, Serializable {
 	default Cache<K, V> setListener(CacheListener<K, V> listener){
 		return this;
 	}
+
+	/**
+	 * 获取已设置的监听，包装缓存（如{@link cn.hutool.cache.impl.LoadingCache}）通过此方法保留被包装缓存已有的监听
+	 *
+	 * @return 监听，未设置或不支持监听返回{@code null}
+	 * @since 5.8.36
+	 */
+	default CacheListener<K, V> getListener(){
+		return null;
+	}
+
+	/**
+	 * 设置统计记录器，用于记录命中、加载、移除和清理等事件，{@code null}表示关闭统计<br>
+	 * 默认不记录，实现类可选择支持
+	 *
+	 * @param statsRecorder 统计记录器，如{@link cn.hutool.cache.stats.DefaultStatsRecorder}
+	 * @return this
+	 * @since 5.8.36
+	 */
+	default Cache<K, V> setStatsRecorder(StatsRecorder statsRecorder){
+		return this;
+	}
+
+	/**
+	 * 获取缓存统计快照，未设置统计记录器时只包含命中和未命中数（如果实现支持）
+	 *
+	 * @return {@link CacheStats}
+	 * @since 5.8.36
+	 */
+	default CacheStats stats(){
+		return CacheStats.EMPTY;
+	}
 }
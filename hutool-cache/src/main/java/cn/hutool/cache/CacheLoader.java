@@ -0,0 +1,59 @@
+package cn.hutool.cache;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 缓存加载器，用于在缓存未命中或需要刷新时加载值
+ *
+ * @param <K> 缓存键
+ * @param <V> 缓存值
+ * @author looly
+ * @since 5.8.36
+ */
+@FunctionalInterface
+public interface CacheLoader<K, V> extends Serializable {
+
+	/**
+	 * 加载键对应的值
+	 *
+	 * @param key 键
+	 * @return 值，{@code null}表示不存在，不会被缓存
+	 * @throws Exception 加载异常
+	 */
+	V load(K key) throws Exception;
+
+	/**
+	 * 批量加载，默认逐个调用{@link #load(Object)}<br>
+	 * 如果数据源支持批量查询，可重写此方法减少查询次数
+	 *
+	 * @param keys 键列表
+	 * @return 键值对，不存在的键可不返回
+	 * @throws Exception 加载异常
+	 */
+	default Map<K, V> loadAll(Collection<? extends K> keys) throws Exception {
+		final Map<K, V> result = new HashMap<>(keys.size(), 1);
+		for (final K key : keys) {
+			final V value = load(key);
+			if (null != value) {
+				result.put(key, value);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 刷新键对应的值，默认调用{@link #load(Object)}<br>
+	 * 刷新在后台执行，期间缓存继续返回旧值
+	 *
+	 * @param key      键
+	 * @param oldValue 旧值
+	 * @return 新值，{@code null}表示不存在，此时保留旧值
+	 * @throws Exception 加载异常
+	 */
+	default V reload(K key, V oldValue) throws Exception {
+		return load(key);
+	}
+}
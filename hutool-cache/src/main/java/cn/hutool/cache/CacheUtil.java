@@ -1,12 +1,18 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.impl.ConcurrentLRUCache;
 import cn.hutool.cache.impl.FIFOCache;
 import cn.hutool.cache.impl.LFUCache;
 import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.LoadingCache;
 import cn.hutool.cache.impl.NoCache;
+import cn.hutool.cache.impl.OffHeapCache;
 import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.cache.impl.TinyLFUCache;
 import cn.hutool.cache.impl.WeakCache;
 
+import java.util.concurrent.Executor;
+
 /**
  * 缓存工具类
  *
@@ -91,6 +97,60 @@ public class CacheUtil {
 		return new LRUCache<>(capacity);
 	}
 
+	/**
+	 * 创建并发LRU (least recently used)最近最久未使用缓存，读取不加锁，适用于高并发读场景.
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @param timeout  过期时长，单位：毫秒
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.36
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity, long timeout) {
+		return new ConcurrentLRUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 创建并发LRU (least recently used)最近最久未使用缓存，读取不加锁，适用于高并发读场景.
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.36
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity) {
+		return new ConcurrentLRUCache<>(capacity);
+	}
+
+	/**
+	 * 创建W-TinyLFU缓存，使用频率估算决定准入，淘汰为O(1)操作，适用于存在大量一次性扫描访问的场景.
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @param timeout  过期时长，单位：毫秒
+	 * @return {@link TinyLFUCache}
+	 * @since 5.8.36
+	 */
+	public static <K, V> TinyLFUCache<K, V> newTinyLFUCache(int capacity, long timeout) {
+		return new TinyLFUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 创建W-TinyLFU缓存，使用频率估算决定准入，淘汰为O(1)操作，适用于存在大量一次性扫描访问的场景.
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @return {@link TinyLFUCache}
+	 * @since 5.8.36
+	 */
+	public static <K, V> TinyLFUCache<K, V> newTinyLFUCache(int capacity) {
+		return new TinyLFUCache<>(capacity);
+	}
+
 	/**
 	 * 创建定时缓存，通过定时任务自动清除过期缓存对象
 	 *
@@ -132,6 +192,61 @@ public class CacheUtil {
 		return new WeakCache<>(timeout);
 	}
 
+	/**
+	 * 创建自动加载缓存，未命中时通过加载器加载值，同一个键的并发加载会合并为一次.
+	 *
+	 * @param <K>    Key类型
+	 * @param <V>    Value类型
+	 * @param cache  被包装的缓存
+	 * @param loader 加载器
+	 * @return {@link LoadingCache}
+	 * @since 5.8.36
+	 */
+	public static <K, V> LoadingCache<K, V> newLoadingCache(Cache<K, V> cache, CacheLoader<K, V> loader) {
+		return new LoadingCache<>(cache, loader);
+	}
+
+	/**
+	 * 创建自动加载缓存，未命中时通过加载器加载值，同一个键的并发加载会合并为一次，值写入超过指定时长后访问时在后台刷新.
+	 *
+	 * @param <K>               Key类型
+	 * @param <V>               Value类型
+	 * @param cache             被包装的缓存
+	 * @param loader            加载器
+	 * @param refreshAfterWrite 写后刷新时长，单位：毫秒
+	 * @param executor          后台刷新使用的线程池，{@code null}表示使用全局线程池
+	 * @return {@link LoadingCache}
+	 * @since 5.8.36
+	 */
+	public static <K, V> LoadingCache<K, V> newLoadingCache(Cache<K, V> cache, CacheLoader<K, V> loader, long refreshAfterWrite, Executor executor) {
+		return new LoadingCache<>(cache, loader, refreshAfterWrite, executor);
+	}
+
+	/**
+	 * 创建堆外字节缓存，值存储在直接内存中，容量按字节数限制，空间不足时淘汰最久未使用的对象.
+	 *
+	 * @param <K>      Key类型
+	 * @param maxBytes 最大字节数
+	 * @param timeout  过期时长，单位：毫秒
+	 * @return {@link OffHeapCache}
+	 * @since 5.8.36
+	 */
+	public static <K> OffHeapCache<K> newOffHeapCache(long maxBytes, long timeout) {
+		return new OffHeapCache<>(maxBytes, timeout);
+	}
+
+	/**
+	 * 创建堆外字节缓存，值存储在直接内存中，容量按字节数限制，空间不足时淘汰最久未使用的对象.
+	 *
+	 * @param <K>      Key类型
+	 * @param maxBytes 最大字节数
+	 * @return {@link OffHeapCache}
+	 * @since 5.8.36
+	 */
+	public static <K> OffHeapCache<K> newOffHeapCache(long maxBytes) {
+		return new OffHeapCache<>(maxBytes);
+	}
+
 	/**
 	 * 创建无缓存实现.
 	 *
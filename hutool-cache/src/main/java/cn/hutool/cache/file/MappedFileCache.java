@@ -0,0 +1,249 @@
+package cn.hutool.cache.file;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 内存映射文件缓存，以解决频繁读取文件引起的性能问题<br>
+ * 与{@link LRUFileCache}、{@link LFUFileCache}将文件全部读入byte[]不同，此缓存只缓存文件的{@link MappedByteBuffer}映射，
+ * 文件内容由操作系统的页缓存管理，不占用Java堆：
+ * <ul>
+ *     <li>{@link #getFileBuffer(File)}返回映射的只读视图，多个线程可同时读取</li>
+ *     <li>{@link #transferTo(File, WritableByteChannel)}直接将映射写出到目标通道，无需复制到堆中</li>
+ *     <li>每次获取时检查文件的最后修改时间和大小，变化时重新映射</li>
+ * </ul>
+ * 缓存按照LRU策略限制映射的文件数，被淘汰的映射在GC时释放。单个映射最大为2GB，更大的文件只支持{@link #transferTo(File, WritableByteChannel)}，
+ * 此时使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}传输而不缓存。<br>
+ * 映射只在当前进程中有效，序列化时只保存容量和超时配置，反序列化后缓存为空，文件在首次获取时重新映射。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class MappedFileCache implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/** 容量，即最多映射的文件数 */
+	protected final int capacity;
+	/** 默认超时时间，0表示无默认超时 */
+	protected final long timeout;
+	/** 缓存实现，映射无法序列化，反序列化时重建 */
+	protected transient Cache<File, MappedFile> cache;
+
+	/**
+	 * 构造，默认无超时
+	 *
+	 * @param capacity 最多映射的文件数
+	 */
+	public MappedFileCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 最多映射的文件数
+	 * @param timeout  默认超时时间，0表示无默认超时
+	 */
+	public MappedFileCache(int capacity, long timeout) {
+		this.capacity = capacity;
+		this.timeout = timeout;
+		this.cache = new LRUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * @return 缓存容量（文件数）
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return 超时时间
+	 */
+	public long timeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * @return 缓存的文件数
+	 */
+	public int getCachedFilesCount() {
+		return cache.size();
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	// ---------------------------------------------------------------- get
+
+	/**
+	 * 获得缓存过的文件映射的只读视图，返回的{@link ByteBuffer}位置和界限相互独立，可在多个线程中使用
+	 *
+	 * @param path 文件路径
+	 * @return 文件内容的只读视图
+	 * @throws IORuntimeException IO异常
+	 */
+	public ByteBuffer getFileBuffer(String path) throws IORuntimeException {
+		return getFileBuffer(new File(path));
+	}
+
+	/**
+	 * 获得缓存过的文件映射的只读视图，返回的{@link ByteBuffer}位置和界限相互独立，可在多个线程中使用
+	 *
+	 * @param file 文件
+	 * @return 文件内容的只读视图
+	 * @throws IORuntimeException IO异常，或文件大于2GB
+	 */
+	public ByteBuffer getFileBuffer(File file) throws IORuntimeException {
+		if (file.length() > Integer.MAX_VALUE) {
+			throw new IORuntimeException("File [{}] is too large to map, use transferTo instead.", file);
+		}
+		return getMappedFile(file).buffer.asReadOnlyBuffer();
+	}
+
+	/**
+	 * 获得缓存过的文件bytes，从映射中复制
+	 *
+	 * @param file 文件
+	 * @return 文件bytes
+	 * @throws IORuntimeException IO异常
+	 */
+	public byte[] getFileBytes(File file) throws IORuntimeException {
+		final ByteBuffer buffer = getFileBuffer(file);
+		final byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * 将文件内容写出到目标通道，如写出到{@link java.nio.channels.SocketChannel}用于静态资源服务<br>
+	 * 2GB以内的文件从缓存的映射写出，更大的文件使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}
+	 *
+	 * @param file   文件
+	 * @param target 目标通道
+	 * @return 写出的字节数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long transferTo(File file, WritableByteChannel target) throws IORuntimeException {
+		try {
+			if (file.length() > Integer.MAX_VALUE) {
+				return transferByChannel(file, target);
+			}
+
+			final ByteBuffer buffer = getFileBuffer(file);
+			long count = 0;
+			while (buffer.hasRemaining()) {
+				count += target.write(buffer);
+			}
+			return count;
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 反序列化，重建空的缓存，文件在首次获取时重新映射
+	 *
+	 * @param in 对象输入流
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类未找到
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.cache = new LRUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 获取文件映射，未缓存或文件已修改时重新映射
+	 *
+	 * @param file 文件
+	 * @return 文件映射
+	 */
+	private MappedFile getMappedFile(File file) {
+		MappedFile mappedFile = cache.get(file);
+		final long lastModified = file.lastModified();
+		final long length = file.length();
+		if (null == mappedFile || mappedFile.lastModified != lastModified || mappedFile.length != length) {
+			mappedFile = new MappedFile(map(file), lastModified, length);
+			cache.put(file, mappedFile);
+		}
+		return mappedFile;
+	}
+
+	/**
+	 * 以只读方式映射整个文件，映射建立后即可关闭文件
+	 *
+	 * @param file 文件
+	 * @return 映射
+	 */
+	private static MappedByteBuffer map(File file) {
+		RandomAccessFile raf = null;
+		try {
+			raf = new RandomAccessFile(file, "r");
+			final FileChannel channel = raf.getChannel();
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			IoUtil.close(raf);
+		}
+	}
+
+	/**
+	 * 使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}传输整个文件
+	 *
+	 * @param file   文件
+	 * @param target 目标通道
+	 * @return 传输的字节数
+	 * @throws IOException IO异常
+	 */
+	private static long transferByChannel(File file, WritableByteChannel target) throws IOException {
+		try (final RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			final FileChannel channel = raf.getChannel();
+			final long size = channel.size();
+			long position = 0;
+			while (position < size) {
+				final long count = channel.transferTo(position, size - position, target);
+				if (count <= 0) {
+					break;
+				}
+				position += count;
+			}
+			return position;
+		}
+	}
+	// ---------------------------------------------------------------- private method end
+
+	/**
+	 * 文件映射及映射时的文件状态，只在当前进程中有效，不可序列化
+	 */
+	protected static class MappedFile {
+		private final MappedByteBuffer buffer;
+		private final long lastModified;
+		private final long length;
+
+		MappedFile(MappedByteBuffer buffer, long lastModified, long length) {
+			this.buffer = buffer;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+	}
+}
@@ -2,6 +2,9 @@ package cn.hutool.cache.impl;
 
 import cn.hutool.cache.Cache;
 import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.cache.stats.StatsRecorder;
 import cn.hutool.core.lang.func.Func0;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.lang.mutable.MutableObj;
@@ -65,6 +68,12 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 */
 	protected CacheListener<K, V> listener;
 
+	/**
+	 * 统计记录器，{@code null}表示不记录<br>
+	 * 记录器可能关联监控系统等不可序列化的对象，因此不参与序列化，反序列化后不记录统计，需要时重新设置
+	 */
+	protected transient StatsRecorder statsRecorder;
+
 	// ---------------------------------------------------------------- put start
 	@Override
 	public void put(K key, V object) {
@@ -134,7 +143,7 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 				v = get(key, isUpdateLastAccess);
 				if (null == v) {
 					// supplier的创建是一个耗时过程，此处创建与全局锁无关，而与key锁相关，这样就保证每个key只创建一个value，且互斥
-					v = supplier.callWithRuntimeException();
+					v = load(supplier);
 					put(key, v, timeout);
 				}
 			} finally {
@@ -145,6 +154,61 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return v;
 	}
 
+	/**
+	 * 调用supplier加载值，并记录加载耗时
+	 *
+	 * @param supplier 值生产者
+	 * @return 值
+	 * @since 5.8.36
+	 */
+	protected V load(Func0<V> supplier) {
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		if (null == statsRecorder) {
+			return supplier.callWithRuntimeException();
+		}
+
+		final long start = System.nanoTime();
+		final V v;
+		try {
+			v = supplier.callWithRuntimeException();
+		} catch (final RuntimeException e) {
+			statsRecorder.recordLoadFailure(System.nanoTime() - start);
+			throw e;
+		}
+		if (null == v) {
+			statsRecorder.recordLoadFailure(System.nanoTime() - start);
+		} else {
+			statsRecorder.recordLoadSuccess(System.nanoTime() - start);
+		}
+		return v;
+	}
+
+	/**
+	 * 记录命中
+	 *
+	 * @since 5.8.36
+	 */
+	protected void recordHit() {
+		hitCount.increment();
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		if (null != statsRecorder) {
+			statsRecorder.recordHits(1);
+		}
+	}
+
+	/**
+	 * 记录未命中
+	 *
+	 * @since 5.8.36
+	 */
+	protected void recordMiss() {
+		missCount.increment();
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		if (null != statsRecorder) {
+			statsRecorder.recordMisses(1);
+		}
+	}
+
 	/**
 	 * 获取键对应的{@link CacheObj}
 	 * @param key 键，实际使用时会被包装为{@link MutableObj}
@@ -154,6 +218,20 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	protected CacheObj<K, V> getWithoutLock(K key){
 		return this.cacheMap.get(MutableObj.of(key));
 	}
+
+	/**
+	 * 获取未过期的值，不更新访问时间和访问次数，不记录命中统计，用于包装缓存加载前的二次检查<br>
+	 * 此实现不加锁，需要加锁读取的子类应重写此方法
+	 *
+	 * @param key 键
+	 * @return 值，不存在或已过期返回{@code null}
+	 * @since 5.8.36
+	 */
+	@Override
+	public V getQuietly(K key) {
+		final CacheObj<K, V> co = getWithoutLock(key);
+		return (null == co || co.isExpired()) ? null : co.getValue();
+	}
 	// ---------------------------------------------------------------- get end
 
 	@Override
@@ -229,6 +307,39 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return this;
 	}
 
+	@Override
+	public CacheListener<K, V> getListener() {
+		return this.listener;
+	}
+
+	/**
+	 * 设置统计记录器，{@code null}表示关闭统计
+	 *
+	 * @param statsRecorder 统计记录器
+	 * @return this
+	 * @since 5.8.36
+	 */
+	@Override
+	public AbstractCache<K, V> setStatsRecorder(StatsRecorder statsRecorder) {
+		this.statsRecorder = statsRecorder;
+		return this;
+	}
+
+	/**
+	 * 获取缓存统计快照，未设置统计记录器时只包含命中和未命中数
+	 *
+	 * @return {@link CacheStats}
+	 * @since 5.8.36
+	 */
+	@Override
+	public CacheStats stats() {
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		if (null != statsRecorder) {
+			return statsRecorder.snapshot();
+		}
+		return new CacheStats(getHitCount(), getMissCount(), 0, 0, 0, 0, 0, 0, 0, 0, 0);
+	}
+
 	/**
 	 * 返回所有键
 	 *
@@ -253,6 +364,45 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		}
 	}
 
+	/**
+	 * 对象移除回调，记录移除统计后调用{@link #onRemove(Object, Object)}
+	 *
+	 * @param co    被移除的缓存对象
+	 * @param cause 移除原因
+	 * @since 5.8.36
+	 */
+	protected void onRemove(CacheObj<K, V> co, RemovalCause cause) {
+		recordRemoval(co, cause);
+		onRemove(co.key, co.obj);
+	}
+
+	/**
+	 * 记录移除统计
+	 *
+	 * @param co    被移除的缓存对象
+	 * @param cause 移除原因
+	 * @since 5.8.36
+	 */
+	protected void recordRemoval(CacheObj<K, V> co, RemovalCause cause) {
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		if (null != statsRecorder) {
+			statsRecorder.recordRemoval(cause, System.currentTimeMillis() - co.createTime);
+		}
+	}
+
+	/**
+	 * 记录过期清理统计
+	 *
+	 * @param start 清理开始时间，{@link System#nanoTime()}
+	 * @since 5.8.36
+	 */
+	protected void recordPrune(long start) {
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		if (null != statsRecorder) {
+			statsRecorder.recordPrune(System.nanoTime() - start);
+		}
+	}
+
 	/**
 	 * 移除key对应的对象，不加锁
 	 *
@@ -0,0 +1,246 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.core.collection.CopiedIter;
+import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 读取无锁、访问记录缓冲的缓存<br>
+ * 值存储在{@link SafeConcurrentHashMap}中，读取直接访问Map，访问记录写入分段有损缓冲区，
+ * 积压到一定数量后由获得淘汰锁的线程批量交给淘汰策略处理。写入、移除和淘汰使用淘汰锁保护，读线程只会尝试获取此锁，不会被阻塞。<br>
+ * 继承此缓存需要实现淘汰策略的各个回调，回调均在持有淘汰锁时调用。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.36
+ */
+public abstract class BufferedCache<K, V> extends AbstractCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 淘汰锁，保护淘汰策略的数据结构
+	 */
+	protected final ReentrantLock evictionLock = new ReentrantLock();
+	/**
+	 * 读取时的访问记录缓冲
+	 */
+	private final StripedBuffer<CacheObj<K, V>> readBuffer = new StripedBuffer<>();
+
+	/**
+	 * 构造
+	 */
+	public BufferedCache() {
+		this.cacheMap = new SafeConcurrentHashMap<>();
+	}
+
+	@Override
+	public void put(K key, V object, long timeout) {
+		final CacheObj<K, V> co = new CacheObj<>(key, object, timeout);
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		final MutableObj<K> mKey = MutableObj.of(key);
+
+		evictionLock.lock();
+		try {
+			drainReadBuffer();
+			recordWrite(mKey, co, cacheMap.put(mKey, co));
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		final CacheObj<K, V> co = getWithoutLock(key);
+		if (null == co) {
+			recordMiss();
+			return null;
+		}
+		if (co.isExpired()) {
+			removeExpired(co);
+			recordMiss();
+			return null;
+		}
+
+		recordHit();
+		afterRead(co);
+		return co.get(isUpdateLastAccess);
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		final CacheObj<K, V> co = getWithoutLock(key);
+		return null != co && false == co.isExpired();
+	}
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		return new CacheObjIterator<>(CopiedIter.copyOf(cacheObjIter()));
+	}
+
+	@Override
+	public int prune() {
+		final long start = System.nanoTime();
+		evictionLock.lock();
+		try {
+			drainReadBuffer();
+			return pruneCache();
+		} finally {
+			evictionLock.unlock();
+			recordPrune(start);
+		}
+	}
+
+	@Override
+	public void remove(K key) {
+		final MutableObj<K> mKey = MutableObj.of(key);
+		CacheObj<K, V> co;
+		evictionLock.lock();
+		try {
+			co = cacheMap.remove(mKey);
+			if (null != co) {
+				recordRemove(mKey, co);
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+		if (null != co) {
+			onRemove(co, RemovalCause.EXPLICIT);
+		}
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			readBuffer.drainTo(co -> {
+			});
+			cacheMap.clear();
+			resetPolicy();
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * 只清理超时对象，容量淘汰在写入时由淘汰策略完成<br>
+	 * 调用此方法前需持有淘汰锁
+	 *
+	 * @return 清理数
+	 */
+	@Override
+	protected int pruneCache() {
+		if (false == isPruneExpiredActive()) {
+			return 0;
+		}
+		int count = 0;
+		for (final Map.Entry<Mutable<K>, CacheObj<K, V>> entry : cacheMap.entrySet()) {
+			final CacheObj<K, V> co = entry.getValue();
+			if (co.isExpired() && cacheMap.remove(entry.getKey(), co)) {
+				recordRemove(entry.getKey(), co);
+				onRemove(co, RemovalCause.EXPIRED);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// ---------------------------------------------------------------- policy start
+
+	/**
+	 * 写入回调，用于淘汰策略记录新对象并在超出容量时调用{@link #evict(CacheObj)}淘汰对象<br>
+	 * 调用时已持有淘汰锁，且对象已写入Map
+	 *
+	 * @param key 键
+	 * @param co  新的缓存对象
+	 * @param old 被替换的缓存对象，新增时为{@code null}
+	 */
+	protected abstract void recordWrite(Mutable<K> key, CacheObj<K, V> co, CacheObj<K, V> old);
+
+	/**
+	 * 读取回调，用于淘汰策略记录访问，对象可能已被移除或替换<br>
+	 * 调用时已持有淘汰锁
+	 *
+	 * @param co 被访问的缓存对象
+	 */
+	protected abstract void recordRead(CacheObj<K, V> co);
+
+	/**
+	 * 移除回调，用于淘汰策略移除对应记录<br>
+	 * 调用时已持有淘汰锁，且对象已从Map中移除
+	 *
+	 * @param key 键
+	 * @param co  被移除的缓存对象
+	 */
+	protected abstract void recordRemove(Mutable<K> key, CacheObj<K, V> co);
+
+	/**
+	 * 清空回调，用于清空淘汰策略的所有记录<br>
+	 * 调用时已持有淘汰锁
+	 */
+	protected abstract void resetPolicy();
+
+	/**
+	 * 淘汰策略选定对象后，从Map中移除并触发监听，调用此方法前需持有淘汰锁
+	 *
+	 * @param co 被淘汰的缓存对象
+	 */
+	protected void evict(CacheObj<K, V> co) {
+		if (cacheMap.remove(MutableObj.of(co.key), co)) {
+			onRemove(co, RemovalCause.SIZE);
+		}
+	}
+	// ---------------------------------------------------------------- policy end
+
+	/**
+	 * 读取后记录访问，缓冲区积压时尝试获取淘汰锁并批量应用，获取不到锁则交给其它线程处理
+	 *
+	 * @param co 被访问的缓存对象
+	 */
+	private void afterRead(CacheObj<K, V> co) {
+		if (readBuffer.offer(co) && evictionLock.tryLock()) {
+			try {
+				drainReadBuffer();
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 将缓冲区中的访问记录交给淘汰策略，调用此方法前需持有淘汰锁
+	 */
+	private void drainReadBuffer() {
+		readBuffer.drainTo(this::recordRead);
+	}
+
+	/**
+	 * 移除已过期对象，如果对象已被替换则不移除
+	 *
+	 * @param co 过期的缓存对象
+	 */
+	private void removeExpired(CacheObj<K, V> co) {
+		final MutableObj<K> mKey = MutableObj.of(co.key);
+		boolean removed;
+		evictionLock.lock();
+		try {
+			removed = cacheMap.remove(mKey, co);
+			if (removed) {
+				recordRemove(mKey, co);
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+		if (removed) {
+			onRemove(co, RemovalCause.EXPIRED);
+		}
+	}
+}
@@ -19,6 +19,10 @@ public class CacheObj<K, V> implements Serializable {
 	protected final K key;
 	protected final V obj;
 
+	/**
+	 * 创建（写入）时间
+	 */
+	protected final long createTime;
 	/**
 	 * 上次访问时间
 	 */
@@ -43,7 +47,8 @@ public class CacheObj<K, V> implements Serializable {
 		this.key = key;
 		this.obj = obj;
 		this.ttl = ttl;
-		this.lastAccess = System.currentTimeMillis();
+		this.createTime = System.currentTimeMillis();
+		this.lastAccess = this.createTime;
 	}
 
 	/**
@@ -89,6 +94,16 @@ public class CacheObj<K, V> implements Serializable {
 		return null;
 	}
 
+	/**
+	 * 获取创建（写入）时间
+	 *
+	 * @return 创建时间
+	 * @since 5.8.36
+	 */
+	public long getCreateTime() {
+		return this.createTime;
+	}
+
 	/**
 	 * 获取上次访问时间
 	 *
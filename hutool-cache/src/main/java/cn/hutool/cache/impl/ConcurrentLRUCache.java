@@ -0,0 +1,84 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * 并发LRU (least recently used)最近最久未使用缓存<br>
+ * 与{@link LRUCache}不同，此缓存读取时不加锁，访问记录批量且有损地应用到访问顺序链表上，
+ * 因此淘汰顺序为近似LRU，适用于高并发读多写少的场景。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @see BufferedCache
+ * @since 5.8.36
+ */
+public class ConcurrentLRUCache<K, V> extends BufferedCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 按照访问顺序排序的链表，首部为最久未使用的对象，仅在持有淘汰锁时访问
+	 */
+	private final LinkedHashMap<Mutable<K>, CacheObj<K, V>> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * 构造<br>
+	 * 默认无超时
+	 *
+	 * @param capacity 容量
+	 */
+	public ConcurrentLRUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 * @param timeout  默认超时时间，单位：毫秒
+	 */
+	public ConcurrentLRUCache(int capacity, long timeout) {
+		if (Integer.MAX_VALUE == capacity) {
+			capacity -= 1;
+		}
+
+		this.capacity = capacity;
+		this.timeout = timeout;
+	}
+
+	@Override
+	protected void recordWrite(Mutable<K> key, CacheObj<K, V> co, CacheObj<K, V> old) {
+		accessOrder.put(key, co);
+		if (capacity <= 0) {
+			return;
+		}
+
+		// 超出容量时淘汰最久未使用的对象
+		final Iterator<CacheObj<K, V>> values = accessOrder.values().iterator();
+		while (accessOrder.size() > capacity && values.hasNext()) {
+			final CacheObj<K, V> eldest = values.next();
+			values.remove();
+			evict(eldest);
+		}
+	}
+
+	@Override
+	protected void recordRead(CacheObj<K, V> co) {
+		// 访问顺序的LinkedHashMap在get时会将对象移至尾部，已被移除的对象不会重新加入
+		accessOrder.get(MutableObj.of(co.key));
+	}
+
+	@Override
+	protected void recordRemove(Mutable<K> key, CacheObj<K, V> co) {
+		accessOrder.remove(key, co);
+	}
+
+	@Override
+	protected void resetPolicy() {
+		accessOrder.clear();
+	}
+}
@@ -0,0 +1,179 @@
+package cn.hutool.cache.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 按过期时间分桶的过期索引（时间轮）<br>
+ * 缓存对象按照过期时间落入固定宽度的时间槽中，时间槽组成环形数组，清理时只处理上次清理之后经过的槽，无需遍历整个缓存。
+ * 加入和移除对象为O(1)，清理的开销与经过的槽中的对象数成正比。<br>
+ * 对象被访问后过期时间会后移，索引不会在访问时更新，而是在对象所在槽到期时检查：未过期的对象按新的过期时间重新入槽。<br>
+ * 对象被移除或替换时应调用{@link #remove(CacheObj)}，避免索引持有已不在缓存中的对象。此类非线程安全，需在缓存锁的保护下使用。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.36
+ */
+final class ExpiryIndex<K, V> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 时间轮的槽数，过期时间超出一圈的对象在经过的轮次中被跳过
+	 */
+	private static final int WHEEL_SIZE = 512;
+
+	/**
+	 * 每个槽的时间宽度，单位毫秒
+	 */
+	private final long tickMillis;
+	/**
+	 * 时间槽，按需创建
+	 */
+	private final Set<CacheObj<K, V>>[] wheel;
+	/**
+	 * 对象所在的槽序号（绝对序号），用于移除对象和判断对象是否到期
+	 */
+	private final Map<CacheObj<K, V>, Long> ticks = new IdentityHashMap<>();
+	/**
+	 * 上次清理处理到的槽序号，{@link Long#MIN_VALUE}表示尚未清理
+	 */
+	private long lastTick = Long.MIN_VALUE;
+
+	/**
+	 * 构造
+	 *
+	 * @param tickMillis 每个槽的时间宽度，单位毫秒
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	ExpiryIndex(long tickMillis) {
+		this.tickMillis = Math.max(1, tickMillis);
+		this.wheel = new Set[WHEEL_SIZE];
+	}
+
+	/**
+	 * 将对象加入索引，永不过期的对象不加入，已在索引中时按新的过期时间移动
+	 *
+	 * @param co 缓存对象
+	 */
+	void add(CacheObj<K, V> co) {
+		if (null == co || co.ttl <= 0) {
+			return;
+		}
+		remove(co);
+		final long lastAccess = co.lastAccess;
+		if (co.ttl > Long.MAX_VALUE - lastAccess) {
+			// 过期时间溢出，视为永不过期
+			return;
+		}
+		long tick = (lastAccess + co.ttl) / tickMillis;
+		if (Long.MIN_VALUE != lastTick && tick <= lastTick) {
+			// 所在槽本轮已处理过，放入下一个待处理的槽
+			tick = lastTick + 1;
+		}
+		ticks.put(co, tick);
+		final int slot = slot(tick);
+		if (null == wheel[slot]) {
+			wheel[slot] = new HashSet<>();
+		}
+		wheel[slot].add(co);
+	}
+
+	/**
+	 * 从索引中移除对象，对象被移除或替换时调用
+	 *
+	 * @param co 缓存对象，{@code null}忽略
+	 */
+	void remove(CacheObj<K, V> co) {
+		if (null == co) {
+			return;
+		}
+		final Long tick = ticks.remove(co);
+		if (null != tick) {
+			wheel[slot(tick)].remove(co);
+		}
+	}
+
+	/**
+	 * 处理上次清理之后经过的槽，过期对象交给移除函数，未过期对象重新入槽
+	 *
+	 * @param now     当前时间
+	 * @param remover 移除函数，对象仍在缓存中并被移除时返回{@code true}
+	 * @return 移除的对象数
+	 */
+	int expire(long now, Predicate<CacheObj<K, V>> remover) {
+		final long currentTick = now / tickMillis;
+		if (Long.MIN_VALUE != lastTick && currentTick <= lastTick) {
+			return 0;
+		}
+		// 首次清理或经过的槽超过一圈时，所有槽各处理一次
+		long fromTick = lastTick + 1;
+		if (Long.MIN_VALUE == lastTick || currentTick - fromTick >= WHEEL_SIZE) {
+			fromTick = currentTick - WHEEL_SIZE + 1;
+		}
+
+		List<CacheObj<K, V>> renewed = null;
+		int count = 0;
+		for (long tick = fromTick; tick <= currentTick; tick++) {
+			final Set<CacheObj<K, V>> bucket = wheel[slot(tick)];
+			if (null == bucket || bucket.isEmpty()) {
+				continue;
+			}
+			final Iterator<CacheObj<K, V>> iterator = bucket.iterator();
+			while (iterator.hasNext()) {
+				final CacheObj<K, V> co = iterator.next();
+				if (ticks.get(co) > currentTick) {
+					// 后续轮次才到期
+					continue;
+				}
+				iterator.remove();
+				ticks.remove(co);
+				if (co.isExpired()) {
+					if (remover.test(co)) {
+						count++;
+					}
+				} else {
+					// 访问后过期时间后移，处理完成后重新入槽
+					if (null == renewed) {
+						renewed = new ArrayList<>();
+					}
+					renewed.add(co);
+				}
+			}
+		}
+		lastTick = currentTick;
+		if (null != renewed) {
+			renewed.forEach(this::add);
+		}
+		return count;
+	}
+
+	/**
+	 * 清空索引
+	 */
+	void clear() {
+		for (final Set<CacheObj<K, V>> bucket : wheel) {
+			if (null != bucket) {
+				bucket.clear();
+			}
+		}
+		ticks.clear();
+	}
+
+	/**
+	 * 获取槽序号对应的数组位置
+	 *
+	 * @param tick 槽序号
+	 * @return 数组位置
+	 */
+	private static int slot(long tick) {
+		return (int) Math.floorMod(tick, (long) WHEEL_SIZE);
+	}
+}
@@ -0,0 +1,138 @@
+package cn.hutool.cache.impl;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 基于Count-Min Sketch的访问频率估算器<br>
+ * 每个计数器占4位，16个计数器打包在一个long中，每个元素映射到4个计数器上，估算频率取其中最小值，最大为15。<br>
+ * 当累计记录次数达到采样周期（容量的10倍）时，所有计数器减半（老化），使频率估算反映近期的访问情况。<br>
+ * 此类非线程安全，需在淘汰锁的保护下使用。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class FrequencySketch implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final long[] SEED = {
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final long ONE_MASK = 0x1111111111111111L;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int size;
+
+	/**
+	 * 构造
+	 *
+	 * @param maximumSize 缓存的最大容量
+	 */
+	FrequencySketch(int maximumSize) {
+		final int length = maximumSize <= 1 ? 1 : Integer.highestOneBit(Math.min(maximumSize, 1 << 30) - 1) << 1;
+		this.table = new long[length];
+		this.tableMask = length - 1;
+		this.sampleSize = (int) Math.min(10L * Math.max(maximumSize, 1), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 估算元素的访问频率
+	 *
+	 * @param e 元素
+	 * @return 访问频率，0~15
+	 */
+	int frequency(Object e) {
+		final int hash = spread(Objects.hashCode(e));
+		final int start = (hash & 3) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for (int i = 0; i < 4; i++) {
+			final int index = indexOf(hash, i);
+			final int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+			frequency = Math.min(frequency, count);
+		}
+		return frequency;
+	}
+
+	/**
+	 * 增加元素的访问频率，达到采样周期时执行老化
+	 *
+	 * @param e 元素
+	 */
+	void increment(Object e) {
+		final int hash = spread(Objects.hashCode(e));
+		final int start = (hash & 3) << 2;
+		boolean added = false;
+		for (int i = 0; i < 4; i++) {
+			added |= incrementAt(indexOf(hash, i), start + i);
+		}
+		if (added && (++size >= sampleSize)) {
+			reset();
+		}
+	}
+
+	/**
+	 * 清空所有计数
+	 */
+	void clear() {
+		Arrays.fill(table, 0L);
+		size = 0;
+	}
+
+	/**
+	 * 计数器加一，已达到最大值15时不变
+	 *
+	 * @param i 数组下标
+	 * @param j 计数器在long中的序号（0~15）
+	 * @return 是否增加
+	 */
+	private boolean incrementAt(int i, int j) {
+		final int offset = j << 2;
+		final long mask = (0xfL << offset);
+		if ((table[i] & mask) != mask) {
+			table[i] += (1L << offset);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 所有计数器减半
+	 */
+	private void reset() {
+		int count = 0;
+		for (int i = 0; i < table.length; i++) {
+			// 统计奇数计数器个数，用于修正减半后的总数
+			count += Long.bitCount(table[i] & ONE_MASK);
+			table[i] = (table[i] >>> 1) & RESET_MASK;
+		}
+		size = (size >>> 1) - (count >>> 2);
+	}
+
+	/**
+	 * 第i个散列函数对应的数组下标
+	 *
+	 * @param hash 散列值
+	 * @param i    散列函数序号
+	 * @return 数组下标
+	 */
+	private int indexOf(int hash, int i) {
+		long h = (hash + SEED[i]) * SEED[i];
+		h += (h >>> 32);
+		return ((int) h) & tableMask;
+	}
+
+	/**
+	 * 对hashCode再散列，避免低质量的hashCode导致计数冲突
+	 *
+	 * @param x hashCode
+	 * @return 散列值
+	 */
+	private static int spread(int x) {
+		x = ((x >>> 16) ^ x) * 0x45d9f3b;
+		x = ((x >>> 16) ^ x) * 0x45d9f3b;
+		return (x >>> 16) ^ x;
+	}
+}
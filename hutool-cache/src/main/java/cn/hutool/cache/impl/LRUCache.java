@@ -1,5 +1,6 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.stats.RemovalCause;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.map.FixedLinkedHashMap;
 
@@ -44,11 +45,7 @@ public class LRUCache<K, V> extends ReentrantCache<K, V> {
 
 		//链表key按照访问顺序排序，调用get方法后，会将这次访问的元素移至头部
 		final FixedLinkedHashMap<Mutable<K>, CacheObj<K, V>> fixedLinkedHashMap = new FixedLinkedHashMap<>(capacity);
-		fixedLinkedHashMap.setRemoveListener(entry -> {
-			if(null != listener){
-				listener.onRemove(entry.getKey().get(), entry.getValue().getValue());
-			}
-		});
+		fixedLinkedHashMap.setRemoveListener(entry -> onRemove(entry.getValue(), RemovalCause.SIZE));
 		cacheMap = fixedLinkedHashMap;
 	}
 
@@ -69,7 +66,7 @@ public class LRUCache<K, V> extends ReentrantCache<K, V> {
 			co = values.next();
 			if (co.isExpired()) {
 				values.remove();
-				onRemove(co.key, co.obj);
+				onRemove(co, RemovalCause.EXPIRED);
 				count++;
 			}
 		}
@@ -0,0 +1,591 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.CacheLoader;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.StatsRecorder;
+import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.Func0;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.thread.GlobalThreadPool;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 自动加载缓存<br>
+ * 包装一个已有的缓存，在未命中时通过{@link CacheLoader}加载值，特点如下：
+ * <ul>
+ *     <li>请求合并：同一个键同时只有一个加载任务，并发未命中的线程等待同一个加载结果</li>
+ *     <li>批量加载：{@link #getAll(Collection)}对未命中的键只调用一次{@link CacheLoader#loadAll(Collection)}</li>
+ *     <li>写后刷新：值写入超过指定时长后，再次访问时在后台{@link Executor}中刷新，刷新期间继续返回旧值</li>
+ * </ul>
+ * 如果调用{@link #get(Object, boolean, long, Func0)}时指定了supplier，则使用supplier而不使用加载器。<br>
+ * 被包装缓存已设置的监听由此缓存继续回调，之后通过{@link #setListener(CacheListener)}设置监听。<br>
+ * 反序列化后后台加载和刷新使用{@link GlobalThreadPool}。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.36
+ */
+public class LoadingCache<K, V> implements Cache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	private final Cache<K, V> cache;
+	private final CacheLoader<K, V> loader;
+	private transient Executor executor;
+	/**
+	 * 写后刷新时长，单位毫秒，{@code 0}表示不刷新
+	 */
+	private final long refreshAfterWrite;
+
+	/**
+	 * 正在加载或刷新的键
+	 */
+	private transient Map<K, CompletableFuture<V>> loadingMap = new SafeConcurrentHashMap<>();
+	/**
+	 * 键的写入时间，仅在开启写后刷新时记录
+	 */
+	private final Map<K, Long> writeTimeMap = new SafeConcurrentHashMap<>();
+	private CacheListener<K, V> listener;
+	/**
+	 * 统计记录器，{@code null}表示不记录，不参与序列化
+	 */
+	private transient StatsRecorder statsRecorder;
+
+	/**
+	 * 构造，不刷新
+	 *
+	 * @param cache  被包装的缓存
+	 * @param loader 加载器
+	 */
+	public LoadingCache(Cache<K, V> cache, CacheLoader<K, V> loader) {
+		this(cache, loader, 0, null);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param cache             被包装的缓存
+	 * @param loader            加载器
+	 * @param refreshAfterWrite 写后刷新时长，单位毫秒，{@code 0}表示不刷新
+	 * @param executor          后台加载和刷新使用的线程池，{@code null}表示使用{@link GlobalThreadPool}
+	 */
+	public LoadingCache(Cache<K, V> cache, CacheLoader<K, V> loader, long refreshAfterWrite, Executor executor) {
+		this.cache = Assert.notNull(cache, "Cache must be not null!");
+		this.loader = Assert.notNull(loader, "CacheLoader must be not null!");
+		this.refreshAfterWrite = refreshAfterWrite;
+		this.executor = null != executor ? executor : GlobalThreadPool.getExecutor();
+		// 被包装缓存淘汰对象时同步移除写入时间，已有的监听由此缓存继续回调
+		this.listener = cache.getListener();
+		this.cache.setListener(new RemovalListener());
+	}
+
+	// ---------------------------------------------------------------- load start
+
+	/**
+	 * 批量获取，已缓存的键直接返回，未命中的键合并为一次{@link CacheLoader#loadAll(Collection)}调用<br>
+	 * 返回结果按照传入键的顺序排列，加载不到值的键不包含在结果中
+	 *
+	 * @param keys 键列表
+	 * @return 键值对
+	 */
+	public Map<K, V> getAll(Collection<? extends K> keys) {
+		final Map<K, V> result = new LinkedHashMap<>(keys.size(), 1);
+		final List<K> missingKeys = new ArrayList<>();
+		for (final K key : keys) {
+			final V value = cache.get(key);
+			if (null != value) {
+				result.put(key, value);
+				refreshIfNeeded(key, value);
+			} else {
+				missingKeys.add(key);
+			}
+		}
+		if (missingKeys.isEmpty()) {
+			return result;
+		}
+
+		// 正在被其它线程加载的键等待其结果，其余的键由当前线程批量加载
+		final Map<K, CompletableFuture<V>> ownedFutures = new LinkedHashMap<>();
+		final Map<K, CompletableFuture<V>> waitingFutures = new LinkedHashMap<>();
+		for (final K key : missingKeys) {
+			final CompletableFuture<V> future = new CompletableFuture<>();
+			final CompletableFuture<V> existing = loadingMap.putIfAbsent(key, future);
+			if (null != existing) {
+				waitingFutures.put(key, existing);
+			} else if (completeIfPresent(key, future)) {
+				result.put(key, future.join());
+			} else {
+				ownedFutures.put(key, future);
+			}
+		}
+
+		if (false == ownedFutures.isEmpty()) {
+			final long start = System.nanoTime();
+			try {
+				final Map<K, V> loaded = loader.loadAll(Collections.unmodifiableSet(ownedFutures.keySet()));
+				recordLoad(start, null != loaded);
+				ownedFutures.forEach((key, future) -> {
+					final V value = null == loaded ? null : loaded.get(key);
+					if (null != value) {
+						put(key, value);
+					}
+					future.complete(value);
+				});
+			} catch (final Throwable e) {
+				recordLoad(start, false);
+				ownedFutures.values().forEach(future -> future.completeExceptionally(e));
+				throw ExceptionUtil.wrapRuntime(e);
+			} finally {
+				ownedFutures.forEach(loadingMap::remove);
+			}
+		}
+
+		final Map<K, V> ordered = new LinkedHashMap<>(keys.size(), 1);
+		for (final K key : keys) {
+			V value = result.get(key);
+			if (null == value) {
+				CompletableFuture<V> future = ownedFutures.get(key);
+				if (null == future) {
+					future = waitingFutures.get(key);
+				}
+				value = null == future ? null : join(future);
+			}
+			if (null != value) {
+				ordered.put(key, value);
+			}
+		}
+		return ordered;
+	}
+
+	/**
+	 * 异步获取，已缓存时直接返回完成的{@link CompletableFuture}，否则在线程池中加载
+	 *
+	 * @param key 键
+	 * @return 值的{@link CompletableFuture}
+	 */
+	public CompletableFuture<V> getAsync(K key) {
+		final V value = cache.get(key);
+		if (null != value) {
+			refreshIfNeeded(key, value);
+			return CompletableFuture.completedFuture(value);
+		}
+
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> existing = loadingMap.putIfAbsent(key, future);
+		if (null != existing) {
+			return existing;
+		}
+		if (completeIfPresent(key, future)) {
+			return future;
+		}
+		try {
+			executor.execute(() -> load(key, future));
+		} catch (final Throwable e) {
+			loadingMap.remove(key, future);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * 在后台刷新键对应的值，刷新期间缓存继续返回旧值；如果此键正在加载，返回正在执行的加载结果
+	 *
+	 * @param key 键
+	 * @return 刷新结果
+	 */
+	public CompletableFuture<V> refresh(K key) {
+		return refresh(key, true);
+	}
+
+	/**
+	 * 在后台刷新键对应的值
+	 *
+	 * @param key   键
+	 * @param force 是否强制刷新，{@code false}时如果值在注册刷新标记前已被其它线程刷新，则不再刷新
+	 * @return 刷新结果
+	 */
+	private CompletableFuture<V> refresh(K key, boolean force) {
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> existing = loadingMap.putIfAbsent(key, future);
+		if (null != existing) {
+			return existing;
+		}
+		if (false == force && false == isRefreshDue(key)) {
+			// 其它线程刚完成刷新并移除了刷新标记
+			future.complete(getQuietly(key));
+			loadingMap.remove(key, future);
+			return future;
+		}
+		// 标记刷新开始时间，避免刷新期间的访问重复触发
+		touch(key);
+		try {
+			executor.execute(() -> {
+				final long start = System.nanoTime();
+				try {
+					final V oldValue = getQuietly(key);
+					final V value = null == oldValue ? loader.load(key) : loader.reload(key, oldValue);
+					recordLoad(start, null != value);
+					if (null != value) {
+						put(key, value);
+					}
+					future.complete(null != value ? value : oldValue);
+				} catch (final Throwable e) {
+					recordLoad(start, false);
+					future.completeExceptionally(e);
+				} finally {
+					loadingMap.remove(key, future);
+				}
+			});
+		} catch (final Throwable e) {
+			loadingMap.remove(key, future);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * 同步获取，未命中时在当前线程加载，并发未命中的线程等待同一个加载结果
+	 *
+	 * @param key                键
+	 * @param isUpdateLastAccess 是否更新最后访问时间
+	 * @return 值
+	 */
+	private V getOrLoad(K key, boolean isUpdateLastAccess) {
+		final V value = cache.get(key, isUpdateLastAccess);
+		if (null != value) {
+			refreshIfNeeded(key, value);
+			return value;
+		}
+
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> existing = loadingMap.putIfAbsent(key, future);
+		if (null != existing) {
+			return join(existing);
+		}
+		if (false == completeIfPresent(key, future)) {
+			load(key, future);
+		}
+		return join(future);
+	}
+
+	/**
+	 * 注册加载标记后的二次检查：其它线程可能在本线程未命中之后、注册加载标记之前完成了加载并移除了标记，
+	 * 此时值已在缓存中，直接完成加载结果并移除标记，不再调用加载器
+	 *
+	 * @param key    键
+	 * @param future 本线程注册的加载结果
+	 * @return 值是否已在缓存中
+	 */
+	private boolean completeIfPresent(K key, CompletableFuture<V> future) {
+		final V value = getQuietly(key);
+		if (null == value) {
+			return false;
+		}
+		future.complete(value);
+		loadingMap.remove(key, future);
+		return true;
+	}
+
+	/**
+	 * 加载值并写入缓存，完成后移除加载标记
+	 *
+	 * @param key    键
+	 * @param future 加载结果
+	 */
+	private void load(K key, CompletableFuture<V> future) {
+		final long start = System.nanoTime();
+		try {
+			final V value = loader.load(key);
+			recordLoad(start, null != value);
+			if (null != value) {
+				put(key, value);
+			}
+			future.complete(value);
+		} catch (final Throwable e) {
+			recordLoad(start, false);
+			future.completeExceptionally(e);
+		} finally {
+			loadingMap.remove(key, future);
+		}
+	}
+
+	/**
+	 * 获取被包装缓存中的值，不记录命中统计，用于加载前的二次检查
+	 *
+	 * @param key 键
+	 * @return 值，不存在或已过期返回{@code null}
+	 */
+	@Override
+	public V getQuietly(K key) {
+		return cache.getQuietly(key);
+	}
+
+	/**
+	 * 如果值写入已超过刷新时长，在后台刷新
+	 *
+	 * @param key   键
+	 * @param value 当前值
+	 */
+	private void refreshIfNeeded(K key, V value) {
+		if (refreshAfterWrite <= 0 || null == value) {
+			return;
+		}
+		final Long writeTime = writeTimeMap.get(key);
+		if (null == writeTime) {
+			// 通过被包装缓存直接写入的值，从此时开始计时
+			touch(key);
+		} else if (System.currentTimeMillis() - writeTime >= refreshAfterWrite && false == loadingMap.containsKey(key)) {
+			refresh(key, false);
+		}
+	}
+
+	/**
+	 * 值写入是否已超过刷新时长
+	 *
+	 * @param key 键
+	 * @return 是否需要刷新
+	 */
+	private boolean isRefreshDue(K key) {
+		final Long writeTime = writeTimeMap.get(key);
+		return null == writeTime || System.currentTimeMillis() - writeTime >= refreshAfterWrite;
+	}
+
+	/**
+	 * 记录写入时间
+	 *
+	 * @param key 键
+	 */
+	private void touch(K key) {
+		if (refreshAfterWrite > 0) {
+			writeTimeMap.put(key, System.currentTimeMillis());
+		}
+	}
+
+	/**
+	 * 等待加载结果，异常时抛出原始的运行时异常
+	 *
+	 * @param future 加载结果
+	 * @return 值
+	 */
+	private V join(CompletableFuture<V> future) {
+		try {
+			return future.join();
+		} catch (final CompletionException e) {
+			throw ExceptionUtil.wrapRuntime(null != e.getCause() ? e.getCause() : e);
+		}
+	}
+	// ---------------------------------------------------------------- load end
+
+	@Override
+	public int capacity() {
+		return cache.capacity();
+	}
+
+	@Override
+	public long timeout() {
+		return cache.timeout();
+	}
+
+	@Override
+	public void put(K key, V object) {
+		touch(key);
+		cache.put(key, object);
+	}
+
+	@Override
+	public void put(K key, V object, long timeout) {
+		touch(key);
+		cache.put(key, object, timeout);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+		if (null == supplier) {
+			return getOrLoad(key, isUpdateLastAccess);
+		}
+		return cache.get(key, isUpdateLastAccess, supplier);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, long timeout, Func0<V> supplier) {
+		if (null == supplier) {
+			return getOrLoad(key, isUpdateLastAccess);
+		}
+		return cache.get(key, isUpdateLastAccess, timeout, supplier);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		return getOrLoad(key, isUpdateLastAccess);
+	}
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		return cache.cacheObjIterator();
+	}
+
+	@Override
+	public Iterator<V> iterator() {
+		return cache.iterator();
+	}
+
+	/**
+	 * 清理被包装缓存的过期对象，并移除已不在缓存中的键的写入时间
+	 *
+	 * @return 清理的缓存对象个数
+	 */
+	@Override
+	public int prune() {
+		final int count = cache.prune();
+		writeTimeMap.keySet().removeIf(key -> false == cache.containsKey(key));
+		return count;
+	}
+
+	@Override
+	public boolean isFull() {
+		return cache.isFull();
+	}
+
+	@Override
+	public void remove(K key) {
+		cache.remove(key);
+		writeTimeMap.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		cache.clear();
+		writeTimeMap.clear();
+	}
+
+	@Override
+	public int size() {
+		return cache.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return cache.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return cache.containsKey(key);
+	}
+
+	@Override
+	public LoadingCache<K, V> setListener(CacheListener<K, V> listener) {
+		this.listener = listener;
+		return this;
+	}
+
+	@Override
+	public CacheListener<K, V> getListener() {
+		return this.listener;
+	}
+
+	/**
+	 * 设置统计记录器，同时设置到被包装的缓存，加载统计由此缓存记录，命中和移除统计由被包装的缓存记录
+	 *
+	 * @param statsRecorder 统计记录器，{@code null}表示关闭统计
+	 * @return this
+	 */
+	@Override
+	public LoadingCache<K, V> setStatsRecorder(StatsRecorder statsRecorder) {
+		this.statsRecorder = statsRecorder;
+		this.cache.setStatsRecorder(statsRecorder);
+		return this;
+	}
+
+	@Override
+	public CacheStats stats() {
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		return null != statsRecorder ? statsRecorder.snapshot() : cache.stats();
+	}
+
+	/**
+	 * 获取被包装的缓存
+	 *
+	 * @return 被包装的缓存
+	 */
+	public Cache<K, V> getRaw() {
+		return this.cache;
+	}
+
+	@Override
+	public String toString() {
+		return this.cache.toString();
+	}
+
+	/**
+	 * 记录一次加载
+	 *
+	 * @param start   加载开始时间，{@link System#nanoTime()}
+	 * @param success 是否加载成功
+	 */
+	private void recordLoad(long start, boolean success) {
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		if (null != statsRecorder) {
+			if (success) {
+				statsRecorder.recordLoadSuccess(System.nanoTime() - start);
+			} else {
+				statsRecorder.recordLoadFailure(System.nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * 被包装缓存的移除回调
+	 *
+	 * @param key          键
+	 * @param cachedObject 被缓存的对象
+	 */
+	private void onRemove(K key, V cachedObject) {
+		writeTimeMap.remove(key);
+		final CacheListener<K, V> listener = this.listener;
+		if (null != listener) {
+			listener.onRemove(key, cachedObject);
+		}
+	}
+
+	/**
+	 * 反序列化，恢复不参与序列化的线程池和加载标记
+	 *
+	 * @param in 输入流
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类不存在
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.executor = GlobalThreadPool.getExecutor();
+		this.loadingMap = new SafeConcurrentHashMap<>();
+	}
+
+	/**
+	 * 注册到被包装缓存的移除监听，可随缓存一起序列化
+	 */
+	private class RemovalListener implements CacheListener<K, V>, Serializable {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public void onRemove(K key, V cachedObject) {
+			LoadingCache.this.onRemove(key, cachedObject);
+		}
+	}
+}
@@ -0,0 +1,730 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.cache.stats.StatsRecorder;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.Func0;
+import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 堆外字节缓存<br>
+ * 值存储在直接内存（{@link ByteBuffer#allocateDirect(int)}）分配的内存块（slab）中，不占用Java堆，从而不影响GC停顿时间，适用于缓存大量序列化数据。
+ * <ul>
+ *     <li>内存按照固定大小的块（block）管理，一个值占用若干个不要求连续的块，分配和释放均为O(1)</li>
+ *     <li>容量按照字节数限制，内存块在需要时按slab逐个分配，直到达到容量上限</li>
+ *     <li>空间不足时按照LRU策略淘汰最久未使用的对象</li>
+ *     <li>键和块索引保存在堆上，读取时将值复制为新的byte[]返回</li>
+ * </ul>
+ * 大于缓存容量的值不会被缓存。内存块分配后不会主动释放，直到此缓存对象被回收。<br>
+ * 序列化时写出所有对象的键和值，反序列化时重新分配内存块并写入。
+ *
+ * @param <K> 键类型
+ * @author looly
+ * @since 5.8.36
+ */
+public class OffHeapCache<K> implements Cache<K, byte[]> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认块大小，4KB
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 4096;
+	/**
+	 * 单个slab的最大字节数
+	 */
+	private static final int MAX_SLAB_SIZE = 1 << 30;
+
+	private final long maxBytes;
+	private final int blockSize;
+	private final int maxBlocks;
+	private final int blocksPerSlab;
+	private final long timeout;
+
+	private transient List<ByteBuffer> slabs = new ArrayList<>();
+	/**
+	 * 空闲块栈
+	 */
+	private transient int[] freeBlocks = new int[0];
+	private transient int freeCount;
+	/**
+	 * 已分配slab包含的块数
+	 */
+	private transient int allocatedBlocks;
+	/**
+	 * 值占用的字节数
+	 */
+	private transient long usedBytes;
+
+	/**
+	 * 按照访问顺序排序的索引，首部为最久未使用的对象，由{@link #writeObject(ObjectOutputStream)}序列化<br>
+	 * 使用插入顺序，由{@link #get(Object, boolean)}显式移至尾部，使{@link #getQuietly(Object)}和{@link #containsKey(Object)}的查询不影响淘汰顺序
+	 */
+	private transient LinkedHashMap<Mutable<K>, Entry<K>> index = new LinkedHashMap<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final SafeConcurrentHashMap<K, Lock> keyLockMap = new SafeConcurrentHashMap<>();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private CacheListener<K, byte[]> listener;
+	/**
+	 * 统计记录器，{@code null}表示不记录，不参与序列化
+	 */
+	private transient StatsRecorder statsRecorder;
+
+	/**
+	 * 构造，使用默认块大小，无超时
+	 *
+	 * @param maxBytes 最大字节数
+	 */
+	public OffHeapCache(long maxBytes) {
+		this(maxBytes, 0);
+	}
+
+	/**
+	 * 构造，使用默认块大小
+	 *
+	 * @param maxBytes 最大字节数
+	 * @param timeout  默认超时时间，单位：毫秒，{@code 0}表示无超时
+	 */
+	public OffHeapCache(long maxBytes, long timeout) {
+		this(maxBytes, timeout, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param maxBytes  最大字节数
+	 * @param timeout   默认超时时间，单位：毫秒，{@code 0}表示无超时
+	 * @param blockSize 块大小，值按块分配空间，块越小浪费的空间越少，但索引占用的堆内存越多
+	 */
+	public OffHeapCache(long maxBytes, long timeout, int blockSize) {
+		Assert.isTrue(blockSize > 0 && blockSize <= MAX_SLAB_SIZE, "Invalid block size: {}", blockSize);
+		Assert.isTrue(maxBytes >= blockSize, "Max bytes must be greater than block size!");
+		this.blockSize = blockSize;
+		this.maxBlocks = (int) Math.min(maxBytes / blockSize, Integer.MAX_VALUE);
+		this.maxBytes = (long) maxBlocks * blockSize;
+		this.blocksPerSlab = Math.min(maxBlocks, MAX_SLAB_SIZE / blockSize);
+		this.timeout = timeout;
+	}
+
+	/**
+	 * 容量按字节数限制，对象个数无限制，返回{@code 0}
+	 *
+	 * @return 0
+	 * @see #getMaxBytes()
+	 */
+	@Override
+	public int capacity() {
+		return 0;
+	}
+
+	@Override
+	public long timeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * @return 最大字节数
+	 */
+	public long getMaxBytes() {
+		return this.maxBytes;
+	}
+
+	/**
+	 * @return 已缓存值的字节数
+	 */
+	public long getUsedBytes() {
+		lock.lock();
+		try {
+			return this.usedBytes;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return 已分配的直接内存字节数
+	 */
+	public long getAllocatedBytes() {
+		lock.lock();
+		try {
+			return (long) allocatedBlocks * blockSize;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return 命中数
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * @return 丢失数
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	// ---------------------------------------------------------------- put start
+	@Override
+	public void put(K key, byte[] object) {
+		put(key, object, this.timeout);
+	}
+
+	/**
+	 * 将值写入堆外内存，空间不足时淘汰最久未使用的对象；{@code null}值或大于缓存容量的值不缓存，并移除原有值
+	 *
+	 * @param key     键
+	 * @param object  值
+	 * @param timeout 失效时长，单位毫秒
+	 */
+	@Override
+	public void put(K key, byte[] object, long timeout) {
+		final MutableObj<K> mKey = MutableObj.of(key);
+		final List<Entry<K>> removed = new ArrayList<>();
+		lock.lock();
+		try {
+			final Entry<K> old = index.remove(mKey);
+			if (null != old) {
+				release(old);
+			}
+			if (null != object && object.length <= maxBytes) {
+				final int[] blocks = allocate(blockCount(object.length), removed);
+				write(blocks, object);
+				index.put(mKey, new Entry<>(key, blocks, object.length, timeout));
+				usedBytes += object.length;
+			}
+		} finally {
+			lock.unlock();
+		}
+		for (final Entry<K> entry : removed) {
+			notifyRemove(entry, RemovalCause.SIZE);
+		}
+	}
+	// ---------------------------------------------------------------- put end
+
+	// ---------------------------------------------------------------- get start
+	@Override
+	public byte[] get(K key, boolean isUpdateLastAccess) {
+		final MutableObj<K> mKey = MutableObj.of(key);
+		byte[] value = null;
+		Entry<K> expired = null;
+		lock.lock();
+		try {
+			final Entry<K> entry = index.get(mKey);
+			if (null != entry) {
+				if (entry.isExpired()) {
+					index.remove(mKey);
+					releaseRemoved(entry);
+					expired = entry;
+				} else {
+					if (isUpdateLastAccess) {
+						entry.lastAccess = System.currentTimeMillis();
+					}
+					// 移至尾部，成为最近使用的对象
+					index.remove(mKey);
+					index.put(mKey, entry);
+					value = read(entry);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		if (null != expired) {
+			notifyRemove(expired, RemovalCause.EXPIRED);
+		}
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		if (null == value) {
+			missCount.increment();
+			if (null != statsRecorder) {
+				statsRecorder.recordMisses(1);
+			}
+		} else {
+			hitCount.increment();
+			if (null != statsRecorder) {
+				statsRecorder.recordHits(1);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * 获取未过期的值，不更新访问时间和淘汰顺序，不记录命中统计，供{@link LoadingCache}加载前的二次检查使用
+	 *
+	 * @param key 键
+	 * @return 值，不存在或已过期返回{@code null}
+	 */
+	@Override
+	public byte[] getQuietly(K key) {
+		lock.lock();
+		try {
+			final Entry<K> entry = index.get(MutableObj.of(key));
+			return (null == entry || entry.isExpired()) ? null : read(entry);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public byte[] get(K key, boolean isUpdateLastAccess, Func0<byte[]> supplier) {
+		return get(key, isUpdateLastAccess, this.timeout, supplier);
+	}
+
+	@Override
+	public byte[] get(K key, boolean isUpdateLastAccess, long timeout, Func0<byte[]> supplier) {
+		byte[] v = get(key, isUpdateLastAccess);
+		if (null == v && null != supplier) {
+			final Lock keyLock = keyLockMap.computeIfAbsent(key, k -> new ReentrantLock());
+			keyLock.lock();
+			try {
+				v = get(key, isUpdateLastAccess);
+				if (null == v) {
+					v = load(supplier);
+					put(key, v, timeout);
+				}
+			} finally {
+				keyLock.unlock();
+				keyLockMap.remove(key);
+			}
+		}
+		return v;
+	}
+	// ---------------------------------------------------------------- get end
+
+	@Override
+	public Iterator<CacheObj<K, byte[]>> cacheObjIterator() {
+		final List<CacheObj<K, byte[]>> copied = new ArrayList<>();
+		lock.lock();
+		try {
+			for (final Entry<K> entry : index.values()) {
+				final CacheObj<K, byte[]> co = new CacheObj<>(entry.key, read(entry), entry.ttl);
+				co.lastAccess = entry.lastAccess;
+				copied.add(co);
+			}
+		} finally {
+			lock.unlock();
+		}
+		return new CacheObjIterator<>(copied.iterator());
+	}
+
+	@Override
+	public Iterator<byte[]> iterator() {
+		return new CacheValuesIterator<>((CacheObjIterator<K, byte[]>) cacheObjIterator());
+	}
+
+	@Override
+	public int prune() {
+		final long start = System.nanoTime();
+		final List<Entry<K>> removed = new ArrayList<>();
+		lock.lock();
+		try {
+			final Iterator<Entry<K>> values = index.values().iterator();
+			while (values.hasNext()) {
+				final Entry<K> entry = values.next();
+				if (entry.isExpired()) {
+					values.remove();
+					releaseRemoved(entry);
+					removed.add(entry);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+		for (final Entry<K> entry : removed) {
+			notifyRemove(entry, RemovalCause.EXPIRED);
+		}
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		if (null != statsRecorder) {
+			statsRecorder.recordPrune(System.nanoTime() - start);
+		}
+		return removed.size();
+	}
+
+	@Override
+	public boolean isFull() {
+		lock.lock();
+		try {
+			return 0 == freeCount && allocatedBlocks >= maxBlocks;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void remove(K key) {
+		final Entry<K> entry;
+		lock.lock();
+		try {
+			entry = index.remove(MutableObj.of(key));
+			if (null != entry) {
+				releaseRemoved(entry);
+			}
+		} finally {
+			lock.unlock();
+		}
+		if (null != entry) {
+			notifyRemove(entry, RemovalCause.EXPLICIT);
+		}
+	}
+
+	/**
+	 * 清空缓存，每个被移除的对象回调一次监听
+	 */
+	@Override
+	public void clear() {
+		final List<Entry<K>> removed;
+		lock.lock();
+		try {
+			removed = new ArrayList<>(index.values());
+			for (final Entry<K> entry : removed) {
+				releaseRemoved(entry);
+			}
+			index.clear();
+		} finally {
+			lock.unlock();
+		}
+		for (final Entry<K> entry : removed) {
+			notifyRemove(entry, RemovalCause.EXPLICIT);
+		}
+	}
+
+	@Override
+	public int size() {
+		lock.lock();
+		try {
+			return index.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return 0 == size();
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		lock.lock();
+		try {
+			final Entry<K> entry = index.get(MutableObj.of(key));
+			return null != entry && false == entry.isExpired();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 设置监听，与其它缓存相同，回调时传入被移除的值<br>
+	 * 设置监听后，对象被移除（包括淘汰、过期和清空）时需先将值从堆外内存复制到堆中
+	 *
+	 * @param listener 监听
+	 * @return this
+	 */
+	@Override
+	public OffHeapCache<K> setListener(CacheListener<K, byte[]> listener) {
+		this.listener = listener;
+		return this;
+	}
+
+	@Override
+	public CacheListener<K, byte[]> getListener() {
+		return this.listener;
+	}
+
+	@Override
+	public OffHeapCache<K> setStatsRecorder(StatsRecorder statsRecorder) {
+		this.statsRecorder = statsRecorder;
+		return this;
+	}
+
+	@Override
+	public CacheStats stats() {
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		if (null != statsRecorder) {
+			return statsRecorder.snapshot();
+		}
+		return new CacheStats(getHitCount(), getMissCount(), 0, 0, 0, 0, 0, 0, 0, 0, 0);
+	}
+
+	// ---------------------------------------------------------------- memory start
+
+	/**
+	 * 分配指定数量的块，空闲块不足时先分配新的slab，达到容量上限后淘汰最久未使用的对象
+	 *
+	 * @param count   块数
+	 * @param evicted 被淘汰的对象
+	 * @return 块序号
+	 */
+	private int[] allocate(int count, List<Entry<K>> evicted) {
+		while (freeCount < count && allocatedBlocks < maxBlocks) {
+			newSlab();
+		}
+		if (freeCount < count) {
+			final Iterator<Entry<K>> values = index.values().iterator();
+			while (freeCount < count && values.hasNext()) {
+				final Entry<K> eldest = values.next();
+				values.remove();
+				releaseRemoved(eldest);
+				evicted.add(eldest);
+			}
+		}
+
+		final int[] blocks = new int[count];
+		for (int i = 0; i < count; i++) {
+			blocks[i] = freeBlocks[--freeCount];
+		}
+		return blocks;
+	}
+
+	/**
+	 * 释放对象占用的块
+	 *
+	 * @param entry 对象
+	 */
+	private void release(Entry<K> entry) {
+		for (final int block : entry.blocks) {
+			freeBlocks[freeCount++] = block;
+		}
+		usedBytes -= entry.length;
+	}
+
+	/**
+	 * 释放被移除对象占用的块，设置了监听时先读取值供回调使用
+	 *
+	 * @param entry 对象
+	 */
+	private void releaseRemoved(Entry<K> entry) {
+		if (null != this.listener) {
+			entry.removedValue = read(entry);
+		}
+		release(entry);
+	}
+
+	/**
+	 * 分配新的slab，并将其中的块加入空闲栈
+	 */
+	private void newSlab() {
+		final int count = Math.min(blocksPerSlab, maxBlocks - allocatedBlocks);
+		slabs.add(ByteBuffer.allocateDirect(count * blockSize));
+		if (freeBlocks.length < allocatedBlocks + count) {
+			freeBlocks = Arrays.copyOf(freeBlocks, allocatedBlocks + count);
+		}
+		// 倒序入栈，使分配时优先使用序号小的块
+		for (int block = allocatedBlocks + count - 1; block >= allocatedBlocks; block--) {
+			freeBlocks[freeCount++] = block;
+		}
+		allocatedBlocks += count;
+	}
+
+	/**
+	 * 将数据写入指定的块
+	 *
+	 * @param blocks 块序号
+	 * @param data   数据
+	 */
+	private void write(int[] blocks, byte[] data) {
+		int offset = 0;
+		for (final int block : blocks) {
+			final int length = Math.min(blockSize, data.length - offset);
+			final ByteBuffer slab = slabOf(block);
+			slab.position(offsetOf(block));
+			slab.put(data, offset, length);
+			offset += length;
+		}
+	}
+
+	/**
+	 * 从块中读取对象的值
+	 *
+	 * @param entry 对象
+	 * @return 值
+	 */
+	private byte[] read(Entry<K> entry) {
+		final byte[] data = new byte[entry.length];
+		int offset = 0;
+		for (final int block : entry.blocks) {
+			final int length = Math.min(blockSize, data.length - offset);
+			final ByteBuffer slab = slabOf(block);
+			slab.position(offsetOf(block));
+			slab.get(data, offset, length);
+			offset += length;
+		}
+		return data;
+	}
+
+	private ByteBuffer slabOf(int block) {
+		return slabs.get(block / blocksPerSlab);
+	}
+
+	private int offsetOf(int block) {
+		return (block % blocksPerSlab) * blockSize;
+	}
+
+	private int blockCount(int length) {
+		return Math.max(1, (length + blockSize - 1) / blockSize);
+	}
+	// ---------------------------------------------------------------- memory end
+
+	/**
+	 * 调用supplier加载值，并记录加载耗时
+	 *
+	 * @param supplier 值生产者
+	 * @return 值
+	 */
+	private byte[] load(Func0<byte[]> supplier) {
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		if (null == statsRecorder) {
+			return supplier.callWithRuntimeException();
+		}
+
+		final long start = System.nanoTime();
+		final byte[] v;
+		try {
+			v = supplier.callWithRuntimeException();
+		} catch (final RuntimeException e) {
+			statsRecorder.recordLoadFailure(System.nanoTime() - start);
+			throw e;
+		}
+		if (null == v) {
+			statsRecorder.recordLoadFailure(System.nanoTime() - start);
+		} else {
+			statsRecorder.recordLoadSuccess(System.nanoTime() - start);
+		}
+		return v;
+	}
+
+	/**
+	 * 对象移除回调，记录移除统计并通知监听
+	 *
+	 * @param entry 被移除的索引项
+	 * @param cause 移除原因
+	 */
+	private void notifyRemove(Entry<K> entry, RemovalCause cause) {
+		final StatsRecorder statsRecorder = this.statsRecorder;
+		if (null != statsRecorder) {
+			statsRecorder.recordRemoval(cause, System.currentTimeMillis() - entry.createTime);
+		}
+		final CacheListener<K, byte[]> listener = this.listener;
+		if (null != listener) {
+			listener.onRemove(entry.key, entry.removedValue);
+		}
+	}
+
+	/**
+	 * 序列化，依次写出对象数和每个对象的键、值、超时时长和最后访问时间
+	 *
+	 * @param out 输出流
+	 * @throws IOException IO异常
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		lock.lock();
+		try {
+			out.defaultWriteObject();
+			out.writeInt(index.size());
+			// 按访问顺序写出，反序列化后保持LRU顺序
+			for (final Entry<K> entry : index.values()) {
+				out.writeObject(entry.key);
+				out.writeObject(read(entry));
+				out.writeLong(entry.ttl);
+				out.writeLong(entry.lastAccess);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 反序列化，重新分配内存块并写入所有对象
+	 *
+	 * @param in 输入流
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类不存在
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.slabs = new ArrayList<>();
+		this.freeBlocks = new int[0];
+		this.index = new LinkedHashMap<>();
+
+		final int size = in.readInt();
+		final List<Entry<K>> evicted = new ArrayList<>(0);
+		for (int i = 0; i < size; i++) {
+			final K key = (K) in.readObject();
+			final byte[] value = (byte[]) in.readObject();
+			final long ttl = in.readLong();
+			final long lastAccess = in.readLong();
+
+			final int[] blocks = allocate(blockCount(value.length), evicted);
+			write(blocks, value);
+			final Entry<K> entry = new Entry<>(key, blocks, value.length, ttl);
+			entry.lastAccess = lastAccess;
+			index.put(MutableObj.of(key), entry);
+			usedBytes += value.length;
+		}
+	}
+
+	@Override
+	public String toString() {
+		lock.lock();
+		try {
+			return "OffHeapCache [size=" + index.size() + ", usedBytes=" + usedBytes + ", maxBytes=" + maxBytes + "]";
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 索引项，记录值占用的块
+	 *
+	 * @param <K> 键类型
+	 */
+	private static class Entry<K> {
+		private final K key;
+		private final int[] blocks;
+		private final int length;
+		private final long ttl;
+		private final long createTime;
+		private long lastAccess;
+		/**
+		 * 被移除时读取的值，仅设置了监听时有值
+		 */
+		private byte[] removedValue;
+
+		Entry(K key, int[] blocks, int length, long ttl) {
+			this.key = key;
+			this.blocks = blocks;
+			this.length = length;
+			this.ttl = ttl;
+			this.createTime = System.currentTimeMillis();
+			this.lastAccess = this.createTime;
+		}
+
+		boolean isExpired() {
+			return ttl > 0 && (System.currentTimeMillis() - lastAccess) > ttl;
+		}
+	}
+}
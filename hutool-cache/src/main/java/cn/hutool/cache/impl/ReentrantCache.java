@@ -1,5 +1,6 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.stats.RemovalCause;
 import cn.hutool.core.collection.CopiedIter;
 
 import java.util.Iterator;
@@ -41,6 +42,16 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 		return getOrRemoveExpired(key, isUpdateLastAccess, true);
 	}
 
+	@Override
+	public V getQuietly(K key) {
+		lock.lock();
+		try {
+			return super.getQuietly(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
 	@Override
 	public Iterator<CacheObj<K, V>> cacheObjIterator() {
 		CopiedIter<CacheObj<K, V>> copiedIterator;
@@ -55,11 +66,13 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 
 	@Override
 	public final int prune() {
+		final long start = System.nanoTime();
 		lock.lock();
 		try {
 			return pruneCache();
 		} finally {
 			lock.unlock();
+			recordPrune(start);
 		}
 	}
 
@@ -73,7 +86,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 			lock.unlock();
 		}
 		if (null != co) {
-			onRemove(co.key, co.obj);
+			onRemove(co, RemovalCause.EXPLICIT);
 		}
 	}
 
@@ -112,6 +125,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 			if(null != co && co.isExpired()){
 				//过期移除
 				removeWithoutLock(key);
+				recordRemoval(co, RemovalCause.EXPIRED);
 				co = null;
 			}
 		} finally {
@@ -121,13 +135,13 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 		// 未命中
 		if (null == co) {
 			if(isUpdateCount){
-				missCount.increment();
+				recordMiss();
 			}
 			return null;
 		}
 
 		if(isUpdateCount){
-			hitCount.increment();
+			recordHit();
 		}
 		return co.get(isUpdateLastAccess);
 	}
@@ -1,5 +1,6 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.stats.RemovalCause;
 import cn.hutool.core.collection.CopiedIter;
 
 import java.util.Iterator;
@@ -43,6 +44,16 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 		return get(key, isUpdateLastAccess, true);
 	}
 
+	@Override
+	public V getQuietly(K key) {
+		final long stamp = lock.readLock();
+		try {
+			return super.getQuietly(key);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
 	@Override
 	public Iterator<CacheObj<K, V>> cacheObjIterator() {
 		CopiedIter<CacheObj<K, V>> copiedIterator;
@@ -57,11 +68,13 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 
 	@Override
 	public final int prune() {
+		final long start = System.nanoTime();
 		final long stamp = lock.writeLock();
 		try {
 			return pruneCache();
 		} finally {
 			lock.unlockWrite(stamp);
+			recordPrune(start);
 		}
 	}
 
@@ -75,7 +88,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 			lock.unlockWrite(stamp);
 		}
 		if (null != co) {
-			onRemove(co.key, co.obj);
+			onRemove(co, RemovalCause.EXPLICIT);
 		}
 	}
 
@@ -133,12 +146,12 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 		// 未命中
 		if (null == co) {
 			if (isUpdateCount) {
-				missCount.increment();
+				recordMiss();
 			}
 			return null;
 		} else if (false == co.isExpired()) {
 			if (isUpdateCount) {
-				hitCount.increment();
+				recordHit();
 			}
 			return co.get(isUpdateLastAccess);
 		}
@@ -165,7 +178,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 			if (false == co.isExpired()) {
 				// 首先尝试获取值，如果值存在且有效，返回之
 				if (isUpdateCount) {
-					hitCount.increment();
+					recordHit();
 				}
 				return co.getValue();
 			}
@@ -176,7 +189,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 			lock.unlockWrite(stamp);
 		}
 		if (null != co) {
-			onRemove(co.key, co.obj);
+			onRemove(co, RemovalCause.EXPIRED);
 		}
 		return null;
 	}
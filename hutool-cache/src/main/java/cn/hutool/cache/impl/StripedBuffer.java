@@ -0,0 +1,104 @@
+package cn.hutool.cache.impl;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 分段有损环形缓冲区，用于在无锁读取时记录访问事件<br>
+ * 读线程按照线程ID散列到不同的段中写入，写入仅使用CAS，不阻塞；段已满或CAS竞争失败时直接丢弃本次记录。<br>
+ * 缓冲区的消费（drain）需要调用方在持有淘汰锁的情况下单线程执行，以便将访问事件批量应用到淘汰策略上。
+ *
+ * @param <E> 元素类型
+ * @author looly
+ * @since 5.8.36
+ */
+final class StripedBuffer<E> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 段数，取不小于CPU核数的2的幂，最多64段
+	 */
+	private static final int STRIPE_COUNT = Math.min(64, ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors()));
+	private static final int STRIPE_MASK = STRIPE_COUNT - 1;
+	/**
+	 * 每段的环形缓冲区大小，必须为2的幂
+	 */
+	private static final int BUFFER_SIZE = 16;
+	private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+	/**
+	 * 单段积压达到此阈值时，建议调用方执行消费
+	 */
+	private static final int DRAIN_THRESHOLD = BUFFER_SIZE / 2;
+
+	private final AtomicReferenceArray<E> elements = new AtomicReferenceArray<>(STRIPE_COUNT * BUFFER_SIZE);
+	private final AtomicLongArray writeCounts = new AtomicLongArray(STRIPE_COUNT);
+	private final AtomicLongArray readCounts = new AtomicLongArray(STRIPE_COUNT);
+
+	/**
+	 * 记录一个元素，此方法不阻塞，段已满或竞争失败时丢弃
+	 *
+	 * @param e 元素
+	 * @return 是否建议立即执行{@link #drainTo(Consumer)}
+	 */
+	boolean offer(E e) {
+		final int stripe = stripe();
+		final long writeCount = writeCounts.get(stripe);
+		final long size = writeCount - readCounts.get(stripe);
+		if (size >= BUFFER_SIZE) {
+			// 缓冲区已满，丢弃此记录
+			return true;
+		}
+		if (writeCounts.compareAndSet(stripe, writeCount, writeCount + 1)) {
+			elements.lazySet(stripe * BUFFER_SIZE + (int) (writeCount & BUFFER_MASK), e);
+			return size + 1 >= DRAIN_THRESHOLD;
+		}
+		// 竞争失败，丢弃此记录
+		return false;
+	}
+
+	/**
+	 * 消费所有段中已发布的元素，调用方需保证同一时刻只有一个线程执行此方法
+	 *
+	 * @param consumer 元素消费者
+	 */
+	void drainTo(Consumer<E> consumer) {
+		for (int stripe = 0; stripe < STRIPE_COUNT; stripe++) {
+			long readCount = readCounts.get(stripe);
+			final long writeCount = writeCounts.get(stripe);
+			while (readCount < writeCount) {
+				final int index = stripe * BUFFER_SIZE + (int) (readCount & BUFFER_MASK);
+				final E e = elements.get(index);
+				if (null == e) {
+					// 写入线程已占位但尚未发布，下次再消费
+					break;
+				}
+				elements.lazySet(index, null);
+				consumer.accept(e);
+				readCount++;
+			}
+			readCounts.lazySet(stripe, readCount);
+		}
+	}
+
+	/**
+	 * 当前线程对应的段
+	 *
+	 * @return 段序号
+	 */
+	private static int stripe() {
+		final long h = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & STRIPE_MASK;
+	}
+
+	/**
+	 * 不小于给定值的最小2的幂
+	 *
+	 * @param x 值
+	 * @return 2的幂
+	 */
+	private static int ceilingPowerOfTwo(int x) {
+		return x <= 1 ? 1 : Integer.highestOneBit(x - 1) << 1;
+	}
+}
@@ -1,7 +1,9 @@
 package cn.hutool.cache.impl;
 
 import cn.hutool.cache.GlobalPruneTimer;
+import cn.hutool.cache.stats.RemovalCause;
 import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
 
 import java.util.HashMap;
 import java.util.Iterator;
@@ -10,7 +12,8 @@ import java.util.concurrent.ScheduledFuture;
 
 /**
  * 定时缓存<br>
- * 此缓存没有容量限制，对象只有在过期后才会被移除
+ * 此缓存没有容量限制，对象只有在过期后才会被移除<br>
+ * 对象按照过期时间记录在时间轮形式的过期索引中，清理时只处理已到期的槽，无需遍历整个缓存
  *
  * @author Looly
  *
@@ -22,6 +25,8 @@ public class TimedCache<K, V> extends ReentrantCache<K, V> {
 
 	/** 正在执行的定时任务 */
 	private ScheduledFuture<?> pruneJobFuture;
+	/** 过期索引，{@code null}表示清理时遍历所有对象 */
+	private final ExpiryIndex<K, V> expiryIndex;
 
 	/**
 	 * 构造
@@ -39,9 +44,57 @@ public class TimedCache<K, V> extends ReentrantCache<K, V> {
 	 * @param map 存储缓存对象的map
 	 */
 	public TimedCache(long timeout, Map<Mutable<K>, CacheObj<K, V>> map) {
+		this(timeout, map, true);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param timeout         过期时长
+	 * @param map             存储缓存对象的map
+	 * @param useExpiryIndex  是否使用过期索引，对于键值可能被GC回收的map，索引会持有对象的强引用，此时应不使用索引
+	 * @since 5.8.36
+	 */
+	protected TimedCache(long timeout, Map<Mutable<K>, CacheObj<K, V>> map, boolean useExpiryIndex) {
 		this.capacity = 0;
 		this.timeout = timeout;
 		this.cacheMap = map;
+		// 桶宽度取默认过期时长的1/64，限制在1毫秒到1秒之间
+		this.expiryIndex = useExpiryIndex ? new ExpiryIndex<>(timeout > 0 ? Math.min(1000, timeout >> 6) : 1000) : null;
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		if (null == expiryIndex) {
+			super.putWithoutLock(key, object, timeout);
+			return;
+		}
+		// 被替换的对象从索引中移除，避免索引继续持有旧值
+		expiryIndex.remove(getWithoutLock(key));
+		super.putWithoutLock(key, object, timeout);
+		expiryIndex.add(getWithoutLock(key));
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key) {
+		final CacheObj<K, V> co = super.removeWithoutLock(key);
+		if (null != expiryIndex) {
+			expiryIndex.remove(co);
+		}
+		return co;
+	}
+
+	@Override
+	public void clear() {
+		lock.lock();
+		try {
+			super.clear();
+			if (null != expiryIndex) {
+				expiryIndex.clear();
+			}
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	// ---------------------------------------------------------------- prune
@@ -52,6 +105,10 @@ public class TimedCache<K, V> extends ReentrantCache<K, V> {
 	 */
 	@Override
 	protected int pruneCache() {
+		if (null != expiryIndex) {
+			return expiryIndex.expire(System.currentTimeMillis(), this::removeIfPresent);
+		}
+
 		int count = 0;
 		final Iterator<CacheObj<K, V>> values = cacheObjIter();
 		CacheObj<K, V> co;
@@ -59,13 +116,29 @@ public class TimedCache<K, V> extends ReentrantCache<K, V> {
 			co = values.next();
 			if (co.isExpired()) {
 				values.remove();
-				onRemove(co.key, co.obj);
+				onRemove(co, RemovalCause.EXPIRED);
 				count++;
 			}
 		}
 		return count;
 	}
 
+	/**
+	 * 过期索引中的对象到期时调用，对象仍在缓存中时移除，已被替换或移除则忽略
+	 *
+	 * @param co 过期的缓存对象
+	 * @return 是否移除
+	 */
+	private boolean removeIfPresent(CacheObj<K, V> co) {
+		final MutableObj<K> mKey = MutableObj.of(co.key);
+		if (cacheMap.get(mKey) != co) {
+			return false;
+		}
+		cacheMap.remove(mKey);
+		onRemove(co, RemovalCause.EXPIRED);
+		return true;
+	}
+
 	// ---------------------------------------------------------------- auto prune
 	/**
 	 * 定时清理
@@ -0,0 +1,181 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * W-TinyLFU 缓存<br>
+ * 缓存空间分为三个区域：
+ * <ul>
+ *     <li>准入窗口（容量的1%）：新对象首先进入此LRU区域，用于容纳突发的新访问</li>
+ *     <li>试用区：从窗口淘汰的对象进入此区域，被再次访问时晋升到保护区</li>
+ *     <li>保护区（主区域的80%）：多次访问的对象，超出容量时降级到试用区</li>
+ * </ul>
+ * 窗口满时，窗口淘汰的候选对象与试用区的淘汰对象通过{@link FrequencySketch}比较访问频率，频率高者留下。<br>
+ * 与{@link LFUCache}相比，访问频率使用定期老化的Count-Min Sketch估算，淘汰为O(1)操作，
+ * 且大量只访问一次的扫描操作无法挤出热点对象。读取不加锁，见{@link BufferedCache}。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.36
+ */
+public class TinyLFUCache<K, V> extends BufferedCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	private final FrequencySketch sketch;
+	private final int maxWindow;
+	private final int maxMain;
+	private final int maxProtected;
+
+	private final LinkedHashMap<Mutable<K>, CacheObj<K, V>> window = new LinkedHashMap<>(16, 0.75f, true);
+	private final LinkedHashMap<Mutable<K>, CacheObj<K, V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+	private final LinkedHashMap<Mutable<K>, CacheObj<K, V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * 构造<br>
+	 * 默认无超时
+	 *
+	 * @param capacity 容量，必须大于0
+	 */
+	public TinyLFUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量，必须大于0
+	 * @param timeout  默认超时时间，单位：毫秒
+	 */
+	public TinyLFUCache(int capacity, long timeout) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0!");
+		this.capacity = capacity;
+		this.timeout = timeout;
+
+		this.maxWindow = Math.max(1, capacity / 100);
+		this.maxMain = capacity - maxWindow;
+		this.maxProtected = (int) (maxMain * 0.8);
+		this.sketch = new FrequencySketch(capacity);
+	}
+
+	/**
+	 * 估算键的访问频率，范围0~15
+	 *
+	 * @param key 键
+	 * @return 访问频率
+	 */
+	public int frequency(K key) {
+		evictionLock.lock();
+		try {
+			return sketch.frequency(key);
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	protected void recordWrite(Mutable<K> key, CacheObj<K, V> co, CacheObj<K, V> old) {
+		sketch.increment(co.key);
+		if (null != old) {
+			// 替换值，保持在原区域
+			if (window.containsKey(key)) {
+				window.put(key, co);
+			} else if (probation.containsKey(key)) {
+				probation.put(key, co);
+			} else {
+				protectedSegment.put(key, co);
+			}
+			return;
+		}
+
+		window.put(key, co);
+		if (window.size() > maxWindow) {
+			admit(pollFirst(window));
+		}
+	}
+
+	@Override
+	protected void recordRead(CacheObj<K, V> co) {
+		final MutableObj<K> key = MutableObj.of(co.key);
+		sketch.increment(co.key);
+		if (null != window.get(key)) {
+			return;
+		}
+
+		final CacheObj<K, V> probationObj = probation.remove(key);
+		if (null != probationObj) {
+			// 试用区的对象再次被访问，晋升到保护区，保护区超出容量则最久未使用的对象降级到试用区
+			protectedSegment.put(key, probationObj);
+			if (protectedSegment.size() > maxProtected) {
+				final CacheObj<K, V> demoted = pollFirst(protectedSegment);
+				probation.put(MutableObj.of(demoted.key), demoted);
+			}
+			return;
+		}
+
+		protectedSegment.get(key);
+	}
+
+	@Override
+	protected void recordRemove(Mutable<K> key, CacheObj<K, V> co) {
+		if (false == window.remove(key, co) && false == probation.remove(key, co)) {
+			protectedSegment.remove(key, co);
+		}
+	}
+
+	@Override
+	protected void resetPolicy() {
+		window.clear();
+		probation.clear();
+		protectedSegment.clear();
+		sketch.clear();
+	}
+
+	/**
+	 * 窗口淘汰的候选对象准入主区域，主区域已满时与试用区（为空则保护区）最久未使用的对象比较访问频率，淘汰频率低者
+	 *
+	 * @param candidate 候选对象
+	 */
+	private void admit(CacheObj<K, V> candidate) {
+		final MutableObj<K> candidateKey = MutableObj.of(candidate.key);
+		if (probation.size() + protectedSegment.size() < maxMain) {
+			probation.put(candidateKey, candidate);
+			return;
+		}
+
+		final LinkedHashMap<Mutable<K>, CacheObj<K, V>> victimRegion = probation.isEmpty() ? protectedSegment : probation;
+		if (victimRegion.isEmpty()) {
+			// 主区域容量为0
+			evict(candidate);
+			return;
+		}
+
+		final CacheObj<K, V> victim = victimRegion.values().iterator().next();
+		if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+			victimRegion.remove(MutableObj.of(victim.key));
+			evict(victim);
+			probation.put(candidateKey, candidate);
+		} else {
+			evict(candidate);
+		}
+	}
+
+	/**
+	 * 移除并返回区域中最久未使用的对象
+	 *
+	 * @param region 区域
+	 * @return 最久未使用的对象
+	 */
+	private static <K, V> CacheObj<K, V> pollFirst(LinkedHashMap<Mutable<K>, CacheObj<K, V>> region) {
+		final Iterator<Map.Entry<Mutable<K>, CacheObj<K, V>>> iterator = region.entrySet().iterator();
+		final CacheObj<K, V> first = iterator.next().getValue();
+		iterator.remove();
+		return first;
+	}
+}
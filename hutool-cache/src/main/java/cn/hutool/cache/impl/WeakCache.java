@@ -27,7 +27,8 @@ public class WeakCache<K, V> extends TimedCache<K, V>{
 	 * @param timeout 超时时常，单位毫秒，-1或0表示无限制
 	 */
 	public WeakCache(long timeout) {
-		super(timeout, new WeakConcurrentMap<>());
+		// 过期索引会持有键的强引用，导致键无法被回收，因此不使用
+		super(timeout, new WeakConcurrentMap<>(), false);
 	}
 
 	@Override
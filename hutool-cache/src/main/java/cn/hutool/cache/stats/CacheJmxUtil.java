@@ -0,0 +1,171 @@
+package cn.hutool.cache.stats;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.core.exceptions.UtilException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * 缓存JMX工具类，用于将缓存的统计信息注册到平台{@link MBeanServer}，以便通过JConsole或监控系统采集命中率等指标<br>
+ * 注册的ObjectName为：{@code cn.hutool.cache:type=CacheStats,name="缓存名"}
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class CacheJmxUtil {
+
+	/**
+	 * JMX域
+	 */
+	public static final String DOMAIN = "cn.hutool.cache";
+
+	/**
+	 * 注册缓存统计，已存在同名注册时替换之<br>
+	 * 缓存需通过{@link Cache#setStatsRecorder(StatsRecorder)}开启统计，否则只有命中和未命中数
+	 *
+	 * @param name  缓存名
+	 * @param cache 缓存
+	 * @return 注册的{@link ObjectName}
+	 * @throws UtilException JMX注册异常
+	 */
+	public static ObjectName register(String name, Cache<?, ?> cache) throws UtilException {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		final ObjectName objectName = getObjectName(name);
+		try {
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+			server.registerMBean(new CacheStatsMXBeanImpl(cache), objectName);
+		} catch (final JMException e) {
+			throw new UtilException(e);
+		}
+		return objectName;
+	}
+
+	/**
+	 * 取消注册缓存统计，未注册时忽略
+	 *
+	 * @param name 缓存名
+	 * @throws UtilException JMX注册异常
+	 */
+	public static void unregister(String name) throws UtilException {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		final ObjectName objectName = getObjectName(name);
+		try {
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+		} catch (final JMException e) {
+			throw new UtilException(e);
+		}
+	}
+
+	/**
+	 * 获取缓存对应的{@link ObjectName}
+	 *
+	 * @param name 缓存名
+	 * @return {@link ObjectName}
+	 * @throws UtilException 名称不合法
+	 */
+	public static ObjectName getObjectName(String name) throws UtilException {
+		try {
+			return new ObjectName(DOMAIN + ":type=CacheStats,name=" + ObjectName.quote(name));
+		} catch (final JMException e) {
+			throw new UtilException(e);
+		}
+	}
+
+	/**
+	 * {@link CacheStatsMXBean}实现，每次读取属性时获取最新的统计快照
+	 */
+	private static class CacheStatsMXBeanImpl implements CacheStatsMXBean {
+		private final Cache<?, ?> cache;
+
+		CacheStatsMXBeanImpl(Cache<?, ?> cache) {
+			this.cache = cache;
+		}
+
+		@Override
+		public int getSize() {
+			return cache.size();
+		}
+
+		@Override
+		public int getCapacity() {
+			return cache.capacity();
+		}
+
+		@Override
+		public long getRequestCount() {
+			return cache.stats().requestCount();
+		}
+
+		@Override
+		public long getHitCount() {
+			return cache.stats().hitCount();
+		}
+
+		@Override
+		public long getMissCount() {
+			return cache.stats().missCount();
+		}
+
+		@Override
+		public double getHitRate() {
+			return cache.stats().hitRate();
+		}
+
+		@Override
+		public long getLoadCount() {
+			return cache.stats().loadCount();
+		}
+
+		@Override
+		public long getLoadFailureCount() {
+			return cache.stats().loadFailureCount();
+		}
+
+		@Override
+		public double getAverageLoadPenalty() {
+			return cache.stats().averageLoadPenalty();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return cache.stats().evictionCount();
+		}
+
+		@Override
+		public long getSizeEvictionCount() {
+			return cache.stats().sizeEvictionCount();
+		}
+
+		@Override
+		public long getExpiredCount() {
+			return cache.stats().expiredCount();
+		}
+
+		@Override
+		public long getExplicitRemovalCount() {
+			return cache.stats().explicitRemovalCount();
+		}
+
+		@Override
+		public double getAverageRemovedAge() {
+			return cache.stats().averageRemovedAge();
+		}
+
+		@Override
+		public long getPruneCount() {
+			return cache.stats().pruneCount();
+		}
+
+		@Override
+		public double getAveragePruneTime() {
+			return cache.stats().averagePruneTime();
+		}
+	}
+}
@@ -0,0 +1,242 @@
+package cn.hutool.cache.stats;
+
+import java.io.Serializable;
+
+/**
+ * 缓存统计快照，不可变对象<br>
+ * 所有计数从统计记录器创建时开始累计，两个快照之间的变化可以通过{@link #minus(CacheStats)}计算。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class CacheStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 空的统计快照，用于未开启统计的缓存
+	 */
+	public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+	private final long hitCount;
+	private final long missCount;
+	private final long loadSuccessCount;
+	private final long loadFailureCount;
+	private final long totalLoadTime;
+	private final long explicitRemovalCount;
+	private final long sizeEvictionCount;
+	private final long expiredCount;
+	private final long totalRemovedAge;
+	private final long pruneCount;
+	private final long totalPruneTime;
+
+	/**
+	 * 构造
+	 *
+	 * @param hitCount             命中数
+	 * @param missCount            未命中数
+	 * @param loadSuccessCount     加载成功数
+	 * @param loadFailureCount     加载失败数
+	 * @param totalLoadTime        加载总耗时，单位纳秒
+	 * @param explicitRemovalCount 主动移除数
+	 * @param sizeEvictionCount    容量淘汰数
+	 * @param expiredCount         过期移除数
+	 * @param totalRemovedAge      被移除对象的存活时长总和，单位毫秒
+	 * @param pruneCount           过期清理次数
+	 * @param totalPruneTime       过期清理总耗时，单位纳秒
+	 */
+	public CacheStats(long hitCount, long missCount,
+					  long loadSuccessCount, long loadFailureCount, long totalLoadTime,
+					  long explicitRemovalCount, long sizeEvictionCount, long expiredCount, long totalRemovedAge,
+					  long pruneCount, long totalPruneTime) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.loadSuccessCount = loadSuccessCount;
+		this.loadFailureCount = loadFailureCount;
+		this.totalLoadTime = totalLoadTime;
+		this.explicitRemovalCount = explicitRemovalCount;
+		this.sizeEvictionCount = sizeEvictionCount;
+		this.expiredCount = expiredCount;
+		this.totalRemovedAge = totalRemovedAge;
+		this.pruneCount = pruneCount;
+		this.totalPruneTime = totalPruneTime;
+	}
+
+	/**
+	 * @return 请求数，即命中数与未命中数之和
+	 */
+	public long requestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return 命中数
+	 */
+	public long hitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return 命中率，无请求时为{@code 1.0}
+	 */
+	public double hitRate() {
+		final long requestCount = requestCount();
+		return (requestCount == 0) ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * @return 未命中数
+	 */
+	public long missCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return 未命中率，无请求时为{@code 0.0}
+	 */
+	public double missRate() {
+		final long requestCount = requestCount();
+		return (requestCount == 0) ? 0.0 : (double) missCount / requestCount;
+	}
+
+	/**
+	 * @return 加载次数，包括成功和失败
+	 */
+	public long loadCount() {
+		return loadSuccessCount + loadFailureCount;
+	}
+
+	/**
+	 * @return 加载成功数
+	 */
+	public long loadSuccessCount() {
+		return loadSuccessCount;
+	}
+
+	/**
+	 * @return 加载失败数
+	 */
+	public long loadFailureCount() {
+		return loadFailureCount;
+	}
+
+	/**
+	 * @return 加载总耗时，单位纳秒
+	 */
+	public long totalLoadTime() {
+		return totalLoadTime;
+	}
+
+	/**
+	 * @return 平均加载耗时，单位纳秒
+	 */
+	public double averageLoadPenalty() {
+		final long loadCount = loadCount();
+		return (loadCount == 0) ? 0.0 : (double) totalLoadTime / loadCount;
+	}
+
+	/**
+	 * @return 淘汰数，即容量淘汰数与过期移除数之和，不包括主动移除
+	 */
+	public long evictionCount() {
+		return sizeEvictionCount + expiredCount;
+	}
+
+	/**
+	 * @return 主动移除数
+	 */
+	public long explicitRemovalCount() {
+		return explicitRemovalCount;
+	}
+
+	/**
+	 * @return 容量淘汰数
+	 */
+	public long sizeEvictionCount() {
+		return sizeEvictionCount;
+	}
+
+	/**
+	 * @return 过期移除数
+	 */
+	public long expiredCount() {
+		return expiredCount;
+	}
+
+	/**
+	 * 按照移除原因获取移除数
+	 *
+	 * @param cause 移除原因
+	 * @return 移除数
+	 */
+	public long removalCount(RemovalCause cause) {
+		switch (cause) {
+			case SIZE:
+				return sizeEvictionCount;
+			case EXPIRED:
+				return expiredCount;
+			default:
+				return explicitRemovalCount;
+		}
+	}
+
+	/**
+	 * 被移除对象（包括主动移除、容量淘汰和过期移除）从写入到移除的平均存活时长，单位毫秒<br>
+	 * 只统计已移除的对象，不包括仍在缓存中的对象，因此从未移除过对象的缓存返回{@code 0.0}
+	 *
+	 * @return 被移除对象的平均存活时长，单位毫秒
+	 */
+	public double averageRemovedAge() {
+		final long removalCount = evictionCount() + explicitRemovalCount;
+		return (removalCount == 0) ? 0.0 : (double) totalRemovedAge / removalCount;
+	}
+
+	/**
+	 * @return 过期清理次数
+	 */
+	public long pruneCount() {
+		return pruneCount;
+	}
+
+	/**
+	 * @return 过期清理总耗时，单位纳秒
+	 */
+	public long totalPruneTime() {
+		return totalPruneTime;
+	}
+
+	/**
+	 * @return 平均过期清理耗时，单位纳秒
+	 */
+	public double averagePruneTime() {
+		return (pruneCount == 0) ? 0.0 : (double) totalPruneTime / pruneCount;
+	}
+
+	/**
+	 * 计算此快照与之前快照的差值，用于统计一段时间内的变化
+	 *
+	 * @param other 之前的快照
+	 * @return 差值
+	 */
+	public CacheStats minus(CacheStats other) {
+		return new CacheStats(
+				Math.max(0, hitCount - other.hitCount),
+				Math.max(0, missCount - other.missCount),
+				Math.max(0, loadSuccessCount - other.loadSuccessCount),
+				Math.max(0, loadFailureCount - other.loadFailureCount),
+				Math.max(0, totalLoadTime - other.totalLoadTime),
+				Math.max(0, explicitRemovalCount - other.explicitRemovalCount),
+				Math.max(0, sizeEvictionCount - other.sizeEvictionCount),
+				Math.max(0, expiredCount - other.expiredCount),
+				Math.max(0, totalRemovedAge - other.totalRemovedAge),
+				Math.max(0, pruneCount - other.pruneCount),
+				Math.max(0, totalPruneTime - other.totalPruneTime));
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStats [hitCount=" + hitCount + ", missCount=" + missCount
+				+ ", loadSuccessCount=" + loadSuccessCount + ", loadFailureCount=" + loadFailureCount + ", totalLoadTime=" + totalLoadTime
+				+ ", explicitRemovalCount=" + explicitRemovalCount + ", sizeEvictionCount=" + sizeEvictionCount + ", expiredCount=" + expiredCount
+				+ ", totalRemovedAge=" + totalRemovedAge + ", pruneCount=" + pruneCount + ", totalPruneTime=" + totalPruneTime + "]";
+	}
+}
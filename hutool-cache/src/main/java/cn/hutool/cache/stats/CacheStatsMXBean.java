@@ -0,0 +1,90 @@
+package cn.hutool.cache.stats;
+
+/**
+ * 缓存统计的JMX管理接口，通过{@link CacheJmxUtil#register(String, cn.hutool.cache.Cache)}注册
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public interface CacheStatsMXBean {
+
+	/**
+	 * @return 缓存的对象数量
+	 */
+	int getSize();
+
+	/**
+	 * @return 缓存容量，0表示无大小限制
+	 */
+	int getCapacity();
+
+	/**
+	 * @return 请求数
+	 */
+	long getRequestCount();
+
+	/**
+	 * @return 命中数
+	 */
+	long getHitCount();
+
+	/**
+	 * @return 未命中数
+	 */
+	long getMissCount();
+
+	/**
+	 * @return 命中率
+	 */
+	double getHitRate();
+
+	/**
+	 * @return 加载次数
+	 */
+	long getLoadCount();
+
+	/**
+	 * @return 加载失败数
+	 */
+	long getLoadFailureCount();
+
+	/**
+	 * @return 平均加载耗时，单位纳秒
+	 */
+	double getAverageLoadPenalty();
+
+	/**
+	 * @return 淘汰数，包括容量淘汰和过期移除
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return 容量淘汰数
+	 */
+	long getSizeEvictionCount();
+
+	/**
+	 * @return 过期移除数
+	 */
+	long getExpiredCount();
+
+	/**
+	 * @return 主动移除数
+	 */
+	long getExplicitRemovalCount();
+
+	/**
+	 * @return 被移除对象从写入到移除的平均存活时长，单位毫秒，不包括仍在缓存中的对象
+	 */
+	double getAverageRemovedAge();
+
+	/**
+	 * @return 过期清理次数
+	 */
+	long getPruneCount();
+
+	/**
+	 * @return 平均过期清理耗时，单位纳秒
+	 */
+	double getAveragePruneTime();
+}
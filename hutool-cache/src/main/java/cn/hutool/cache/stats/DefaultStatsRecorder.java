@@ -0,0 +1,85 @@
+package cn.hutool.cache.stats;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 默认的缓存统计记录器，使用{@link LongAdder}累计各项计数，适用于高并发场景
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class DefaultStatsRecorder implements StatsRecorder, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder loadSuccessCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder totalLoadTime = new LongAdder();
+	private final LongAdder explicitRemovalCount = new LongAdder();
+	private final LongAdder sizeEvictionCount = new LongAdder();
+	private final LongAdder expiredCount = new LongAdder();
+	private final LongAdder totalRemovedAge = new LongAdder();
+	private final LongAdder pruneCount = new LongAdder();
+	private final LongAdder totalPruneTime = new LongAdder();
+
+	@Override
+	public void recordHits(int count) {
+		hitCount.add(count);
+	}
+
+	@Override
+	public void recordMisses(int count) {
+		missCount.add(count);
+	}
+
+	@Override
+	public void recordLoadSuccess(long loadTime) {
+		loadSuccessCount.increment();
+		totalLoadTime.add(loadTime);
+	}
+
+	@Override
+	public void recordLoadFailure(long loadTime) {
+		loadFailureCount.increment();
+		totalLoadTime.add(loadTime);
+	}
+
+	@Override
+	public void recordRemoval(RemovalCause cause, long age) {
+		switch (cause) {
+			case SIZE:
+				sizeEvictionCount.increment();
+				break;
+			case EXPIRED:
+				expiredCount.increment();
+				break;
+			default:
+				explicitRemovalCount.increment();
+		}
+		totalRemovedAge.add(age);
+	}
+
+	@Override
+	public void recordPrune(long pruneTime) {
+		pruneCount.increment();
+		totalPruneTime.add(pruneTime);
+	}
+
+	@Override
+	public CacheStats snapshot() {
+		return new CacheStats(
+				hitCount.sum(),
+				missCount.sum(),
+				loadSuccessCount.sum(),
+				loadFailureCount.sum(),
+				totalLoadTime.sum(),
+				explicitRemovalCount.sum(),
+				sizeEvictionCount.sum(),
+				expiredCount.sum(),
+				totalRemovedAge.sum(),
+				pruneCount.sum(),
+				totalPruneTime.sum());
+	}
+}
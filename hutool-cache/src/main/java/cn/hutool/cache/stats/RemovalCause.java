@@ -0,0 +1,22 @@
+package cn.hutool.cache.stats;
+
+/**
+ * 缓存对象被移除的原因
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public enum RemovalCause {
+	/**
+	 * 用户调用remove等方法主动移除
+	 */
+	EXPLICIT,
+	/**
+	 * 缓存已满，被淘汰策略移除
+	 */
+	SIZE,
+	/**
+	 * 对象已过期
+	 */
+	EXPIRED
+}
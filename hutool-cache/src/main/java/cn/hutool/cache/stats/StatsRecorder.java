@@ -0,0 +1,61 @@
+package cn.hutool.cache.stats;
+
+/**
+ * 缓存统计记录器，缓存在发生命中、加载、移除和清理等事件时回调，实现需保证线程安全<br>
+ * 默认实现见{@link DefaultStatsRecorder}，可自定义实现将事件直接输出到监控系统。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public interface StatsRecorder {
+
+	/**
+	 * 记录命中
+	 *
+	 * @param count 命中数
+	 */
+	void recordHits(int count);
+
+	/**
+	 * 记录未命中
+	 *
+	 * @param count 未命中数
+	 */
+	void recordMisses(int count);
+
+	/**
+	 * 记录一次成功的加载
+	 *
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	void recordLoadSuccess(long loadTime);
+
+	/**
+	 * 记录一次失败的加载，包括抛出异常和加载结果为{@code null}
+	 *
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	void recordLoadFailure(long loadTime);
+
+	/**
+	 * 记录一个对象被移除
+	 *
+	 * @param cause 移除原因
+	 * @param age   对象从写入到被移除的存活时长，单位毫秒
+	 */
+	void recordRemoval(RemovalCause cause, long age);
+
+	/**
+	 * 记录一次过期清理
+	 *
+	 * @param pruneTime 清理耗时，单位纳秒
+	 */
+	void recordPrune(long pruneTime);
+
+	/**
+	 * 获取当前的统计快照
+	 *
+	 * @return {@link CacheStats}
+	 */
+	CacheStats snapshot();
+}
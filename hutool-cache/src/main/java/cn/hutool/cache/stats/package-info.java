@@ -0,0 +1,7 @@
+/**
+ * 缓存统计，提供统计快照、统计记录器和JMX注册
+ *
+ * @author looly
+ *
+ */
+package cn.hutool.cache.stats;
@@ -0,0 +1,166 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.LoadingCache;
+import cn.hutool.cache.impl.OffHeapCache;
+import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.cache.stats.CacheJmxUtil;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.DefaultStatsRecorder;
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 缓存统计单元测试
+ */
+public class CacheStatsTest {
+
+	@Test
+	public void hitMissTest() {
+		final Cache<String, String> cache = CacheUtil.newLRUCache(2);
+		// 未开启统计时只有命中和未命中数
+		cache.put("a", "1");
+		cache.get("a");
+		cache.get("b");
+		CacheStats stats = cache.stats();
+		assertEquals(1, stats.hitCount());
+		assertEquals(1, stats.missCount());
+		assertEquals(0.5, stats.hitRate());
+
+		cache.setStatsRecorder(new DefaultStatsRecorder());
+		cache.get("a");
+		cache.get("a");
+		cache.get("c");
+		stats = cache.stats();
+		assertEquals(2, stats.hitCount());
+		assertEquals(1, stats.missCount());
+		assertEquals(3, stats.requestCount());
+	}
+
+	@Test
+	public void removalTest() {
+		final Cache<String, String> cache = CacheUtil.newLRUCache(2);
+		cache.setStatsRecorder(new DefaultStatsRecorder());
+		cache.put("a", "1");
+		cache.put("b", "2");
+		cache.put("c", "3");
+		cache.remove("b");
+
+		final CacheStats stats = cache.stats();
+		assertEquals(1, stats.removalCount(RemovalCause.SIZE));
+		assertEquals(1, stats.explicitRemovalCount());
+		assertEquals(1, stats.evictionCount());
+	}
+
+	@Test
+	public void expiredTest() {
+		final TimedCache<String, String> cache = CacheUtil.newTimedCache(50);
+		cache.setStatsRecorder(new DefaultStatsRecorder());
+		cache.put("a", "1");
+		cache.put("b", "2");
+		ThreadUtil.sleep(100);
+		assertEquals(2, cache.prune());
+
+		final CacheStats stats = cache.stats();
+		assertEquals(2, stats.expiredCount());
+		assertEquals(1, stats.pruneCount());
+		assertTrue(stats.averageRemovedAge() >= 50);
+	}
+
+	@Test
+	public void loadTest() {
+		final Cache<String, String> cache = CacheUtil.newFIFOCache(10);
+		cache.setStatsRecorder(new DefaultStatsRecorder());
+		cache.get("a", () -> "1");
+		cache.get("a", () -> "2");
+		assertThrows(IllegalStateException.class, () -> cache.get("b", () -> {
+			throw new IllegalStateException();
+		}));
+
+		final CacheStats stats = cache.stats();
+		assertEquals(1, stats.loadSuccessCount());
+		assertEquals(1, stats.loadFailureCount());
+		assertTrue(stats.averageLoadPenalty() >= 0);
+	}
+
+	@Test
+	public void loadingCacheTest() {
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> "v" + key);
+		cache.setStatsRecorder(new DefaultStatsRecorder());
+		assertEquals("va", cache.get("a"));
+		assertEquals("va", cache.get("a"));
+
+		final CacheStats stats = cache.stats();
+		assertEquals(1, stats.loadSuccessCount());
+		assertEquals(1, stats.hitCount());
+	}
+
+	@Test
+	public void minusTest() {
+		final Cache<String, String> cache = CacheUtil.newLRUCache(10);
+		cache.setStatsRecorder(new DefaultStatsRecorder());
+		cache.put("a", "1");
+		cache.get("a");
+		final CacheStats before = cache.stats();
+		cache.get("a");
+		cache.get("b");
+
+		final CacheStats delta = cache.stats().minus(before);
+		assertEquals(1, delta.hitCount());
+		assertEquals(1, delta.missCount());
+	}
+
+	@Test
+	public void jmxTest() throws Exception {
+		final Cache<String, String> cache = CacheUtil.newLRUCache(10);
+		cache.setStatsRecorder(new DefaultStatsRecorder());
+		cache.put("a", "1");
+		cache.get("a");
+
+		final ObjectName name = CacheJmxUtil.register("test", cache);
+		try {
+			assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "HitCount"));
+			assertEquals(1, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Size"));
+		} finally {
+			CacheJmxUtil.unregister("test");
+		}
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+	}
+
+	@Test
+	public void serializeTest() {
+		// 匿名子类持有外部类引用，不可序列化
+		final DefaultStatsRecorder recorder = new DefaultStatsRecorder() {
+			private static final long serialVersionUID = 1L;
+		};
+
+		final Cache<String, String> cache = CacheUtil.newFIFOCache(10);
+		cache.setStatsRecorder(recorder);
+		cache.put("a", "1");
+		cache.get("a");
+		final Cache<String, String> cloned = ObjectUtil.cloneByStream(cache);
+		assertEquals("1", cloned.get("a"));
+		assertNull(cloned.get("b"));
+		assertEquals(0, cloned.stats().loadSuccessCount());
+
+		final LoadingCache<String, String> loadingCache = new LoadingCache<>(CacheUtil.newFIFOCache(10), key -> key + "!");
+		loadingCache.setStatsRecorder(recorder);
+		loadingCache.get("a");
+		final LoadingCache<String, String> clonedLoading = ObjectUtil.cloneByStream(loadingCache);
+		assertEquals("b!", clonedLoading.get("b"));
+		assertEquals(0, clonedLoading.stats().loadSuccessCount());
+
+		final OffHeapCache<String> offHeapCache = new OffHeapCache<>(1024 * 1024);
+		offHeapCache.setStatsRecorder(recorder);
+		offHeapCache.put("a", new byte[]{1});
+		final OffHeapCache<String> clonedOffHeap = ObjectUtil.cloneByStream(offHeapCache);
+		assertArrayEquals(new byte[]{1}, clonedOffHeap.get("a"));
+		assertEquals(1, clonedOffHeap.stats().hitCount());
+	}
+}
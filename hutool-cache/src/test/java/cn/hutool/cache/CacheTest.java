@@ -7,6 +7,8 @@ import cn.hutool.core.util.RandomUtil;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
+
 /**
  * 缓存测试用例
  * @author Looly
@@ -121,4 +123,51 @@ public class CacheTest {
 		//取消定时清理
 		timedCache.cancelPruneSchedule();
 	}
+
+	@Test
+	public void timedCachePruneTest(){
+		final TimedCache<Integer, Integer> timedCache = CacheUtil.newTimedCache(200);
+		for (int i = 0; i < 1000; i++) {
+			timedCache.put(i, i);
+		}
+		// 自定义超时时长的对象
+		timedCache.put(1000, 1000, DateUnit.SECOND.getMillis() * 5);
+		timedCache.put(1001, 1001, 0);
+
+		ThreadUtil.sleep(100);
+		// 访问后过期时间后移，清理时不应被移除
+		assertEquals(1, timedCache.get(1).intValue());
+		ThreadUtil.sleep(150);
+
+		assertEquals(999, timedCache.prune());
+		assertEquals(3, timedCache.size());
+		assertEquals(1, timedCache.get(1, false).intValue());
+
+		ThreadUtil.sleep(300);
+		assertEquals(1, timedCache.prune());
+		assertEquals(1000, timedCache.get(1000).intValue());
+		assertEquals(1001, timedCache.get(1001).intValue());
+	}
+
+	@Test
+	public void timedCacheReplaceTest(){
+		final TimedCache<String, byte[]> timedCache = CacheUtil.newTimedCache(DateUnit.HOUR.getMillis());
+		byte[] first = new byte[1024];
+		final WeakReference<byte[]> ref = new WeakReference<>(first);
+		timedCache.put("key", first);
+		//noinspection UnusedAssignment
+		first = null;
+		for (int i = 0; i < 100; i++) {
+			timedCache.put("key", new byte[1024]);
+		}
+		timedCache.remove("key");
+
+		// 被替换和移除的值不应被过期索引持有
+		for (int i = 0; i < 10 && null != ref.get(); i++) {
+			System.gc();
+			ThreadUtil.sleep(50);
+		}
+		assertNull(ref.get());
+		assertEquals(0, timedCache.prune());
+	}
 }
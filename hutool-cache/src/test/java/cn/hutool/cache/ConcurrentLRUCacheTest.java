@@ -0,0 +1,73 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.ConcurrentLRUCache;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ConcurrentLRUCache} 单元测试
+ */
+public class ConcurrentLRUCacheTest {
+
+	@Test
+	public void lruTest() {
+		final ConcurrentLRUCache<String, String> cache = CacheUtil.newConcurrentLRUCache(3);
+		final AtomicInteger removeCount = new AtomicInteger();
+		cache.setListener((key, value) -> {
+			assertEquals("key2", key);
+			removeCount.incrementAndGet();
+		});
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.put("key3", "value3");
+		// 访问key1，使key2成为最久未使用的对象
+		assertEquals("value1", cache.get("key1"));
+		cache.put("key4", "value4");
+
+		assertEquals(3, cache.size());
+		assertNull(cache.get("key2"));
+		assertEquals("value1", cache.get("key1"));
+		assertEquals(1, removeCount.get());
+		assertEquals(2, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void timeoutTest() {
+		final ConcurrentLRUCache<String, String> cache = CacheUtil.newConcurrentLRUCache(10, 10);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 0);
+		ThreadUtil.sleep(50);
+		assertFalse(cache.containsKey("key1"));
+		assertEquals(1, cache.prune());
+		assertEquals("value2", cache.get("key2"));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void concurrentReadWriteTest() throws InterruptedException {
+		final int capacity = 100;
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(capacity);
+		final int threadCount = 16;
+		final CountDownLatch latch = new CountDownLatch(threadCount);
+		for (int i = 0; i < threadCount; i++) {
+			final int offset = i;
+			ThreadUtil.execute(() -> {
+				for (int j = 0; j < 10000; j++) {
+					final int key = (j + offset) % 300;
+					final Integer value = cache.get(key, () -> key);
+					assertEquals(key, value.intValue());
+				}
+				latch.countDown();
+			});
+		}
+		latch.await();
+		assertTrue(cache.size() <= capacity);
+		assertTrue(cache.getHitCount() + cache.getMissCount() >= threadCount * 10000L);
+	}
+}
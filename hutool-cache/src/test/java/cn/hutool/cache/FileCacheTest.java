@@ -4,6 +4,15 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
 import cn.hutool.cache.file.LFUFileCache;
+import cn.hutool.cache.file.MappedFileCache;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.CharsetUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 
 /**
  * 文件缓存单元测试
@@ -16,4 +25,51 @@ public class FileCacheTest {
 		LFUFileCache cache = new LFUFileCache(1000, 500, 2000);
 		assertNotNull(cache);
 	}
+
+	@Test
+	public void mappedFileCacheTest() {
+		final File file = FileUtil.createTempFile("mapped", ".txt", true);
+		try {
+			FileUtil.writeUtf8String("hutool", file);
+			final MappedFileCache cache = new MappedFileCache(10);
+
+			final ByteBuffer buffer = cache.getFileBuffer(file);
+			assertTrue(buffer.isReadOnly());
+			assertEquals("hutool", CharsetUtil.CHARSET_UTF_8.decode(buffer).toString());
+			// 返回的视图相互独立
+			assertEquals("hutool", new String(cache.getFileBytes(file), CharsetUtil.CHARSET_UTF_8));
+			assertEquals(1, cache.getCachedFilesCount());
+
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			assertEquals(6, cache.transferTo(file, Channels.newChannel(out)));
+			assertEquals("hutool", new String(out.toByteArray(), CharsetUtil.CHARSET_UTF_8));
+
+			// 文件修改后重新映射
+			FileUtil.writeUtf8String("hutool-cache", file);
+			assertTrue(file.setLastModified(file.lastModified() + 2000));
+			assertEquals("hutool-cache", new String(cache.getFileBytes(file), CharsetUtil.CHARSET_UTF_8));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void mappedFileCacheSerializeTest() {
+		final File file = FileUtil.createTempFile("mapped", ".txt", true);
+		try {
+			FileUtil.writeUtf8String("hutool", file);
+			final MappedFileCache cache = new MappedFileCache(10, 1000);
+			assertEquals("hutool", new String(cache.getFileBytes(file), CharsetUtil.CHARSET_UTF_8));
+
+			// 反序列化后缓存为空，文件重新映射
+			final MappedFileCache cloned = ObjectUtil.cloneByStream(cache);
+			assertEquals(10, cloned.capacity());
+			assertEquals(1000, cloned.timeout());
+			assertEquals(0, cloned.getCachedFilesCount());
+			assertEquals("hutool", new String(cloned.getFileBytes(file), CharsetUtil.CHARSET_UTF_8));
+			assertEquals(1, cloned.getCachedFilesCount());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
 }
@@ -0,0 +1,283 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.CacheObj;
+import cn.hutool.cache.impl.FIFOCache;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.LoadingCache;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.DefaultStatsRecorder;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.lang.func.Func0;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link LoadingCache} 单元测试
+ */
+public class LoadingCacheTest {
+
+	@Test
+	public void coalesceTest() throws InterruptedException {
+		final AtomicInteger loadCount = new AtomicInteger();
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> {
+			loadCount.incrementAndGet();
+			ThreadUtil.sleep(100);
+			return key + "-value";
+		});
+
+		final int threadCount = 100;
+		final CountDownLatch latch = new CountDownLatch(threadCount);
+		final AtomicInteger errorCount = new AtomicInteger();
+		for (int i = 0; i < threadCount; i++) {
+			ThreadUtil.execute(() -> {
+				if (false == "key-value".equals(cache.get("key"))) {
+					errorCount.incrementAndGet();
+				}
+				latch.countDown();
+			});
+		}
+		latch.await();
+		assertEquals(1, loadCount.get());
+		assertEquals(0, errorCount.get());
+	}
+
+	@Test
+	public void loadedBeforeRegisterTest() {
+		// 模拟未命中之后、注册加载标记之前其它线程已完成加载
+		final LRUCache<String, String> raw = new LRUCache<String, String>(10) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public String get(String key, boolean isUpdateLastAccess) {
+				return null;
+			}
+		};
+		raw.put("key", "loaded");
+		final AtomicInteger loadCount = new AtomicInteger();
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(raw, key -> {
+			loadCount.incrementAndGet();
+			return key + "-value";
+		});
+
+		assertEquals("loaded", cache.get("key"));
+		assertEquals("loaded", cache.getAsync("key").join());
+		assertEquals("loaded", cache.getAll(ListUtil.of("key")).get("key"));
+		assertEquals(0, loadCount.get());
+	}
+
+	@Test
+	public void listenerTest() {
+		final List<String> removed = new ArrayList<>();
+		final FIFOCache<String, String> raw = CacheUtil.newFIFOCache(1);
+		raw.setListener((key, value) -> removed.add(key));
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(raw, key -> key + "-value");
+
+		cache.get("a");
+		cache.get("b");
+		// 包装前设置的监听继续生效
+		assertEquals(ListUtil.of("a"), removed);
+	}
+
+	@Test
+	public void customCacheListenerTest() {
+		final List<String> removed = new ArrayList<>();
+		final ForwardingCache<String, String> raw = new ForwardingCache<>(CacheUtil.newFIFOCache(1));
+		raw.setListener((key, value) -> removed.add(key));
+		final AtomicInteger loadCount = new AtomicInteger();
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(raw, key -> {
+			loadCount.incrementAndGet();
+			return key + "-value";
+		});
+
+		cache.get("a");
+		assertEquals("a-value", cache.getQuietly("a"));
+		cache.get("b");
+		// 非内置实现的缓存，包装前设置的监听同样继续生效
+		assertEquals(ListUtil.of("a"), removed);
+		assertEquals(2, loadCount.get());
+	}
+
+	@Test
+	public void getAllTest() {
+		final AtomicInteger loadAllCount = new AtomicInteger();
+		final LoadingCache<Integer, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), new CacheLoader<Integer, String>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public String load(Integer key) {
+				return key < 0 ? null : "v" + key;
+			}
+
+			@Override
+			public Map<Integer, String> loadAll(java.util.Collection<? extends Integer> keys) throws Exception {
+				loadAllCount.incrementAndGet();
+				return CacheLoader.super.loadAll(keys);
+			}
+		});
+		cache.put(1, "cached");
+
+		final Map<Integer, String> result = cache.getAll(ListUtil.of(3, 1, 2, -1));
+		assertEquals(ListUtil.of(3, 1, 2), ListUtil.toList(result.keySet()));
+		assertEquals("cached", result.get(1));
+		assertEquals("v2", result.get(2));
+		assertEquals(1, loadAllCount.get());
+		assertEquals("v3", cache.get(3));
+	}
+
+	@Test
+	public void refreshAfterWriteTest() {
+		final AtomicInteger version = new AtomicInteger();
+		final LoadingCache<String, Integer> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> {
+			ThreadUtil.sleep(50);
+			return version.incrementAndGet();
+		}, 100, null);
+
+		assertEquals(1, cache.get("key").intValue());
+		ThreadUtil.sleep(150);
+		// 超过刷新时长，返回旧值并在后台刷新
+		assertEquals(1, cache.get("key").intValue());
+		assertEquals(2, cache.refresh("key").join().intValue());
+		assertEquals(2, cache.get("key").intValue());
+		assertEquals(2, version.get());
+	}
+
+	@Test
+	public void refreshStatsTest() {
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> "v" + key);
+		cache.setStatsRecorder(new DefaultStatsRecorder());
+		assertEquals("va", cache.get("a"));
+		assertEquals("va", cache.refresh("a").join());
+
+		// 加载和刷新内部的读取不计入命中
+		final CacheStats stats = cache.stats();
+		assertEquals(0, stats.hitCount());
+		assertEquals(1, stats.missCount());
+		assertEquals(2, stats.loadSuccessCount());
+	}
+
+	@Test
+	public void serializeTest() {
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newFIFOCache(10), key -> "v" + key, 100, null);
+		cache.put("a", "cached");
+
+		final LoadingCache<String, String> cloned = ObjectUtil.cloneByStream(cache);
+		assertEquals("cached", cloned.get("a"));
+		assertEquals("vb", cloned.get("b"));
+		assertEquals("vc", cloned.getAsync("c").join());
+		assertEquals(3, cloned.size());
+	}
+
+	/**
+	 * 转发所有调用的缓存，模拟用户自定义的缓存实现
+	 */
+	private static class ForwardingCache<K, V> implements Cache<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		private final Cache<K, V> raw;
+
+		ForwardingCache(Cache<K, V> raw) {
+			this.raw = raw;
+		}
+
+		@Override
+		public int capacity() {
+			return raw.capacity();
+		}
+
+		@Override
+		public long timeout() {
+			return raw.timeout();
+		}
+
+		@Override
+		public void put(K key, V object) {
+			raw.put(key, object);
+		}
+
+		@Override
+		public void put(K key, V object, long timeout) {
+			raw.put(key, object, timeout);
+		}
+
+		@Override
+		public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+			return raw.get(key, isUpdateLastAccess, supplier);
+		}
+
+		@Override
+		public V get(K key, boolean isUpdateLastAccess, long timeout, Func0<V> supplier) {
+			return raw.get(key, isUpdateLastAccess, timeout, supplier);
+		}
+
+		@Override
+		public V get(K key, boolean isUpdateLastAccess) {
+			return raw.get(key, isUpdateLastAccess);
+		}
+
+		@Override
+		public Iterator<CacheObj<K, V>> cacheObjIterator() {
+			return raw.cacheObjIterator();
+		}
+
+		@Override
+		public int prune() {
+			return raw.prune();
+		}
+
+		@Override
+		public boolean isFull() {
+			return raw.isFull();
+		}
+
+		@Override
+		public void remove(K key) {
+			raw.remove(key);
+		}
+
+		@Override
+		public void clear() {
+			raw.clear();
+		}
+
+		@Override
+		public int size() {
+			return raw.size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return raw.isEmpty();
+		}
+
+		@Override
+		public boolean containsKey(K key) {
+			return raw.containsKey(key);
+		}
+
+		@Override
+		public Iterator<V> iterator() {
+			return raw.iterator();
+		}
+
+		@Override
+		public ForwardingCache<K, V> setListener(CacheListener<K, V> listener) {
+			raw.setListener(listener);
+			return this;
+		}
+
+		@Override
+		public CacheListener<K, V> getListener() {
+			return raw.getListener();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.OffHeapCache;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.RandomUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link OffHeapCache} 单元测试
+ */
+public class OffHeapCacheTest {
+
+	@Test
+	public void putGetTest() {
+		final OffHeapCache<String> cache = CacheUtil.newOffHeapCache(1024 * 1024);
+		final byte[] large = RandomUtil.randomBytes(10000);
+		final byte[] small = RandomUtil.randomBytes(10);
+		cache.put("large", large);
+		cache.put("small", small);
+		cache.put("empty", new byte[0]);
+
+		assertArrayEquals(large, cache.get("large"));
+		assertArrayEquals(small, cache.get("small"));
+		assertArrayEquals(new byte[0], cache.get("empty"));
+		assertEquals(10010, cache.getUsedBytes());
+
+		cache.remove("large");
+		assertNull(cache.get("large"));
+		assertEquals(10, cache.getUsedBytes());
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void evictTest() {
+		// 共16个块
+		final OffHeapCache<Integer> cache = new OffHeapCache<>(16 * 1024, 0, 1024);
+		for (int i = 0; i < 8; i++) {
+			cache.put(i, RandomUtil.randomBytes(2000));
+		}
+		// 访问0，使1成为最久未使用的对象
+		assertNotNull(cache.get(0));
+		// containsKey不影响淘汰顺序
+		assertTrue(cache.containsKey(1));
+		cache.put(8, RandomUtil.randomBytes(3000));
+
+		assertNull(cache.get(1));
+		assertNull(cache.get(2));
+		assertNotNull(cache.get(0));
+		assertNotNull(cache.get(8));
+		assertTrue(cache.getUsedBytes() <= cache.getMaxBytes());
+		assertEquals(16 * 1024, cache.getAllocatedBytes());
+
+		// 大于容量的值不缓存
+		cache.put(100, new byte[17 * 1024]);
+		assertFalse(cache.containsKey(100));
+	}
+
+	@Test
+	public void clearTest() {
+		final OffHeapCache<String> cache = CacheUtil.newOffHeapCache(1024 * 1024);
+		final List<String> removed = new ArrayList<>();
+		cache.setListener((key, value) -> removed.add(key));
+		cache.put("a", RandomUtil.randomBytes(10));
+		cache.put("b", RandomUtil.randomBytes(10));
+
+		cache.clear();
+		assertEquals(2, removed.size());
+		assertTrue(removed.contains("a") && removed.contains("b"));
+		assertEquals(0, cache.getUsedBytes());
+	}
+
+	@Test
+	public void listenerValueTest() {
+		// 共4个块
+		final OffHeapCache<String> cache = new OffHeapCache<>(4 * 1024, 0, 1024);
+		final Map<String, byte[]> removed = new HashMap<>();
+		cache.setListener(removed::put);
+		final byte[] a = RandomUtil.randomBytes(3000);
+		final byte[] b = RandomUtil.randomBytes(3000);
+		final byte[] c = RandomUtil.randomBytes(10);
+		cache.put("a", a);
+		// 淘汰a，回调时的值为a的数据，而不是被b覆盖后的块
+		cache.put("b", b);
+		assertArrayEquals(a, removed.get("a"));
+
+		// 过期
+		cache.put("c", c, 10);
+		ThreadUtil.sleep(50);
+		assertNull(cache.get("c"));
+		assertArrayEquals(c, removed.get("c"));
+
+		cache.clear();
+		assertArrayEquals(b, removed.get("b"));
+	}
+
+	@Test
+	public void serializeTest() {
+		final OffHeapCache<String> cache = CacheUtil.newOffHeapCache(1024 * 1024);
+		final byte[] large = RandomUtil.randomBytes(10000);
+		cache.put("large", large);
+		cache.put("small", new byte[]{1, 2, 3});
+
+		final OffHeapCache<String> cloned = ObjectUtil.cloneByStream(cache);
+		assertArrayEquals(large, cloned.get("large"));
+		assertArrayEquals(new byte[]{1, 2, 3}, cloned.get("small"));
+		assertEquals(10003, cloned.getUsedBytes());
+
+		cloned.put("other", new byte[100]);
+		assertEquals(3, cloned.size());
+		assertEquals(2, cache.size());
+	}
+}
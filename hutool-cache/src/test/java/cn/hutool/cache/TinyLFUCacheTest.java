@@ -0,0 +1,63 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.TinyLFUCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link TinyLFUCache} 单元测试
+ */
+public class TinyLFUCacheTest {
+
+	@Test
+	public void capacityTest() {
+		final TinyLFUCache<Integer, Integer> cache = CacheUtil.newTinyLFUCache(100);
+		for (int i = 0; i < 1000; i++) {
+			cache.put(i, i);
+		}
+		assertEquals(100, cache.size());
+	}
+
+	@Test
+	public void scanResistantTest() {
+		final TinyLFUCache<Integer, Integer> cache = CacheUtil.newTinyLFUCache(100);
+		// 热点数据多次访问
+		for (int i = 0; i < 50; i++) {
+			cache.put(i, i);
+		}
+		for (int round = 0; round < 5; round++) {
+			for (int i = 0; i < 50; i++) {
+				assertEquals(i, cache.get(i).intValue());
+			}
+		}
+
+		// 大量只访问一次的扫描
+		for (int i = 1000; i < 1900; i++) {
+			cache.put(i, i);
+		}
+
+		int hotCount = 0;
+		for (int i = 0; i < 50; i++) {
+			if (cache.containsKey(i)) {
+				hotCount++;
+			}
+		}
+		assertEquals(50, hotCount);
+		assertEquals(100, cache.size());
+	}
+
+	@Test
+	public void hitMissTest() {
+		final TinyLFUCache<String, String> cache = CacheUtil.newTinyLFUCache(10);
+		cache.put("key1", "value1");
+		assertEquals("value1", cache.get("key1"));
+		assertNull(cache.get("key2"));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		cache.remove("key1");
+		assertNull(cache.get("key1"));
+		assertEquals(0, cache.size());
+	}
+}
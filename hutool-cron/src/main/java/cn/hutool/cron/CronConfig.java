@@ -1,5 +1,7 @@
 package cn.hutool.cron;
 
+import cn.hutool.core.lang.Assert;
+
 import java.util.TimeZone;
 
 /**
@@ -10,6 +12,11 @@ import java.util.TimeZone;
  */
 public class CronConfig {
 
+	/**
+	 * 默认{@link MisfirePolicy#FIRE_ALL}时每个任务最多补充执行的次数
+	 */
+	public static final int DEFAULT_MAX_MISFIRE_FIRES = 100;
+
 	/**
 	 * 时区
 	 */
@@ -18,6 +25,30 @@ public class CronConfig {
 	 * 是否支持秒匹配
 	 */
 	protected boolean matchSecond;
+	/**
+	 * 是否使用下次执行时间索引匹配任务
+	 */
+	protected boolean indexedMatch;
+	/**
+	 * 执行任务的最大线程数，0表示不限制
+	 */
+	protected int maxThreads;
+	/**
+	 * 同一任务同时执行的最大数量，0表示不限制
+	 */
+	protected int maxConcurrentPerTask;
+	/**
+	 * 是否使用虚拟线程执行任务
+	 */
+	protected boolean useVirtualThread;
+	/**
+	 * 错过执行的处理策略
+	 */
+	protected MisfirePolicy misfirePolicy = MisfirePolicy.SKIP;
+	/**
+	 * {@link MisfirePolicy#FIRE_ALL}时每个任务最多补充执行的次数
+	 */
+	protected int maxMisfireFires = DEFAULT_MAX_MISFIRE_FIRES;
 
 	public CronConfig(){
 	}
@@ -61,4 +92,154 @@ public class CronConfig {
 		this.matchSecond = isMatchSecond;
 		return this;
 	}
+
+	/**
+	 * 是否使用下次执行时间索引匹配任务
+	 *
+	 * @return {@code true}使用，{@code false}不使用
+	 * @since 5.8.36
+	 */
+	public boolean isIndexedMatch() {
+		return this.indexedMatch;
+	}
+
+	/**
+	 * 设置是否使用下次执行时间索引匹配任务，默认不使用<br>
+	 * 默认情况下，每个时间点需逐个匹配所有任务的表达式，任务数很多时匹配耗时较长。
+	 * 使用索引时，预先计算每个任务的下次执行时间并按时间排序，每个时间点只处理到期的任务，适用于任务数很多的场景。
+	 *
+	 * @param isIndexedMatch {@code true}使用，{@code false}不使用
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public CronConfig setIndexedMatch(boolean isIndexedMatch) {
+		this.indexedMatch = isIndexedMatch;
+		return this;
+	}
+
+	/**
+	 * 获取执行任务的最大线程数
+	 *
+	 * @return 最大线程数，0表示不限制
+	 * @since 5.8.36
+	 */
+	public int getMaxThreads() {
+		return this.maxThreads;
+	}
+
+	/**
+	 * 设置执行任务的最大线程数，默认0，表示不限制<br>
+	 * 默认情况下每个到期的任务都会立即获得一个线程，大量耗时任务同时触发时会创建大量线程。
+	 * 设置后任务在固定大小的线程池中执行，线程全部繁忙时，到期的任务排队等待。<br>
+	 * 此设置在调度器启动时生效，使用虚拟线程或自定义线程池时无效。
+	 *
+	 * @param maxThreads 最大线程数，0表示不限制
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public CronConfig setMaxThreads(int maxThreads) {
+		Assert.isTrue(maxThreads >= 0, "Max threads must be >= 0!");
+		this.maxThreads = maxThreads;
+		return this;
+	}
+
+	/**
+	 * 获取同一任务同时执行的最大数量
+	 *
+	 * @return 最大数量，0表示不限制
+	 * @since 5.8.36
+	 */
+	public int getMaxConcurrentPerTask() {
+		return this.maxConcurrentPerTask;
+	}
+
+	/**
+	 * 设置同一任务同时执行（包括排队等待执行）的最大数量，默认0，表示不限制<br>
+	 * 任务到期时，如果此任务上次及之前触发的执行数已达到此数量，本次执行跳过。
+	 * 设置为1即任务仍在执行时跳过本次执行，避免耗时任务的执行堆积。
+	 *
+	 * @param maxConcurrentPerTask 最大数量，0表示不限制
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public CronConfig setMaxConcurrentPerTask(int maxConcurrentPerTask) {
+		Assert.isTrue(maxConcurrentPerTask >= 0, "Max concurrent per task must be >= 0!");
+		this.maxConcurrentPerTask = maxConcurrentPerTask;
+		return this;
+	}
+
+	/**
+	 * 是否使用虚拟线程执行任务
+	 *
+	 * @return {@code true}使用，{@code false}不使用
+	 * @since 5.8.36
+	 */
+	public boolean isUseVirtualThread() {
+		return this.useVirtualThread;
+	}
+
+	/**
+	 * 设置是否使用虚拟线程执行任务，默认不使用<br>
+	 * JDK21及以上版本中，每个任务使用一个虚拟线程执行，适用于大量IO密集型任务同时触发的场景，
+	 * 低版本JDK中此设置无效，仍使用普通线程。虚拟线程均为守护线程。<br>
+	 * 此设置在调度器启动时生效，使用自定义线程池时无效。
+	 *
+	 * @param useVirtualThread {@code true}使用，{@code false}不使用
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public CronConfig setUseVirtualThread(boolean useVirtualThread) {
+		this.useVirtualThread = useVirtualThread;
+		return this;
+	}
+
+	/**
+	 * 获取错过执行的处理策略
+	 *
+	 * @return 错过执行的处理策略
+	 * @since 5.8.36
+	 */
+	public MisfirePolicy getMisfirePolicy() {
+		return this.misfirePolicy;
+	}
+
+	/**
+	 * 设置错过执行的处理策略，默认{@link MisfirePolicy#SKIP}<br>
+	 * 计时器暂停超过一个定时单位（如长时间GC、系统休眠）时，按照此策略处理暂停期间错过的执行；
+	 * 设置了{@link cn.hutool.cron.store.TaskStore}时，启动时同样按照此策略处理停止期间错过的执行。
+	 *
+	 * @param misfirePolicy 错过执行的处理策略
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public CronConfig setMisfirePolicy(MisfirePolicy misfirePolicy) {
+		Assert.notNull(misfirePolicy, "Misfire policy must be not null!");
+		this.misfirePolicy = misfirePolicy;
+		return this;
+	}
+
+	/**
+	 * 获取{@link MisfirePolicy#FIRE_ALL}时每个任务最多补充执行的次数
+	 *
+	 * @return 最多补充执行的次数
+	 * @since 5.8.36
+	 */
+	public int getMaxMisfireFires() {
+		return this.maxMisfireFires;
+	}
+
+	/**
+	 * 设置{@link MisfirePolicy#FIRE_ALL}时每个任务最多补充执行的次数，默认{@value #DEFAULT_MAX_MISFIRE_FIRES}<br>
+	 * 错过的时间点超过此数量时（如每秒执行的任务停止了一天），只补充执行一次，与{@link MisfirePolicy#FIRE_ONCE_NOW}相同，
+	 * 避免短时间内产生大量执行。
+	 *
+	 * @param maxMisfireFires 最多补充执行的次数，需大于0
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public CronConfig setMaxMisfireFires(int maxMisfireFires) {
+		Assert.isTrue(maxMisfireFires > 0, "Max misfire fires must be > 0!");
+		this.maxMisfireFires = maxMisfireFires;
+		return this;
+	}
 }
@@ -40,8 +40,15 @@ public class CronTimer extends Thread implements Serializable {
 		final long timerUnit = this.scheduler.config.matchSecond ? TIMER_UNIT_SECOND : TIMER_UNIT_MINUTE;
 		
 		long thisTime = System.currentTimeMillis();
+		// 最后处理的时间点（按定时单位取整），与下次处理的时间点间隔超过一个定时单位时，中间的时间点被错过
+		long lastTime = thisTime / timerUnit * timerUnit;
+		if (null != this.scheduler.taskStore) {
+			// 处理调度器停止期间错过的执行
+			this.scheduler.taskTable.executeMisfired(this.scheduler, -1, lastTime + timerUnit);
+		}
 		long nextTime;
 		long sleep;
+		long tick;
 		while(false == isStop){
 			//下一时间计算是按照上一个执行点开始时间计算的
 			//此处除以定时单位是为了清零单位以下部分，例如单位是分则秒和毫秒清零
@@ -54,7 +61,10 @@ public class CronTimer extends Thread implements Serializable {
 				}
 				//执行点，时间记录为执行开始的时间，而非结束时间
 				thisTime = System.currentTimeMillis();
-				spawnLauncher(thisTime);
+				tick = thisTime / timerUnit * timerUnit;
+				// 暂停时间较长（如长时间GC）时，之前的时间点被错过，交由启动器按照策略处理
+				spawnLauncher(thisTime, (tick - lastTime > timerUnit) ? lastTime : -1);
+				lastTime = tick;
 			} else{
 				// 非正常时间重新计算（issue#1224@Github）
 				thisTime = System.currentTimeMillis();
@@ -74,9 +84,10 @@ public class CronTimer extends Thread implements Serializable {
 	/**
 	 * 启动匹配
 	 * @param millis 当前时间
+	 * @param misfireFrom 上次处理的时间点，小于0表示无错过的时间点
 	 */
-	private void spawnLauncher(final long millis){
-		this.scheduler.taskLauncherManager.spawnLauncher(millis);
+	private void spawnLauncher(final long millis, final long misfireFrom){
+		this.scheduler.taskLauncherManager.spawnLauncher(millis, misfireFrom);
 	}
 
 	/**
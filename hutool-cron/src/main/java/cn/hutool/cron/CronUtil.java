@@ -61,6 +61,16 @@ public class CronUtil {
 		scheduler.setMatchSecond(isMatchSecond);
 	}
 
+	/**
+	 * 设置是否使用下次执行时间索引匹配任务，任务数很多时建议使用，见{@link CronConfig#setIndexedMatch(boolean)}
+	 *
+	 * @param isIndexedMatch {@code true}使用，{@code false}不使用
+	 * @since 5.8.36
+	 */
+	public static void setIndexedMatch(boolean isIndexedMatch) {
+		scheduler.setIndexedMatch(isIndexedMatch);
+	}
+
 	/**
 	 * 加入定时任务
 	 *
@@ -0,0 +1,25 @@
+package cn.hutool.cron;
+
+/**
+ * 错过执行的处理策略<br>
+ * 调度器停止期间（需配合{@link cn.hutool.cron.store.TaskStore}）或计时器暂停较长时间（如长时间GC、系统休眠）时，
+ * 任务可能错过一个或多个执行时间点，此策略决定如何处理这些错过的执行。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public enum MisfirePolicy {
+	/**
+	 * 忽略错过的执行，等待下一个时间点，默认策略
+	 */
+	SKIP,
+	/**
+	 * 错过一次或多次时，立即补充执行一次
+	 */
+	FIRE_ONCE_NOW,
+	/**
+	 * 错过的每个时间点都立即补充执行一次<br>
+	 * 错过的时间点超过{@link CronConfig#setMaxMisfireFires(int)}设置的上限时只补充执行一次，避免产生大量执行
+	 */
+	FIRE_ALL
+}
@@ -5,10 +5,12 @@ import cn.hutool.core.thread.ExecutorBuilder;
 import cn.hutool.core.thread.ThreadFactoryBuilder;
 import cn.hutool.core.util.CharUtil;
 import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.cron.listener.TaskListener;
 import cn.hutool.cron.listener.TaskListenerManager;
 import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.store.TaskStore;
 import cn.hutool.cron.task.InvokeTask;
 import cn.hutool.cron.task.RunnableTask;
 import cn.hutool.cron.task.Task;
@@ -16,10 +18,19 @@ import cn.hutool.log.StaticLog;
 import cn.hutool.setting.Setting;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TimeZone;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -76,6 +87,10 @@ public class Scheduler implements Serializable {
 	protected TaskListenerManager listenerManager = new TaskListenerManager();
 	/** 线程池，用于执行TaskLauncher和TaskExecutor */
 	protected ExecutorService threadExecutor;
+	/** 执行TaskExecutor的线程池，根据{@link CronConfig}中的线程设置创建，{@code null}表示使用{@link #threadExecutor} */
+	protected ExecutorService taskThreadExecutor;
+	/** 任务执行记录存储，{@code null}表示不记录 */
+	protected TaskStore taskStore;
 
 	// --------------------------------------------------------- Getters and Setters start
 	/**
@@ -167,6 +182,133 @@ public class Scheduler implements Serializable {
 		return this;
 	}
 
+	/**
+	 * 是否使用下次执行时间索引匹配任务
+	 *
+	 * @return {@code true}使用，{@code false}不使用
+	 * @since 5.8.36
+	 */
+	public boolean isIndexedMatch() {
+		return this.config.isIndexedMatch();
+	}
+
+	/**
+	 * 设置是否使用下次执行时间索引匹配任务，默认不使用，任务数很多时建议使用，见{@link CronConfig#setIndexedMatch(boolean)}
+	 *
+	 * @param isIndexedMatch {@code true}使用，{@code false}不使用
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public Scheduler setIndexedMatch(boolean isIndexedMatch) {
+		this.config.setIndexedMatch(isIndexedMatch);
+		return this;
+	}
+
+	/**
+	 * 设置执行任务的最大线程数，默认不限制，见{@link CronConfig#setMaxThreads(int)}
+	 *
+	 * @param maxThreads 最大线程数，0表示不限制
+	 * @return this
+	 * @throws CronException 定时任务已经启动抛出此异常
+	 * @since 5.8.36
+	 */
+	public Scheduler setMaxThreads(int maxThreads) throws CronException {
+		lock.lock();
+		try {
+			checkStarted();
+			this.config.setMaxThreads(maxThreads);
+		} finally {
+			lock.unlock();
+		}
+		return this;
+	}
+
+	/**
+	 * 设置同一任务同时执行的最大数量，默认不限制，见{@link CronConfig#setMaxConcurrentPerTask(int)}
+	 *
+	 * @param maxConcurrentPerTask 最大数量，0表示不限制，1表示任务仍在执行时跳过本次执行
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public Scheduler setMaxConcurrentPerTask(int maxConcurrentPerTask) {
+		this.config.setMaxConcurrentPerTask(maxConcurrentPerTask);
+		return this;
+	}
+
+	/**
+	 * 设置是否使用虚拟线程执行任务，默认不使用，见{@link CronConfig#setUseVirtualThread(boolean)}
+	 *
+	 * @param useVirtualThread {@code true}使用，{@code false}不使用
+	 * @return this
+	 * @throws CronException 定时任务已经启动抛出此异常
+	 * @since 5.8.36
+	 */
+	public Scheduler setUseVirtualThread(boolean useVirtualThread) throws CronException {
+		lock.lock();
+		try {
+			checkStarted();
+			this.config.setUseVirtualThread(useVirtualThread);
+		} finally {
+			lock.unlock();
+		}
+		return this;
+	}
+
+	/**
+	 * 设置错过执行的处理策略，默认{@link MisfirePolicy#SKIP}，见{@link CronConfig#setMisfirePolicy(MisfirePolicy)}
+	 *
+	 * @param misfirePolicy 错过执行的处理策略
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public Scheduler setMisfirePolicy(MisfirePolicy misfirePolicy) {
+		this.config.setMisfirePolicy(misfirePolicy);
+		return this;
+	}
+
+	/**
+	 * 设置{@link MisfirePolicy#FIRE_ALL}时每个任务最多补充执行的次数，见{@link CronConfig#setMaxMisfireFires(int)}
+	 *
+	 * @param maxMisfireFires 最多补充执行的次数，需大于0
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public Scheduler setMaxMisfireFires(int maxMisfireFires) {
+		this.config.setMaxMisfireFires(maxMisfireFires);
+		return this;
+	}
+
+	/**
+	 * 获取任务执行记录存储
+	 *
+	 * @return 任务执行记录存储，未设置返回{@code null}
+	 * @since 5.8.36
+	 */
+	public TaskStore getTaskStore() {
+		return this.taskStore;
+	}
+
+	/**
+	 * 设置任务执行记录存储<br>
+	 * 设置后每次执行任务时记录执行时间，启动时根据记录计算停止期间错过的执行，按照{@link MisfirePolicy}处理。
+	 * 无记录的任务以启动时间为起点，使用存储的任务需使用固定的ID。
+	 *
+	 * @param taskStore 任务执行记录存储
+	 * @return this
+	 * @throws CronException 定时任务已经启动抛出此异常
+	 * @since 5.8.36
+	 */
+	public Scheduler setTaskStore(TaskStore taskStore) throws CronException {
+		lock.lock();
+		try {
+			checkStarted();
+			this.taskStore = taskStore;
+		} finally {
+			lock.unlock();
+		}
+		return this;
+	}
+
 	/**
 	 * 增加监听器
 	 *
@@ -200,6 +342,7 @@ public class Scheduler implements Serializable {
 	 */
 	public Scheduler schedule(Setting cronSetting) {
 		if (MapUtil.isNotEmpty(cronSetting)) {
+			final List<String> ids = new ArrayList<>();
 			String group;
 			for (Entry<String, LinkedHashMap<String, String>> groupedEntry : cronSetting.getGroupedMap().entrySet()) {
 				group = groupedEntry.getKey();
@@ -212,12 +355,16 @@ public class Scheduler implements Serializable {
 					StaticLog.debug("Load job: {} {}", pattern, jobClass);
 					try {
 						// issue#I5E7BM@Gitee，自定义ID避免重复从配置文件加载
-						schedule("id_" + jobClass, pattern, new InvokeTask(jobClass));
+						final String id = "id_" + jobClass;
+						taskTable.add(id, new CronPattern(pattern), new InvokeTask(jobClass));
+						ids.add(id);
 					} catch (Exception e) {
 						throw new CronException(e, "Schedule [{}] [{}] error!", pattern, jobClass);
 					}
 				}
 			}
+			// 批量记录，避免每个任务写一次存储
+			initFireTimes(ids);
 		}
 		return this;
 	}
@@ -280,6 +427,7 @@ public class Scheduler implements Serializable {
 	 */
 	public Scheduler schedule(String id, CronPattern pattern, Task task) {
 		taskTable.add(id, pattern, task);
+		initFireTimes(Collections.singletonList(id));
 		return this;
 	}
 
@@ -302,7 +450,13 @@ public class Scheduler implements Serializable {
 	 * @since 5.7.17
 	 */
 	public boolean descheduleWithStatus(String id) {
-		return this.taskTable.remove(id);
+		final boolean removed = this.taskTable.remove(id);
+		final TaskStore taskStore = this.taskStore;
+		if (removed && null != taskStore) {
+			// 移除任务的执行记录，避免之后加入相同ID的任务时按照旧记录补充执行
+			taskStore.remove(id);
+		}
+		return removed;
 	}
 
 	/**
@@ -414,6 +568,8 @@ public class Scheduler implements Serializable {
 				this.threadExecutor = ExecutorBuilder.create().useSynchronousQueue().setThreadFactory(//
 						ThreadFactoryBuilder.create().setNamePrefix("hutool-cron-").setDaemon(this.daemon).build()//
 				).build();
+				// 使用默认线程池时，按照配置创建执行任务的线程池，自定义线程池时全部使用自定义线程池
+				this.taskThreadExecutor = createTaskThreadExecutor();
 			}
 			this.taskLauncherManager = new TaskLauncherManager(this);
 			this.taskExecutorManager = new TaskExecutorManager(this);
@@ -462,6 +618,10 @@ public class Scheduler implements Serializable {
 			//停止线程池
 			this.threadExecutor.shutdown();
 			this.threadExecutor = null;
+			if (null != this.taskThreadExecutor) {
+				this.taskThreadExecutor.shutdown();
+				this.taskThreadExecutor = null;
+			}
 
 			//可选是否清空任务表
 			if(clearTasks) {
@@ -476,6 +636,29 @@ public class Scheduler implements Serializable {
 		return this;
 	}
 
+	/**
+	 * 为新加入且无执行记录的任务记录执行时间，新任务以加入时间为起点，此后错过的执行按照策略处理<br>
+	 * 未启动时不记录，由启动时的错过执行处理统一记录，避免每加入一个任务写一次存储
+	 *
+	 * @param ids 新加入的任务ID
+	 */
+	private void initFireTimes(Collection<String> ids) {
+		final TaskStore taskStore = this.taskStore;
+		if (null == taskStore || false == this.started || ids.isEmpty()) {
+			return;
+		}
+		final long now = System.currentTimeMillis();
+		final Map<String, Long> fireTimes = new HashMap<>(ids.size(), 1);
+		for (final String id : ids) {
+			if (taskStore.getLastFireTime(id) < 0) {
+				fireTimes.put(id, now);
+			}
+		}
+		if (false == fireTimes.isEmpty()) {
+			taskStore.setLastFireTimes(fireTimes);
+		}
+	}
+
 	/**
 	 * 检查定时任务是否已经启动
 	 *
@@ -486,4 +669,45 @@ public class Scheduler implements Serializable {
 			throw new CronException("Scheduler already started!");
 		}
 	}
+
+	/**
+	 * 按照配置创建执行任务的线程池：
+	 * <ul>
+	 *     <li>使用虚拟线程且JDK支持时，每个任务使用一个虚拟线程</li>
+	 *     <li>设置了最大线程数时，使用固定大小的线程池，繁忙时任务排队</li>
+	 *     <li>其它情况返回{@code null}，任务与启动器共用无界线程池</li>
+	 * </ul>
+	 *
+	 * @return 线程池或{@code null}
+	 */
+	private ExecutorService createTaskThreadExecutor() {
+		if (this.config.isUseVirtualThread()) {
+			final ExecutorService executor = newVirtualThreadExecutor();
+			if (null != executor) {
+				return executor;
+			}
+			StaticLog.warn("Virtual thread is not supported by current JDK, use platform thread instead.");
+		}
+
+		final int maxThreads = this.config.getMaxThreads();
+		if (maxThreads > 0) {
+			return ExecutorBuilder.create()
+					.setCorePoolSize(maxThreads)
+					.setMaxPoolSize(maxThreads)
+					.setWorkQueue(new LinkedBlockingQueue<>())
+					.setThreadFactory(ThreadFactoryBuilder.create().setNamePrefix("hutool-cron-task-").setDaemon(this.daemon).build())
+					.build();
+		}
+		return null;
+	}
+
+	/**
+	 * 创建每个任务使用一个虚拟线程的线程池，通过反射调用，JDK21以下版本返回{@code null}
+	 *
+	 * @return 线程池或{@code null}
+	 */
+	private static ExecutorService newVirtualThreadExecutor() {
+		final Method method = ReflectUtil.getPublicMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+		return null == method ? null : ReflectUtil.invokeStatic(method);
+	}
 }
@@ -2,11 +2,16 @@ package cn.hutool.cron;
 
 import cn.hutool.cron.task.CronTask;
 import cn.hutool.cron.task.Task;
+import cn.hutool.log.StaticLog;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 作业执行管理器<br>
@@ -27,6 +32,10 @@ public class TaskExecutorManager implements Serializable {
 	 * 执行器列表
 	 */
 	private final List<TaskExecutor> executors = new ArrayList<>();
+	/**
+	 * 各任务正在执行（包括排队等待执行）的执行器数量，key为任务ID
+	 */
+	private final Map<String, Integer> runningCounts = new HashMap<>();
 
 	public TaskExecutorManager(Scheduler scheduler) {
 		this.scheduler = scheduler;
@@ -43,20 +52,35 @@ public class TaskExecutorManager implements Serializable {
 	}
 
 	/**
-	 * 启动 执行器TaskExecutor，即启动作业
+	 * 启动 执行器TaskExecutor，即启动作业<br>
+	 * 如果设置了{@link CronConfig#setMaxConcurrentPerTask(int)}，且此任务正在执行的数量已达到上限，跳过本次执行
 	 *
 	 * @param task {@link Task}
-	 * @return {@link TaskExecutor}
+	 * @return {@link TaskExecutor}，跳过执行时返回{@code null}
 	 */
 	public TaskExecutor spawnExecutor(CronTask task) {
 		final TaskExecutor executor = new TaskExecutor(this.scheduler, task);
+		final int maxConcurrent = this.scheduler.config.getMaxConcurrentPerTask();
 		synchronized (this.executors) {
+			final int count = runningCounts.getOrDefault(task.getId(), 0);
+			if (maxConcurrent > 0 && count >= maxConcurrent) {
+				StaticLog.debug("Task [{}] is still running with {} executors, skip this execution.", task.getId(), count);
+				return null;
+			}
+			runningCounts.put(task.getId(), count + 1);
 			this.executors.add(executor);
 		}
 		// 子线程是否为deamon线程取决于父线程，因此此处无需显示调用
 		// executor.setDaemon(this.scheduler.daemon);
 //		executor.start();
-		this.scheduler.threadExecutor.execute(executor);
+		final ExecutorService taskThreadExecutor = this.scheduler.taskThreadExecutor;
+		try {
+			(null != taskThreadExecutor ? taskThreadExecutor : this.scheduler.threadExecutor).execute(executor);
+		} catch (final RejectedExecutionException e) {
+			// 线程池拒绝执行时回滚计数，避免此任务之后一直被视为正在执行
+			notifyExecutorCompleted(executor);
+			throw e;
+		}
 		return executor;
 	}
 
@@ -68,7 +92,9 @@ public class TaskExecutorManager implements Serializable {
 	 */
 	public TaskExecutorManager notifyExecutorCompleted(TaskExecutor executor) {
 		synchronized (executors) {
-			executors.remove(executor);
+			if (executors.remove(executor)) {
+				runningCounts.computeIfPresent(executor.getCronTask().getId(), (id, count) -> count > 1 ? count - 1 : null);
+			}
 		}
 		return this;
 	}
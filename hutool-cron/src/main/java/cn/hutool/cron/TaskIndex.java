@@ -0,0 +1,162 @@
+package cn.hutool.cron;
+
+import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
+import cn.hutool.cron.task.Task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TimeZone;
+
+/**
+ * 按下次执行时间排序的任务索引<br>
+ * 每个任务加入时通过{@link CronPattern#nextMatchAfter(TimeZone, long, boolean)}计算下次执行时间，放入按时间排序的优先队列，
+ * 每个时间点只取出到期的任务，执行后计算并放回下次执行时间，无需逐个匹配所有任务的表达式。<br>
+ * 与逐个匹配相同，错过的时间点（如计时器被阻塞）不会补充执行。<br>
+ * 移除任务时只标记删除，标记的任务在出队时跳过，避免在优先队列中线性查找；标记的任务超过队列的一半时整体清理一次。
+ * 此类非线程安全，由{@link TaskTable}加锁访问。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+class TaskIndex {
+
+	private final TimeZone timezone;
+	private final boolean matchSecond;
+	private final long timerUnit;
+	private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparingLong(entry -> entry.nextTime));
+	private final Map<String, Entry> entries = new HashMap<>();
+	/**
+	 * 队列中标记删除但尚未出队的任务数
+	 */
+	private int removedCount;
+	/**
+	 * 最后处理的时间点，新加入的任务从此时间之后开始计算
+	 */
+	private long lastTime;
+
+	/**
+	 * 构造
+	 *
+	 * @param timezone    时区
+	 * @param matchSecond 是否匹配秒
+	 * @param time        首个处理的时间点，任务在此时间点匹配时同样执行
+	 */
+	TaskIndex(TimeZone timezone, boolean matchSecond, long time) {
+		this.timezone = timezone;
+		this.matchSecond = matchSecond;
+		this.timerUnit = matchSecond ? 1000 : 60000;
+		this.lastTime = time - 1;
+	}
+
+	/**
+	 * 索引的时区和秒匹配设置是否与给定的一致
+	 *
+	 * @param timezone    时区
+	 * @param matchSecond 是否匹配秒
+	 * @return 是否一致
+	 */
+	boolean isCompatible(TimeZone timezone, boolean matchSecond) {
+		return this.matchSecond == matchSecond && this.timezone.equals(timezone);
+	}
+
+	/**
+	 * 加入任务，已存在相同ID的任务时替换
+	 *
+	 * @param id      ID
+	 * @param pattern {@link CronPattern}
+	 * @param task    {@link Task}
+	 */
+	void add(String id, CronPattern pattern, Task task) {
+		remove(id);
+		final Entry entry = new Entry(id, pattern, task);
+		entries.put(id, entry);
+		schedule(entry, lastTime);
+	}
+
+	/**
+	 * 移除任务，任务只标记删除，在出队时跳过
+	 *
+	 * @param id ID
+	 */
+	void remove(String id) {
+		final Entry entry = entries.remove(id);
+		if (null == entry || entry.nextTime < 0) {
+			// 不存在或不在队列中
+			return;
+		}
+		entry.removed = true;
+		removedCount++;
+		if (removedCount > 16 && removedCount > queue.size() / 2) {
+			// 标记的任务过多时整体清理，避免队列无限增长
+			queue.removeIf(e -> e.removed);
+			removedCount = 0;
+		}
+	}
+
+	/**
+	 * 取出给定时间点到期的任务，并计算这些任务的下次执行时间
+	 *
+	 * @param millis 时间毫秒数，按照定时单位（秒或分）取整
+	 * @return 到期的任务
+	 */
+	List<CronTask> poll(long millis) {
+		final long time = millis / timerUnit * timerUnit;
+		final List<CronTask> dueTasks = new ArrayList<>();
+		Entry entry;
+		while (null != (entry = queue.peek()) && entry.nextTime <= time) {
+			queue.poll();
+			if (entry.removed) {
+				removedCount--;
+				continue;
+			}
+			// 早于当前时间点的为错过的时间点，跳过
+			if (entry.nextTime == time) {
+				dueTasks.add(new CronTask(entry.id, entry.pattern, entry.task));
+			}
+			schedule(entry, time);
+		}
+		this.lastTime = Math.max(this.lastTime, time);
+		return dueTasks;
+	}
+
+	/**
+	 * 计算任务在给定时间之后的执行时间并放入队列，不再匹配的任务不放入队列
+	 *
+	 * @param entry 任务
+	 * @param after 时间毫秒数
+	 */
+	private void schedule(Entry entry, long after) {
+		entry.nextTime = entry.pattern.nextMatchAfter(timezone, after, matchSecond);
+		if (entry.nextTime > -1) {
+			queue.add(entry);
+		}
+	}
+
+	/**
+	 * 索引中的任务
+	 */
+	private static class Entry {
+		private final String id;
+		private final CronPattern pattern;
+		private final Task task;
+		/**
+		 * 下次执行时间，-1表示不在队列中
+		 */
+		private long nextTime = -1;
+		/**
+		 * 是否已移除，已移除的任务在出队时跳过
+		 */
+		private boolean removed;
+
+		Entry(String id, CronPattern pattern, Task task) {
+			this.id = id;
+			this.pattern = pattern;
+			this.task = task;
+		}
+	}
+}
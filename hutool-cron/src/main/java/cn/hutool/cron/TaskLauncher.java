@@ -11,6 +11,10 @@ public class TaskLauncher implements Runnable {
 
 	private final Scheduler scheduler;
 	private final long millis;
+	/**
+	 * 上次处理的时间点，此时间点与本次之间的时间点为错过的时间点，小于0表示无错过的时间点
+	 */
+	private final long misfireFrom;
 
 	/**
 	 * 构造
@@ -19,12 +23,28 @@ public class TaskLauncher implements Runnable {
 	 * @param millis    毫秒数
 	 */
 	public TaskLauncher(Scheduler scheduler, long millis) {
+		this(scheduler, millis, -1);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param scheduler   {@link Scheduler}
+	 * @param millis      毫秒数
+	 * @param misfireFrom 上次处理的时间点，此时间点与本次之间错过的执行按照{@link MisfirePolicy}处理，小于0表示无错过的时间点
+	 * @since 5.8.36
+	 */
+	public TaskLauncher(Scheduler scheduler, long millis, long misfireFrom) {
 		this.scheduler = scheduler;
 		this.millis = millis;
+		this.misfireFrom = misfireFrom;
 	}
 
 	@Override
 	public void run() {
+		if (this.misfireFrom >= 0) {
+			scheduler.taskTable.executeMisfired(this.scheduler, this.misfireFrom, this.millis);
+		}
 		//匹配秒部分由用户定义决定，始终不匹配年
 		scheduler.taskTable.executeTaskIfMatch(this.scheduler, this.millis);
 
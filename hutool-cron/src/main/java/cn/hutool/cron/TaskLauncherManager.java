@@ -27,7 +27,18 @@ public class TaskLauncherManager implements Serializable {
 	 * @return {@link TaskLauncher}
 	 */
 	protected TaskLauncher spawnLauncher(long millis) {
-		final TaskLauncher launcher = new TaskLauncher(this.scheduler, millis);
+		return spawnLauncher(millis, -1);
+	}
+
+	/**
+	 * 启动 TaskLauncher，并处理上次处理的时间点与本次之间错过的执行
+	 * @param millis 触发事件的毫秒数
+	 * @param misfireFrom 上次处理的时间点，小于0表示无错过的时间点
+	 * @return {@link TaskLauncher}
+	 * @since 5.8.36
+	 */
+	protected TaskLauncher spawnLauncher(long millis, long misfireFrom) {
+		final TaskLauncher launcher = new TaskLauncher(this.scheduler, millis, misfireFrom);
 		synchronized (this.launchers) {
 			this.launchers.add(launcher);
 		}
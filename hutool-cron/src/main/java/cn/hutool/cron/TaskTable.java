@@ -2,13 +2,17 @@ package cn.hutool.cron;
 
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.store.TaskStore;
 import cn.hutool.cron.task.CronTask;
 import cn.hutool.cron.task.Task;
+import cn.hutool.log.StaticLog;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -31,6 +35,10 @@ public class TaskTable implements Serializable {
 	private final List<CronPattern> patterns;
 	private final List<Task> tasks;
 	private int size;
+	/**
+	 * 按下次执行时间排序的任务索引，使用索引匹配时首次执行时创建
+	 */
+	private transient TaskIndex index;
 
 	/**
 	 * 构造
@@ -71,6 +79,9 @@ public class TaskTable implements Serializable {
 			patterns.add(pattern);
 			tasks.add(task);
 			size++;
+			if (null != index) {
+				index.add(id, pattern, task);
+			}
 		} finally {
 			writeLock.unlock();
 		}
@@ -143,6 +154,9 @@ public class TaskTable implements Serializable {
 			patterns.remove(index);
 			ids.remove(index);
 			size--;
+			if (null != this.index) {
+				this.index.remove(id);
+			}
 		} finally {
 			writeLock.unlock();
 		}
@@ -164,6 +178,9 @@ public class TaskTable implements Serializable {
 			final int index = ids.indexOf(id);
 			if (index > -1) {
 				patterns.set(index, pattern);
+				if (null != this.index) {
+					this.index.add(id, pattern, tasks.get(index));
+				}
 				return true;
 			}
 		} finally {
@@ -263,6 +280,18 @@ public class TaskTable implements Serializable {
 	 * @param millis 时间毫秒
 	 */
 	public void executeTaskIfMatch(Scheduler scheduler, long millis) {
+		if (scheduler.config.indexedMatch) {
+			// 索引匹配会修改索引，使用写锁
+			final Lock writeLock = lock.writeLock();
+			writeLock.lock();
+			try {
+				executeTaskIfMatchIndexed(scheduler, millis);
+			} finally {
+				writeLock.unlock();
+			}
+			return;
+		}
+
 		final Lock readLock = lock.readLock();
 		readLock.lock();
 		try {
@@ -272,6 +301,24 @@ public class TaskTable implements Serializable {
 		}
 	}
 
+	/**
+	 * 按照{@link MisfirePolicy}处理错过的执行，带读锁
+	 *
+	 * @param scheduler {@link Scheduler}
+	 * @param from      上次处理的时间点（不包含），小于0表示使用{@link TaskStore}中记录的各任务最后执行时间
+	 * @param to        本次处理的时间点（不包含，此时间点正常匹配执行）
+	 * @since 5.8.36
+	 */
+	public void executeMisfired(Scheduler scheduler, long from, long to) {
+		final Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			executeMisfiredInternal(scheduler, from, to);
+		} finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public String toString() {
 		final StringBuilder builder = StrUtil.builder();
@@ -290,10 +337,149 @@ public class TaskTable implements Serializable {
 	 * @since 3.1.1
 	 */
 	protected void executeTaskIfMatchInternal(Scheduler scheduler, long millis) {
+		final Map<String, Long> fireTimes = (null != scheduler.taskStore) ? new HashMap<>() : null;
 		for (int i = 0; i < size; i++) {
 			if (patterns.get(i).match(scheduler.config.timezone, millis, scheduler.config.matchSecond)) {
 				scheduler.taskExecutorManager.spawnExecutor(new CronTask(ids.get(i), patterns.get(i), tasks.get(i)));
+				if (null != fireTimes) {
+					fireTimes.put(ids.get(i), truncate(scheduler.config, millis));
+				}
+			}
+		}
+		saveFireTimes(scheduler, fireTimes);
+	}
+
+	/**
+	 * 通过按下次执行时间排序的索引，执行到期的Task，无锁<br>
+	 * 索引在首次执行或时区、秒匹配设置变化时重建
+	 *
+	 * @param scheduler {@link Scheduler}
+	 * @param millis 时间毫秒
+	 * @since 5.8.36
+	 */
+	protected void executeTaskIfMatchIndexed(Scheduler scheduler, long millis) {
+		final CronConfig config = scheduler.config;
+		if (null == index || false == index.isCompatible(config.timezone, config.matchSecond)) {
+			index = new TaskIndex(config.timezone, config.matchSecond, truncate(config, millis));
+			for (int i = 0; i < size; i++) {
+				index.add(ids.get(i), patterns.get(i), tasks.get(i));
+			}
+		}
+		final Map<String, Long> fireTimes = (null != scheduler.taskStore) ? new HashMap<>() : null;
+		for (final CronTask task : index.poll(millis)) {
+			scheduler.taskExecutorManager.spawnExecutor(task);
+			if (null != fireTimes) {
+				fireTimes.put(task.getId(), truncate(config, millis));
+			}
+		}
+		saveFireTimes(scheduler, fireTimes);
+	}
+
+	/**
+	 * 按照{@link MisfirePolicy}处理错过的执行，无锁<br>
+	 * 从{@link TaskStore}中的记录开始处理时，无记录的任务以当前时间为起点记录，不处理
+	 *
+	 * @param scheduler {@link Scheduler}
+	 * @param from      上次处理的时间点（不包含），小于0表示使用{@link TaskStore}中记录的各任务最后执行时间
+	 * @param to        本次处理的时间点（不包含，此时间点正常匹配执行）
+	 * @since 5.8.36
+	 */
+	protected void executeMisfiredInternal(Scheduler scheduler, long from, long to) {
+		final CronConfig config = scheduler.config;
+		final MisfirePolicy policy = config.misfirePolicy;
+		final TaskStore store = scheduler.taskStore;
+		if (null == store && (from < 0 || MisfirePolicy.SKIP == policy)) {
+			return;
+		}
+
+		to = truncate(config, to);
+		final Map<String, Long> fireTimes = (null != store) ? new HashMap<>() : null;
+		String id;
+		long taskFrom;
+		long time;
+		for (int i = 0; i < size; i++) {
+			id = ids.get(i);
+			taskFrom = from;
+			if (null != store) {
+				final long lastFireTime = store.getLastFireTime(id);
+				if (lastFireTime < 0) {
+					if (from < 0) {
+						fireTimes.put(id, System.currentTimeMillis());
+					}
+					continue;
+				}
+				taskFrom = Math.max(from, lastFireTime);
+			}
+			time = patterns.get(i).nextMatchAfter(config.timezone, taskFrom, config.matchSecond);
+			if (time < 0 || time >= to) {
+				// 没有错过的时间点
+				continue;
+			}
+			int fireCount = 1;
+			if (MisfirePolicy.FIRE_ALL == policy) {
+				// 先计算错过的次数，超过上限时只执行一次，避免大量执行
+				fireCount = countMisfires(config, patterns.get(i), time, to);
+				if (fireCount > config.maxMisfireFires) {
+					StaticLog.warn("Task [{}] misfired more than {} times, fire once.", id, config.maxMisfireFires);
+					fireCount = 1;
+				}
+			} else if (MisfirePolicy.SKIP == policy) {
+				fireCount = 0;
+			}
+			for (int j = 0; j < fireCount; j++) {
+				scheduler.taskExecutorManager.spawnExecutor(new CronTask(id, patterns.get(i), tasks.get(i)));
+			}
+			if (null != fireTimes) {
+				// to之前的时间点均视为已处理
+				fireTimes.put(id, to - 1);
 			}
 		}
+		saveFireTimes(scheduler, fireTimes);
+	}
+
+	/**
+	 * 计算[time, to)之间错过的时间点数，超过{@link CronConfig#getMaxMisfireFires()}时不再继续计算
+	 *
+	 * @param config  配置
+	 * @param pattern 表达式
+	 * @param time    第一个错过的时间点
+	 * @param to      结束时间点（不包含）
+	 * @return 错过的时间点数，最大为上限加1
+	 */
+	private static int countMisfires(CronConfig config, CronPattern pattern, long time, long to) {
+		int count = 0;
+		for (; time > -1 && time < to && count <= config.maxMisfireFires; time = pattern.nextMatchAfter(config.timezone, time, config.matchSecond)) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 将任务执行时间记录到{@link TaskStore}，记录失败只打印日志，不影响任务执行
+	 *
+	 * @param scheduler {@link Scheduler}
+	 * @param fireTimes 任务ID和执行时间，{@code null}表示不记录
+	 */
+	private static void saveFireTimes(Scheduler scheduler, Map<String, Long> fireTimes) {
+		if (null == fireTimes || fireTimes.isEmpty()) {
+			return;
+		}
+		try {
+			scheduler.taskStore.setLastFireTimes(fireTimes);
+		} catch (Exception e) {
+			StaticLog.error(e, "Save fire times of tasks {} failed!", fireTimes.keySet());
+		}
+	}
+
+	/**
+	 * 将时间按照定时单位（秒或分）取整，即任务执行的时间点
+	 *
+	 * @param config {@link CronConfig}
+	 * @param millis 时间毫秒
+	 * @return 取整后的时间毫秒
+	 */
+	private static long truncate(CronConfig config, long millis) {
+		final long timerUnit = config.matchSecond ? 1000 : 60000;
+		return millis / timerUnit * timerUnit;
 	}
 }
@@ -6,9 +6,10 @@ import cn.hutool.cron.pattern.matcher.PatternMatcher;
 import cn.hutool.cron.pattern.parser.PatternParser;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.TimeZone;
 
@@ -70,8 +71,14 @@ import java.util.TimeZone;
  */
 public class CronPattern {
 
+	private static final long MILLIS_PER_DAY = 24 * 3600 * 1000L;
+
 	private final String pattern;
 	private final List<PatternMatcher> matchers;
+	/**
+	 * 最近一次匹配的时间所在日期的字段缓存，同一天内的匹配无需重新计算日期
+	 */
+	private volatile DayFields dayFields;
 
 	/**
 	 * 解析表达式为 CronPattern
@@ -114,9 +121,32 @@ public class CronPattern {
 	 * @return 如果匹配返回 {@code true}, 否则返回 {@code false}
 	 */
 	public boolean match(TimeZone timezone, long millis, boolean isMatchSecond) {
-		final GregorianCalendar calendar = new GregorianCalendar(timezone);
-		calendar.setTimeInMillis(millis);
-		return match(calendar, isMatchSecond);
+		// 日期字段按天缓存，时分秒直接由毫秒数计算，匹配时只做位运算，不创建Calendar
+		DayFields day = this.dayFields;
+		if (null == day || false == day.contains(timezone, millis)) {
+			final ZoneId zone = PatternUtil.toZoneId(timezone);
+			if (null == zone) {
+				// 有夏令时的自定义时区，使用Calendar匹配
+				final Calendar calendar = Calendar.getInstance(timezone);
+				calendar.setTimeInMillis(millis);
+				return match(calendar, isMatchSecond);
+			}
+			day = DayFields.of(timezone, zone, millis);
+			this.dayFields = day;
+		}
+		final int millisOfDay = day.millisOfDay(millis);
+		final int second = isMatchSecond ? millisOfDay / 1000 % 60 : -1;
+		final int minute = millisOfDay / 60000 % 60;
+		final int hour = millisOfDay / 3600000;
+
+		PatternMatcher matcher;
+		for (int i = 0; i < matchers.size(); i++) {
+			matcher = matchers.get(i);
+			if (matcher.matchTime(hour, minute, second) && matcher.matchDate(day.year, day.month, day.dayOfMonth, day.dayOfWeek)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -177,11 +207,114 @@ public class CronPattern {
 		return nextMatch(next);
 	}
 
+	/**
+	 * 返回给定时间之后（不包括给定时间）第一个匹配的时间点，使用默认时区
+	 *
+	 * @param millis        时间毫秒数
+	 * @param isMatchSecond 是否匹配秒，{@code false}时只返回整分的时间点
+	 * @return 匹配的时间毫秒数，无匹配（如2月30日）返回-1
+	 * @since 5.8.36
+	 */
+	public long nextMatchAfter(long millis, boolean isMatchSecond) {
+		return nextMatchAfter(TimeZone.getDefault(), millis, isMatchSecond);
+	}
+
+	/**
+	 * 返回给定时间之后（不包括给定时间）第一个匹配的时间点，即定时器下一次执行此表达式的时间<br>
+	 * 时间点为整秒（匹配秒时）或整分，与{@link #match(TimeZone, long, boolean)}在这些时间点上的结果一致。
+	 *
+	 * @param timezone      时区 {@link TimeZone}
+	 * @param millis        时间毫秒数
+	 * @param isMatchSecond 是否匹配秒，{@code false}时只返回整分的时间点
+	 * @return 匹配的时间毫秒数，无匹配（如2月30日）返回-1
+	 * @since 5.8.36
+	 */
+	public long nextMatchAfter(TimeZone timezone, long millis, boolean isMatchSecond) {
+		final ZoneId zone = PatternUtil.toZoneId(timezone);
+		if (null == zone) {
+			return nextMatchAfterByOffset(timezone, millis, isMatchSecond);
+		}
+		return nextMatchAfter(zone, millis, isMatchSecond);
+	}
+
 	@Override
 	public String toString() {
 		return this.pattern;
 	}
 
+	/**
+	 * 返回给定时间之后（不包括给定时间）第一个匹配的时间点
+	 *
+	 * @param zone          时区
+	 * @param millis        时间毫秒数
+	 * @param isMatchSecond 是否匹配秒
+	 * @return 匹配的时间毫秒数，无匹配返回-1
+	 */
+	private long nextMatchAfter(ZoneId zone, long millis, boolean isMatchSecond) {
+		long result = -1;
+		long next;
+		for (PatternMatcher matcher : matchers) {
+			next = matcher.nextMatchAfter(millis, zone, isMatchSecond);
+			if (next > -1 && (result < 0 || next < result)) {
+				result = next;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 按照{@link TimeZone}的偏移分段查找下一个匹配的时间点，用于无法转换为{@link ZoneId}且有夏令时的自定义时区<br>
+	 * 每段内偏移不变，按固定偏移查找，找到的时间点不在当前段内时从下一段继续
+	 *
+	 * @param timezone      时区
+	 * @param millis        时间毫秒数
+	 * @param isMatchSecond 是否匹配秒
+	 * @return 匹配的时间毫秒数，无匹配返回-1
+	 */
+	private long nextMatchAfterByOffset(TimeZone timezone, long millis, boolean isMatchSecond) {
+		long start = millis + 1;
+		while (true) {
+			final int offset = timezone.getOffset(start);
+			final long end = nextOffsetChange(timezone, start, offset);
+			final long next = nextMatchAfter(ZoneOffset.ofTotalSeconds(offset / 1000), start - 1, isMatchSecond);
+			if (next < end) {
+				// 包括无匹配的-1
+				return next;
+			}
+			start = end;
+		}
+	}
+
+	/**
+	 * 查找给定时间之后偏移第一次变化的时间点，假定每天最多变化一次，一年内无变化时返回一年后的时间点
+	 *
+	 * @param timezone 时区
+	 * @param start    开始时间毫秒数
+	 * @param offset   开始时间的偏移
+	 * @return 偏移变化的时间毫秒数
+	 */
+	private static long nextOffsetChange(TimeZone timezone, long start, int offset) {
+		long low = start;
+		long high = start;
+		for (int i = 0; i < 366; i++) {
+			high += MILLIS_PER_DAY;
+			if (timezone.getOffset(high) != offset) {
+				// 二分查找变化的时间点，low的偏移不变，high的偏移已变化
+				while (high - low > 1) {
+					final long mid = (low + high) >>> 1;
+					if (timezone.getOffset(mid) == offset) {
+						low = mid;
+					} else {
+						high = mid;
+					}
+				}
+				return high;
+			}
+			low = high;
+		}
+		return high;
+	}
+
 	/**
 	 * 给定时间是否匹配定时任务表达式
 	 *
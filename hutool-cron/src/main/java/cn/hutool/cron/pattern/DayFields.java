@@ -0,0 +1,109 @@
+package cn.hutool.cron.pattern;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.TimeZone;
+
+/**
+ * 给定时区中某一天的日期字段，内部使用<br>
+ * 记录这一天中时区偏移不变的时间段，此时间段内的时间直接由毫秒数计算时分秒，
+ * 无需每次创建{@link java.util.Calendar}。夏令时切换的日期分为切换前后两段，分别计算。<br>
+ * 此类不可变，可在多线程间共享。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class DayFields {
+
+	private static final long MILLIS_PER_DAY = 24 * 3600 * 1000L;
+
+	private final TimeZone timezone;
+	/**
+	 * 时间段开始的毫秒数（包含）
+	 */
+	private final long start;
+	/**
+	 * 时间段结束的毫秒数（不包含）
+	 */
+	private final long end;
+	/**
+	 * 按照此时间段的偏移，本地时间0点对应的毫秒数
+	 */
+	private final long dayStart;
+
+	final int year;
+	/**
+	 * 月，从1开始
+	 */
+	final int month;
+	final int dayOfMonth;
+	/**
+	 * 周，从0开始，0表示周日
+	 */
+	final int dayOfWeek;
+
+	/**
+	 * 计算给定时间所在的时间段
+	 *
+	 * @param timezone 时区
+	 * @param zone     时区对应的{@link ZoneId}
+	 * @param millis   时间毫秒数
+	 * @return DayFields
+	 */
+	static DayFields of(TimeZone timezone, ZoneId zone, long millis) {
+		final ZoneRules rules = zone.getRules();
+		final Instant instant = Instant.ofEpochMilli(millis);
+		final long offset = rules.getOffset(instant).getTotalSeconds() * 1000L;
+		final LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(millis + offset, MILLIS_PER_DAY));
+		final long dayStart = date.toEpochDay() * MILLIS_PER_DAY - offset;
+
+		// 时间段不超过偏移变化的时间点
+		long start = dayStart;
+		long end = dayStart + MILLIS_PER_DAY;
+		final ZoneOffsetTransition previous = rules.previousTransition(instant.plusMillis(1));
+		if (null != previous) {
+			start = Math.max(start, previous.toEpochSecond() * 1000);
+		}
+		final ZoneOffsetTransition next = rules.nextTransition(instant);
+		if (null != next) {
+			end = Math.min(end, next.toEpochSecond() * 1000);
+		}
+		return new DayFields(timezone, start, end, dayStart, date);
+	}
+
+	private DayFields(TimeZone timezone, long start, long end, long dayStart, LocalDate date) {
+		this.timezone = timezone;
+		this.start = start;
+		this.end = end;
+		this.dayStart = dayStart;
+		this.year = date.getYear();
+		this.month = date.getMonthValue();
+		this.dayOfMonth = date.getDayOfMonth();
+		this.dayOfWeek = date.getDayOfWeek().getValue() % 7;
+	}
+
+	/**
+	 * 给定时区和时间是否在此时间段内
+	 *
+	 * @param timezone 时区
+	 * @param millis   时间毫秒数
+	 * @return 是否在此时间段内
+	 */
+	boolean contains(TimeZone timezone, long millis) {
+		return millis >= start && millis < end
+				&& (this.timezone == timezone || this.timezone.equals(timezone));
+	}
+
+	/**
+	 * 获取给定时间在当天的毫秒数，时间需在此时间段内
+	 *
+	 * @param millis 时间毫秒数
+	 * @return 当天的毫秒数
+	 */
+	int millisOfDay(long millis) {
+		return (int) (millis - dayStart);
+	}
+}
@@ -2,8 +2,12 @@ package cn.hutool.cron.pattern;
 
 import cn.hutool.core.date.Week;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Calendar;
+import java.util.TimeZone;
 
 /**
  * 表达式工具，内部使用
@@ -52,4 +56,24 @@ class PatternUtil {
 		final int year = calendar.get(Calendar.YEAR);
 		return new int[]{second, minute, hour, dayOfMonth, month, dayOfWeek, year};
 	}
+
+	/**
+	 * 将{@link TimeZone}转换为{@link ZoneId}<br>
+	 * 自定义ID的时区（如{@code new SimpleTimeZone(3600000, "MyZone")}）无法直接转换，
+	 * 无夏令时的使用其固定偏移，有夏令时的返回{@code null}，由调用方按照{@link TimeZone}的偏移计算
+	 *
+	 * @param timezone 时区
+	 * @return {@link ZoneId}，无法转换返回{@code null}
+	 * @since 5.8.36
+	 */
+	static ZoneId toZoneId(TimeZone timezone) {
+		try {
+			return timezone.toZoneId();
+		} catch (DateTimeException e) {
+			if (false == timezone.observesDaylightTime()) {
+				return ZoneOffset.ofTotalSeconds(timezone.getRawOffset() / 1000);
+			}
+			return null;
+		}
+	}
 }
@@ -4,7 +4,16 @@ import cn.hutool.core.date.DateUtil;
 import cn.hutool.core.date.Month;
 import cn.hutool.cron.pattern.Part;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Calendar;
 import java.util.Objects;
 import java.util.TimeZone;
@@ -22,6 +31,18 @@ import java.util.TimeZone;
 public class PatternMatcher {
 
 	private final PartMatcher[] matchers;
+	/**
+	 * 秒、分、时、日、月、周各部分匹配值的位掩码，第n位为1表示匹配值n，各部分的值均小于64
+	 */
+	private final long[] masks;
+	/**
+	 * 日部分是否匹配每月最后一天
+	 */
+	private final boolean matchLastDay;
+	/**
+	 * 年部分匹配值的位图，第n位表示{@link Part#YEAR}最小值+n，{@code null}表示匹配所有年
+	 */
+	private final long[] yearBits;
 
 	/**
 	 * 构造
@@ -51,6 +72,14 @@ public class PatternMatcher {
 				dayOfWeekMatcher,
 				yearMatcher
 		};
+
+		// 预先计算各部分的位掩码，匹配时只需位运算
+		masks = new long[6];
+		for (int i = 0; i < masks.length; i++) {
+			masks[i] = toMask(matchers[i], Part.of(i));
+		}
+		matchLastDay = (dayOfMonthMatcher instanceof DayOfMonthMatcher) && ((DayOfMonthMatcher) dayOfMonthMatcher).isLast();
+		yearBits = toYearBits(yearMatcher);
 	}
 
 	/**
@@ -99,28 +128,67 @@ public class PatternMatcher {
 	 * @return 如果匹配返回 {@code true}, 否则返回 {@code false}
 	 */
 	private boolean match(int second, int minute, int hour, int dayOfMonth, int month, int dayOfWeek, int year) {
-		return ((second < 0) || matchers[0].match(second)) // 匹配秒（非秒匹配模式下始终返回true）
-				&& matchers[1].match(minute)// 匹配分
-				&& matchers[2].match(hour)// 匹配时
-				&& matchDayOfMonth(matchers[3], dayOfMonth, month, Year.isLeap(year))// 匹配日
-				&& matchers[4].match(month) // 匹配月
-				&& matchers[5].match(dayOfWeek)// 匹配周
-				&& matchers[6].match(year);// 匹配年
+		return matchTime(hour, minute, second) && matchDate(year, month, dayOfMonth, dayOfWeek);
+	}
+
+	/**
+	 * 给定时分秒是否匹配定时任务表达式对应部分，只做位运算，不创建对象
+	 *
+	 * @param hour   小时
+	 * @param minute 分钟
+	 * @param second 秒数，-1表示不匹配此项
+	 * @return 如果匹配返回 {@code true}, 否则返回 {@code false}
+	 * @since 5.8.36
+	 */
+	public boolean matchTime(int hour, int minute, int second) {
+		return ((second < 0) || isSet(masks[0], second)) // 匹配秒（非秒匹配模式下始终返回true）
+				&& isSet(masks[1], minute)// 匹配分
+				&& isSet(masks[2], hour);// 匹配时
+	}
+
+	/**
+	 * 给定日期是否匹配定时任务表达式对应部分，只做位运算，不创建对象
+	 *
+	 * @param year       年
+	 * @param month      月，从1开始
+	 * @param dayOfMonth 天
+	 * @param dayOfWeek  周，从0开始，0和7都表示周日
+	 * @return 如果匹配返回 {@code true}, 否则返回 {@code false}
+	 * @since 5.8.36
+	 */
+	public boolean matchDate(int year, int month, int dayOfMonth, int dayOfWeek) {
+		return isSet(masks[4], month) // 匹配月
+				&& isSet(masks[5], (7 == dayOfWeek) ? 0 : dayOfWeek)// 匹配周
+				&& matchDayOfMonth(dayOfMonth, month, Year.isLeap(year))// 匹配日
+				&& matchYear(year);// 匹配年
 	}
 
 	/**
 	 * 是否匹配日（指定月份的第几天）
 	 *
-	 * @param matcher    {@link PartMatcher}
 	 * @param dayOfMonth 日
 	 * @param month      月
 	 * @param isLeapYear 是否闰年
 	 * @return 是否匹配
 	 */
-	private static boolean matchDayOfMonth(PartMatcher matcher, int dayOfMonth, int month, boolean isLeapYear) {
-		return ((matcher instanceof DayOfMonthMatcher) //
-				? ((DayOfMonthMatcher) matcher).match(dayOfMonth, month, isLeapYear) //
-				: matcher.match(dayOfMonth));
+	private boolean matchDayOfMonth(int dayOfMonth, int month, boolean isLeapYear) {
+		return isSet(masks[3], dayOfMonth) // 在约定日范围内的某一天
+				//匹配器中用户定义了最后一天（31表示最后一天）
+				|| (matchLastDay && dayOfMonth > 27 && dayOfMonth == Month.getLastDay(month - 1, isLeapYear));
+	}
+
+	/**
+	 * 是否匹配年
+	 *
+	 * @param year 年
+	 * @return 是否匹配
+	 */
+	private boolean matchYear(int year) {
+		if (null == yearBits) {
+			return true;
+		}
+		final int index = year - Part.YEAR.getMin();
+		return index >= 0 && index < (yearBits.length << 6) && 0 != (yearBits[index >>> 6] & (1L << index));
 	}
 	//endregion
 
@@ -288,6 +356,207 @@ public class PatternMatcher {
 		}
 		return min;
 	}
+
+	/**
+	 * 获取给定时间之后（不包括给定时间）第一个匹配的时间点<br>
+	 * 时间点为整秒（匹配秒时）或整分，与定时器的触发时间一致。按照给定时区的本地时间匹配：
+	 * <ul>
+	 *     <li>夏令时开始时跳过的本地时间不存在，不会匹配</li>
+	 *     <li>夏令时结束时重复的本地时间会匹配两次</li>
+	 * </ul>
+	 * 从给定时间所在的日开始逐日查找，不匹配的年和月整体跳过。公历（包括星期）每400年循环一次，400年内无匹配时返回-1。
+	 *
+	 * @param millis        时间毫秒数
+	 * @param zone          时区
+	 * @param isMatchSecond 是否匹配秒，{@code false}时只返回整分的时间点
+	 * @return 匹配的时间毫秒数，无匹配返回-1
+	 * @since 5.8.36
+	 */
+	public long nextMatchAfter(long millis, ZoneId zone, boolean isMatchSecond) {
+		final ZoneRules rules = zone.getRules();
+		final Instant instant = Instant.ofEpochMilli(millis);
+		final LocalDateTime dateTime = LocalDateTime.ofInstant(instant, zone);
+		// 从当前本地时间的下一秒或下一分开始查找，避免重复时段中当前本地时间的第二遍早于后续本地时间的第一遍被选中
+		final ChronoUnit unit = isMatchSecond ? ChronoUnit.SECONDS : ChronoUnit.MINUTES;
+		long result = nextMatchFrom(dateTime.truncatedTo(unit).plus(1, unit), millis, rules, isMatchSecond);
+
+		// 夏令时结束时的重复时段中，当前处于第一遍时，此时段中不晚于当前的本地时间还会在第二遍中出现，
+		// 但晚于当前的本地时间在第一遍中更早出现，因此取两次查找中较早的时间
+		final ZoneOffsetTransition transition = rules.getTransition(dateTime);
+		if (null != transition && transition.isOverlap() && transition.getOffsetBefore().equals(rules.getOffset(instant))) {
+			final long overlapResult = nextMatchFrom(transition.getDateTimeAfter(), millis, rules, isMatchSecond);
+			if (overlapResult > -1 && (-1 == result || overlapResult < result)) {
+				result = overlapResult;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 从给定本地时间开始，按照本地时间顺序查找第一个匹配且晚于给定时间的时间点
+	 *
+	 * @param start         开始查找的本地时间
+	 * @param millis        时间毫秒数，结果需晚于此时间
+	 * @param rules         时区规则
+	 * @param isMatchSecond 是否匹配秒
+	 * @return 匹配的时间毫秒数，无匹配返回-1
+	 */
+	private long nextMatchFrom(LocalDateTime start, long millis, ZoneRules rules, boolean isMatchSecond) {
+		LocalDate date = start.toLocalDate();
+		LocalTime from = start.toLocalTime();
+		final int maxYear = date.getYear() + 400;
+		int month;
+		long result;
+		while (date.getYear() <= maxYear) {
+			// 年或月不匹配时，直接跳到下一个匹配的月
+			month = matchYear(date.getYear()) ? nextSetBit(masks[4], date.getMonthValue()) : -1;
+			if (-1 == month) {
+				date = LocalDate.of(date.getYear() + 1, 1, 1);
+			} else if (month != date.getMonthValue()) {
+				date = LocalDate.of(date.getYear(), month, 1);
+			} else {
+				if (matchDate(date)) {
+					result = nextMatchInDay(date, from, millis, rules, isMatchSecond);
+					if (result > -1) {
+						return result;
+					}
+				}
+				date = date.plusDays(1);
+			}
+			from = LocalTime.MIN;
+		}
+		return -1;
+	}
+
+	/**
+	 * 给定日期的日和周是否匹配，年和月在调用前已匹配
+	 *
+	 * @param date 日期
+	 * @return 是否匹配
+	 */
+	private boolean matchDate(LocalDate date) {
+		return matchDayOfMonth(date.getDayOfMonth(), date.getMonthValue(), date.isLeapYear())
+				// 星期从0开始，0表示周日
+				&& isSet(masks[5], date.getDayOfWeek().getValue() % 7);
+	}
+
+	/**
+	 * 查找给定日期中从给定本地时间开始第一个匹配且晚于给定时间的时间点，时分秒按照位掩码直接跳到下一个匹配值
+	 *
+	 * @param date          日期
+	 * @param from          开始查找的本地时间
+	 * @param millis        时间毫秒数，结果需晚于此时间
+	 * @param rules         时区规则
+	 * @param isMatchSecond 是否匹配秒
+	 * @return 匹配的时间毫秒数，无匹配返回-1
+	 */
+	private long nextMatchInDay(LocalDate date, LocalTime from, long millis, ZoneRules rules, boolean isMatchSecond) {
+		long result;
+		for (int hour = nextSetBit(masks[2], from.getHour()); hour > -1; hour = nextSetBit(masks[2], hour + 1)) {
+			final boolean isFromHour = (hour == from.getHour());
+			for (int minute = nextSetBit(masks[1], isFromHour ? from.getMinute() : 0); minute > -1; minute = nextSetBit(masks[1], minute + 1)) {
+				if (false == isMatchSecond) {
+					result = toMillisAfter(date.atTime(hour, minute), millis, rules);
+					if (result > -1) {
+						return result;
+					}
+					continue;
+				}
+				final boolean isFromMinute = isFromHour && (minute == from.getMinute());
+				for (int second = nextSetBit(masks[0], isFromMinute ? from.getSecond() : 0); second > -1; second = nextSetBit(masks[0], second + 1)) {
+					result = toMillisAfter(date.atTime(hour, minute, second), millis, rules);
+					if (result > -1) {
+						return result;
+					}
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 将本地时间转换为晚于给定时间的毫秒数
+	 *
+	 * @param dateTime 本地时间
+	 * @param millis   时间毫秒数
+	 * @param rules    时区规则
+	 * @return 毫秒数，本地时间不存在或不晚于给定时间返回-1
+	 */
+	private static long toMillisAfter(LocalDateTime dateTime, long millis, ZoneRules rules) {
+		long result;
+		// 夏令时开始时跳过的本地时间无偏移，结束时重复的本地时间有两个偏移，较早的时间在前
+		for (ZoneOffset offset : rules.getValidOffsets(dateTime)) {
+			result = dateTime.toEpochSecond(offset) * 1000;
+			if (result > millis) {
+				return result;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 将匹配器转换为位掩码，第n位为1表示匹配值n
+	 *
+	 * @param matcher {@link PartMatcher}
+	 * @param part    表达式部分
+	 * @return 位掩码
+	 */
+	private static long toMask(PartMatcher matcher, Part part) {
+		long mask = 0;
+		for (int i = part.getMin(); i <= part.getMax(); i++) {
+			if (matcher.match(i)) {
+				mask |= 1L << i;
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * 将年匹配器转换为位图，第n位表示{@link Part#YEAR}最小值+n
+	 *
+	 * @param matcher 年匹配器
+	 * @return 位图，{@link AlwaysTrueMatcher}返回{@code null}表示匹配所有年
+	 */
+	private static long[] toYearBits(PartMatcher matcher) {
+		if (matcher instanceof AlwaysTrueMatcher) {
+			return null;
+		}
+		final int min = Part.YEAR.getMin();
+		final long[] bits = new long[((Part.YEAR.getMax() - min) >>> 6) + 1];
+		for (int i = min; i <= Part.YEAR.getMax(); i++) {
+			if (matcher.match(i)) {
+				bits[(i - min) >>> 6] |= 1L << (i - min);
+			}
+		}
+		return bits;
+	}
+
+	/**
+	 * 位掩码中给定值对应的位是否为1
+	 *
+	 * @param mask  位掩码
+	 * @param value 值
+	 * @return 是否为1，值超出0~63返回{@code false}
+	 */
+	private static boolean isSet(long mask, int value) {
+		return value >= 0 && value < 64 && 0 != (mask & (1L << value));
+	}
+
+	/**
+	 * 获取位掩码中不小于给定值的第一个为1的位
+	 *
+	 * @param mask 位掩码
+	 * @param from 开始的值（包含）
+	 * @return 位，无返回-1
+	 */
+	private static int nextSetBit(long mask, int from) {
+		if (from >= 64) {
+			return -1;
+		}
+		final long bits = mask & (-1L << from);
+		return 0 == bits ? -1 : Long.numberOfTrailingZeros(bits);
+	}
+
 	//endregion
 
 	/**
@@ -0,0 +1,127 @@
+package cn.hutool.cron.store;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharsetUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 基于文件的定时任务执行记录存储<br>
+ * 记录以Properties格式保存，每行为“任务ID=时间毫秒数”。每次记录时写入临时文件后整体替换原文件，
+ * 进程在写入过程中退出时原文件不受影响。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class FileTaskStore implements TaskStore {
+
+	private final Path path;
+	private final Map<String, Long> fireTimes = new HashMap<>();
+
+	/**
+	 * 构造，文件存在时加载已有记录
+	 *
+	 * @param file 记录文件
+	 * @throws IORuntimeException 读取文件失败
+	 */
+	public FileTaskStore(File file) throws IORuntimeException {
+		Assert.notNull(file, "File must be not null!");
+		this.path = file.toPath().toAbsolutePath();
+		if (file.exists()) {
+			load();
+		}
+	}
+
+	@Override
+	public synchronized long getLastFireTime(String id) {
+		final Long millis = fireTimes.get(id);
+		return null == millis ? -1 : millis;
+	}
+
+	@Override
+	public synchronized void setLastFireTime(String id, long millis) {
+		fireTimes.put(id, millis);
+		save();
+	}
+
+	@Override
+	public synchronized void setLastFireTimes(Map<String, Long> fireTimes) {
+		this.fireTimes.putAll(fireTimes);
+		save();
+	}
+
+	@Override
+	public synchronized void remove(String id) {
+		if (null != fireTimes.remove(id)) {
+			save();
+		}
+	}
+
+	/**
+	 * 从文件加载记录
+	 */
+	private void load() {
+		final Properties properties = new Properties();
+		try (final Reader reader = FileUtil.getReader(path.toFile(), CharsetUtil.CHARSET_UTF_8)) {
+			properties.load(reader);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		for (String id : properties.stringPropertyNames()) {
+			try {
+				fireTimes.put(id, Long.parseLong(properties.getProperty(id).trim()));
+			} catch (NumberFormatException e) {
+				// 忽略无效的记录
+			}
+		}
+	}
+
+	/**
+	 * 写入临时文件后替换记录文件
+	 */
+	private void save() {
+		final Properties properties = new Properties();
+		fireTimes.forEach((id, millis) -> properties.setProperty(id, String.valueOf(millis)));
+
+		final Path parent = path.getParent();
+		Path temp = null;
+		try {
+			if (null != parent) {
+				Files.createDirectories(parent);
+			}
+			temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+			try (final Writer writer = IoUtil.getWriter(Files.newOutputStream(temp), CharsetUtil.CHARSET_UTF_8)) {
+				properties.store(writer, null);
+			}
+			try {
+				Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				// 文件系统不支持原子移动时直接替换
+				Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			if (null != temp) {
+				try {
+					Files.deleteIfExists(temp);
+				} catch (IOException ignore) {
+					// ignore
+				}
+			}
+		}
+	}
+}
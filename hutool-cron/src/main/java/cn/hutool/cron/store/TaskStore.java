@@ -0,0 +1,47 @@
+package cn.hutool.cron.store;
+
+import java.util.Map;
+
+/**
+ * 定时任务执行记录存储<br>
+ * 记录每个任务最后一次执行的时间点，调度器重启后据此计算停止期间错过的执行，
+ * 按照{@link cn.hutool.cron.MisfirePolicy}处理。任务需使用固定的ID，随机生成的ID重启后无法对应。<br>
+ * 实现类需线程安全，可基于文件（{@link FileTaskStore}）、数据库等实现。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public interface TaskStore {
+
+	/**
+	 * 获取任务最后一次执行的时间点
+	 *
+	 * @param id 任务ID
+	 * @return 时间毫秒数，无记录返回-1
+	 */
+	long getLastFireTime(String id);
+
+	/**
+	 * 记录任务最后一次执行的时间点
+	 *
+	 * @param id     任务ID
+	 * @param millis 时间毫秒数
+	 */
+	void setLastFireTime(String id, long millis);
+
+	/**
+	 * 批量记录任务最后一次执行的时间点，同一时间点执行的多个任务一次记录，默认逐个记录
+	 *
+	 * @param fireTimes 任务ID和时间毫秒数
+	 */
+	default void setLastFireTimes(Map<String, Long> fireTimes) {
+		fireTimes.forEach(this::setLastFireTime);
+	}
+
+	/**
+	 * 移除任务的记录
+	 *
+	 * @param id 任务ID
+	 */
+	void remove(String id);
+}
@@ -0,0 +1,7 @@
+/**
+ * 定时任务执行记录的存储接口及实现，用于重启后恢复任务的最后执行时间并处理错过的执行
+ *
+ * @author looly
+ *
+ */
+package cn.hutool.cron.store;
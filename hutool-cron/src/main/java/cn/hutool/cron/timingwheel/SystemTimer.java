@@ -1,13 +1,35 @@
 package cn.hutool.cron.timingwheel;
 
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ExecutorBuilder;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
 import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.log.StaticLog;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.DelayQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
- * 系统计时器
+ * 系统计时器<br>
+ * 基于多层时间轮的延迟任务调度，加入和取消任务的时间复杂度为O(1)，适用于大量超时任务（如请求超时）的场景，
+ * 可替代{@link java.util.concurrent.ScheduledThreadPoolExecutor}。<br>
+ * 单独的线程推进时间轮，每次推进时取出所有到期的任务，按批次提交到执行线程池，每批任务在同一线程中依次执行，
+ * 因此任务应尽量短小，耗时任务应在任务中再提交到其它线程池，或设置批次大小为1。
+ *
+ * <pre>
+ * SystemTimer timer = new SystemTimer().start();
+ * TimerTask handle = timer.schedule(() -&gt; Console.log("timeout"), 3, TimeUnit.SECONDS);
+ * // 请求完成，取消超时任务
+ * handle.cancel();
+ * </pre>
  *
  * @author eliasyaoyc, looly
  */
@@ -22,22 +44,54 @@ public class SystemTimer {
 	 */
 	private final DelayQueue<TimerTaskList> delayQueue = new DelayQueue<>();
 
+	/**
+	 * 加入任务使用读锁，推进时间轮使用写锁，保证加入任务时时间轮的当前时间不变
+	 */
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
 	/**
 	 * 执行队列取元素超时时长，单位毫秒，默认100
 	 */
 	private long delayQueueTimeout = 100;
 
+	/**
+	 * 每批执行的任务数
+	 */
+	private int batchSize = 64;
+
 	/**
 	 * 轮询delayQueue获取过期任务线程
 	 */
 	private ExecutorService bossThreadPool;
+	/**
+	 * 执行到期任务的线程池
+	 */
+	private volatile ExecutorService taskExecutor;
+	/**
+	 * 执行任务的线程池是否为自行创建，自行创建的在结束时关闭
+	 */
+	private boolean isOwnTaskExecutor;
 	private volatile boolean isRunning;
 
 	/**
-	 * 构造
+	 * 构造，时间槽为1毫秒，每层时间轮20个槽
 	 */
 	public SystemTimer() {
-		timeWheel = new TimingWheel(1, 20, delayQueue::offer);
+		this(1, 20);
+	}
+
+	/**
+	 * 构造<br>
+	 * 时间槽越大，时间轮推进的次数越少，但任务执行时间的误差越大；每层的槽越多，需要的层数越少。
+	 *
+	 * @param tickMs    一个时间槽的范围，单位毫秒，即执行时间的精度
+	 * @param wheelSize 每层时间轮中时间槽的个数
+	 * @since 5.8.36
+	 */
+	public SystemTimer(long tickMs, int wheelSize) {
+		Assert.isTrue(tickMs > 0, "Tick ms must be > 0!");
+		Assert.isTrue(wheelSize > 0, "Wheel size must be > 0!");
+		timeWheel = new TimingWheel(tickMs, wheelSize, delayQueue::offer);
 	}
 
 	/**
@@ -50,12 +104,50 @@ public class SystemTimer {
 		return this;
 	}
 
+	/**
+	 * 设置执行到期任务的线程池，需在{@link #start()}前设置，自定义的线程池在{@link #stop()}时不会关闭<br>
+	 * 未设置时启动时创建与CPU核数相同线程数的线程池
+	 *
+	 * @param taskExecutor 执行到期任务的线程池
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public SystemTimer setTaskExecutor(ExecutorService taskExecutor) {
+		this.taskExecutor = taskExecutor;
+		this.isOwnTaskExecutor = false;
+		return this;
+	}
+
+	/**
+	 * 设置每批执行的任务数，默认64<br>
+	 * 到期的任务按批次提交到线程池，减少大量任务同时到期时的提交次数；任务耗时较长时应设置较小的值
+	 *
+	 * @param batchSize 每批执行的任务数
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public SystemTimer setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be > 0!");
+		this.batchSize = batchSize;
+		return this;
+	}
+
 	/**
 	 * 启动，异步
 	 *
 	 * @return this
 	 */
 	public SystemTimer start() {
+		if (null == this.taskExecutor) {
+			final int threads = Runtime.getRuntime().availableProcessors();
+			this.taskExecutor = ExecutorBuilder.create()
+					.setCorePoolSize(threads)
+					.setMaxPoolSize(threads)
+					.setWorkQueue(new LinkedBlockingQueue<>())
+					.setThreadFactory(ThreadFactoryBuilder.create().setNamePrefix("hutool-timer-").build())
+					.build();
+			this.isOwnTaskExecutor = true;
+		}
 		bossThreadPool = ThreadUtil.newSingleExecutor();
 		isRunning = true;
 		bossThreadPool.submit(() -> {
@@ -69,11 +161,35 @@ public class SystemTimer {
 	}
 
 	/**
-	 * 强制结束
+	 * 强制结束，未到期的任务不再执行
 	 */
 	public void stop(){
 		this.isRunning = false;
-		this.bossThreadPool.shutdown();
+		if (null != this.bossThreadPool) {
+			this.bossThreadPool.shutdown();
+		}
+		// 可重复调用，线程池只关闭一次
+		final ExecutorService taskExecutor = this.taskExecutor;
+		if (this.isOwnTaskExecutor && null != taskExecutor) {
+			this.isOwnTaskExecutor = false;
+			this.taskExecutor = null;
+			taskExecutor.shutdown();
+		}
+	}
+
+	/**
+	 * 添加延迟任务
+	 *
+	 * @param task  任务
+	 * @param delay 延迟时长
+	 * @param unit  延迟时长单位
+	 * @return 任务句柄，可用于取消任务
+	 * @since 5.8.36
+	 */
+	public TimerTask schedule(Runnable task, long delay, TimeUnit unit) {
+		final TimerTask timerTask = new TimerTask(task, unit.toMillis(delay));
+		addTask(timerTask);
+		return timerTask;
 	}
 
 	/**
@@ -82,9 +198,17 @@ public class SystemTimer {
 	 * @param timerTask 任务
 	 */
 	public void addTask(TimerTask timerTask) {
+		final boolean isAdded;
+		final Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			isAdded = timeWheel.addTask(timerTask);
+		} finally {
+			readLock.unlock();
+		}
 		//添加失败任务直接执行
-		if (false == timeWheel.addTask(timerTask)) {
-			ThreadUtil.execAsync(timerTask.getTask());
+		if (false == isAdded) {
+			execute(timerTask);
 		}
 	}
 
@@ -100,10 +224,26 @@ public class SystemTimer {
 		try {
 			TimerTaskList timerTaskList = poll();
 			if (null != timerTaskList) {
-				//推进时间
-				timeWheel.advanceClock(timerTaskList.getExpire());
-				//执行过期任务（包含降级操作）
-				timerTaskList.flush(this::addTask);
+				final List<TimerTask> expiredTasks = new ArrayList<>();
+				final Lock writeLock = lock.writeLock();
+				writeLock.lock();
+				try {
+					// 一次取出所有已到期的时间槽
+					while (null != timerTaskList) {
+						//推进时间
+						timeWheel.advanceClock(timerTaskList.getExpire());
+						//上层时间轮的任务降级到下层，到期的任务收集后批量执行
+						timerTaskList.flush(timerTask -> {
+							if (false == timerTask.isCancelled() && false == timeWheel.addTask(timerTask)) {
+								expiredTasks.add(timerTask);
+							}
+						});
+						timerTaskList = delayQueue.poll();
+					}
+				} finally {
+					writeLock.unlock();
+				}
+				dispatch(expiredTasks);
 			}
 		} catch (InterruptedException ignore) {
 			return false;
@@ -111,6 +251,76 @@ public class SystemTimer {
 		return true;
 	}
 
+	/**
+	 * 将到期的任务按批次提交到线程池
+	 *
+	 * @param expiredTasks 到期的任务
+	 */
+	private void dispatch(List<TimerTask> expiredTasks) {
+		// stop()可能在分发过程中关闭并置空线程池，此处只读取一次
+		final ExecutorService taskExecutor = this.taskExecutor;
+		if (null == taskExecutor) {
+			// 已停止，未执行的任务不再执行
+			return;
+		}
+		final int size = expiredTasks.size();
+		for (int i = 0; i < size; i += batchSize) {
+			final List<TimerTask> batch = expiredTasks.subList(i, Math.min(size, i + batchSize));
+			try {
+				taskExecutor.execute(() -> {
+					for (TimerTask timerTask : batch) {
+						run(timerTask);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				if (false == isRunning) {
+					// 已停止，剩余的任务不再执行
+					return;
+				}
+				// 线程池饱和，逐个使用公共线程池执行，避免到期任务丢失
+				StaticLog.warn("{} timer tasks rejected by executor, execute them in common pool.", batch.size());
+				for (TimerTask timerTask : batch) {
+					ThreadUtil.execAsync(() -> run(timerTask));
+				}
+			}
+		}
+	}
+
+	/**
+	 * 提交单个任务到线程池
+	 *
+	 * @param timerTask 任务
+	 */
+	private void execute(TimerTask timerTask) {
+		final ExecutorService taskExecutor = this.taskExecutor;
+		if (null != taskExecutor) {
+			try {
+				taskExecutor.execute(() -> run(timerTask));
+				return;
+			} catch (RejectedExecutionException ignore) {
+				// 线程池已关闭，使用公共线程池
+			}
+		}
+		// 未启动或已停止时使用公共线程池
+		ThreadUtil.execAsync(() -> run(timerTask));
+	}
+
+	/**
+	 * 执行任务，已取消的任务跳过，任务异常不影响同批次的其它任务
+	 *
+	 * @param timerTask 任务
+	 */
+	private static void run(TimerTask timerTask) {
+		if (false == timerTask.markExecuted()) {
+			return;
+		}
+		try {
+			timerTask.getTask().run();
+		} catch (Throwable e) {
+			StaticLog.error(e, "Execute timer task [{}] error!", timerTask);
+		}
+	}
+
 	/**
 	 * 执行队列取任务列表
 	 * @return 任务列表
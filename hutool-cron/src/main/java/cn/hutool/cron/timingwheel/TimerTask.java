@@ -1,12 +1,21 @@
 package cn.hutool.cron.timingwheel;
 
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 /**
- * 延迟任务
+ * 延迟任务<br>
+ * 加入{@link SystemTimer}后也作为任务的句柄，可通过{@link #cancel()}在执行前取消任务
  *
  * @author eliasyaoyc, looly
  */
 public class TimerTask {
 
+	private static final int STATE_PENDING = 0;
+	private static final int STATE_EXECUTED = 1;
+	private static final int STATE_CANCELLED = 2;
+	private static final AtomicIntegerFieldUpdater<TimerTask> STATE_UPDATER =
+			AtomicIntegerFieldUpdater.newUpdater(TimerTask.class, "state");
+
 	/**
 	 * 延迟时间
 	 */
@@ -20,7 +29,7 @@ public class TimerTask {
 	/**
 	 * 时间槽
 	 */
-	protected TimerTaskList timerTaskList;
+	protected volatile TimerTaskList timerTaskList;
 
 	/**
 	 * 下一个节点
@@ -37,6 +46,11 @@ public class TimerTask {
 	 */
 	public String desc;
 
+	/**
+	 * 任务状态：等待执行、已执行、已取消
+	 */
+	private volatile int state = STATE_PENDING;
+
 	/**
 	 * 构造
 	 *
@@ -65,6 +79,54 @@ public class TimerTask {
 		return delayMs;
 	}
 
+	/**
+	 * 取消任务，已执行或已取消的任务无法取消<br>
+	 * 取消后任务从时间槽中移除，不再占用时间轮空间
+	 *
+	 * @return 是否取消成功，{@code false}表示任务已经执行或已经取消
+	 * @since 5.8.36
+	 */
+	public boolean cancel() {
+		if (false == STATE_UPDATER.compareAndSet(this, STATE_PENDING, STATE_CANCELLED)) {
+			return false;
+		}
+		// 任务可能同时被移动到其它时间槽，循环移除直到不在任何时间槽中
+		TimerTaskList list;
+		while (null != (list = this.timerTaskList)) {
+			list.removeTask(this);
+		}
+		return true;
+	}
+
+	/**
+	 * 是否已取消
+	 *
+	 * @return 是否已取消
+	 * @since 5.8.36
+	 */
+	public boolean isCancelled() {
+		return STATE_CANCELLED == this.state;
+	}
+
+	/**
+	 * 是否已执行（包括正在执行）
+	 *
+	 * @return 是否已执行
+	 * @since 5.8.36
+	 */
+	public boolean isExecuted() {
+		return STATE_EXECUTED == this.state;
+	}
+
+	/**
+	 * 标记为已执行，已取消的任务标记失败
+	 *
+	 * @return 是否标记成功，成功后才可执行任务
+	 */
+	boolean markExecuted() {
+		return STATE_UPDATER.compareAndSet(this, STATE_PENDING, STATE_EXECUTED);
+	}
+
 	@Override
 	public String toString() {
 		return desc;
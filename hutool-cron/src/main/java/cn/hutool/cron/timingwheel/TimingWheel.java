@@ -1,7 +1,5 @@
 package cn.hutool.cron.timingwheel;
 
-import cn.hutool.log.StaticLog;
-
 import java.util.function.Consumer;
 
 /**
@@ -36,7 +34,7 @@ public class TimingWheel {
 	/**
 	 * 当前时间，指向当前操作的时间格，代表当前时间
 	 */
-	private long currentTime;
+	private volatile long currentTime;
 
 	/**
 	 * 上层时间轮
@@ -86,6 +84,7 @@ public class TimingWheel {
 	 */
 	public boolean addTask(TimerTask timerTask) {
 		long expiration = timerTask.getDelayMs();
+		final long currentTime = this.currentTime;
 		//过期任务直接执行
 		if (expiration < currentTime + tickMs) {
 			return false;
@@ -93,7 +92,6 @@ public class TimingWheel {
 			//当前时间轮可以容纳该任务 加入时间槽
 			long virtualId = expiration / tickMs;
 			int index = (int) (virtualId % wheelSize);
-			StaticLog.debug("tickMs: {} ------index: {} ------expiration: {}", tickMs, index, expiration);
 			TimerTaskList timerTaskList = timerTaskLists[index];
 			timerTaskList.addTask(timerTask);
 			if (timerTaskList.setExpiration(virtualId * tickMs)) {
@@ -0,0 +1,106 @@
+package cn.hutool.cron;
+
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.format.FastDateFormat;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.cron.store.FileTaskStore;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MisfireTest {
+
+	private static final TimeZone TIMEZONE = TimeZone.getTimeZone("Asia/Shanghai");
+
+	@Test
+	public void misfirePolicyTest() throws InterruptedException {
+		final AtomicInteger count = new AtomicInteger();
+		final Scheduler scheduler = new Scheduler().setTimeZone(TIMEZONE);
+		// 每年1月1日0点执行，错过2021、2022、2023三次
+		scheduler.schedule("yearly", "0 0 1 1 *", (Runnable) count::incrementAndGet);
+		scheduler.start();
+		try {
+			final long from = parse("2020-06-01 00:00:00");
+			final long to = parse("2023-06-01 00:00:00");
+
+			scheduler.setMisfirePolicy(MisfirePolicy.SKIP);
+			assertEquals(0, fire(scheduler, count, from, to));
+			scheduler.setMisfirePolicy(MisfirePolicy.FIRE_ONCE_NOW);
+			assertEquals(1, fire(scheduler, count, from, to));
+			scheduler.setMisfirePolicy(MisfirePolicy.FIRE_ALL);
+			assertEquals(3, fire(scheduler, count, from, to));
+			// 结束时间点正常执行，不作为错过的执行
+			assertEquals(2, fire(scheduler, count, from, parse("2023-01-01 00:00:00")));
+			// 超过补充执行次数上限时只执行一次
+			scheduler.setMaxMisfireFires(2);
+			assertEquals(1, fire(scheduler, count, from, to));
+			scheduler.setMaxMisfireFires(3);
+			assertEquals(3, fire(scheduler, count, from, to));
+		} finally {
+			scheduler.stop();
+		}
+	}
+
+	@Test
+	public void taskStoreTest() throws InterruptedException {
+		final File file = FileUtil.file(FileUtil.getTmpDir(), "hutool-cron-misfire-" + System.nanoTime() + ".properties");
+		try {
+			final FileTaskStore store = new FileTaskStore(file);
+			store.setLastFireTime("yearly", parse("2020-01-01 00:00:00"));
+
+			final AtomicInteger count = new AtomicInteger();
+			final Scheduler scheduler = new Scheduler().setTimeZone(TIMEZONE)
+					.setMisfirePolicy(MisfirePolicy.FIRE_ONCE_NOW)
+					.setTaskStore(store);
+			scheduler.schedule("yearly", "0 0 1 1 *", (Runnable) count::incrementAndGet);
+			// 无记录的任务以启动时间为起点，启动时统一记录
+			scheduler.schedule("new", "0 0 1 1 *", (Runnable) count::incrementAndGet);
+			assertEquals(-1, store.getLastFireTime("new"));
+
+			// 启动时补充执行一次停止期间错过的执行，并记录最后一个错过的时间点
+			scheduler.start();
+			try {
+				for (int i = 0; i < 100 && 0 == count.get(); i++) {
+					Thread.sleep(20);
+				}
+				assertEquals(1, count.get());
+				assertTrue(store.getLastFireTime("yearly") >= parse("2021-01-01 00:00:00"));
+				assertEquals(store.getLastFireTime("yearly"), new FileTaskStore(file).getLastFireTime("yearly"));
+				assertTrue(store.getLastFireTime("new") > 0);
+				// 已处理的不再执行
+				assertEquals(0, fire(scheduler, count, -1, System.currentTimeMillis()));
+
+				// 启动后加入的任务以加入时间为起点，移除任务时同时移除记录
+				scheduler.schedule("added", "0 0 1 1 *", (Runnable) count::incrementAndGet);
+				assertTrue(store.getLastFireTime("added") > 0);
+				assertTrue(scheduler.descheduleWithStatus("added"));
+				assertEquals(-1, store.getLastFireTime("added"));
+				assertEquals(-1, new FileTaskStore(file).getLastFireTime("added"));
+			} finally {
+				scheduler.stop();
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	/**
+	 * 处理错过的执行，等待执行完成后返回执行次数
+	 */
+	private static int fire(Scheduler scheduler, AtomicInteger count, long from, long to) throws InterruptedException {
+		count.set(0);
+		scheduler.taskTable.executeMisfired(scheduler, from, to);
+		for (int i = 0; i < 100 && false == scheduler.taskExecutorManager.getExecutors().isEmpty(); i++) {
+			Thread.sleep(20);
+		}
+		return count.get();
+	}
+
+	private static long parse(String dateStr) {
+		return DateUtil.parse(dateStr, FastDateFormat.getInstance("yyyy-MM-dd HH:mm:ss", TIMEZONE)).getTime();
+	}
+}
@@ -0,0 +1,97 @@
+package cn.hutool.cron;
+
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskExecutorManagerTest {
+
+	@Test
+	public void maxConcurrentPerTaskTest() throws InterruptedException {
+		final Scheduler scheduler = new Scheduler()
+				.setMaxThreads(2)
+				.setMaxConcurrentPerTask(1);
+		scheduler.start();
+		try {
+			assertEquals(2, ((ThreadPoolExecutor) scheduler.taskThreadExecutor).getMaximumPoolSize());
+
+			final CountDownLatch release = new CountDownLatch(1);
+			final CountDownLatch done = new CountDownLatch(1);
+			final CronTask slowTask = new CronTask("slow", new CronPattern("* * * * *"), () -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				done.countDown();
+			});
+			final TaskExecutorManager manager = scheduler.taskExecutorManager;
+			assertNotNull(manager.spawnExecutor(slowTask));
+			// 仍在执行，跳过
+			assertNull(manager.spawnExecutor(slowTask));
+			// 其它任务不受影响
+			assertNotNull(manager.spawnExecutor(new CronTask("other", new CronPattern("* * * * *"), () -> {
+			})));
+
+			release.countDown();
+			assertTrue(done.await(5, TimeUnit.SECONDS));
+			waitForIdle(manager);
+			assertNotNull(manager.spawnExecutor(slowTask));
+		} finally {
+			scheduler.stop();
+		}
+	}
+
+	@Test
+	public void rejectedTest() {
+		final Scheduler scheduler = new Scheduler()
+				.setMaxThreads(2)
+				.setMaxConcurrentPerTask(1);
+		scheduler.start();
+		try {
+			scheduler.taskThreadExecutor.shutdown();
+			final CronTask task = new CronTask("task", new CronPattern("* * * * *"), () -> {
+			});
+			final TaskExecutorManager manager = scheduler.taskExecutorManager;
+			assertThrows(RejectedExecutionException.class, () -> manager.spawnExecutor(task));
+			// 拒绝执行后计数回滚，再次执行时仍然提交而非被视为正在执行
+			assertTrue(manager.getExecutors().isEmpty());
+			assertThrows(RejectedExecutionException.class, () -> manager.spawnExecutor(task));
+		} finally {
+			scheduler.stop();
+		}
+	}
+
+	@Test
+	public void virtualThreadTest() throws InterruptedException {
+		final Scheduler scheduler = new Scheduler().setUseVirtualThread(true);
+		scheduler.start();
+		try {
+			// 低版本JDK使用普通线程，任务同样执行
+			final boolean isSupported = null != ReflectUtil.getPublicMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+			assertEquals(isSupported, null != scheduler.taskThreadExecutor);
+
+			final CountDownLatch done = new CountDownLatch(1);
+			scheduler.taskExecutorManager.spawnExecutor(new CronTask("task", new CronPattern("* * * * *"), done::countDown));
+			assertTrue(done.await(5, TimeUnit.SECONDS));
+		} finally {
+			scheduler.stop();
+		}
+	}
+
+	private static void waitForIdle(TaskExecutorManager manager) throws InterruptedException {
+		for (int i = 0; i < 100 && false == manager.getExecutors().isEmpty(); i++) {
+			Thread.sleep(50);
+		}
+		assertTrue(manager.getExecutors().isEmpty());
+	}
+}
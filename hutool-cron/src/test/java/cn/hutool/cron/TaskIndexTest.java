@@ -0,0 +1,93 @@
+package cn.hutool.cron;
+
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.format.FastDateFormat;
+import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
+import cn.hutool.cron.task.Task;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskIndexTest {
+
+	private static final Task NOOP = () -> {
+	};
+
+	@Test
+	public void pollTest() {
+		final TimeZone timezone = TimeZone.getTimeZone("Asia/Shanghai");
+		final long start = DateUtil.parse("2024-03-01 00:00:00", FastDateFormat.getInstance("yyyy-MM-dd HH:mm:ss", timezone)).getTime();
+		final TaskIndex index = new TaskIndex(timezone, false, start);
+		index.add("every5", new CronPattern("*/5 * * * *"), NOOP);
+		index.add("hourly", new CronPattern("0 * * * *"), NOOP);
+		index.add("never", new CronPattern("0 0 30 2 *"), NOOP);
+
+		assertEquals("[every5, hourly]", ids(index.poll(start)));
+		assertEquals("[]", ids(index.poll(start + 60000)));
+		// 定时器有少量延迟，时间按照分取整
+		assertEquals("[every5]", ids(index.poll(start + 5 * 60000 + 12)));
+
+		index.remove("every5");
+		assertEquals("[]", ids(index.poll(start + 10 * 60000)));
+		// 新加入的任务从上次处理的时间之后开始
+		index.add("every5", new CronPattern("*/5 * * * *"), NOOP);
+		assertEquals("[every5]", ids(index.poll(start + 15 * 60000)));
+	}
+
+	@Test
+	public void replaceTest() {
+		final TimeZone timezone = TimeZone.getTimeZone("Asia/Shanghai");
+		final long start = DateUtil.parse("2024-03-01 00:00:00", FastDateFormat.getInstance("yyyy-MM-dd HH:mm:ss", timezone)).getTime();
+		final TaskIndex index = new TaskIndex(timezone, false, start);
+		index.add("hourly", new CronPattern("0 * * * *"), NOOP);
+		// 反复替换和移除，标记删除的任务不再执行
+		for (int i = 0; i < 100; i++) {
+			index.add("every5", new CronPattern("*/5 * * * *"), NOOP);
+			index.add("temp" + i, new CronPattern("*/5 * * * *"), NOOP);
+			index.remove("temp" + i);
+		}
+		assertEquals("[every5, hourly]", ids(index.poll(start)));
+		assertEquals("[every5]", ids(index.poll(start + 5 * 60000)));
+
+		index.remove("every5");
+		index.remove("every5");
+		index.add("every10", new CronPattern("*/10 * * * *"), NOOP);
+		assertEquals("[every10]", ids(index.poll(start + 10 * 60000)));
+		assertEquals("[]", ids(index.poll(start + 15 * 60000)));
+	}
+
+	/**
+	 * 逐分钟对比索引与逐个匹配的结果
+	 */
+	@Test
+	public void compareWithMatchTest() {
+		final TimeZone timezone = TimeZone.getTimeZone("Europe/Berlin");
+		final String[] patterns = {"*/7 * * * *", "30 2 * * *", "0 */3 * * 1-5", "59 23 L * ?", "15 1 * 10 0"};
+		// 包含夏令时结束的日期
+		final long start = DateUtil.parse("2024-10-26 20:00:00", FastDateFormat.getInstance("yyyy-MM-dd HH:mm:ss", timezone)).getTime();
+		final TaskIndex index = new TaskIndex(timezone, false, start);
+		for (final String pattern : patterns) {
+			index.add(pattern, new CronPattern(pattern), NOOP);
+		}
+
+		for (long time = start; time < start + 2 * 24 * 3600 * 1000L; time += 60000) {
+			final List<String> expected = new ArrayList<>();
+			for (final String pattern : patterns) {
+				if (new CronPattern(pattern).match(timezone, time, false)) {
+					expected.add(pattern);
+				}
+			}
+			assertEquals(expected.toString(), ids(index.poll(time)), "Time: " + time);
+		}
+	}
+
+	private static String ids(List<CronTask> tasks) {
+		return tasks.stream().map(CronTask::getId).sorted().collect(Collectors.toList()).toString();
+	}
+}
@@ -3,10 +3,13 @@ package cn.hutool.cron.pattern;
 import cn.hutool.core.date.DateField;
 import cn.hutool.core.date.DateTime;
 import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.format.FastDateFormat;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
 import java.util.Calendar;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
 
 public class CronPatternNextMatchTest {
 
@@ -228,4 +231,68 @@ public class CronPatternNextMatchTest {
 			}
 		}
 	}
+
+	@Test
+	public void nextMatchAfterMillisTest() {
+		final TimeZone timezone = TimeZone.getTimeZone("Asia/Shanghai");
+		final long start = parse("2024-01-01 12:00:00", timezone);
+		assertEquals(parse("2024-02-29 00:00:00", timezone),
+				new CronPattern("0 0 29 2 *").nextMatchAfter(timezone, start, false));
+		assertEquals(parse("2024-01-01 12:00:30", timezone),
+				new CronPattern("30 * * * * ?").nextMatchAfter(timezone, start, true));
+		assertEquals(parse("2030-01-01 00:00:00", timezone),
+				new CronPattern("0 0 0 1 1 ? 2030").nextMatchAfter(timezone, start, true));
+		// 不存在的日期不再匹配
+		assertEquals(-1, new CronPattern("0 0 30 2 *").nextMatchAfter(timezone, start, false));
+		assertEquals(-1, new CronPattern("0 0 0 1 1 ? 2020").nextMatchAfter(timezone, start, true));
+	}
+
+	/**
+	 * 逐分钟匹配对比，包含夏令时开始和结束
+	 */
+	@Test
+	public void nextMatchAfterDstTest() {
+		final TimeZone timezone = TimeZone.getTimeZone("America/New_York");
+		final String[] patterns = {"30 2 * * *", "*/20 1 * * *", "0 3 * * 0", "15 */5 * * *"};
+		for (final String start : new String[]{"2024-03-09 20:00:00", "2024-11-02 20:00:00"}) {
+			final long startMillis = parse(start, timezone);
+			for (final String expression : patterns) {
+				final CronPattern pattern = new CronPattern(expression);
+				long expected = startMillis + 60000;
+				while (false == pattern.match(timezone, expected, false)) {
+					expected += 60000;
+				}
+				assertEquals(expected, pattern.nextMatchAfter(timezone, startMillis, false), expression + " after " + start);
+			}
+		}
+	}
+
+	/**
+	 * 自定义ID的时区，包括有夏令时的，逐分钟匹配对比
+	 */
+	@Test
+	public void nextMatchAfterCustomTimeZoneTest() {
+		final TimeZone[] zones = {new SimpleTimeZone(3600000, "MyZone"),
+				new SimpleTimeZone(-5 * 3600000, "MyDstZone", Calendar.MARCH, 8, -Calendar.SUNDAY, 7200000,
+						Calendar.NOVEMBER, 1, -Calendar.SUNDAY, 7200000, 3600000)};
+		final String[] patterns = {"30 2 * * *", "*/20 1 * * *", "0 3 * * 0", "15 */5 * * *"};
+		for (final TimeZone timezone : zones) {
+			for (final String start : new String[]{"2024-03-09 20:00:00", "2024-11-02 20:00:00"}) {
+				final long startMillis = parse(start, timezone);
+				for (final String expression : patterns) {
+					final CronPattern pattern = new CronPattern(expression);
+					long expected = startMillis + 60000;
+					while (false == pattern.match(timezone, expected, false)) {
+						expected += 60000;
+					}
+					assertEquals(expected, pattern.nextMatchAfter(timezone, startMillis, false), timezone.getID() + " " + expression + " after " + start);
+				}
+			}
+			assertEquals(-1, new CronPattern("0 0 30 2 *").nextMatchAfter(timezone, System.currentTimeMillis(), false));
+		}
+	}
+
+	private static long parse(String dateStr, TimeZone timezone) {
+		return DateUtil.parse(dateStr, FastDateFormat.getInstance("yyyy-MM-dd HH:mm:ss", timezone)).getTime();
+	}
 }
@@ -1,9 +1,16 @@
 package cn.hutool.cron.pattern;
 
 import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.util.RandomUtil;
 import cn.hutool.cron.CronException;
 import org.junit.jupiter.api.Test;
 
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -169,6 +176,49 @@ public class CronPatternTest {
 		});
 	}
 
+	/**
+	 * 按毫秒数匹配与按{@link Calendar}匹配的结果对比，包含夏令时切换的日期
+	 */
+	@Test
+	public void matchMillisCompareTest() {
+		final String[] patterns = {"*/7 * * * * *", "30 2 * * *", "0 0 * L * ?", "0 0 12 ? * 1-5", "* * 1 29 2 ?", "0 0 0 1 1 ? 2024,2026"};
+		final String[] zones = {"Asia/Shanghai", "Europe/Berlin", "America/New_York", "Australia/Lord_Howe"};
+		final long start = DateUtil.parse("2024-01-01 00:00:00").getTime();
+		for (final String zone : zones) {
+			final TimeZone timezone = TimeZone.getTimeZone(zone);
+			for (final String expression : patterns) {
+				final CronPattern pattern = new CronPattern(expression);
+				for (int i = 0; i < 2000; i++) {
+					final long millis = start + RandomUtil.randomLong(3 * 365 * 24 * 3600L) * 1000;
+					final Calendar calendar = new GregorianCalendar(timezone);
+					calendar.setTimeInMillis(millis);
+					assertEquals(pattern.match(calendar, true), pattern.match(timezone, millis, true), expression + " " + zone + " " + millis);
+					assertEquals(pattern.match(calendar, false), pattern.match(timezone, millis, false), expression + " " + zone + " " + millis);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 自定义ID的时区无法转换为ZoneId，结果与按{@link Calendar}匹配一致
+	 */
+	@Test
+	public void matchCustomTimeZoneTest() {
+		final TimeZone[] zones = {new SimpleTimeZone(3600000, "MyZone"),
+				new SimpleTimeZone(-5 * 3600000, "MyDstZone", Calendar.MARCH, 8, -Calendar.SUNDAY, 7200000,
+						Calendar.NOVEMBER, 1, -Calendar.SUNDAY, 7200000, 3600000)};
+		final CronPattern pattern = new CronPattern("*/7 30 2 * * *");
+		final long start = DateUtil.parse("2024-01-01 00:00:00").getTime();
+		for (final TimeZone timezone : zones) {
+			for (int i = 0; i < 2000; i++) {
+				final long millis = start + RandomUtil.randomLong(365 * 24 * 3600L) * 1000;
+				final Calendar calendar = new GregorianCalendar(timezone);
+				calendar.setTimeInMillis(millis);
+				assertEquals(pattern.match(calendar, true), pattern.match(timezone, millis, true), timezone.getID() + " " + millis);
+			}
+		}
+	}
+
 	/**
 	 * 表达式是否匹配日期
 	 *
@@ -179,5 +229,7 @@ public class CronPatternTest {
 	private void assertMatch(CronPattern pattern, String date) {
 		assertTrue(pattern.match(DateUtil.parse(date).toCalendar(), false));
 		assertTrue(pattern.match(DateUtil.parse(date).toCalendar(), true));
+		assertTrue(pattern.match(DateUtil.parse(date).getTime(), false));
+		assertTrue(pattern.match(DateUtil.parse(date).getTime(), true));
 	}
 }
@@ -0,0 +1,35 @@
+package cn.hutool.cron.store;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.map.MapUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileTaskStoreTest {
+
+	@Test
+	public void storeAndLoadTest() {
+		final File file = FileUtil.file(FileUtil.getTmpDir(), "hutool-cron-store-" + System.nanoTime(), "tasks.properties");
+		try {
+			final FileTaskStore store = new FileTaskStore(file);
+			assertEquals(-1, store.getLastFireTime("billing"));
+
+			store.setLastFireTime("billing", 1000L);
+			store.setLastFireTimes(MapUtil.builder("report:daily", 2000L).put("billing", 3000L).build());
+			store.setLastFireTime("temp", 4000L);
+			store.remove("temp");
+			assertTrue(file.exists());
+
+			// 重新加载
+			final FileTaskStore loaded = new FileTaskStore(file);
+			assertEquals(3000L, loaded.getLastFireTime("billing"));
+			assertEquals(2000L, loaded.getLastFireTime("report:daily"));
+			assertEquals(-1, loaded.getLastFireTime("temp"));
+		} finally {
+			FileUtil.del(file.getParentFile());
+		}
+	}
+}
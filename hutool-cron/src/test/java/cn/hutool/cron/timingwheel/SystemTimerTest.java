@@ -0,0 +1,119 @@
+package cn.hutool.cron.timingwheel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SystemTimerTest {
+
+	@Test
+	public void scheduleTest() throws InterruptedException {
+		final SystemTimer timer = new SystemTimer().start();
+		final int count = 1000;
+		final CountDownLatch latch = new CountDownLatch(count);
+		final AtomicInteger early = new AtomicInteger();
+		final Random random = new Random(0);
+		try {
+			for (int i = 0; i < count; i++) {
+				final long deadline = System.currentTimeMillis() + random.nextInt(500);
+				timer.schedule(() -> {
+					if (System.currentTimeMillis() < deadline) {
+						early.incrementAndGet();
+					}
+					latch.countDown();
+				}, deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+			}
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+			assertEquals(0, early.get());
+		} finally {
+			timer.stop();
+		}
+	}
+
+	@Test
+	public void cancelTest() throws InterruptedException {
+		final SystemTimer timer = new SystemTimer(10, 8).setBatchSize(4).start();
+		final AtomicInteger executed = new AtomicInteger();
+		final List<TimerTask> handles = new ArrayList<>();
+		try {
+			for (int i = 0; i < 100; i++) {
+				handles.add(timer.schedule(executed::incrementAndGet, 200 + i * 5, TimeUnit.MILLISECONDS));
+			}
+			for (int i = 0; i < handles.size(); i += 2) {
+				assertTrue(handles.get(i).cancel());
+				assertTrue(handles.get(i).isCancelled());
+			}
+
+			Thread.sleep(1500);
+			assertEquals(50, executed.get());
+			for (int i = 0; i < handles.size(); i++) {
+				final TimerTask handle = handles.get(i);
+				assertEquals(i % 2 == 1, handle.isExecuted());
+				// 已执行或已取消的任务不能再次取消
+				assertFalse(handle.cancel());
+			}
+		} finally {
+			timer.stop();
+		}
+	}
+
+	@Test
+	public void expiredTaskTest() throws InterruptedException {
+		final SystemTimer timer = new SystemTimer().start();
+		final CountDownLatch latch = new CountDownLatch(1);
+		try {
+			timer.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS);
+			assertTrue(latch.await(1, TimeUnit.SECONDS));
+		} finally {
+			timer.stop();
+		}
+	}
+
+	@Test
+	public void rejectedTest() throws InterruptedException {
+		// 首次提交被拒绝的线程池
+		final AtomicBoolean reject = new AtomicBoolean(true);
+		final ExecutorService executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+			@Override
+			public void execute(Runnable command) {
+				if (reject.compareAndSet(true, false)) {
+					throw new RejectedExecutionException();
+				}
+				super.execute(command);
+			}
+		};
+		final SystemTimer timer = new SystemTimer().setTaskExecutor(executor).start();
+		final CountDownLatch rejectedLatch = new CountDownLatch(1);
+		final CountDownLatch latch = new CountDownLatch(1);
+		try {
+			// 被拒绝的任务使用公共线程池执行，不丢失
+			timer.schedule(rejectedLatch::countDown, 10, TimeUnit.MILLISECONDS);
+			// 拒绝不影响之后到期的任务
+			timer.schedule(latch::countDown, 200, TimeUnit.MILLISECONDS);
+			assertTrue(rejectedLatch.await(2, TimeUnit.SECONDS));
+			assertTrue(latch.await(2, TimeUnit.SECONDS));
+		} finally {
+			timer.stop();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void stopTwiceTest() {
+		final SystemTimer timer = new SystemTimer().start();
+		timer.stop();
+		assertDoesNotThrow(timer::stop);
+	}
+}
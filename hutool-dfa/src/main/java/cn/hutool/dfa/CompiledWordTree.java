@@ -0,0 +1,1060 @@
+package cn.hutool.dfa;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.Filter;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * 编译后的单词树，由{@link WordTree#compile()}创建，不可变，可在多个线程中共享<br>
+ * 与{@link WordTree}从文本的每个位置重新开始匹配（O(n·L)）不同，此树使用Aho-Corasick自动机，每个字符只处理一次：
+ * <ul>
+ *     <li>状态转移使用双数组Trie（base/check）存储在int数组中，转移为O(1)，无需装箱的Character和HashMap节点</li>
+ *     <li>失配时沿失败指针（fail）转移，并通过输出指针（output）找到所有以当前字符结尾的词</li>
+ *     <li>停顿字符在编译时按照字符过滤规则计算为位图，匹配时不再调用过滤函数，因此过滤规则需对同一字符返回相同结果</li>
+ * </ul>
+ * 匹配结果（包括密集匹配、贪婪匹配、匹配个数限制和停顿字符的处理）与{@link WordTree#matchAllWords(String, int, boolean, boolean)}相同。<br>
+ * 所有状态只占用5个int数组，每个状态20字节，远小于{@link WordTree}每个节点的HashMap和Set。
+ * 通过{@link #writeTo(OutputStream)}可将树保存为二进制格式，使用{@link #readFrom(InputStream)}读入堆中，
+ * 或使用{@link #map(File)}直接映射文件，所有数值为大端序：
+ * <pre>
+ * | magic(4) | version(2) | 保留(2) | 数组长度(4) | 最长词的长度(4) | 停顿字符位图(8192) | base | check | fail | depth | output |
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class CompiledWordTree {
+
+	/**
+	 * 空位置，即check中未被占用的位置，或转移不存在
+	 */
+	private static final int EMPTY = -1;
+	/**
+	 * 根状态
+	 */
+	private static final int ROOT = 0;
+
+	/**
+	 * 魔数，即"HTWT"
+	 */
+	private static final int MAGIC = 0x48545754;
+	/**
+	 * 格式版本
+	 */
+	private static final short VERSION = 1;
+	/**
+	 * 头长度
+	 */
+	private static final int HEADER_SIZE = 16;
+	/**
+	 * 停顿字符位图的long数
+	 */
+	private static final int STOP_CHARS_LONGS = (Character.MAX_VALUE + 1) >>> 6;
+	/**
+	 * 状态数组的个数，依次为base、check、fail、depth、output
+	 */
+	private static final int ARRAY_COUNT = 5;
+	/**
+	 * 最大数组长度，受单个映射区域不能超过2GB限制
+	 */
+	private static final int MAX_SIZE = Integer.MAX_VALUE / Integer.BYTES;
+	/**
+	 * 读写数组时每次处理的int数
+	 */
+	private static final int CHUNK_INTS = 16384;
+
+	/**
+	 * 数组长度
+	 */
+	private final int size;
+	/**
+	 * 状态s经字符c转移到{@code base[s] + c + 1}
+	 */
+	private final IntBuffer base;
+	/**
+	 * 位置t被状态{@code check[t]}占用
+	 */
+	private final IntBuffer check;
+	/**
+	 * 失败指针，即当前状态对应字符串的最长真后缀状态
+	 */
+	private final IntBuffer fail;
+	/**
+	 * 状态的深度，即状态对应字符串的长度
+	 */
+	private final IntBuffer depth;
+	/**
+	 * 输出指针，即失败链（包括自身）上最近的词尾状态，{@link #ROOT}表示无
+	 */
+	private final IntBuffer output;
+	/**
+	 * 最长词的长度
+	 */
+	private final int maxDepth;
+	/**
+	 * 停顿字符位图，共65536位
+	 */
+	private final long[] stopChars;
+
+	/**
+	 * 构造
+	 *
+	 * @param tree 单词树
+	 */
+	CompiledWordTree(WordTree tree) {
+		final Builder builder = new Builder();
+		builder.build(tree);
+		final int size = builder.size;
+		this.size = size;
+		this.base = IntBuffer.wrap(Arrays.copyOf(builder.base, size));
+		this.check = IntBuffer.wrap(Arrays.copyOf(builder.check, size));
+		this.fail = IntBuffer.wrap(Arrays.copyOf(builder.fail, size));
+		this.depth = IntBuffer.wrap(Arrays.copyOf(builder.depth, size));
+		this.output = IntBuffer.wrap(Arrays.copyOf(builder.output, size));
+		this.maxDepth = builder.maxDepth;
+		this.stopChars = toStopChars(tree.getCharFilter());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param size      数组长度
+	 * @param base      base数组
+	 * @param check     check数组
+	 * @param fail      失败指针数组
+	 * @param depth     深度数组
+	 * @param output    输出指针数组
+	 * @param maxDepth  最长词的长度
+	 * @param stopChars 停顿字符位图
+	 */
+	private CompiledWordTree(int size, IntBuffer base, IntBuffer check, IntBuffer fail, IntBuffer depth, IntBuffer output,
+							 int maxDepth, long[] stopChars) {
+		this.size = size;
+		this.base = base;
+		this.check = check;
+		this.fail = fail;
+		this.depth = depth;
+		this.output = output;
+		this.maxDepth = maxDepth;
+		this.stopChars = stopChars;
+	}
+
+	//------------------------------------------------------------------------------- match
+
+	/**
+	 * 指定文本是否包含树中的词
+	 *
+	 * @param text 被检查的文本
+	 * @return 是否包含
+	 */
+	public boolean isMatch(String text) {
+		if (null == text) {
+			return false;
+		}
+		return null != matchWord(text);
+	}
+
+	/**
+	 * 获得第一个匹配的关键字
+	 *
+	 * @param text 被检查的文本
+	 * @return 匹配到的关键字
+	 */
+	public String match(String text) {
+		final FoundWord foundWord = matchWord(text);
+		return null != foundWord ? foundWord.toString() : null;
+	}
+
+	/**
+	 * 获得第一个匹配的关键字
+	 *
+	 * @param text 被检查的文本
+	 * @return 匹配到的关键字
+	 */
+	public FoundWord matchWord(String text) {
+		if (null == text) {
+			return null;
+		}
+		return CollUtil.get(matchAllWords(text, 1), 0);
+	}
+
+	//------------------------------------------------------------------------------- match all
+
+	/**
+	 * 找出所有匹配的关键字
+	 *
+	 * @param text 被检查的文本
+	 * @return 匹配的词列表
+	 */
+	public List<String> matchAll(String text) {
+		return matchAll(text, -1);
+	}
+
+	/**
+	 * 找出所有匹配的关键字
+	 *
+	 * @param text 被检查的文本
+	 * @return 匹配的词列表
+	 */
+	public List<FoundWord> matchAllWords(String text) {
+		return matchAllWords(text, -1);
+	}
+
+	/**
+	 * 找出所有匹配的关键字
+	 *
+	 * @param text  被检查的文本
+	 * @param limit 限制匹配个数
+	 * @return 匹配的词列表
+	 */
+	public List<String> matchAll(String text, int limit) {
+		return matchAll(text, limit, false, false);
+	}
+
+	/**
+	 * 找出所有匹配的关键字
+	 *
+	 * @param text  被检查的文本
+	 * @param limit 限制匹配个数
+	 * @return 匹配的词列表
+	 */
+	public List<FoundWord> matchAllWords(String text, int limit) {
+		return matchAllWords(text, limit, false, false);
+	}
+
+	/**
+	 * 找出所有匹配的关键字<br>
+	 * 密集匹配原则：假如关键词有 ab,b，文本是abab，将匹配 [ab,b,ab]<br>
+	 * 贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 *
+	 * @param text           被检查的文本
+	 * @param limit          限制匹配个数
+	 * @param isDensityMatch 是否使用密集匹配原则
+	 * @param isGreedMatch   是否使用贪婪匹配（最长匹配）原则
+	 * @return 匹配的词列表
+	 */
+	public List<String> matchAll(String text, int limit, boolean isDensityMatch, boolean isGreedMatch) {
+		final List<FoundWord> matchAllWords = matchAllWords(text, limit, isDensityMatch, isGreedMatch);
+		return CollUtil.map(matchAllWords, FoundWord::toString, true);
+	}
+
+	/**
+	 * 找出所有匹配的关键字<br>
+	 * 密集匹配原则：假如关键词有 ab,b，文本是abab，将匹配 [ab,b,ab]<br>
+	 * 贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 *
+	 * @param text           被检查的文本
+	 * @param limit          限制匹配个数
+	 * @param isDensityMatch 是否使用密集匹配原则
+	 * @param isGreedMatch   是否使用贪婪匹配（最长匹配）原则
+	 * @return 匹配的词列表
+	 */
+	public List<FoundWord> matchAllWords(String text, int limit, boolean isDensityMatch, boolean isGreedMatch) {
+		if (null == text) {
+			return null;
+		}
+
+		final List<FoundWord> foundWords = new ArrayList<>();
+		if (0 == maxDepth) {
+			return foundWords;
+		}
+		// 非密集匹配时贪婪原则不起作用，始终为最短匹配
+		final Matcher matcher = new Matcher(isDensityMatch, isDensityMatch && isGreedMatch);
+		final MatchHandler handler = (start, end) -> {
+			foundWords.add(toFoundWord(text, start, end, 0));
+			return limit <= 0 || foundWords.size() < limit;
+		};
+		final int length = text.length();
+		for (int i = 0; i < length; i++) {
+			if (matcher.next(text.charAt(i), i) && false == matcher.drain(handler, false)) {
+				return foundWords;
+			}
+		}
+		matcher.drain(handler, true);
+		return foundWords;
+	}
+
+	//------------------------------------------------------------------------------- filter
+
+	/**
+	 * 流式过滤敏感词，从reader中分块读取文本，将匹配到的词交给处理器替换后写出到writer，不关闭流<br>
+	 * 匹配状态跨块保持，跨越块边界的词同样可以匹配，内存占用与文本长度无关，只与最长的匹配内容有关。<br>
+	 * 替换规则与{@link SensitiveUtil#sensitiveFilter(String, boolean, SensitiveProcessor)}相同：
+	 * 从左到右查找，重叠的词只替换最先开始的，同一位置开始的多个词按照贪婪原则选择最长或最短的。<br>
+	 * 传给处理器的{@link FoundWord}中的位置为在整个流中的位置，超过{@link Integer#MAX_VALUE}个字符后溢出。
+	 *
+	 * @param reader             输入
+	 * @param writer             输出
+	 * @param isGreedMatch       贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 * @param sensitiveProcessor 敏感词处理器，{@code null}时按匹配内容的字符数替换成*
+	 * @throws IORuntimeException IO异常
+	 */
+	public void filter(Reader reader, Writer writer, boolean isGreedMatch, SensitiveProcessor sensitiveProcessor) throws IORuntimeException {
+		if (null == sensitiveProcessor) {
+			sensitiveProcessor = new SensitiveProcessor() {
+			};
+		}
+		try {
+			if (isEmpty()) {
+				IoUtil.copy(reader, writer);
+			} else {
+				new StreamFilter(writer, isGreedMatch, sensitiveProcessor).filter(reader);
+			}
+			writer.flush();
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	//------------------------------------------------------------------------------- io
+
+	/**
+	 * 将树写出为二进制格式，不关闭流，格式见类说明
+	 *
+	 * @param out 输出流
+	 * @throws IORuntimeException IO异常
+	 */
+	public void writeTo(OutputStream out) throws IORuntimeException {
+		final DataOutputStream dataOut = new DataOutputStream(IoUtil.toBuffered(out));
+		try {
+			dataOut.writeInt(MAGIC);
+			dataOut.writeShort(VERSION);
+			dataOut.writeShort(0);
+			dataOut.writeInt(size);
+			dataOut.writeInt(maxDepth);
+			for (final long stopChar : stopChars) {
+				dataOut.writeLong(stopChar);
+			}
+			for (final IntBuffer ints : new IntBuffer[]{base, check, fail, depth, output}) {
+				writeInts(dataOut, ints, size);
+			}
+			dataOut.flush();
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 从{@link #writeTo(OutputStream)}写出的数据中读取树，数据读入堆中，只读取树本身的字节，不关闭流
+	 *
+	 * @param in 输入流
+	 * @return CompiledWordTree
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 */
+	public static CompiledWordTree readFrom(InputStream in) throws IORuntimeException {
+		// 不使用缓冲流，避免预读树之后的数据，调用方可继续读取流中剩余的内容
+		final DataInputStream dataIn = new DataInputStream(in);
+		try {
+			final int[] header = readHeader(dataIn);
+			final int size = header[0];
+			final long[] stopChars = readStopChars(dataIn);
+			final IntBuffer[] arrays = new IntBuffer[ARRAY_COUNT];
+			for (int i = 0; i < ARRAY_COUNT; i++) {
+				arrays[i] = IntBuffer.wrap(readInts(dataIn, size));
+			}
+			return new CompiledWordTree(size, arrays[0], arrays[1], arrays[2], arrays[3], arrays[4], header[1], stopChars);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 使用内存映射加载{@link #writeTo(OutputStream)}写出的文件，状态数组不复制到堆中，加载后即可匹配<br>
+	 * 多个进程映射同一文件时共享操作系统的页缓存，映射期间文件不应被修改或删除，替换词典时应写出到新文件后重新映射。
+	 *
+	 * @param file 文件
+	 * @return CompiledWordTree
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 */
+	public static CompiledWordTree map(File file) throws IORuntimeException {
+		try (final RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			final DataInputStream dataIn = new DataInputStream(new BufferedInputStream(Channels.newInputStream(raf.getChannel())));
+			final int[] header = readHeader(dataIn);
+			final int size = header[0];
+			final long[] stopChars = readStopChars(dataIn);
+
+			final FileChannel channel = raf.getChannel();
+			final long arrayBytes = (long) size * Integer.BYTES;
+			final long position = HEADER_SIZE + (long) STOP_CHARS_LONGS * Long.BYTES;
+			if (channel.size() < position + arrayBytes * ARRAY_COUNT) {
+				throw new IORuntimeException("File [{}] is truncated, expected {} states", file, size);
+			}
+			// 映射建立后即可关闭文件
+			final IntBuffer[] arrays = new IntBuffer[ARRAY_COUNT];
+			for (int i = 0; i < ARRAY_COUNT; i++) {
+				arrays[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + arrayBytes * i, arrayBytes).asIntBuffer();
+			}
+			return new CompiledWordTree(size, arrays[0], arrays[1], arrays[2], arrays[3], arrays[4], header[1], stopChars);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	//------------------------------------------------------------------------------- other
+
+	/**
+	 * 使用新的字符过滤规则创建树，词数据与本树共享，本树不变<br>
+	 * 与{@link WordTree#setCharFilter(Filter)}相同，只影响匹配时停顿字符的判断，已加入的词不会重新过滤
+	 *
+	 * @param charFilter 字符过滤规则，当accept为false时，此字符不参与匹配
+	 * @return 新的树
+	 */
+	public CompiledWordTree withCharFilter(Filter<Character> charFilter) {
+		Assert.notNull(charFilter, "Char filter must be not null!");
+		return new CompiledWordTree(size, base, check, fail, depth, output, maxDepth, toStopChars(charFilter));
+	}
+
+	/**
+	 * 是否不包含任何词
+	 *
+	 * @return 是否不包含任何词
+	 */
+	public boolean isEmpty() {
+		return 0 == maxDepth;
+	}
+
+	/**
+	 * 是否为停顿字符，即不参与匹配的字符
+	 *
+	 * @param c 字符
+	 * @return 是否为停顿字符
+	 */
+	public boolean isStopChar(char c) {
+		return ((stopChars[c >>> 6] >>> c) & 1) == 1;
+	}
+
+	@Override
+	public String toString() {
+		return StrUtil.format("CompiledWordTree [states={}, maxDepth={}]", size, maxDepth);
+	}
+
+	//--------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 状态转移，不存在时沿失败指针查找，直到根状态
+	 *
+	 * @param state 当前状态
+	 * @param c     字符
+	 * @return 新状态
+	 */
+	private int transition(int state, char c) {
+		int next;
+		while (true) {
+			next = base.get(state) + c + 1;
+			if (next > ROOT && next < size && check.get(next) == state) {
+				return next;
+			}
+			if (ROOT == state) {
+				return ROOT;
+			}
+			state = fail.get(state);
+		}
+	}
+
+	/**
+	 * 读取并校验头
+	 *
+	 * @param in 输入
+	 * @return 数组长度和最长词的长度
+	 * @throws IOException IO异常
+	 */
+	private static int[] readHeader(DataInput in) throws IOException {
+		if (MAGIC != in.readInt()) {
+			throw new IORuntimeException("Not a compiled word tree data!");
+		}
+		final short version = in.readShort();
+		if (VERSION != version) {
+			throw new IORuntimeException("Unsupported compiled word tree version: {}", version);
+		}
+		in.readShort();
+		final int size = in.readInt();
+		final int maxDepth = in.readInt();
+		if (size <= ROOT || size > MAX_SIZE || maxDepth < 0) {
+			throw new IORuntimeException("Invalid compiled word tree header!");
+		}
+		return new int[]{size, maxDepth};
+	}
+
+	/**
+	 * 分块写出IntBuffer中的前size个int
+	 *
+	 * @param out  输出
+	 * @param ints IntBuffer
+	 * @param size int的个数
+	 * @throws IOException IO异常
+	 */
+	private static void writeInts(DataOutput out, IntBuffer ints, int size) throws IOException {
+		final ByteBuffer chunk = ByteBuffer.allocate(Math.min(size, CHUNK_INTS) * Integer.BYTES);
+		for (int i = 0; i < size; i++) {
+			chunk.putInt(ints.get(i));
+			if (false == chunk.hasRemaining()) {
+				out.write(chunk.array(), 0, chunk.position());
+				chunk.clear();
+			}
+		}
+		out.write(chunk.array(), 0, chunk.position());
+	}
+
+	/**
+	 * 一次读取停顿字符位图，避免无缓冲的流逐个long读取
+	 *
+	 * @param in 输入
+	 * @return 停顿字符位图
+	 * @throws IOException IO异常
+	 */
+	private static long[] readStopChars(DataInput in) throws IOException {
+		final byte[] bytes = new byte[STOP_CHARS_LONGS * Long.BYTES];
+		in.readFully(bytes);
+		final long[] stopChars = new long[STOP_CHARS_LONGS];
+		ByteBuffer.wrap(bytes).asLongBuffer().get(stopChars);
+		return stopChars;
+	}
+
+	/**
+	 * 分块读取指定个数的int
+	 *
+	 * @param in   输入
+	 * @param size int的个数
+	 * @return int数组
+	 * @throws IOException IO异常
+	 */
+	private static int[] readInts(DataInput in, int size) throws IOException {
+		final int[] ints = new int[size];
+		final byte[] chunk = new byte[Math.min(size, CHUNK_INTS) * Integer.BYTES];
+		int count;
+		for (int i = 0; i < size; i += count) {
+			count = Math.min(size - i, CHUNK_INTS);
+			in.readFully(chunk, 0, count * Integer.BYTES);
+			ByteBuffer.wrap(chunk, 0, count * Integer.BYTES).asIntBuffer().get(ints, i, count);
+		}
+		return ints;
+	}
+
+	/**
+	 * 创建匹配到的词
+	 *
+	 * @param text   文本
+	 * @param start  起始位置（包含）
+	 * @param end    结束位置（包含）
+	 * @param offset 文本在原始文本中的位置
+	 * @return {@link FoundWord}
+	 */
+	private FoundWord toFoundWord(CharSequence text, int start, int end, int offset) {
+		final String foundWord = text.subSequence(start, end + 1).toString();
+		return new FoundWord(toWord(foundWord), foundWord, start + offset, end + offset);
+	}
+
+	/**
+	 * 去除停顿字符，得到匹配的词
+	 *
+	 * @param foundWord 文本中匹配的内容
+	 * @return 词
+	 */
+	private String toWord(String foundWord) {
+		final int length = foundWord.length();
+		final StringBuilder word = new StringBuilder(length);
+		char c;
+		for (int i = 0; i < length; i++) {
+			c = foundWord.charAt(i);
+			if (false == isStopChar(c)) {
+				word.append(c);
+			}
+		}
+		return word.toString();
+	}
+
+	/**
+	 * 按照字符过滤规则计算所有字符的停顿字符位图
+	 *
+	 * @param charFilter 字符过滤规则
+	 * @return 位图
+	 */
+	private static long[] toStopChars(Filter<Character> charFilter) {
+		final long[] stopChars = new long[STOP_CHARS_LONGS];
+		for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+			if (false == charFilter.accept((char) c)) {
+				stopChars[c >>> 6] |= 1L << c;
+			}
+		}
+		return stopChars;
+	}
+	//--------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * 匹配到词时的处理
+	 */
+	@FunctionalInterface
+	private interface MatchHandler {
+		/**
+		 * 处理匹配到的词
+		 *
+		 * @param start 起始位置（包含）
+		 * @param end   结束位置（包含）
+		 * @return 是否继续匹配
+		 */
+		boolean onMatch(int start, int end);
+	}
+
+	/**
+	 * 单次匹配的状态<br>
+	 * 自动机按照结束位置找到匹配的词，而结果需按照起始位置排序，因此找到的词先放入待输出列表，
+	 * 当当前状态对应的最早起始位置已越过某个词的起始位置时，不会再有更早开始的词，此时按照起始位置、结束位置的顺序输出。<br>
+	 * 同一起始位置的词：密集且贪婪匹配时保留所有，非密集且贪婪匹配时只保留最长的，其它情况只保留最短的。
+	 */
+	private final class Matcher {
+		private final boolean isDensityMatch;
+		private final boolean isGreedMatch;
+		/**
+		 * 最近maxDepth个非停顿字符在文本中的位置，环形存储
+		 */
+		private final int[] positions = new int[maxDepth];
+		/**
+		 * 已处理的非停顿字符数，流式匹配时可能超过int范围
+		 */
+		private long count;
+		private int state = ROOT;
+		/**
+		 * 待输出的词，按照起始位置（高32位）、结束位置（低32位）排序
+		 */
+		private long[] pending = new long[8];
+		private int pendingSize;
+		/**
+		 * 上一个输出的词的结束位置
+		 */
+		private int lastEnd = -1;
+
+		Matcher(boolean isDensityMatch, boolean isGreedMatch) {
+			this.isDensityMatch = isDensityMatch;
+			this.isGreedMatch = isGreedMatch;
+		}
+
+		/**
+		 * 处理一个字符
+		 *
+		 * @param c     字符
+		 * @param index 字符在文本中的位置
+		 * @return 是否有待输出的词
+		 */
+		boolean next(char c, int index) {
+			if (isStopChar(c)) {
+				return false;
+			}
+			positions[(int) (count % maxDepth)] = index;
+			count++;
+			state = transition(state, c);
+			for (int t = output.get(state); ROOT != t; t = output.get(fail.get(t))) {
+				addPending(positionOf(depth.get(t)), index);
+			}
+			return pendingSize > 0;
+		}
+
+		/**
+		 * 输出起始位置已确定的词
+		 *
+		 * @param handler 词的处理
+		 * @param isEnd   是否文本已结束，结束时输出所有的词
+		 * @return 是否继续匹配，处理返回{@code false}时返回{@code false}
+		 */
+		boolean drain(MatchHandler handler, boolean isEnd) {
+			final int aliveStart = isEnd ? Integer.MAX_VALUE : aliveStart();
+			int removed = 0;
+			int start;
+			int end;
+			while (removed < pendingSize) {
+				start = (int) (pending[removed] >> 32);
+				if (start >= aliveStart) {
+					break;
+				}
+				end = (int) pending[removed];
+				removed++;
+				if (false == isDensityMatch) {
+					// 非密集匹配，跳过与已匹配的词重叠的词
+					if (start <= lastEnd) {
+						continue;
+					}
+					lastEnd = end;
+				}
+				if (false == handler.onMatch(start, end)) {
+					return false;
+				}
+			}
+			removePending(removed);
+			return true;
+		}
+
+		/**
+		 * 当前状态对应的字符串的起始位置，即后续所有词的最早可能起始位置
+		 *
+		 * @return 起始位置，根状态时为{@link Integer#MAX_VALUE}
+		 */
+		int aliveStart() {
+			return (ROOT == state) ? Integer.MAX_VALUE : positionOf(depth.get(state));
+		}
+
+		/**
+		 * 待输出的词中最早的起始位置
+		 *
+		 * @return 起始位置，无待输出的词时为{@link Integer#MAX_VALUE}
+		 */
+		int pendingStart() {
+			return (pendingSize > 0) ? (int) (pending[0] >> 32) : Integer.MAX_VALUE;
+		}
+
+		/**
+		 * 将所有位置前移，用于流式匹配时丢弃已输出的文本，只用于非密集匹配<br>
+		 * 丢弃的文本已全部输出或被已输出的词覆盖，前移后小于0的位置不会再被输出
+		 *
+		 * @param distance 前移的距离
+		 */
+		void shift(int distance) {
+			// 与已输出的词重叠的词不会再被输出，直接移除，剩余的词均在丢弃的文本之后
+			int removed = 0;
+			while (removed < pendingSize && (pending[removed] >> 32) <= lastEnd) {
+				removed++;
+			}
+			removePending(removed);
+			for (int i = 0; i < positions.length; i++) {
+				positions[i] = Math.max(positions[i] - distance, -1);
+			}
+			lastEnd = Math.max(lastEnd - distance, -1);
+			for (int i = 0; i < pendingSize; i++) {
+				pending[i] -= ((long) distance << 32) | distance;
+			}
+		}
+
+		/**
+		 * 倒数第n个非停顿字符的位置
+		 *
+		 * @param n 倒数的个数，1表示最后一个
+		 * @return 位置
+		 */
+		private int positionOf(int n) {
+			return positions[(int) ((count - n) % maxDepth)];
+		}
+
+		/**
+		 * 加入待输出的词，保持按照起始位置、结束位置排序
+		 *
+		 * @param start 起始位置（包含）
+		 * @param end   结束位置（包含）
+		 */
+		private void addPending(int start, int end) {
+			if (false == isDensityMatch && start <= lastEnd) {
+				return;
+			}
+			final long key = ((long) start << 32) | (end & 0xFFFFFFFFL);
+			int insert = Arrays.binarySearch(pending, 0, pendingSize, key);
+			if (insert >= 0) {
+				return;
+			}
+			insert = -insert - 1;
+			// 同一起始位置的词按照结束位置依次找到
+			if ((false == isDensityMatch || false == isGreedMatch) && insert > 0 && (int) (pending[insert - 1] >> 32) == start) {
+				if (false == isDensityMatch && isGreedMatch) {
+					// 只保留最长的词
+					pending[insert - 1] = key;
+				}
+				return;
+			}
+			if (pendingSize == pending.length) {
+				pending = Arrays.copyOf(pending, pendingSize << 1);
+			}
+			System.arraycopy(pending, insert, pending, insert + 1, pendingSize - insert);
+			pending[insert] = key;
+			pendingSize++;
+		}
+
+		/**
+		 * 移除前n个待输出的词
+		 *
+		 * @param n 个数
+		 */
+		private void removePending(int n) {
+			if (n > 0) {
+				System.arraycopy(pending, n, pending, 0, pendingSize - n);
+				pendingSize -= n;
+			}
+		}
+	}
+
+	/**
+	 * 流式过滤，已读取但可能属于未确定的词的文本保留在缓冲中，其余文本及时写出
+	 */
+	private final class StreamFilter implements MatchHandler {
+		private final Writer writer;
+		private final SensitiveProcessor sensitiveProcessor;
+		private final Matcher matcher;
+		/**
+		 * 未丢弃的文本
+		 */
+		private final StringBuilder buffer = new StringBuilder();
+		/**
+		 * 缓冲的第一个字符在流中的位置
+		 */
+		private long offset;
+		/**
+		 * 缓冲中已写出的字符数
+		 */
+		private int written;
+
+		StreamFilter(Writer writer, boolean isGreedMatch, SensitiveProcessor sensitiveProcessor) {
+			this.writer = writer;
+			this.sensitiveProcessor = sensitiveProcessor;
+			// 替换时跳过重叠的词，与非密集匹配相同
+			this.matcher = new Matcher(false, isGreedMatch);
+		}
+
+		/**
+		 * 读取并过滤所有文本
+		 *
+		 * @param reader 输入
+		 * @throws IOException IO异常
+		 */
+		void filter(Reader reader) throws IOException {
+			final char[] chunk = new char[IoUtil.DEFAULT_BUFFER_SIZE];
+			int read;
+			char c;
+			while ((read = reader.read(chunk)) > -1) {
+				for (int i = 0; i < read; i++) {
+					c = chunk[i];
+					buffer.append(c);
+					if (matcher.next(c, buffer.length() - 1)) {
+						matcher.drain(this, false);
+					}
+				}
+				flush(false);
+			}
+			matcher.drain(this, true);
+			flush(true);
+		}
+
+		@Override
+		public boolean onMatch(int start, int end) {
+			try {
+				writeTo(start);
+				writer.write(sensitiveProcessor.process(toFoundWord(buffer, start, end, (int) offset)));
+			} catch (final IOException e) {
+				throw new IORuntimeException(e);
+			}
+			written = end + 1;
+			return true;
+		}
+
+		/**
+		 * 写出不会再属于任何词的文本，并丢弃缓冲中已写出的部分
+		 *
+		 * @param isEnd 是否文本已结束
+		 * @throws IOException IO异常
+		 */
+		private void flush(boolean isEnd) throws IOException {
+			int safeEnd = buffer.length();
+			if (false == isEnd) {
+				safeEnd = Math.min(safeEnd, Math.min(matcher.aliveStart(), matcher.pendingStart()));
+			}
+			writeTo(safeEnd);
+			if (written > 0) {
+				buffer.delete(0, written);
+				matcher.shift(written);
+				offset += written;
+				written = 0;
+			}
+		}
+
+		/**
+		 * 原样写出缓冲中从已写出位置到指定位置的文本
+		 *
+		 * @param end 结束位置（不包含）
+		 * @throws IOException IO异常
+		 */
+		private void writeTo(int end) throws IOException {
+			if (end > written) {
+				writer.append(buffer, written, end);
+				written = end;
+			}
+		}
+	}
+
+	/**
+	 * 双数组Trie及Aho-Corasick自动机构建器，按层次遍历单词树，为每个节点的子节点分配位置，同时计算失败指针和输出指针
+	 */
+	private static final class Builder {
+		/**
+		 * 单次分配尝试空位置的最大次数，超过后不再回头查找
+		 */
+		private static final int MAX_EMPTY_TRIES = 1024;
+
+		private int[] base = new int[1024];
+		private int[] check = new int[1024];
+		private int[] fail = new int[1024];
+		private int[] depth = new int[1024];
+		private int[] output = new int[1024];
+		/**
+		 * 已使用的长度
+		 */
+		private int size = 1;
+		/**
+		 * 查找空位置的起点
+		 */
+		private int nextCheckPos = 1;
+		private int maxDepth;
+		/**
+		 * 已占用的位置，根节点始终占用
+		 */
+		private final BitSet used = new BitSet();
+
+		Builder() {
+			used.set(ROOT);
+			Arrays.fill(check, EMPTY);
+		}
+
+		/**
+		 * 构建
+		 *
+		 * @param tree 单词树
+		 */
+		void build(WordTree tree) {
+			final Queue<WordTree> nodes = new ArrayDeque<>();
+			final Queue<Integer> states = new ArrayDeque<>();
+			nodes.add(tree);
+			states.add(ROOT);
+
+			WordTree node;
+			int state;
+			while (false == nodes.isEmpty()) {
+				node = nodes.poll();
+				state = states.poll();
+				if (node.isEmpty()) {
+					continue;
+				}
+
+				final char[] chars = new char[node.size()];
+				int i = 0;
+				for (final Character c : node.keySet()) {
+					chars[i++] = c;
+				}
+				Arrays.sort(chars);
+
+				final int begin = allocate(chars);
+				base[state] = begin;
+				for (final char c : chars) {
+					final int child = begin + c + 1;
+					check[child] = state;
+					used.set(child);
+					depth[child] = depth[state] + 1;
+					maxDepth = Math.max(maxDepth, depth[child]);
+					fail[child] = (ROOT == state) ? ROOT : failOf(fail[state], c);
+					output[child] = node.isEnd(c) ? child : output[fail[child]];
+					size = Math.max(size, child + 1);
+
+					nodes.add(node.get(c));
+					states.add(child);
+				}
+			}
+		}
+
+		/**
+		 * 为一组有序的子节点字符找到可用的base，使所有子节点的位置均未被占用
+		 *
+		 * @param chars 有序的子节点字符
+		 * @return base
+		 */
+		private int allocate(char[] chars) {
+			final int first = chars[0] + 1;
+			final int last = chars[chars.length - 1] + 1;
+			int pos = nextCheckPos - 1;
+			int empty = 0;
+			boolean isFirstEmpty = true;
+			int begin;
+			outer:
+			while (true) {
+				// 借助位图按字跳过已占用的位置
+				pos = used.nextClearBit(pos + 1);
+				empty++;
+				if (isFirstEmpty) {
+					nextCheckPos = pos;
+					isFirstEmpty = false;
+				}
+
+				begin = pos - first;
+				for (int i = 1; i < chars.length; i++) {
+					if (used.get(begin + chars[i] + 1)) {
+						continue outer;
+					}
+				}
+				break;
+			}
+			ensure(begin + last + 1);
+			// 已扫描的位置大部分被占用，或空位置尝试次数过多（剩余空位多为零散的孔洞）时，下次从当前位置开始查找
+			if (empty > MAX_EMPTY_TRIES || pos - nextCheckPos + 1 - empty >= 0.95 * (pos - nextCheckPos + 1)) {
+				nextCheckPos = pos;
+			}
+			return begin;
+		}
+
+		/**
+		 * 计算子节点的失败指针，即沿父节点的失败链查找第一个可经字符c转移的状态
+		 *
+		 * @param state 父节点的失败指针
+		 * @param c     子节点字符
+		 * @return 失败指针
+		 */
+		private int failOf(int state, char c) {
+			int next;
+			while (true) {
+				next = base[state] + c + 1;
+				if (next > ROOT && next < size && check[next] == state) {
+					return next;
+				}
+				if (ROOT == state) {
+					return ROOT;
+				}
+				state = fail[state];
+			}
+		}
+
+		/**
+		 * 确保数组长度
+		 *
+		 * @param length 最小长度
+		 */
+		private void ensure(int length) {
+			if (length <= base.length) {
+				return;
+			}
+			final int newLength = Math.max(length, base.length + (base.length >> 1));
+			base = Arrays.copyOf(base, newLength);
+			fail = Arrays.copyOf(fail, newLength);
+			depth = Arrays.copyOf(depth, newLength);
+			output = Arrays.copyOf(output, newLength);
+			final int oldLength = check.length;
+			check = Arrays.copyOf(check, newLength);
+			Arrays.fill(check, oldLength, newLength, EMPTY);
+		}
+	}
+}
@@ -1,15 +1,22 @@
 package cn.hutool.dfa;
 
-import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
 import cn.hutool.core.lang.Filter;
 import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.json.JSONUtil;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 敏感词工具类
@@ -19,7 +26,14 @@ import java.util.Map;
 public final class SensitiveUtil {
 
 	public static final char DEFAULT_SEPARATOR = StrUtil.C_COMMA;
-	private static final WordTree sensitiveTree = new WordTree();
+	/**
+	 * 编译后的敏感词树，不可变，重新初始化时构建新的树后整体替换，匹配中的线程不会看到构建了一半的树
+	 */
+	private static volatile CompiledWordTree sensitiveTree = new WordTree().compile();
+	/**
+	 * 字符过滤规则，{@code null}表示使用{@link WordTree}的默认规则
+	 */
+	private static Filter<Character> charFilter;
 
 	/**
 	 * @return 是否已经被初始化
@@ -29,7 +43,7 @@ public final class SensitiveUtil {
 	}
 
 	/**
-	 * 初始化敏感词树
+	 * 初始化敏感词树，异步初始化时，完成前匹配仍使用原有的敏感词树
 	 *
 	 * @param isAsync        是否异步初始化
 	 * @param sensitiveWords 敏感词列表
@@ -50,12 +64,28 @@ public final class SensitiveUtil {
 	 *
 	 * @param sensitiveWords 敏感词列表
 	 */
-	public static void init(Collection<String> sensitiveWords) {
-		sensitiveTree.clear();
-		sensitiveTree.addWords(sensitiveWords);
+	public static synchronized void init(Collection<String> sensitiveWords) {
+		final WordTree tree = new WordTree();
+		if (null != charFilter) {
+			tree.setCharFilter(charFilter);
+		}
+		tree.addWords(sensitiveWords);
+		sensitiveTree = tree.compile();
 //		log.debug("Sensitive init finished, sensitives: {}", sensitiveWords);
 	}
 
+	/**
+	 * 使用已编译的敏感词树初始化，如{@link CompiledWordTree#map(java.io.File)}加载的词典文件<br>
+	 * 已通过{@link #setCharFilter(Filter)}设置的字符过滤规则会应用到此树
+	 *
+	 * @param compiledTree 编译后的敏感词树
+	 * @since 5.8.36
+	 */
+	public static synchronized void init(CompiledWordTree compiledTree) {
+		Assert.notNull(compiledTree, "Compiled tree must be not null!");
+		sensitiveTree = (null != charFilter) ? compiledTree.withCharFilter(charFilter) : compiledTree;
+	}
+
 	/**
 	 * 初始化敏感词树
 	 *
@@ -86,9 +116,10 @@ public final class SensitiveUtil {
 	 * @param charFilter 过滤函数
 	 * @since 5.4.4
 	 */
-	public static void setCharFilter(Filter<Character> charFilter) {
+	public static synchronized void setCharFilter(Filter<Character> charFilter) {
 		if (charFilter != null) {
-			sensitiveTree.setCharFilter(charFilter);
+			SensitiveUtil.charFilter = charFilter;
+			sensitiveTree = sensitiveTree.withCharFilter(charFilter);
 		}
 	}
 
@@ -223,27 +254,47 @@ public final class SensitiveUtil {
 			return text;
 		}
 
-		//敏感词过滤场景下，不需要密集匹配
-		final List<FoundWord> foundWordList = getFoundAllSensitive(text, true, isGreedMatch);
-		if (CollUtil.isEmpty(foundWordList)) {
-			return text;
-		}
-		sensitiveProcessor = sensitiveProcessor == null ? new SensitiveProcessor() {
-		} : sensitiveProcessor;
-
-		final Map<Integer, FoundWord> foundWordMap = new HashMap<>(foundWordList.size(), 1);
-		foundWordList.forEach(foundWord -> foundWordMap.put(foundWord.getStartIndex(), foundWord));
-		final int length = text.length();
-		final StringBuilder textStringBuilder = new StringBuilder();
-		for (int i = 0; i < length; i++) {
-			final FoundWord fw = foundWordMap.get(i);
-			if (fw != null) {
-				textStringBuilder.append(sensitiveProcessor.process(fw));
-				i = fw.getEndIndex();
-			} else {
-				textStringBuilder.append(text.charAt(i));
-			}
-		}
-		return textStringBuilder.toString();
+		final StringWriter writer = new StringWriter(text.length());
+		sensitiveFilter(new StringReader(text), writer, isGreedMatch, sensitiveProcessor);
+		return writer.toString();
+	}
+
+	/**
+	 * 流式处理过滤文本中的敏感词，默认替换成*，不关闭流
+	 *
+	 * @param reader 输入
+	 * @param writer 输出
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.36
+	 */
+	public static void sensitiveFilter(Reader reader, Writer writer) throws IORuntimeException {
+		sensitiveFilter(reader, writer, true, null);
+	}
+
+	/**
+	 * 流式处理过滤文本中的敏感词，分块读取，跨越块边界的敏感词同样可以匹配，内存占用与文本长度无关，不关闭流
+	 *
+	 * @param reader             输入
+	 * @param writer             输出
+	 * @param isGreedMatch       贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 * @param sensitiveProcessor 敏感词处理器，默认按匹配内容的字符数替换成*
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.36
+	 */
+	public static void sensitiveFilter(Reader reader, Writer writer, boolean isGreedMatch, SensitiveProcessor sensitiveProcessor) throws IORuntimeException {
+		sensitiveTree.filter(reader, writer, isGreedMatch, sensitiveProcessor);
+	}
+
+	/**
+	 * 流式处理过滤文本中的敏感词，默认替换成*，不关闭流
+	 *
+	 * @param in      输入流
+	 * @param out     输出流
+	 * @param charset 编码
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.36
+	 */
+	public static void sensitiveFilter(InputStream in, OutputStream out, Charset charset) throws IORuntimeException {
+		sensitiveFilter(IoUtil.getReader(in, charset), IoUtil.getWriter(out, charset), true, null);
 	}
 }
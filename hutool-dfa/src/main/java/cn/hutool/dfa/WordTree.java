@@ -60,6 +60,27 @@ public class WordTree extends HashMap<Character, WordTree> {
 		return this;
 	}
 
+	/**
+	 * 获取字符过滤规则
+	 *
+	 * @return 字符过滤规则
+	 * @since 5.8.36
+	 */
+	Filter<Character> getCharFilter() {
+		return this.charFilter;
+	}
+
+	/**
+	 * 将单词树编译为不可变的{@link CompiledWordTree}，使用Aho-Corasick自动机匹配，匹配结果与本树相同<br>
+	 * 编译后对本树的修改不影响编译结果。编译后的树占用内存远小于本树，可保存为文件，并通过{@link CompiledWordTree#map(java.io.File)}映射加载
+	 *
+	 * @return {@link CompiledWordTree}
+	 * @since 5.8.36
+	 */
+	public CompiledWordTree compile() {
+		return new CompiledWordTree(this);
+	}
+
 	//------------------------------------------------------------------------------- add word
 
 	/**
@@ -305,7 +326,7 @@ public class WordTree extends HashMap<Character, WordTree> {
 	 * @param c 检查的字符
 	 * @return 是否末尾
 	 */
-	private boolean isEnd(Character c) {
+	boolean isEnd(Character c) {
 		return this.endCharacterSet.contains(c);
 	}
 
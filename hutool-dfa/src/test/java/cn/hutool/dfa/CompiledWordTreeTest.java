@@ -0,0 +1,241 @@
+package cn.hutool.dfa;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.RandomUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link CompiledWordTree} 单元测试
+ */
+public class CompiledWordTreeTest {
+
+	/**
+	 * 替换为"[起始位置+词]"
+	 */
+	private static final SensitiveProcessor BRACKET_PROCESSOR = new SensitiveProcessor() {
+		@Override
+		public String process(FoundWord foundWord) {
+			return "[" + foundWord.getStartIndex() + foundWord.getWord() + "]";
+		}
+	};
+
+	@Test
+	public void matchAllTest() {
+		final CompiledWordTree tree = buildWordTree().compile();
+		final String text = "我有一颗$大土^豆，刚出锅的";
+
+		assertEquals(CollUtil.newArrayList("大", "土^豆", "刚出锅"), tree.matchAll(text, -1, false, false));
+		assertEquals(CollUtil.newArrayList("大", "土^豆", "刚出锅", "出锅"), tree.matchAll(text, -1, true, false));
+		assertEquals(CollUtil.newArrayList("大", "土^豆", "刚出锅"), tree.matchAll(text, -1, false, true));
+		assertEquals(CollUtil.newArrayList("大", "大土^豆", "土^豆", "刚出锅", "出锅"), tree.matchAll(text, -1, true, true));
+
+		final FoundWord foundWord = tree.matchAllWords(text, -1, true, true).get(1);
+		assertEquals("大土豆", foundWord.getWord());
+		assertEquals("大土^豆", foundWord.getFoundWord());
+		assertEquals(5, foundWord.getStartIndex().intValue());
+		assertEquals(8, foundWord.getEndIndex().intValue());
+	}
+
+	@Test
+	public void limitTest() {
+		final CompiledWordTree tree = buildWordTree().compile();
+		assertEquals(CollUtil.newArrayList("大", "大土豆"), tree.matchAll("大土豆出锅", 2, true, true));
+		assertEquals("大", tree.match("大土豆出锅"));
+		assertTrue(tree.isMatch("出锅了"));
+		assertFalse(tree.isMatch("出了锅"));
+		assertNull(tree.matchAllWords(null));
+	}
+
+	@Test
+	public void stopWordTest() {
+		final WordTree wordTree = new WordTree();
+		wordTree.addWord("tio");
+		final CompiledWordTree tree = wordTree.compile();
+		assertEquals(CollUtil.newArrayList("t-io"), tree.matchAll("AAAAAAAt-ioBBBBBBB"));
+		assertTrue(tree.isStopChar('-'));
+		assertFalse(tree.isStopChar('t'));
+	}
+
+	@Test
+	public void emptyTest() {
+		final CompiledWordTree tree = new WordTree().compile();
+		assertTrue(tree.matchAll("abc").isEmpty());
+		assertFalse(tree.isMatch("abc"));
+	}
+
+	@Test
+	public void writeAndReadTest() {
+		final CompiledWordTree tree = buildWordTree().compile();
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		tree.writeTo(out);
+
+		out.write(0x7F);
+
+		final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+		final CompiledWordTree read = CompiledWordTree.readFrom(in);
+		// 不预读树之后的数据
+		assertEquals(0x7F, in.read());
+		final String text = "我有一颗$大土^豆，刚出锅的";
+		assertEquals(tree.matchAll(text, -1, true, true), read.matchAll(text, -1, true, true));
+		assertTrue(read.isStopChar('^'));
+
+		assertThrows(IORuntimeException.class, () -> CompiledWordTree.readFrom(new ByteArrayInputStream(new byte[16])));
+	}
+
+	@Test
+	public void mapTest() throws IOException {
+		final CompiledWordTree tree = buildWordTree().compile();
+		final File file = FileUtil.createTempFile();
+		try {
+			try (final OutputStream out = FileUtil.getOutputStream(file)) {
+				tree.writeTo(out);
+			}
+			final CompiledWordTree mapped = CompiledWordTree.map(file);
+			final String text = "我有一颗$大土^豆，刚出锅的";
+			assertEquals(CollUtil.newArrayList("大", "大土^豆", "土^豆", "刚出锅", "出锅"), mapped.matchAll(text, -1, true, true));
+			assertFalse(mapped.isEmpty());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void withCharFilterTest() {
+		final CompiledWordTree tree = buildWordTree().compile();
+		final CompiledWordTree filtered = tree.withCharFilter(c -> 'x' != c);
+		assertEquals(CollUtil.newArrayList("大", "大x土x豆", "土x豆"), filtered.matchAll("大x土x豆", -1, true, true));
+		// 原树不变
+		assertEquals(CollUtil.newArrayList("大"), tree.matchAll("大x土x豆", -1, true, true));
+	}
+
+	@Test
+	public void filterTest() {
+		final CompiledWordTree tree = buildWordTree().compile();
+		final StringWriter writer = new StringWriter();
+		// 每次只读取2个字符，词跨越块边界
+		tree.filter(new LimitedReader("我有一颗$大土^豆，刚出锅的", 2), writer, true, null);
+		assertEquals("我有一颗$****，***的", writer.toString());
+
+		final StringWriter writer2 = new StringWriter();
+		tree.filter(new LimitedReader("我有一颗$大土^豆，刚出锅的", 2), writer2, false, BRACKET_PROCESSOR);
+		assertEquals("我有一颗$[5大][6土豆]，[10刚出锅]的", writer2.toString());
+	}
+
+	/**
+	 * 随机生成词、文本和块大小，与按照{@link WordTree}匹配结果替换的文本对比
+	 */
+	@Test
+	public void filterCompareTest() {
+		for (int round = 0; round < 200; round++) {
+			final WordTree wordTree = new WordTree();
+			for (int i = 0; i < 20; i++) {
+				wordTree.addWord(RandomUtil.randomString("abc$", RandomUtil.randomInt(1, 5)));
+			}
+			final CompiledWordTree tree = wordTree.compile();
+			final String text = RandomUtil.randomString("abcd$ ", 100);
+			for (final boolean isGreedMatch : new boolean[]{true, false}) {
+				final StringWriter writer = new StringWriter();
+				tree.filter(new LimitedReader(text, RandomUtil.randomInt(1, 10)), writer, isGreedMatch, BRACKET_PROCESSOR);
+				assertEquals(filter(wordTree, text, isGreedMatch), writer.toString());
+			}
+		}
+	}
+
+	/**
+	 * 随机生成词和文本，与{@link WordTree}的匹配结果对比
+	 */
+	@Test
+	public void compareWithWordTreeTest() {
+		for (int round = 0; round < 200; round++) {
+			final WordTree wordTree = new WordTree();
+			for (int i = 0; i < 20; i++) {
+				wordTree.addWord(RandomUtil.randomString("abc$", RandomUtil.randomInt(1, 5)));
+			}
+			final CompiledWordTree tree = wordTree.compile();
+			final String text = RandomUtil.randomString("abcd$ ", 50);
+			for (final int limit : new int[]{-1, 1, 3}) {
+				for (final boolean isDensityMatch : new boolean[]{true, false}) {
+					for (final boolean isGreedMatch : new boolean[]{true, false}) {
+						assertFoundWordsEquals(
+								wordTree.matchAllWords(text, limit, isDensityMatch, isGreedMatch),
+								tree.matchAllWords(text, limit, isDensityMatch, isGreedMatch));
+					}
+				}
+			}
+		}
+	}
+
+	private static void assertFoundWordsEquals(List<FoundWord> expected, List<FoundWord> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getWord(), actual.get(i).getWord());
+			assertEquals(expected.get(i).getFoundWord(), actual.get(i).getFoundWord());
+			assertEquals(expected.get(i).getStartIndex(), actual.get(i).getStartIndex());
+			assertEquals(expected.get(i).getEndIndex(), actual.get(i).getEndIndex());
+		}
+	}
+
+	/**
+	 * 按照匹配的词替换文本，同一位置开始的词只替换一个，重叠的词只替换最先开始的
+	 */
+	private static String filter(WordTree wordTree, String text, boolean isGreedMatch) {
+		final Map<Integer, FoundWord> foundWordMap = new HashMap<>();
+		for (final FoundWord foundWord : wordTree.matchAllWords(text, -1, true, isGreedMatch)) {
+			foundWordMap.put(foundWord.getStartIndex(), foundWord);
+		}
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < text.length(); i++) {
+			final FoundWord foundWord = foundWordMap.get(i);
+			if (null != foundWord) {
+				builder.append(BRACKET_PROCESSOR.process(foundWord));
+				i = foundWord.getEndIndex();
+			} else {
+				builder.append(text.charAt(i));
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 每次最多读取指定字符数的Reader
+	 */
+	private static class LimitedReader extends FilterReader {
+		private final int limit;
+
+		LimitedReader(String text, int limit) {
+			super(new StringReader(text));
+			this.limit = limit;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			return super.read(cbuf, off, Math.min(len, limit));
+		}
+	}
+
+	private static WordTree buildWordTree() {
+		final WordTree tree = new WordTree();
+		tree.addWord("大");
+		tree.addWord("大土豆");
+		tree.addWord("土豆");
+		tree.addWord("刚出锅");
+		tree.addWord("出锅");
+		return tree;
+	}
+}
@@ -1,10 +1,16 @@
 package cn.hutool.dfa;
 
 import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
 import lombok.Data;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -39,4 +45,17 @@ public class SensitiveUtilTest {
 		String result = SensitiveUtil.sensitiveFilter("赵阿三在做什么。", true, null);
 		assertEquals("***在做什么。", result);
 	}
+
+	@Test
+	public void sensitiveFilterStreamTest() {
+		SensitiveUtil.init(ListUtil.of("大", "大土豆", "土豆", "刚出锅", "出锅"));
+
+		final StringWriter writer = new StringWriter();
+		SensitiveUtil.sensitiveFilter(new StringReader("我有一颗$大土^豆，刚出锅的"), writer);
+		assertEquals("我有一颗$****，***的", writer.toString());
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		SensitiveUtil.sensitiveFilter(new ByteArrayInputStream(StrUtil.utf8Bytes("赵大土豆在做什么。")), out, CharsetUtil.CHARSET_UTF_8);
+		assertEquals("赵***在做什么。", StrUtil.utf8Str(out.toByteArray()));
+	}
 }
@@ -104,6 +104,14 @@ public enum Header {
 	 * 请求的内容长度
 	 */
 	CONTENT_LENGTH("Content-Length"),
+	/**
+	 * 只请求资源的一部分，如"bytes=0-1023"
+	 */
+	RANGE("Range"),
+	/**
+	 * 资源未改变时Range才生效，否则返回完整资源，值为ETag或最后修改时间
+	 */
+	IF_RANGE("If-Range"),
 
 	//------------------------------------------------------------- 响应头域
 	/**
@@ -126,6 +134,18 @@ public enum Header {
 	 * ETag
 	 */
 	ETAG("ETag"),
+	/**
+	 * 资源的最后修改时间
+	 */
+	LAST_MODIFIED("Last-Modified"),
+	/**
+	 * 服务端是否支持范围请求，支持时为"bytes"
+	 */
+	ACCEPT_RANGES("Accept-Ranges"),
+	/**
+	 * 部分响应在完整资源中的位置，如"bytes 0-1023/4096"
+	 */
+	CONTENT_RANGE("Content-Range"),
 	/**
 	 * 重定向指示到的URL
 	 */
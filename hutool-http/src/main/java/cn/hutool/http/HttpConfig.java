@@ -2,6 +2,7 @@ package cn.hutool.http;
 
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.net.SSLUtil;
+import cn.hutool.http.engine.HttpEngine;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLSocketFactory;
@@ -57,6 +58,10 @@ public class HttpConfig {
 	 * SSLSocketFactory，用于HTTPS安全连接
 	 */
 	SSLSocketFactory ssf;
+	/**
+	 * Http客户端引擎，{@code null}表示使用全局引擎
+	 */
+	HttpEngine engine;
 
 	/**
 	 * Chuncked块大小，0或小于0表示不设置Chuncked模式
@@ -321,6 +326,18 @@ public class HttpConfig {
 		return this;
 	}
 
+	/**
+	 * 设置Http客户端引擎，如使用连接池的{@link cn.hutool.http.engine.PooledHttpEngine}
+	 *
+	 * @param engine Http客户端引擎，{@code null}表示使用全局引擎
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public HttpConfig setEngine(HttpEngine engine) {
+		this.engine = engine;
+		return this;
+	}
+
 	/**
 	 * 设置是否使用默认Content-Type，如果请求中未设置Content-Type，是否使用默认值
 	 *
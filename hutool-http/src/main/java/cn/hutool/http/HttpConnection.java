@@ -5,6 +5,7 @@ import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.core.util.URLUtil;
+import cn.hutool.http.engine.HttpEngine;
 import cn.hutool.http.ssl.DefaultSSLInfo;
 
 import javax.net.ssl.HostnameVerifier;
@@ -17,7 +18,6 @@ import java.net.HttpURLConnection;
 import java.net.ProtocolException;
 import java.net.Proxy;
 import java.net.URL;
-import java.net.URLConnection;
 import java.nio.charset.Charset;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.List;
@@ -33,6 +33,7 @@ public class HttpConnection {
 
 	private final URL url;
 	private final Proxy proxy;
+	private final HttpEngine engine;
 	private HttpURLConnection conn;
 
 	/**
@@ -57,6 +58,19 @@ public class HttpConnection {
 		return new HttpConnection(url, proxy);
 	}
 
+	/**
+	 * 创建HttpConnection
+	 *
+	 * @param url    URL
+	 * @param proxy  代理，无代理传{@code null}
+	 * @param engine Http客户端引擎，{@code null}表示使用全局引擎
+	 * @return HttpConnection
+	 * @since 5.8.36
+	 */
+	public static HttpConnection create(URL url, Proxy proxy, HttpEngine engine) {
+		return new HttpConnection(url, proxy, engine);
+	}
+
 	// --------------------------------------------------------------- Constructor start
 
 	/**
@@ -66,8 +80,21 @@ public class HttpConnection {
 	 * @param proxy 代理
 	 */
 	public HttpConnection(URL url, Proxy proxy) {
+		this(url, proxy, null);
+	}
+
+	/**
+	 * 构造HttpConnection
+	 *
+	 * @param url    URL
+	 * @param proxy  代理
+	 * @param engine Http客户端引擎，{@code null}表示使用全局引擎
+	 * @since 5.8.36
+	 */
+	public HttpConnection(URL url, Proxy proxy, HttpEngine engine) {
 		this.url = url;
 		this.proxy = proxy;
+		this.engine = null == engine ? HttpGlobalConfig.getEngine() : engine;
 
 		// 初始化Http连接
 		initConn();
@@ -552,23 +579,7 @@ public class HttpConnection {
 	 * @return {@link HttpURLConnection}，https返回{@link HttpsURLConnection}
 	 */
 	private HttpURLConnection openHttp() throws IOException {
-		final URLConnection conn = openConnection();
-		if (false == conn instanceof HttpURLConnection) {
-			// 防止其它协议造成的转换异常
-			throw new HttpException("'{}' of URL [{}] is not a http connection, make sure URL is format for http.", conn.getClass().getName(), this.url);
-		}
-
-		return (HttpURLConnection) conn;
-	}
-
-	/**
-	 * 建立连接
-	 *
-	 * @return {@link URLConnection}
-	 * @throws IOException IO异常
-	 */
-	private URLConnection openConnection() throws IOException {
-		return (null == this.proxy) ? url.openConnection() : url.openConnection(this.proxy);
+		return this.engine.open(this.url, this.proxy);
 	}
 
 	/**
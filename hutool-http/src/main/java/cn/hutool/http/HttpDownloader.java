@@ -86,6 +86,28 @@ public class HttpDownloader {
 		return requestDownload(url, timeout).writeBody(targetFileOrDir, tempFileSuffix, streamProgress);
 	}
 
+	/**
+	 * 分段并行下载远程文件，支持断点续传<br>
+	 * 服务端支持Range时，将文件分为多段，每段使用一个连接并行下载到预分配大小的临时文件中，完成后重命名为目标文件；
+	 * 下载位置记录在临时文件旁的".range"状态文件中，中断后再次调用此方法，若文件未改变则从记录的位置继续下载。
+	 * 服务端不支持Range时使用单个连接下载。
+	 *
+	 * @param url             请求的url
+	 * @param targetFileOrDir 目标文件或目录，当为目录时，取URL中的文件名，取不到使用编码后的URL做为文件名
+	 * @param threadCount     最大并行连接数
+	 * @param timeout         超时，单位毫秒，-1表示默认超时
+	 * @param streamProgress  进度条，回调所有段汇总的进度
+	 * @return 文件大小
+	 * @since 5.8.36
+	 */
+	public static long downloadFileParallel(String url, File targetFileOrDir, int threadCount, int timeout, StreamProgress streamProgress) {
+		Assert.notBlank(url, "[url] is blank !");
+		Assert.notNull(targetFileOrDir, "[targetFileOrDir] is null !");
+		Assert.isTrue(threadCount > 0, "[threadCount] must be greater than 0 !");
+
+		return RangeDownloader.download(url, targetFileOrDir, threadCount, timeout, streamProgress);
+	}
+
 	/**
 	 * 下载远程文件，返回文件
 	 *
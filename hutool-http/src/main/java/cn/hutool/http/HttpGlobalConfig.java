@@ -3,7 +3,10 @@ package cn.hutool.http;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.RandomUtil;
 import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.ServiceLoaderUtil;
 import cn.hutool.http.cookie.GlobalCookieManager;
+import cn.hutool.http.engine.HttpEngine;
+import cn.hutool.http.engine.JdkHttpEngine;
 
 import java.io.Serializable;
 import java.lang.reflect.Field;
@@ -34,6 +37,7 @@ public class HttpGlobalConfig implements Serializable {
 	private static boolean ignoreEOFError = true;
 	private static boolean decodeUrl = false;
 	private static boolean trustAnyHost = true;
+	private static volatile HttpEngine engine;
 
 	/**
 	 * 获取全局默认的超时时长
@@ -232,4 +236,39 @@ public class HttpGlobalConfig implements Serializable {
 	public static void setTrustAnyHost(boolean customTrustAnyHost) {
 		trustAnyHost = customTrustAnyHost;
 	}
+
+	/**
+	 * 获取全局Http客户端引擎<br>
+	 * 未设置时通过SPI查找{@link HttpEngine}的实现，找不到使用{@link JdkHttpEngine}
+	 *
+	 * @return Http客户端引擎
+	 * @since 5.8.36
+	 */
+	public static HttpEngine getEngine() {
+		HttpEngine result = engine;
+		if (null == result) {
+			synchronized (HttpGlobalConfig.class) {
+				result = engine;
+				if (null == result) {
+					result = ServiceLoaderUtil.loadFirstAvailable(HttpEngine.class);
+					if (null == result) {
+						result = JdkHttpEngine.INSTANCE;
+					}
+					engine = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 设置全局Http客户端引擎，如使用连接池的{@link cn.hutool.http.engine.PooledHttpEngine}<br>
+	 * 替换引擎时不会关闭原有引擎
+	 *
+	 * @param customEngine Http客户端引擎，{@code null}表示恢复默认
+	 * @since 5.8.36
+	 */
+	synchronized public static void setEngine(HttpEngine customEngine) {
+		engine = customEngine;
+	}
 }
@@ -13,6 +13,7 @@ import cn.hutool.core.map.TableMap;
 import cn.hutool.core.net.SSLUtil;
 import cn.hutool.core.net.url.UrlBuilder;
 import cn.hutool.core.net.url.UrlQuery;
+import cn.hutool.core.thread.GlobalThreadPool;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.core.util.StrUtil;
@@ -21,6 +22,9 @@ import cn.hutool.http.body.MultipartBody;
 import cn.hutool.http.body.RequestBody;
 import cn.hutool.http.body.ResourceBody;
 import cn.hutool.http.cookie.GlobalCookieManager;
+import cn.hutool.http.engine.AsyncHttpEngine;
+import cn.hutool.http.engine.HttpEngine;
+import cn.hutool.http.engine.JdkHttpEngine;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLSocketFactory;
@@ -31,6 +35,8 @@ import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -940,6 +946,19 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 		return this;
 	}
 
+	/**
+	 * 设置Http客户端引擎，如使用连接池的{@link cn.hutool.http.engine.PooledHttpEngine}，不设置使用全局引擎
+	 *
+	 * @param engine Http客户端引擎
+	 * @return this
+	 * @see HttpGlobalConfig#setEngine(HttpEngine)
+	 * @since 5.8.36
+	 */
+	public HttpRequest setEngine(HttpEngine engine) {
+		config.setEngine(engine);
+		return this;
+	}
+
 	/**
 	 * 设置SSLSocketFactory<br>
 	 * 只针对HTTPS请求，如果不设置，使用默认的SSLSocketFactory<br>
@@ -1097,6 +1116,31 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 		}
 	}
 
+	/**
+	 * 非阻塞执行请求，使用默认的{@link AsyncHttpEngine}<br>
+	 * 连接和收发数据不占用调用线程，响应完整接收后{@link CompletableFuture}完成，此时响应内容已全部读取到内存中。
+	 * 适用于同时向大量服务发送请求，无需为每个请求占用一个线程。
+	 *
+	 * @return 响应完成后完成的{@link CompletableFuture}，回调在IO线程中执行，耗时操作应使用xxxAsync方法
+	 * @see AsyncHttpEngine
+	 * @since 5.8.36
+	 */
+	public CompletableFuture<HttpResponse> sendAsync() {
+		return sendAsync(AsyncHttpEngine.getDefault());
+	}
+
+	/**
+	 * 使用指定的{@link AsyncHttpEngine}非阻塞执行请求<br>
+	 * 使用代理、自定义SSLSocketFactory或自定义URLStreamHandler的请求无法非阻塞执行，此时在全局线程池中以阻塞方式执行。
+	 *
+	 * @param engine 异步引擎
+	 * @return 响应完成后完成的{@link CompletableFuture}
+	 * @since 5.8.36
+	 */
+	public CompletableFuture<HttpResponse> sendAsync(AsyncHttpEngine engine) {
+		return doSendAsync(engine, config.requestInterceptors, config.responseInterceptors);
+	}
+
 	/**
 	 * 简单验证，生成的头信息类似于：
 	 * <pre>
@@ -1192,6 +1236,17 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 	 */
 	private HttpResponse doExecute(boolean isAsync, HttpInterceptor.Chain<HttpRequest> requestInterceptors,
 								   HttpInterceptor.Chain<HttpResponse> responseInterceptors) {
+		prepare(requestInterceptors, config.engine);
+		return sendAndReceive(isAsync, responseInterceptors);
+	}
+
+	/**
+	 * 执行请求拦截器、初始化URL和连接，此时不发送请求
+	 *
+	 * @param requestInterceptors 请求拦截器列表
+	 * @param engine              Http客户端引擎，{@code null}表示使用全局引擎
+	 */
+	private void prepare(HttpInterceptor.Chain<HttpRequest> requestInterceptors, HttpEngine engine) {
 		if (null != requestInterceptors) {
 			for (HttpInterceptor<HttpRequest> interceptor : requestInterceptors) {
 				interceptor.process(this);
@@ -1201,7 +1256,17 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 		// 初始化URL
 		urlWithParamIfGet();
 		// 初始化 connection
-		initConnection();
+		initConnection(engine);
+	}
+
+	/**
+	 * 发送请求并获取响应，处理重定向
+	 *
+	 * @param isAsync              是否异步
+	 * @param responseInterceptors 响应拦截器列表
+	 * @return 响应
+	 */
+	private HttpResponse sendAndReceive(boolean isAsync, HttpInterceptor.Chain<HttpResponse> responseInterceptors) {
 		// 发送请求
 		send();
 
@@ -1213,6 +1278,74 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 			httpResponse = new HttpResponse(this.httpConnection, this.config, this.charset, isAsync, isIgnoreResponseBody());
 		}
 
+		return interceptResponse(httpResponse, responseInterceptors);
+	}
+
+	/**
+	 * 非阻塞执行请求，流程与{@link #doExecute(boolean, HttpInterceptor.Chain, HttpInterceptor.Chain)}一致
+	 *
+	 * @param engine               异步引擎
+	 * @param requestInterceptors  请求拦截器列表
+	 * @param responseInterceptors 响应拦截器列表
+	 * @return 响应完成后完成的{@link CompletableFuture}
+	 */
+	private CompletableFuture<HttpResponse> doSendAsync(AsyncHttpEngine engine, HttpInterceptor.Chain<HttpRequest> requestInterceptors,
+														 HttpInterceptor.Chain<HttpResponse> responseInterceptors) {
+		final CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+		final HttpURLConnection conn;
+		try {
+			prepare(requestInterceptors, engine);
+			conn = this.httpConnection.getHttpURLConnection();
+			if (false == engine.isNonBlocking(conn)) {
+				// 使用代理或自定义SSLSocketFactory等无法非阻塞执行的请求，在线程池中阻塞执行
+				initConnection(config.engine);
+				return CompletableFuture.supplyAsync(() -> sendAndReceive(false, responseInterceptors), GlobalThreadPool.getExecutor());
+			}
+			// 请求体写入缓存，不会阻塞
+			send();
+		} catch (RuntimeException e) {
+			result.completeExceptionally(e);
+			return result;
+		}
+
+		engine.send(conn).whenComplete((c, e) -> {
+			if (null != e) {
+				final Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+				result.completeExceptionally(cause instanceof IOException ? new IORuntimeException(cause) : cause);
+				return;
+			}
+			try {
+				if (prepareRedirect()) {
+					// 重定向可选是否走过滤器
+					doSendAsync(engine, config.interceptorOnRedirect ? config.requestInterceptors : null,
+						config.interceptorOnRedirect ? config.responseInterceptors : null)
+						.whenComplete((response, e2) -> {
+							if (null != e2) {
+								result.completeExceptionally(e2);
+							} else {
+								result.complete(interceptResponse(response, responseInterceptors));
+							}
+						});
+					return;
+				}
+				// 响应已完整接收，同步读取不会阻塞
+				final HttpResponse response = new HttpResponse(this.httpConnection, this.config, this.charset, false, isIgnoreResponseBody());
+				result.complete(interceptResponse(response, responseInterceptors));
+			} catch (Throwable t) {
+				result.completeExceptionally(t);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * 执行响应拦截器
+	 *
+	 * @param httpResponse         响应
+	 * @param responseInterceptors 响应拦截器列表
+	 * @return 响应
+	 */
+	private HttpResponse interceptResponse(HttpResponse httpResponse, HttpInterceptor.Chain<HttpResponse> responseInterceptors) {
 		// 拦截响应
 		if (null != responseInterceptors) {
 			for (HttpInterceptor<HttpResponse> interceptor : responseInterceptors) {
@@ -1225,8 +1358,10 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 
 	/**
 	 * 初始化网络连接
+	 *
+	 * @param engine Http客户端引擎，{@code null}表示使用全局引擎
 	 */
-	private void initConnection() {
+	private void initConnection(HttpEngine engine) {
 		if (null != this.httpConnection) {
 			// 执行下次请求时自动关闭上次请求（常用于转发）
 			this.httpConnection.disconnectQuietly();
@@ -1235,7 +1370,9 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 		this.httpConnection = HttpConnection
 			// issue#I50NHQ
 			// 在生成正式URL前，设置自定义编码
-			.create(this.url.setCharset(this.charset).toURL(this.urlHandler), config.proxy)//
+			// 自定义URLStreamHandler时只能由JDK打开连接
+			.create(this.url.setCharset(this.charset).toURL(this.urlHandler), config.proxy,
+				null == this.urlHandler ? engine : JdkHttpEngine.INSTANCE)//
 			.setConnectTimeout(config.connectionTimeout)//
 			.setReadTimeout(config.readTimeout)//
 			.setMethod(this.method)//
@@ -1292,6 +1429,20 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 	 * @return {@link HttpResponse}，无转发返回 {@code null}
 	 */
 	private HttpResponse sendRedirectIfPossible(boolean isAsync) {
+		if (prepareRedirect()) {
+			// 重定向可选是否走过滤器
+			return doExecute(isAsync, config.interceptorOnRedirect ? config.requestInterceptors : null,
+				config.interceptorOnRedirect ? config.responseInterceptors : null);
+		}
+		return null;
+	}
+
+	/**
+	 * 检查响应是否需要转发，需要时设置转发的URL和请求方法
+	 *
+	 * @return 是否需要转发
+	 */
+	private boolean prepareRedirect() {
 		// 手动实现重定向
 		if (config.maxRedirectCount > 0) {
 			final int responseCode;
@@ -1342,14 +1493,12 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 					}
 					if (redirectCount < config.maxRedirectCount) {
 						redirectCount++;
-						// 重定向可选是否走过滤器
-						return doExecute(isAsync, config.interceptorOnRedirect ? config.requestInterceptors : null,
-							config.interceptorOnRedirect ? config.responseInterceptors : null);
+						return true;
 					}
 				}
 			}
 		}
-		return null;
+		return false;
 	}
 
 	/**
@@ -326,6 +326,22 @@ public class HttpUtil {
 		return HttpDownloader.downloadFile(url, destFile, timeout, streamProgress);
 	}
 
+	/**
+	 * 分段并行下载远程文件，支持断点续传，服务端不支持Range时使用单个连接下载
+	 *
+	 * @param url            请求的url
+	 * @param destFile       目标文件或目录，当为目录时，取URL中的文件名，取不到使用编码后的URL做为文件名
+	 * @param threadCount    最大并行连接数
+	 * @param timeout        超时，单位毫秒，-1表示默认超时
+	 * @param streamProgress 进度条
+	 * @return 文件大小
+	 * @see HttpDownloader#downloadFileParallel(String, File, int, int, StreamProgress)
+	 * @since 5.8.36
+	 */
+	public static long downloadFileParallel(String url, File destFile, int threadCount, int timeout, StreamProgress streamProgress) {
+		return HttpDownloader.downloadFileParallel(url, destFile, threadCount, timeout, streamProgress);
+	}
+
 	/**
 	 * 下载远程文件
 	 *
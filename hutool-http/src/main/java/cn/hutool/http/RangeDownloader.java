@@ -0,0 +1,525 @@
+package cn.hutool.http;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.StreamProgress;
+import cn.hutool.core.thread.ExecutorBuilder;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 分段并行下载<br>
+ * 先请求第一个字节探测服务端是否支持Range及文件总长度，之后将文件分为多段，每段使用一个连接并行下载，
+ * 直接写入预分配大小的临时文件的对应位置，全部完成后重命名为目标文件。<br>
+ * 每段的下载位置记录在临时文件旁的状态文件中，下载中断后再次调用时，若文件长度和ETag（或Last-Modified）未变，则从记录的位置继续下载。
+ * 服务端未返回ETag和Last-Modified时无法判断文件是否改变，总是重新下载。
+ * 服务端不支持Range时退化为单连接下载。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class RangeDownloader {
+
+	private static final String TEMP_SUFFIX = ".temp";
+	private static final String STATE_SUFFIX = ".range";
+	/**
+	 * 状态文件标识
+	 */
+	private static final int STATE_MAGIC = 0x48524431;
+	/**
+	 * 每段的最小长度，避免小文件也拆分为过多的连接
+	 */
+	private static final long MIN_SEGMENT_SIZE = 1024 * 1024;
+	/**
+	 * 下载位置写入状态文件的时间间隔，每次写入需将数据刷入磁盘，间隔过短会严重拖慢下载
+	 */
+	private static final long SAVE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final String url;
+	private final int timeout;
+	private final long length;
+	private final String validator;
+	private final StreamProgress streamProgress;
+
+	private FileChannel dataChannel;
+	private FileChannel stateChannel;
+	private List<Segment> segments;
+	/**
+	 * 已下载的总字节数，由streamProgress的锁保护
+	 */
+	private long downloaded;
+	/**
+	 * 某一段失败后其它段停止下载
+	 */
+	private volatile boolean stopped;
+	/**
+	 * 上次写入状态文件的时间，{@link System#nanoTime()}
+	 */
+	private final AtomicLong lastSaveTime = new AtomicLong(System.nanoTime());
+
+	/**
+	 * 分段并行下载远程文件
+	 *
+	 * @param url             请求的url
+	 * @param targetFileOrDir 目标文件或目录，当为目录时，取URL中的文件名，取不到使用编码后的URL做为文件名
+	 * @param threadCount     最大并行连接数
+	 * @param timeout         超时，单位毫秒，-1表示默认超时
+	 * @param streamProgress  进度条，汇总所有段的进度，可为{@code null}
+	 * @return 文件大小
+	 */
+	static long download(String url, File targetFileOrDir, int threadCount, int timeout, StreamProgress streamProgress) {
+		final HttpResponse probe = request(url, timeout, "bytes=0-0", null);
+		if (HttpStatus.HTTP_OK == probe.getStatus()) {
+			// 服务端忽略了Range，直接使用此响应下载
+			return probe.writeBody(targetFileOrDir, TEMP_SUFFIX, streamProgress);
+		}
+
+		final File outFile;
+		final long length;
+		final String validator;
+		try {
+			length = HttpStatus.HTTP_PARTIAL == probe.getStatus() ? parseLength(probe.header(Header.CONTENT_RANGE)) : -1;
+			outFile = probe.completeFileNameFromHeader(targetFileOrDir);
+			validator = getValidator(probe);
+		} finally {
+			probe.close();
+		}
+		if (length <= 0) {
+			// 空文件或长度未知，无法分段
+			return HttpDownloader.downloadFile(url, targetFileOrDir, TEMP_SUFFIX, timeout, streamProgress);
+		}
+
+		final RangeDownloader downloader = new RangeDownloader(url, timeout, length, validator, streamProgress);
+		downloader.download(outFile, threadCount);
+		return length;
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param url            请求的url
+	 * @param timeout        超时，单位毫秒
+	 * @param length         文件总长度
+	 * @param validator      ETag或Last-Modified，用于判断文件是否改变，无则为空串
+	 * @param streamProgress 进度条
+	 */
+	private RangeDownloader(String url, int timeout, long length, String validator, StreamProgress streamProgress) {
+		this.url = url;
+		this.timeout = timeout;
+		this.length = length;
+		this.validator = validator;
+		this.streamProgress = streamProgress;
+	}
+
+	/**
+	 * 下载到临时文件，完成后重命名为目标文件
+	 *
+	 * @param outFile     目标文件
+	 * @param threadCount 最大并行连接数
+	 */
+	private void download(File outFile, int threadCount) {
+		final File tempFile = new File(outFile.getParentFile(), outFile.getName() + TEMP_SUFFIX);
+		final File stateFile = new File(outFile.getParentFile(), tempFile.getName() + STATE_SUFFIX);
+		FileUtil.mkParentDirs(outFile);
+
+		RandomAccessFile data = null;
+		RandomAccessFile state = null;
+		try {
+			// 无validator时无法确认文件未改变，不续传
+			this.segments = StrUtil.isNotEmpty(this.validator) && tempFile.length() == this.length ? loadState(stateFile) : null;
+			data = new RandomAccessFile(tempFile, "rw");
+			state = new RandomAccessFile(stateFile, "rw");
+			if (null == this.segments) {
+				// 新下载，预分配文件大小
+				this.segments = split(threadCount);
+				data.setLength(this.length);
+				state.setLength(0);
+				state.write(encodeState());
+			}
+			this.dataChannel = data.getChannel();
+			this.stateChannel = state.getChannel();
+
+			runSegments(threadCount);
+
+			this.dataChannel.force(false);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			IoUtil.close(data);
+			IoUtil.close(state);
+		}
+
+		FileUtil.del(stateFile);
+		FileUtil.rename(tempFile, outFile.getName(), true);
+	}
+
+	/**
+	 * 并行下载所有未完成的段，任意一段失败时停止其它段并抛出异常，已下载的位置保留在状态文件中
+	 *
+	 * @param threadCount 最大并行连接数
+	 */
+	private void runSegments(int threadCount) {
+		final List<Segment> pending = new ArrayList<>();
+		for (Segment segment : this.segments) {
+			this.downloaded += segment.position - segment.start;
+			if (false == segment.isDone()) {
+				pending.add(segment);
+			}
+		}
+		if (null != this.streamProgress) {
+			this.streamProgress.start();
+			this.streamProgress.progress(this.length, this.downloaded);
+		}
+		if (pending.isEmpty()) {
+			finishProgress();
+			return;
+		}
+
+		final int poolSize = Math.min(threadCount, pending.size());
+		final ExecutorService executor = ExecutorBuilder.create()
+				.setCorePoolSize(poolSize)
+				.setMaxPoolSize(poolSize)
+				.setWorkQueue(new LinkedBlockingQueue<>())
+				.setThreadFactory(ThreadFactoryBuilder.create().setNamePrefix("hutool-download-").setDaemon(true).build())
+				.build();
+		RuntimeException failure = null;
+		try {
+			final List<Future<?>> futures = new ArrayList<>(pending.size());
+			for (Segment segment : pending) {
+				futures.add(executor.submit(() -> downloadSegment(segment)));
+			}
+			// 等待所有段结束，保证状态文件关闭前各段都已停止写入
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					this.stopped = true;
+					if (null == failure) {
+						final Throwable cause = e.getCause();
+						failure = cause instanceof RuntimeException ? (RuntimeException) cause : new HttpException(cause);
+					}
+				} catch (InterruptedException e) {
+					this.stopped = true;
+					Thread.currentThread().interrupt();
+					if (null == failure) {
+						failure = new HttpException(e);
+					}
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+		if (null != failure) {
+			throw failure;
+		}
+		finishProgress();
+	}
+
+	/**
+	 * 下载一段，失败时立即通知其它段停止
+	 *
+	 * @param segment 段
+	 */
+	private void downloadSegment(Segment segment) {
+		if (this.stopped) {
+			// 其它段已失败，排队中的段不再开始
+			return;
+		}
+		try {
+			doDownloadSegment(segment);
+		} catch (RuntimeException | Error e) {
+			this.stopped = true;
+			throw e;
+		}
+	}
+
+	/**
+	 * 下载一段，读取的数据写入临时文件的对应位置
+	 *
+	 * @param segment 段
+	 */
+	private void doDownloadSegment(Segment segment) {
+		final HttpResponse response = request(this.url, this.timeout,
+				StrUtil.format("bytes={}-{}", segment.position, segment.end), this.validator);
+		try {
+			if (HttpStatus.HTTP_PARTIAL != response.getStatus()) {
+				throw new HttpException("Server response status [{}] for range [{}-{}], file may be changed",
+						response.getStatus(), segment.position, segment.end);
+			}
+			final String contentRange = response.header(Header.CONTENT_RANGE);
+			if (false == StrUtil.startWith(contentRange, StrUtil.format("bytes {}-", segment.position))) {
+				throw new HttpException("Invalid Content-Range [{}] for range [{}-{}]", contentRange, segment.position, segment.end);
+			}
+
+			final InputStream in = response.bodyStream();
+			final byte[] buffer = new byte[BUFFER_SIZE];
+			final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+			while (false == segment.isDone() && false == this.stopped) {
+				final int n = in.read(buffer, 0, (int) Math.min(buffer.length, segment.end - segment.position + 1));
+				if (n < 0) {
+					throw new HttpException("Premature EOF at {} for range [{}-{}]", segment.position, segment.start, segment.end);
+				}
+				byteBuffer.clear().limit(n);
+				while (byteBuffer.hasRemaining()) {
+					this.dataChannel.write(byteBuffer, segment.position + byteBuffer.position());
+				}
+				segment.position += n;
+				addProgress(n);
+				saveStateIfDue();
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			IoUtil.close(response);
+			saveQuietly();
+		}
+	}
+
+	/**
+	 * 按并行数和最小段长度拆分文件
+	 *
+	 * @param threadCount 最大并行连接数
+	 * @return 段列表
+	 */
+	private List<Segment> split(int threadCount) {
+		final int count = (int) Math.max(1, Math.min(threadCount, this.length / MIN_SEGMENT_SIZE));
+		final long size = this.length / count;
+		final List<Segment> result = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final long start = i * size;
+			final long end = (i == count - 1) ? this.length - 1 : start + size - 1;
+			result.add(new Segment(start, end, start));
+		}
+		return result;
+	}
+
+	/**
+	 * 增加已下载字节数并回调进度
+	 *
+	 * @param n 本次下载的字节数
+	 */
+	private void addProgress(int n) {
+		if (null == this.streamProgress) {
+			return;
+		}
+		// 多个段并发回调，StreamProgress的实现无需考虑线程安全
+		synchronized (this.streamProgress) {
+			this.downloaded += n;
+			this.streamProgress.progress(this.length, this.downloaded);
+		}
+	}
+
+	/**
+	 * 回调下载结束
+	 */
+	private void finishProgress() {
+		if (null != this.streamProgress) {
+			this.streamProgress.finish();
+		}
+	}
+
+	// ---------------------------------------------------------------- State start
+
+	/**
+	 * 编码状态文件，格式为：标识、总长度、validator、段数，之后每段依次为开始位置、结束位置、下载位置
+	 *
+	 * @return 状态文件内容
+	 */
+	private byte[] encodeState() {
+		final byte[] validatorBytes = StrUtil.bytes(this.validator, CharsetUtil.CHARSET_UTF_8);
+		final ByteBuffer buffer = ByteBuffer.allocate(headerSize(validatorBytes.length) + this.segments.size() * 24);
+		buffer.putInt(STATE_MAGIC).putLong(this.length).putInt(validatorBytes.length).put(validatorBytes).putInt(this.segments.size());
+		for (Segment segment : this.segments) {
+			buffer.putLong(segment.start).putLong(segment.end).putLong(segment.position);
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * 读取状态文件，文件长度或validator与本次不一致时返回{@code null}，表示需重新下载
+	 *
+	 * @param stateFile 状态文件
+	 * @return 段列表或{@code null}
+	 */
+	private List<Segment> loadState(File stateFile) {
+		if (false == stateFile.isFile()) {
+			return null;
+		}
+		final ByteBuffer buffer = ByteBuffer.wrap(FileUtil.readBytes(stateFile));
+		try {
+			if (STATE_MAGIC != buffer.getInt() || this.length != buffer.getLong()) {
+				return null;
+			}
+			final byte[] validatorBytes = new byte[buffer.getInt()];
+			buffer.get(validatorBytes);
+			if (false == this.validator.equals(StrUtil.str(validatorBytes, CharsetUtil.CHARSET_UTF_8))) {
+				return null;
+			}
+			final int count = buffer.getInt();
+			final List<Segment> result = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				final long start = buffer.getLong();
+				final long end = buffer.getLong();
+				final long position = buffer.getLong();
+				if (start > position || position > end + 1 || end >= this.length) {
+					return null;
+				}
+				result.add(new Segment(start, end, position));
+			}
+			return result;
+		} catch (BufferUnderflowException | NegativeArraySizeException e) {
+			// 状态文件不完整
+			return null;
+		}
+	}
+
+	/**
+	 * 距上次写入超过{@link #SAVE_INTERVAL_NANOS}时写入所有段的下载位置，多个段同时到期时只由一个段写入
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void saveStateIfDue() throws IOException {
+		final long last = this.lastSaveTime.get();
+		final long now = System.nanoTime();
+		if (now - last >= SAVE_INTERVAL_NANOS && this.lastSaveTime.compareAndSet(last, now)) {
+			saveState();
+		}
+	}
+
+	/**
+	 * 将所有段的下载位置写入状态文件，每次写入只将数据刷入磁盘一次<br>
+	 * 先记录位置再刷入数据，保证系统崩溃后记录的位置之前的数据也已在文件中
+	 *
+	 * @throws IOException IO异常
+	 */
+	private synchronized void saveState() throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocate(this.segments.size() * 24);
+		for (Segment segment : this.segments) {
+			buffer.putLong(segment.start).putLong(segment.end).putLong(segment.position);
+		}
+		buffer.flip();
+		this.dataChannel.force(false);
+		final long offset = headerSize(StrUtil.bytes(this.validator, CharsetUtil.CHARSET_UTF_8).length);
+		while (buffer.hasRemaining()) {
+			this.stateChannel.write(buffer, offset + buffer.position());
+		}
+	}
+
+	/**
+	 * 将所有段的下载位置写入状态文件，忽略异常
+	 */
+	private void saveQuietly() {
+		try {
+			saveState();
+		} catch (IOException e) {
+			// 只影响断点续传的位置
+		}
+	}
+
+	/**
+	 * 状态文件中段列表之前的长度
+	 *
+	 * @param validatorLength validator的字节数
+	 * @return 长度
+	 */
+	private static int headerSize(int validatorLength) {
+		return 4 + 8 + 4 + validatorLength + 4;
+	}
+	// ---------------------------------------------------------------- State end
+
+	/**
+	 * 发送Range请求
+	 *
+	 * @param url       请求的url
+	 * @param timeout   超时时间
+	 * @param range     Range头
+	 * @param validator If-Range头，为空不发送
+	 * @return 响应，已检查为成功状态
+	 */
+	private static HttpResponse request(String url, int timeout, String range, String validator) {
+		final HttpRequest request = HttpUtil.createGet(url, true).header(Header.RANGE, range);
+		if (StrUtil.isNotEmpty(validator)) {
+			// 文件改变时服务端返回200和完整内容，避免拼接出不一致的文件
+			request.header(Header.IF_RANGE, validator);
+		}
+		if (timeout > 0) {
+			request.timeout(timeout);
+		}
+
+		final HttpResponse response = request.executeAsync();
+		if (response.isOk() || HttpStatus.HTTP_REQUESTED_RANGE_NOT_SATISFIABLE == response.getStatus()) {
+			return response;
+		}
+		IoUtil.close(response);
+		throw new HttpException("Server response error with status code: [{}]", response.getStatus());
+	}
+
+	/**
+	 * 从Content-Range中解析文件总长度，如"bytes 0-0/1024"
+	 *
+	 * @param contentRange Content-Range头
+	 * @return 总长度，未知为-1
+	 */
+	private static long parseLength(String contentRange) {
+		final String total = StrUtil.subAfter(contentRange, '/', true);
+		if (StrUtil.isBlank(total) || false == StrUtil.isNumeric(total.trim())) {
+			return -1;
+		}
+		return Long.parseLong(total.trim());
+	}
+
+	/**
+	 * 获取用于判断文件是否改变的标识，优先使用强ETag，弱ETag不能用于If-Range
+	 *
+	 * @param response 响应
+	 * @return ETag或Last-Modified，都没有时为空串
+	 */
+	private static String getValidator(HttpResponse response) {
+		final String etag = response.header(Header.ETAG);
+		if (StrUtil.isNotBlank(etag) && false == StrUtil.startWith(etag, "W/")) {
+			return etag;
+		}
+		return StrUtil.nullToEmpty(response.header(Header.LAST_MODIFIED));
+	}
+
+	/**
+	 * 下载段，结束位置包含在内
+	 */
+	private static final class Segment {
+		final long start;
+		final long end;
+		/**
+		 * 下一个要下载的位置，只由下载此段的线程在数据写入后修改，写入状态文件时由其它线程读取
+		 */
+		volatile long position;
+
+		Segment(long start, long end, long position) {
+			this.start = start;
+			this.end = end;
+			this.position = position;
+		}
+
+		boolean isDone() {
+			return this.position > this.end;
+		}
+	}
+}
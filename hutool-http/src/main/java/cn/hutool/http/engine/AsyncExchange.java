@@ -0,0 +1,214 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.io.IoUtil;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.InterruptedByTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 一次异步的请求响应交换：连接、TLS握手、写出请求、读取并解析响应，全部通过回调完成，不阻塞线程<br>
+ * 回调在{@link AsyncHttpEngine}的IO线程中执行。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class AsyncExchange {
+
+	private static final int READ_BUFFER_SIZE = 16 * 1024;
+
+	private final AsyncHttpEngine engine;
+	private final AsyncHttpURLConnection conn;
+	private final CompletableFuture<HttpURLConnection> future = new CompletableFuture<>();
+	private final ResponseParser parser;
+	private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+	private AsynchronousSocketChannel channel;
+	private AsyncTransport transport;
+	private SSLEngine sslEngine;
+	private ScheduledFuture<?> connectTimer;
+	private volatile boolean connectTimedOut;
+
+	/**
+	 * 构造
+	 *
+	 * @param engine 异步引擎
+	 * @param conn   连接，请求已准备好
+	 */
+	AsyncExchange(AsyncHttpEngine engine, AsyncHttpURLConnection conn) {
+		this.engine = engine;
+		this.conn = conn;
+		this.parser = new ResponseParser(conn.getRequestMethod());
+	}
+
+	/**
+	 * 开始交换
+	 *
+	 * @return 响应完整接收后完成的{@link CompletableFuture}
+	 */
+	CompletableFuture<HttpURLConnection> start() {
+		final URL url = this.conn.getURL();
+		try {
+			final boolean https = "https".equalsIgnoreCase(url.getProtocol());
+			if (https) {
+				this.sslEngine = this.engine.createSslEngine(url.getHost(), getPort(url),
+						this.conn.getSSLSocketFactory(), this.conn.getHostnameVerifier());
+			}
+
+			final InetSocketAddress address = new InetSocketAddress(url.getHost(), getPort(url));
+			if (address.isUnresolved()) {
+				throw new UnknownHostException(url.getHost());
+			}
+			this.channel = this.engine.openChannel();
+			final int connectTimeout = this.conn.getConnectTimeout();
+			if (connectTimeout > 0) {
+				this.connectTimer = this.engine.schedule(() -> {
+					this.connectTimedOut = true;
+					IoUtil.close(this.channel);
+				}, connectTimeout);
+			}
+			this.channel.connect(address, null, AsyncTransport.handler(v -> onConnected(), this::fail));
+		} catch (IOException | RuntimeException e) {
+			fail(e);
+		}
+		return this.future;
+	}
+
+	/**
+	 * 连接建立后，HTTPS先握手，再写出请求
+	 */
+	private void onConnected() {
+		if (null != this.connectTimer) {
+			this.connectTimer.cancel(false);
+		}
+		final PlainTransport plain = new PlainTransport(this.channel, this.conn.getReadTimeout());
+		if (null == this.sslEngine) {
+			this.transport = plain;
+			writeRequest();
+			return;
+		}
+
+		final TlsTransport tls = new TlsTransport(plain, this.sslEngine);
+		this.transport = tls;
+		tls.handshake(AsyncTransport.handler(v -> {
+			try {
+				verifyHostname();
+			} catch (IOException e) {
+				fail(e);
+				return;
+			}
+			writeRequest();
+		}, this::fail));
+	}
+
+	/**
+	 * 使用自定义的{@link HostnameVerifier}验证域名，默认验证器在握手时已由JDK验证
+	 *
+	 * @throws SSLPeerUnverifiedException 验证失败
+	 */
+	private void verifyHostname() throws SSLPeerUnverifiedException {
+		final HostnameVerifier verifier = this.conn.getHostnameVerifier();
+		final String host = this.conn.getURL().getHost();
+		if (verifier != HttpsURLConnection.getDefaultHostnameVerifier()
+				&& false == verifier.verify(host, this.sslEngine.getSession())) {
+			throw new SSLPeerUnverifiedException("Hostname " + host + " not verified");
+		}
+	}
+
+	/**
+	 * 写出请求
+	 */
+	private void writeRequest() {
+		this.transport.write(ByteBuffer.wrap(this.conn.encodeRequest()), AsyncTransport.handler(v -> readResponse(), this::fail));
+	}
+
+	/**
+	 * 读取响应
+	 */
+	private void readResponse() {
+		this.readBuffer.clear();
+		this.transport.read(this.readBuffer, AsyncTransport.handler(this::onRead, this::fail));
+	}
+
+	/**
+	 * 解析读取到的数据，响应未完整时继续读取
+	 *
+	 * @param n 读取的字节数，-1表示连接已关闭
+	 */
+	private void onRead(int n) {
+		try {
+			if (n < 0) {
+				if (false == this.parser.onEof()) {
+					throw new EOFException("Unexpected end of stream");
+				}
+				complete();
+				return;
+			}
+			this.readBuffer.flip();
+			if (this.parser.feed(this.readBuffer)) {
+				complete();
+			} else {
+				readResponse();
+			}
+		} catch (IOException | RuntimeException e) {
+			fail(e);
+		}
+	}
+
+	/**
+	 * 响应完整接收，关闭连接
+	 */
+	private void complete() {
+		final SSLSession session = null == this.sslEngine ? null : this.sslEngine.getSession();
+		this.transport.close();
+		this.conn.setResponse(this.parser.getHead(), this.parser.getBody(), session);
+		this.future.complete(this.conn);
+	}
+
+	/**
+	 * 交换失败，关闭连接，超时异常转换为{@link SocketTimeoutException}
+	 *
+	 * @param e 异常
+	 */
+	private void fail(Throwable e) {
+		if (null != this.connectTimer) {
+			this.connectTimer.cancel(false);
+		}
+		if (null != this.transport) {
+			this.transport.close();
+		} else {
+			IoUtil.close(this.channel);
+		}
+
+		if (this.connectTimedOut) {
+			e = new SocketTimeoutException("connect timed out");
+		} else if (e instanceof InterruptedByTimeoutException) {
+			e = new SocketTimeoutException("Read timed out");
+		}
+		this.future.completeExceptionally(e);
+	}
+
+	/**
+	 * 获取URL中的端口，未指定时使用协议的默认端口
+	 *
+	 * @param url URL
+	 * @return 端口
+	 */
+	private static int getPort(URL url) {
+		return -1 == url.getPort() ? url.getDefaultPort() : url.getPort();
+	}
+}
@@ -0,0 +1,220 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.net.SSLUtil;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import cn.hutool.http.ssl.DefaultSSLInfo;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.Proxy;
+import java.net.URL;
+import java.nio.channels.AsynchronousChannelGroup;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于AIO（{@link AsynchronousSocketChannel}）的非阻塞Http客户端引擎<br>
+ * 连接、TLS握手、收发数据均通过回调完成，少量IO线程即可同时处理大量请求，等待响应期间不占用线程。
+ * 通过{@link cn.hutool.http.HttpRequest#sendAsync(AsyncHttpEngine)}使用：
+ *
+ * <pre>
+ * CompletableFuture&lt;HttpResponse&gt; future = HttpRequest.get(url).sendAsync();
+ * future.thenAccept(response -&gt; Console.log(response.body()));
+ * </pre>
+ * <p>
+ * 说明：
+ * <ul>
+ *     <li>请求体和响应体完整缓存在内存中，不适合上传下载大文件；</li>
+ *     <li>每次请求使用新的连接，请求完成后关闭；</li>
+ *     <li>HTTPS仅支持默认的SSLSocketFactory，此时使用构造时传入的{@link SSLContext}，
+ *     自定义SSLSocketFactory和使用代理的请求由{@link cn.hutool.http.HttpRequest}在线程池中以阻塞方式执行；</li>
+ *     <li>DNS解析在调用线程中同步执行；</li>
+ *     <li>{@link CompletableFuture}的回调默认在IO线程中执行，耗时操作应使用xxxAsync方法切换到其它线程。</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class AsyncHttpEngine implements HttpEngine {
+
+	private static volatile AsyncHttpEngine defaultEngine;
+
+	/**
+	 * 获取默认的异步引擎，IO线程为守护线程，无需关闭
+	 *
+	 * @return 默认的异步引擎
+	 */
+	public static AsyncHttpEngine getDefault() {
+		AsyncHttpEngine result = defaultEngine;
+		if (null == result) {
+			synchronized (AsyncHttpEngine.class) {
+				result = defaultEngine;
+				if (null == result) {
+					result = new AsyncHttpEngine();
+					defaultEngine = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	private final AsynchronousChannelGroup group;
+	private final ScheduledExecutorService timer;
+	private final SSLContext sslContext;
+
+	/**
+	 * 构造，IO线程数为CPU核数，HTTPS默认信任所有证书（与{@link DefaultSSLInfo#DEFAULT_SSF}一致）
+	 */
+	public AsyncHttpEngine() {
+		this(Runtime.getRuntime().availableProcessors(), null);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param ioThreads  IO线程数
+	 * @param sslContext HTTPS使用的{@link SSLContext}，{@code null}表示信任所有证书
+	 * @throws IORuntimeException 创建线程组失败
+	 */
+	public AsyncHttpEngine(int ioThreads, SSLContext sslContext) throws IORuntimeException {
+		Assert.isTrue(ioThreads > 0, "IO threads must be > 0!");
+		try {
+			this.group = AsynchronousChannelGroup.withFixedThreadPool(ioThreads,
+					ThreadFactoryBuilder.create().setNamePrefix("hutool-http-async-").setDaemon(true).build());
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		this.timer = Executors.newSingleThreadScheduledExecutor(
+				ThreadFactoryBuilder.create().setNamePrefix("hutool-http-async-timer-").setDaemon(true).build());
+		this.sslContext = null == sslContext ? SSLUtil.createSSLContext(null) : sslContext;
+	}
+
+	@Override
+	public HttpURLConnection open(URL url, Proxy proxy) throws IOException {
+		final String protocol = url.getProtocol();
+		if (("http".equalsIgnoreCase(protocol) || "https".equalsIgnoreCase(protocol)) && Route.isDirect(url, proxy)) {
+			return new AsyncHttpURLConnection(url, this);
+		}
+		return JdkHttpEngine.INSTANCE.open(url, proxy);
+	}
+
+	/**
+	 * 连接能否非阻塞发送，即由此引擎打开且未使用代理和自定义的SSLSocketFactory
+	 *
+	 * @param conn 连接
+	 * @return 能否非阻塞发送
+	 */
+	public boolean isNonBlocking(HttpURLConnection conn) {
+		if (false == conn instanceof AsyncHttpURLConnection || ((AsyncHttpURLConnection) conn).getEngine() != this) {
+			return false;
+		}
+		return false == "https".equalsIgnoreCase(conn.getURL().getProtocol())
+				|| null != getSslContext(((AsyncHttpURLConnection) conn).getSSLSocketFactory());
+	}
+
+	/**
+	 * 非阻塞发送请求，请求头和请求体需已设置完毕
+	 *
+	 * @param conn 此引擎打开的连接，见{@link #isNonBlocking(HttpURLConnection)}
+	 * @return 响应完整接收后完成的{@link CompletableFuture}，结果为传入的连接，此时读取响应不再阻塞
+	 * @throws IllegalArgumentException 连接不能非阻塞发送
+	 */
+	public CompletableFuture<HttpURLConnection> send(HttpURLConnection conn) throws IllegalArgumentException {
+		Assert.isTrue(isNonBlocking(conn), "Connection can not be sent by this engine: {}", conn.getURL());
+		return ((AsyncHttpURLConnection) conn).sendAsync();
+	}
+
+	/**
+	 * 关闭引擎，进行中的请求将失败
+	 */
+	@Override
+	public void close() {
+		this.timer.shutdownNow();
+		try {
+			this.group.shutdownNow();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 打开异步通道
+	 *
+	 * @return 异步通道
+	 * @throws IOException IO异常
+	 */
+	AsynchronousSocketChannel openChannel() throws IOException {
+		return AsynchronousSocketChannel.open(this.group);
+	}
+
+	/**
+	 * 延迟执行任务，用于连接超时
+	 *
+	 * @param task  任务
+	 * @param delay 延迟，单位毫秒
+	 * @return {@link ScheduledFuture}
+	 */
+	ScheduledFuture<?> schedule(Runnable task, long delay) {
+		return this.timer.schedule(task, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 创建客户端模式的{@link SSLEngine}
+	 *
+	 * @param host             主机
+	 * @param port             端口
+	 * @param ssf              连接设置的{@link SSLSocketFactory}
+	 * @param hostnameVerifier 连接设置的{@link HostnameVerifier}，JDK默认验证器时使用JDK标准的域名验证
+	 * @return {@link SSLEngine}
+	 * @throws SSLException 不支持自定义的{@link SSLSocketFactory}
+	 */
+	SSLEngine createSslEngine(String host, int port, SSLSocketFactory ssf, HostnameVerifier hostnameVerifier) throws SSLException {
+		final SSLContext context = getSslContext(ssf);
+		if (null == context) {
+			throw new SSLException("Custom SSLSocketFactory is not supported by AsyncHttpEngine, use AsyncHttpEngine(int, SSLContext) instead.");
+		}
+		final SSLEngine sslEngine = context.createSSLEngine(host, port);
+		sslEngine.setUseClientMode(true);
+		if (hostnameVerifier == HttpsURLConnection.getDefaultHostnameVerifier()) {
+			final SSLParameters parameters = sslEngine.getSSLParameters();
+			parameters.setEndpointIdentificationAlgorithm("HTTPS");
+			sslEngine.setSSLParameters(parameters);
+		}
+		return sslEngine;
+	}
+
+	/**
+	 * 根据连接设置的{@link SSLSocketFactory}获取对应的{@link SSLContext}<br>
+	 * Hutool默认的SSLSocketFactory对应引擎的{@link SSLContext}，JDK默认的对应{@link SSLContext#getDefault()}
+	 *
+	 * @param ssf {@link SSLSocketFactory}
+	 * @return {@link SSLContext}，不支持时返回{@code null}
+	 */
+	private SSLContext getSslContext(SSLSocketFactory ssf) {
+		if (null == ssf || DefaultSSLInfo.DEFAULT_SSF == ssf) {
+			return this.sslContext;
+		}
+		if (HttpsURLConnection.getDefaultSSLSocketFactory() == ssf) {
+			try {
+				return SSLContext.getDefault();
+			} catch (NoSuchAlgorithmException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,286 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.util.StrUtil;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ProtocolException;
+import java.net.URL;
+import java.security.cert.Certificate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * {@link AsyncHttpEngine}使用的{@link HttpURLConnection}实现<br>
+ * 请求体缓存在内存中，发送请求时通过{@link AsyncExchange}异步收发，响应体完整读取到内存后完成。<br>
+ * 通过{@link AsyncHttpEngine#send(HttpURLConnection)}发送时不阻塞，直接调用{@link #getResponseCode()}等方法时阻塞等待响应。
+ * 每次请求使用新的连接，请求完成后关闭。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class AsyncHttpURLConnection extends HttpsURLConnection {
+
+	private final AsyncHttpEngine engine;
+	private Map<String, List<String>> requestHeaders;
+	private FastByteArrayOutputStream bufferedBody;
+	private CompletableFuture<HttpURLConnection> future;
+
+	private volatile ResponseHead responseHead;
+	private byte[] responseBody;
+	private SSLSession sslSession;
+
+	/**
+	 * 构造
+	 *
+	 * @param url    URL
+	 * @param engine 异步引擎
+	 */
+	AsyncHttpURLConnection(URL url, AsyncHttpEngine engine) {
+		super(url);
+		this.engine = engine;
+	}
+
+	@Override
+	public void setRequestMethod(String method) throws ProtocolException {
+		if (connected) {
+			throw new ProtocolException("Can't reset method: already connected");
+		}
+		if (StrUtil.isBlank(method)) {
+			throw new ProtocolException("Invalid HTTP method: " + method);
+		}
+		this.method = method;
+	}
+
+	@Override
+	public void setRequestProperty(String key, String value) {
+		HttpCodec.checkHeader(key, value);
+		super.setRequestProperty(key, value);
+	}
+
+	@Override
+	public void addRequestProperty(String key, String value) {
+		HttpCodec.checkHeader(key, value);
+		super.addRequestProperty(key, value);
+	}
+
+	@Override
+	public boolean usingProxy() {
+		return false;
+	}
+
+	@Override
+	public void connect() {
+		if (connected) {
+			return;
+		}
+		// 实际连接在发送请求时建立
+		this.requestHeaders = getRequestProperties();
+		HttpCodec.checkRequestHead(method, url, this.requestHeaders);
+		connected = true;
+	}
+
+	@Override
+	public void disconnect() {
+		// 每次请求完成后连接即关闭，无需处理
+	}
+
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		if (false == doOutput) {
+			throw new ProtocolException("cannot write to a URLConnection if doOutput=false - call setDoOutput(true)");
+		}
+		if (null != this.future) {
+			throw new ProtocolException("Cannot write output after reading input.");
+		}
+		connect();
+		// 流模式也缓存请求体，发送时一次写出
+		if (null == this.bufferedBody) {
+			this.bufferedBody = new FastByteArrayOutputStream();
+		}
+		return this.bufferedBody;
+	}
+
+	@Override
+	public int getResponseCode() throws IOException {
+		return awaitResponse().code;
+	}
+
+	@Override
+	public String getResponseMessage() throws IOException {
+		return awaitResponse().message;
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		if (false == doInput) {
+			throw new ProtocolException("Cannot read from URLConnection if doInput=false (call setDoInput(true))");
+		}
+		final int code = awaitResponse().code;
+		if (code >= HTTP_BAD_REQUEST) {
+			if (HTTP_NOT_FOUND == code || HTTP_GONE == code) {
+				throw new FileNotFoundException(url.toString());
+			}
+			throw new IOException(StrUtil.format("Server returned HTTP response code: {} for URL: {}", code, url));
+		}
+		return new ByteArrayInputStream(this.responseBody);
+	}
+
+	@Override
+	public InputStream getErrorStream() {
+		final ResponseHead head = this.responseHead;
+		if (null != head && head.code >= HTTP_BAD_REQUEST) {
+			return new ByteArrayInputStream(this.responseBody);
+		}
+		return null;
+	}
+
+	@Override
+	public Map<String, List<String>> getHeaderFields() {
+		try {
+			return awaitResponse().getHeaderFields();
+		} catch (IOException e) {
+			return Collections.emptyMap();
+		}
+	}
+
+	@Override
+	public String getHeaderField(String name) {
+		try {
+			return awaitResponse().getHeaderField(name);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public String getHeaderFieldKey(int n) {
+		try {
+			return awaitResponse().getHeaderFieldKey(n);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public String getHeaderField(int n) {
+		try {
+			return awaitResponse().getHeaderField(n);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public String getCipherSuite() {
+		return getSslSession().getCipherSuite();
+	}
+
+	@Override
+	public Certificate[] getLocalCertificates() {
+		return getSslSession().getLocalCertificates();
+	}
+
+	@Override
+	public Certificate[] getServerCertificates() throws SSLPeerUnverifiedException {
+		return getSslSession().getPeerCertificates();
+	}
+
+	/**
+	 * 获取打开此连接的引擎
+	 *
+	 * @return 异步引擎
+	 */
+	AsyncHttpEngine getEngine() {
+		return this.engine;
+	}
+
+	/**
+	 * 异步发送请求，重复调用返回同一结果
+	 *
+	 * @return 响应完整接收后完成的{@link CompletableFuture}
+	 */
+	CompletableFuture<HttpURLConnection> sendAsync() {
+		if (null == this.future) {
+			connect();
+			this.future = new AsyncExchange(this.engine, this).start();
+		}
+		return this.future;
+	}
+
+	/**
+	 * 编码请求，包括请求行、请求头和请求体
+	 *
+	 * @return 请求数据
+	 */
+	byte[] encodeRequest() {
+		final byte[] head = HttpCodec.encodeRequestHead(method, url, this.requestHeaders,
+				null == this.bufferedBody ? -1 : this.bufferedBody.size(), false, "close");
+		if (null == this.bufferedBody || 0 == this.bufferedBody.size()) {
+			return head;
+		}
+		final FastByteArrayOutputStream out = new FastByteArrayOutputStream(head.length + this.bufferedBody.size());
+		out.write(head, 0, head.length);
+		this.bufferedBody.writeTo(out);
+		return out.toByteArray();
+	}
+
+	/**
+	 * 设置响应，由{@link AsyncExchange}在响应完整接收后调用
+	 *
+	 * @param head       响应头
+	 * @param body       响应体
+	 * @param sslSession HTTPS连接的{@link SSLSession}，HTTP为{@code null}
+	 */
+	void setResponse(ResponseHead head, byte[] body, SSLSession sslSession) {
+		this.responseBody = body;
+		this.sslSession = sslSession;
+		this.responseHead = head;
+	}
+
+	/**
+	 * 发送请求（如未发送）并阻塞等待响应
+	 *
+	 * @return 响应头
+	 * @throws IOException IO异常
+	 */
+	private ResponseHead awaitResponse() throws IOException {
+		final ResponseHead head = this.responseHead;
+		if (null != head) {
+			return head;
+		}
+		try {
+			sendAsync().join();
+		} catch (CompletionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			throw new IOException(cause);
+		}
+		return this.responseHead;
+	}
+
+	/**
+	 * 获取HTTPS连接的{@link SSLSession}
+	 *
+	 * @return {@link SSLSession}
+	 */
+	private SSLSession getSslSession() {
+		if (null == this.sslSession) {
+			throw new IllegalStateException("connection not yet open");
+		}
+		return this.sslSession;
+	}
+}
@@ -0,0 +1,59 @@
+package cn.hutool.http.engine;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.channels.CompletionHandler;
+import java.util.function.Consumer;
+
+/**
+ * 异步传输层，对明文连接和TLS连接提供统一的异步读写
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+interface AsyncTransport extends Closeable {
+
+	/**
+	 * 异步读取数据
+	 *
+	 * @param dst     目标缓存，写模式
+	 * @param handler 回调，参数为读取的字节数，-1表示连接已关闭
+	 */
+	void read(ByteBuffer dst, CompletionHandler<Integer, Void> handler);
+
+	/**
+	 * 异步写出全部数据
+	 *
+	 * @param src     数据，读模式
+	 * @param handler 回调，全部写出后调用
+	 */
+	void write(ByteBuffer src, CompletionHandler<Void, Void> handler);
+
+	/**
+	 * 关闭连接
+	 */
+	@Override
+	void close();
+
+	/**
+	 * 创建回调
+	 *
+	 * @param <V>       结果类型
+	 * @param onSuccess 成功时的处理
+	 * @param onError   失败时的处理
+	 * @return {@link CompletionHandler}
+	 */
+	static <V> CompletionHandler<V, Void> handler(Consumer<V> onSuccess, Consumer<Throwable> onError) {
+		return new CompletionHandler<V, Void>() {
+			@Override
+			public void completed(V result, Void attachment) {
+				onSuccess.accept(result);
+			}
+
+			@Override
+			public void failed(Throwable exc, Void attachment) {
+				onError.accept(exc);
+			}
+		};
+	}
+}
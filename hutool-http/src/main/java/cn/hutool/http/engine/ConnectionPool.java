@@ -0,0 +1,355 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import cn.hutool.http.HttpException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Http连接池<br>
+ * 连接按路由（协议、主机、端口及HTTPS配置）分组，每个路由的连接数（使用中+空闲）不超过最大值，
+ * 达到最大值时获取连接的请求等待其它请求归还连接，超过等待时间抛出{@link HttpException}。<br>
+ * 空闲连接按后进先出复用，超过空闲时间的连接由后台线程定时关闭。<br>
+ * 清理空闲连接时，没有任何连接的路由连同其统计信息一起移除，避免每次请求使用不同的{@link javax.net.ssl.SSLSocketFactory}时路由无限增长。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class ConnectionPool implements Closeable {
+
+	/**
+	 * 默认每个路由的最大连接数
+	 */
+	public static final int DEFAULT_MAX_PER_ROUTE = 20;
+	/**
+	 * 默认空闲连接超时时间，单位毫秒
+	 */
+	public static final long DEFAULT_IDLE_TIMEOUT = 30 * 1000L;
+	/**
+	 * 默认获取连接的等待时间，单位毫秒
+	 */
+	public static final long DEFAULT_LEASE_TIMEOUT = 30 * 1000L;
+
+	private final int maxPerRoute;
+	private final long idleTimeout;
+	private final long leaseTimeout;
+	private final Map<Route, RoutePool> routePools = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService evictor;
+	private volatile boolean closed;
+
+	/**
+	 * 构造，使用默认配置
+	 */
+	public ConnectionPool() {
+		this(DEFAULT_MAX_PER_ROUTE, DEFAULT_IDLE_TIMEOUT, DEFAULT_LEASE_TIMEOUT);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param maxPerRoute  每个路由的最大连接数
+	 * @param idleTimeout  空闲连接超时时间，单位毫秒，小于等于0表示不按时间关闭空闲连接
+	 * @param leaseTimeout 获取连接的等待时间，单位毫秒，小于等于0表示一直等待
+	 */
+	public ConnectionPool(int maxPerRoute, long idleTimeout, long leaseTimeout) {
+		Assert.isTrue(maxPerRoute > 0, "Max connections per route must be > 0!");
+		this.maxPerRoute = maxPerRoute;
+		this.idleTimeout = idleTimeout;
+		this.leaseTimeout = leaseTimeout;
+
+		if (idleTimeout > 0) {
+			this.evictor = Executors.newSingleThreadScheduledExecutor(
+					ThreadFactoryBuilder.create().setNamePrefix("hutool-http-pool-evictor-").setDaemon(true).build());
+			final long period = Math.max(1000L, idleTimeout / 2);
+			this.evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+		} else {
+			this.evictor = null;
+		}
+	}
+
+	/**
+	 * 获取每个路由的最大连接数
+	 *
+	 * @return 每个路由的最大连接数
+	 */
+	public int getMaxPerRoute() {
+		return this.maxPerRoute;
+	}
+
+	/**
+	 * 获取空闲连接超时时间，单位毫秒
+	 *
+	 * @return 空闲连接超时时间
+	 */
+	public long getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	/**
+	 * 获取连接的等待时间，单位毫秒
+	 *
+	 * @return 获取连接的等待时间
+	 */
+	public long getLeaseTimeout() {
+		return this.leaseTimeout;
+	}
+
+	/**
+	 * 关闭所有超过空闲时间或已失效的空闲连接，并移除没有任何连接的路由<br>
+	 * 后台线程会定时调用此方法，也可手动调用
+	 */
+	public void evictIdle() {
+		final long now = System.currentTimeMillis();
+		for (RoutePool routePool : this.routePools.values()) {
+			final Iterator<PooledConnection> iterator = routePool.idle.iterator();
+			while (iterator.hasNext()) {
+				final PooledConnection conn = iterator.next();
+				if (isExpired(conn, now) || false == conn.isOpen()) {
+					// 可能同时被其它线程取出，移除成功时才关闭
+					if (routePool.idle.removeFirstOccurrence(conn)) {
+						conn.close();
+					}
+				}
+			}
+			// 与获取连接互斥，获取中或使用中的路由不移除
+			this.routePools.computeIfPresent(routePool.route, (route, current) ->
+					current == routePool && routePool.isUnused() ? null : current);
+		}
+	}
+
+	/**
+	 * 获取所有路由合计的统计信息
+	 *
+	 * @return 统计信息
+	 */
+	public PoolStats getStats() {
+		PoolStats total = new PoolStats(0, 0, 0, 0, 0, 0);
+		for (RoutePool routePool : this.routePools.values()) {
+			total = total.add(routePool.stats());
+		}
+		return total;
+	}
+
+	/**
+	 * 获取每个路由的统计信息，key为路由，格式为scheme://host:port
+	 *
+	 * @return 每个路由的统计信息
+	 */
+	public Map<String, PoolStats> getRouteStats() {
+		final Map<String, PoolStats> result = new LinkedHashMap<>();
+		for (RoutePool routePool : this.routePools.values()) {
+			// 同一地址不同HTTPS配置的连接合并统计
+			result.merge(routePool.route.toString(), routePool.stats(), PoolStats::add);
+		}
+		return result;
+	}
+
+	/**
+	 * 是否已关闭
+	 *
+	 * @return 是否已关闭
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * 关闭连接池，关闭所有空闲连接，使用中的连接在归还时关闭
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+		if (null != this.evictor) {
+			this.evictor.shutdownNow();
+		}
+		for (RoutePool routePool : this.routePools.values()) {
+			routePool.closeIdle();
+		}
+	}
+
+	/**
+	 * 获取连接，优先复用空闲连接，无可用空闲连接时新建连接<br>
+	 * 达到路由最大连接数时等待其它请求归还连接
+	 *
+	 * @param route   路由
+	 * @param forceNew 是否强制新建连接，用于复用的连接失效后重试
+	 * @param factory 新建连接的工厂
+	 * @return 连接
+	 * @throws IOException IO异常
+	 */
+	PooledConnection lease(Route route, boolean forceNew, ConnectionFactory factory) throws IOException {
+		if (this.closed) {
+			throw new HttpException("Connection pool is closed!");
+		}
+		// 在路由的原子操作中登记，避免路由在获取连接期间被移除
+		final RoutePool routePool = this.routePools.compute(route, (key, current) -> {
+			final RoutePool result = null == current ? new RoutePool(key) : current;
+			result.users.incrementAndGet();
+			return result;
+		});
+
+		boolean acquired = false;
+		boolean success = false;
+		try {
+			routePool.acquire();
+			acquired = true;
+			if (false == forceNew) {
+				final long now = System.currentTimeMillis();
+				PooledConnection conn;
+				while (null != (conn = routePool.idle.pollFirst())) {
+					if (isExpired(conn, now) || false == conn.isOpen()) {
+						conn.close();
+						continue;
+					}
+					conn.reused = true;
+					routePool.reused.incrementAndGet();
+					success = true;
+					return conn;
+				}
+			}
+
+			final PooledConnection conn = factory.create(route);
+			routePool.created.incrementAndGet();
+			success = true;
+			return conn;
+		} finally {
+			if (false == success) {
+				if (acquired) {
+					routePool.permits.release();
+				}
+				routePool.users.decrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * 归还连接
+	 *
+	 * @param conn     连接
+	 * @param reusable 连接是否可复用，不可复用的连接直接关闭
+	 */
+	void release(PooledConnection conn, boolean reusable) {
+		final RoutePool routePool = this.routePools.get(conn.route);
+		if (reusable && false == this.closed && conn.isOpen()) {
+			conn.idleSince = System.currentTimeMillis();
+			routePool.idle.offerFirst(conn);
+			// 放回时连接池可能刚好关闭
+			if (this.closed && routePool.idle.removeFirstOccurrence(conn)) {
+				conn.close();
+			}
+		} else {
+			conn.close();
+		}
+		routePool.permits.release();
+		// 空闲连接放入后才减少，清理时不会移除有空闲连接的路由
+		routePool.users.decrementAndGet();
+	}
+
+	/**
+	 * 空闲连接是否超时
+	 *
+	 * @param conn 连接
+	 * @param now  当前时间
+	 * @return 是否超时
+	 */
+	private boolean isExpired(PooledConnection conn, long now) {
+		return this.idleTimeout > 0 && now - conn.idleSince > this.idleTimeout;
+	}
+
+	/**
+	 * 新建连接的工厂
+	 */
+	@FunctionalInterface
+	interface ConnectionFactory {
+		/**
+		 * 新建并连接
+		 *
+		 * @param route 路由
+		 * @return 连接
+		 * @throws IOException IO异常
+		 */
+		PooledConnection create(Route route) throws IOException;
+	}
+
+	/**
+	 * 单个路由的连接池
+	 */
+	private class RoutePool {
+		final Route route;
+		final Deque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+		final Semaphore permits = new Semaphore(maxPerRoute, true);
+		final AtomicInteger pending = new AtomicInteger();
+		/**
+		 * 获取中和使用中的连接数，大于0时路由不会被移除
+		 */
+		final AtomicInteger users = new AtomicInteger();
+		final AtomicLong created = new AtomicLong();
+		final AtomicLong reused = new AtomicLong();
+
+		RoutePool(Route route) {
+			this.route = route;
+		}
+
+		/**
+		 * 获取连接许可，超过等待时间抛出{@link HttpException}
+		 *
+		 * @throws IOException 等待被中断
+		 */
+		void acquire() throws IOException {
+			this.pending.incrementAndGet();
+			try {
+				if (leaseTimeout > 0) {
+					if (false == this.permits.tryAcquire(leaseTimeout, TimeUnit.MILLISECONDS)) {
+						throw new HttpException("Timeout waiting for connection from pool: {}", this.route);
+					}
+				} else {
+					this.permits.acquire();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted waiting for connection from pool", e);
+			} finally {
+				this.pending.decrementAndGet();
+			}
+		}
+
+		/**
+		 * 是否没有任何连接，即没有获取中、使用中和空闲的连接
+		 *
+		 * @return 是否没有任何连接
+		 */
+		boolean isUnused() {
+			return 0 == this.users.get() && this.idle.isEmpty();
+		}
+
+		/**
+		 * 关闭所有空闲连接
+		 */
+		void closeIdle() {
+			PooledConnection conn;
+			while (null != (conn = this.idle.pollFirst())) {
+				conn.close();
+			}
+		}
+
+		PoolStats stats() {
+			final int idleCount = this.idle.size();
+			final int leased = maxPerRoute - this.permits.availablePermits();
+			return new PoolStats(leased, idleCount, this.pending.get(), maxPerRoute, this.created.get(), this.reused.get());
+		}
+	}
+}
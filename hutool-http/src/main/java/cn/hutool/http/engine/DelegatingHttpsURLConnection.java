@@ -0,0 +1,251 @@
+package cn.hutool.http.engine;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ProtocolException;
+import java.net.URL;
+import java.security.cert.Certificate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * HTTPS连接，请求和响应均交给被包装的{@link HttpURLConnection}处理<br>
+ * 与JDK的实现方式相同，HTTP和HTTPS共用同一个实现，只有HTTPS请求包装为{@link HttpsURLConnection}，
+ * 避免HTTP请求被当作HTTPS处理。被包装的连接在建立连接时通过{@link #getSSLSocketFactory()}和{@link #getHostnameVerifier()}获取HTTPS配置。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class DelegatingHttpsURLConnection extends HttpsURLConnection {
+
+	/**
+	 * 被包装的连接，字段名与JDK一致，{@link cn.hutool.http.HttpConnection}通过反射设置方法名时会同时设置此对象
+	 */
+	private final HttpURLConnection delegate;
+	private final SecureConnection secure;
+
+	/**
+	 * 构造
+	 *
+	 * @param url             URL
+	 * @param delegateFactory 根据此HTTPS连接创建被包装的连接
+	 * @param <T>             被包装连接的类型
+	 */
+	<T extends HttpURLConnection & SecureConnection> DelegatingHttpsURLConnection(URL url, Function<HttpsURLConnection, T> delegateFactory) {
+		super(url);
+		final T delegate = delegateFactory.apply(this);
+		this.delegate = delegate;
+		this.secure = delegate;
+	}
+
+	@Override
+	public String getCipherSuite() {
+		return this.secure.getCipherSuite();
+	}
+
+	@Override
+	public Certificate[] getLocalCertificates() {
+		return this.secure.getLocalCertificates();
+	}
+
+	@Override
+	public Certificate[] getServerCertificates() throws SSLPeerUnverifiedException {
+		return this.secure.getServerCertificates();
+	}
+
+	@Override
+	public void connect() throws IOException {
+		this.delegate.connect();
+		connected = true;
+	}
+
+	@Override
+	public void disconnect() {
+		this.delegate.disconnect();
+	}
+
+	@Override
+	public boolean usingProxy() {
+		return this.delegate.usingProxy();
+	}
+
+	@Override
+	public void setRequestMethod(String method) throws ProtocolException {
+		this.delegate.setRequestMethod(method);
+	}
+
+	@Override
+	public String getRequestMethod() {
+		return this.delegate.getRequestMethod();
+	}
+
+	@Override
+	public void setRequestProperty(String key, String value) {
+		this.delegate.setRequestProperty(key, value);
+	}
+
+	@Override
+	public void addRequestProperty(String key, String value) {
+		this.delegate.addRequestProperty(key, value);
+	}
+
+	@Override
+	public String getRequestProperty(String key) {
+		return this.delegate.getRequestProperty(key);
+	}
+
+	@Override
+	public Map<String, List<String>> getRequestProperties() {
+		return this.delegate.getRequestProperties();
+	}
+
+	@Override
+	public void setFixedLengthStreamingMode(int contentLength) {
+		this.delegate.setFixedLengthStreamingMode(contentLength);
+	}
+
+	@Override
+	public void setFixedLengthStreamingMode(long contentLength) {
+		this.delegate.setFixedLengthStreamingMode(contentLength);
+	}
+
+	@Override
+	public void setChunkedStreamingMode(int chunkLength) {
+		this.delegate.setChunkedStreamingMode(chunkLength);
+	}
+
+	@Override
+	public void setInstanceFollowRedirects(boolean followRedirects) {
+		this.delegate.setInstanceFollowRedirects(followRedirects);
+	}
+
+	@Override
+	public boolean getInstanceFollowRedirects() {
+		return this.delegate.getInstanceFollowRedirects();
+	}
+
+	@Override
+	public void setConnectTimeout(int timeout) {
+		this.delegate.setConnectTimeout(timeout);
+	}
+
+	@Override
+	public int getConnectTimeout() {
+		return this.delegate.getConnectTimeout();
+	}
+
+	@Override
+	public void setReadTimeout(int timeout) {
+		this.delegate.setReadTimeout(timeout);
+	}
+
+	@Override
+	public int getReadTimeout() {
+		return this.delegate.getReadTimeout();
+	}
+
+	@Override
+	public void setDoInput(boolean doInput) {
+		this.delegate.setDoInput(doInput);
+	}
+
+	@Override
+	public boolean getDoInput() {
+		return this.delegate.getDoInput();
+	}
+
+	@Override
+	public void setDoOutput(boolean doOutput) {
+		this.delegate.setDoOutput(doOutput);
+	}
+
+	@Override
+	public boolean getDoOutput() {
+		return this.delegate.getDoOutput();
+	}
+
+	@Override
+	public void setUseCaches(boolean useCaches) {
+		this.delegate.setUseCaches(useCaches);
+	}
+
+	@Override
+	public boolean getUseCaches() {
+		return this.delegate.getUseCaches();
+	}
+
+	@Override
+	public void setAllowUserInteraction(boolean allowUserInteraction) {
+		this.delegate.setAllowUserInteraction(allowUserInteraction);
+	}
+
+	@Override
+	public boolean getAllowUserInteraction() {
+		return this.delegate.getAllowUserInteraction();
+	}
+
+	@Override
+	public void setIfModifiedSince(long ifModifiedSince) {
+		this.delegate.setIfModifiedSince(ifModifiedSince);
+	}
+
+	@Override
+	public long getIfModifiedSince() {
+		return this.delegate.getIfModifiedSince();
+	}
+
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		return this.delegate.getOutputStream();
+	}
+
+	@Override
+	public int getResponseCode() throws IOException {
+		return this.delegate.getResponseCode();
+	}
+
+	@Override
+	public String getResponseMessage() throws IOException {
+		return this.delegate.getResponseMessage();
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		return this.delegate.getInputStream();
+	}
+
+	@Override
+	public InputStream getErrorStream() {
+		return this.delegate.getErrorStream();
+	}
+
+	@Override
+	public Map<String, List<String>> getHeaderFields() {
+		return this.delegate.getHeaderFields();
+	}
+
+	@Override
+	public String getHeaderField(String name) {
+		return this.delegate.getHeaderField(name);
+	}
+
+	@Override
+	public String getHeaderFieldKey(int n) {
+		return this.delegate.getHeaderFieldKey(n);
+	}
+
+	@Override
+	public String getHeaderField(int n) {
+		return this.delegate.getHeaderField(n);
+	}
+
+	@Override
+	public String toString() {
+		return this.delegate.toString();
+	}
+}
@@ -0,0 +1,326 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.io.FastByteArrayOutputStream;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * HPACK（HTTP/2头部压缩，RFC 7541）的静态表、动态表和基本类型编解码
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class Hpack {
+
+	/**
+	 * 动态表默认最大大小
+	 */
+	static final int DEFAULT_TABLE_SIZE = 4096;
+
+	/**
+	 * 静态表，见RFC 7541 附录A，索引从1开始
+	 */
+	static final String[][] STATIC_TABLE = {
+			{":authority", ""},
+			{":method", "GET"},
+			{":method", "POST"},
+			{":path", "/"},
+			{":path", "/index.html"},
+			{":scheme", "http"},
+			{":scheme", "https"},
+			{":status", "200"},
+			{":status", "204"},
+			{":status", "206"},
+			{":status", "304"},
+			{":status", "400"},
+			{":status", "404"},
+			{":status", "500"},
+			{"accept-charset", ""},
+			{"accept-encoding", "gzip, deflate"},
+			{"accept-language", ""},
+			{"accept-ranges", ""},
+			{"accept", ""},
+			{"access-control-allow-origin", ""},
+			{"age", ""},
+			{"allow", ""},
+			{"authorization", ""},
+			{"cache-control", ""},
+			{"content-disposition", ""},
+			{"content-encoding", ""},
+			{"content-language", ""},
+			{"content-length", ""},
+			{"content-location", ""},
+			{"content-range", ""},
+			{"content-type", ""},
+			{"cookie", ""},
+			{"date", ""},
+			{"etag", ""},
+			{"expect", ""},
+			{"expires", ""},
+			{"from", ""},
+			{"host", ""},
+			{"if-match", ""},
+			{"if-modified-since", ""},
+			{"if-none-match", ""},
+			{"if-range", ""},
+			{"if-unmodified-since", ""},
+			{"last-modified", ""},
+			{"link", ""},
+			{"location", ""},
+			{"max-forwards", ""},
+			{"proxy-authenticate", ""},
+			{"proxy-authorization", ""},
+			{"range", ""},
+			{"referer", ""},
+			{"refresh", ""},
+			{"retry-after", ""},
+			{"server", ""},
+			{"set-cookie", ""},
+			{"strict-transport-security", ""},
+			{"transfer-encoding", ""},
+			{"user-agent", ""},
+			{"vary", ""},
+			{"via", ""},
+			{"www-authenticate", ""}
+	};
+
+	/**
+	 * 静态表中名称对应的第一个索引
+	 */
+	static final Map<String, Integer> STATIC_NAME_INDEX;
+
+	static {
+		STATIC_NAME_INDEX = new HashMap<>(STATIC_TABLE.length);
+		for (int i = STATIC_TABLE.length - 1; i >= 0; i--) {
+			STATIC_NAME_INDEX.put(STATIC_TABLE[i][0], i + 1);
+		}
+	}
+
+	private Hpack() {
+	}
+
+	/**
+	 * 编码整数，见RFC 7541 5.1
+	 *
+	 * @param value      值
+	 * @param prefixBits 前缀位数
+	 * @param mask       首字节高位的标志位
+	 * @param out        输出
+	 */
+	static void writeInt(int value, int prefixBits, int mask, FastByteArrayOutputStream out) {
+		final int max = (1 << prefixBits) - 1;
+		if (value < max) {
+			out.write(mask | value);
+			return;
+		}
+		out.write(mask | max);
+		value -= max;
+		while (value >= 0x80) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	/**
+	 * 编码字符串，Huffman编码更短时使用Huffman编码
+	 *
+	 * @param value 字符串
+	 * @param out   输出
+	 */
+	static void writeString(String value, FastByteArrayOutputStream out) {
+		final byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+		final int huffmanLength = Huffman.encodedLength(bytes);
+		if (huffmanLength < bytes.length) {
+			writeInt(huffmanLength, 7, 0x80, out);
+			Huffman.encode(bytes, out);
+		} else {
+			writeInt(bytes.length, 7, 0, out);
+			out.write(bytes, 0, bytes.length);
+		}
+	}
+
+	/**
+	 * 头信息块读取器
+	 */
+	static final class Reader {
+		private final byte[] data;
+		private int position;
+		private final int limit;
+
+		/**
+		 * 构造
+		 *
+		 * @param data   数据
+		 * @param offset 开始位置
+		 * @param length 长度
+		 */
+		Reader(byte[] data, int offset, int length) {
+			this.data = data;
+			this.position = offset;
+			this.limit = offset + length;
+		}
+
+		/**
+		 * 是否还有数据
+		 *
+		 * @return 是否还有数据
+		 */
+		boolean hasRemaining() {
+			return this.position < this.limit;
+		}
+
+		/**
+		 * 查看当前字节，不移动位置
+		 *
+		 * @return 当前字节
+		 */
+		int peek() {
+			return this.data[this.position] & 0xFF;
+		}
+
+		/**
+		 * 解码整数，见RFC 7541 5.1
+		 *
+		 * @param prefixBits 前缀位数
+		 * @return 整数
+		 * @throws IOException 数据不完整或超出范围
+		 */
+		int readInt(int prefixBits) throws IOException {
+			final int max = (1 << prefixBits) - 1;
+			int value = readByte() & max;
+			if (value < max) {
+				return value;
+			}
+			int shift = 0;
+			int b;
+			do {
+				b = readByte();
+				if (shift > 21) {
+					throw new IOException("HPACK integer overflow");
+				}
+				value += (b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return value;
+		}
+
+		/**
+		 * 解码字符串，见RFC 7541 5.2
+		 *
+		 * @return 字符串
+		 * @throws IOException 数据不完整或Huffman编码错误
+		 */
+		String readString() throws IOException {
+			if (false == hasRemaining()) {
+				throw new IOException("Truncated HPACK block");
+			}
+			final boolean huffman = (peek() & 0x80) != 0;
+			final int length = readInt(7);
+			if (length > this.limit - this.position) {
+				throw new IOException("Truncated HPACK block");
+			}
+			final byte[] bytes = huffman ? Huffman.decode(this.data, this.position, length) : null;
+			final String result = null == bytes
+					? new String(this.data, this.position, length, StandardCharsets.ISO_8859_1)
+					: new String(bytes, StandardCharsets.ISO_8859_1);
+			this.position += length;
+			return result;
+		}
+
+		private int readByte() throws IOException {
+			if (false == hasRemaining()) {
+				throw new IOException("Truncated HPACK block");
+			}
+			return this.data[this.position++] & 0xFF;
+		}
+	}
+
+	/**
+	 * 动态表，新条目在前，超过最大大小时从最旧的条目开始淘汰
+	 */
+	static final class DynamicTable {
+		/**
+		 * 每个条目额外计入的大小，见RFC 7541 4.1
+		 */
+		private static final int ENTRY_OVERHEAD = 32;
+
+		private final ArrayDeque<String[]> entries = new ArrayDeque<>();
+		private int size;
+		private int maxSize = DEFAULT_TABLE_SIZE;
+
+		/**
+		 * 条目数
+		 *
+		 * @return 条目数
+		 */
+		int length() {
+			return this.entries.size();
+		}
+
+		/**
+		 * 获取条目，0为最新的条目
+		 *
+		 * @param index 序号
+		 * @return 条目，{名称, 值}
+		 */
+		String[] get(int index) {
+			final Iterator<String[]> iterator = this.entries.iterator();
+			for (int i = 0; i < index; i++) {
+				iterator.next();
+			}
+			return iterator.next();
+		}
+
+		/**
+		 * 增加条目，条目大于最大大小时清空动态表
+		 *
+		 * @param name  名称
+		 * @param value 值
+		 */
+		void add(String name, String value) {
+			final int entrySize = name.length() + value.length() + ENTRY_OVERHEAD;
+			evict(this.maxSize - entrySize);
+			if (entrySize <= this.maxSize) {
+				this.entries.addFirst(new String[]{name, value});
+				this.size += entrySize;
+			}
+		}
+
+		/**
+		 * 设置最大大小，超出的条目被淘汰
+		 *
+		 * @param maxSize 最大大小
+		 */
+		void setMaxSize(int maxSize) {
+			this.maxSize = maxSize;
+			evict(maxSize);
+		}
+
+		/**
+		 * 获取最大大小
+		 *
+		 * @return 最大大小
+		 */
+		int getMaxSize() {
+			return this.maxSize;
+		}
+
+		/**
+		 * 淘汰最旧的条目直到大小不超过给定值
+		 *
+		 * @param targetSize 目标大小
+		 */
+		private void evict(int targetSize) {
+			while (this.size > Math.max(0, targetSize) && false == this.entries.isEmpty()) {
+				final String[] entry = this.entries.removeLast();
+				this.size -= entry[0].length() + entry[1].length() + ENTRY_OVERHEAD;
+			}
+		}
+	}
+}
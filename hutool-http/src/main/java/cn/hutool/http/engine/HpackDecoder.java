@@ -0,0 +1,112 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.lang.Pair;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HPACK头部解码器，一个连接一个，解码须按头信息块的接收顺序进行<br>
+ * 解码出错时动态表状态无法恢复，调用方应以COMPRESSION_ERROR关闭连接
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class HpackDecoder {
+
+	private final Hpack.DynamicTable table = new Hpack.DynamicTable();
+	private final int maxHeaderListSize;
+
+	/**
+	 * 构造
+	 *
+	 * @param maxHeaderListSize 头信息列表最大大小（名称和值的长度之和，每个头信息另加32）
+	 */
+	HpackDecoder(int maxHeaderListSize) {
+		this.maxHeaderListSize = maxHeaderListSize;
+	}
+
+	/**
+	 * 解码头信息块
+	 *
+	 * @param block  头信息块
+	 * @param offset 开始位置
+	 * @param length 长度
+	 * @return 头信息列表
+	 * @throws IOException 格式错误或头信息过大
+	 */
+	List<Pair<String, String>> decode(byte[] block, int offset, int length) throws IOException {
+		final Hpack.Reader reader = new Hpack.Reader(block, offset, length);
+		final List<Pair<String, String>> headers = new ArrayList<>();
+		int listSize = 0;
+		boolean headerDecoded = false;
+		while (reader.hasRemaining()) {
+			final int b = reader.peek();
+			final String name;
+			final String value;
+			if ((b & 0x80) != 0) {
+				// 索引
+				final String[] entry = getEntry(reader.readInt(7));
+				name = entry[0];
+				value = entry[1];
+			} else if ((b & 0xC0) == 0x40) {
+				// 加入动态表的字面量
+				name = readName(reader, 6);
+				value = reader.readString();
+				this.table.add(name, value);
+			} else if ((b & 0xE0) == 0x20) {
+				// 动态表大小更新，只能出现在头信息块开头
+				final int size = reader.readInt(5);
+				if (headerDecoded || size > Hpack.DEFAULT_TABLE_SIZE) {
+					throw new IOException("Invalid dynamic table size update: " + size);
+				}
+				this.table.setMaxSize(size);
+				continue;
+			} else {
+				// 不加入动态表的字面量和不可索引的字面量
+				name = readName(reader, 4);
+				value = reader.readString();
+			}
+
+			headerDecoded = true;
+			listSize += name.length() + value.length() + 32;
+			if (listSize > this.maxHeaderListSize) {
+				throw new IOException("Header list too large");
+			}
+			headers.add(new Pair<>(name, value));
+		}
+		return headers;
+	}
+
+	/**
+	 * 读取字面量的名称，索引为0时名称为字面量，否则为表中条目的名称
+	 *
+	 * @param reader     读取器
+	 * @param prefixBits 索引前缀位数
+	 * @return 名称
+	 * @throws IOException 格式错误
+	 */
+	private String readName(Hpack.Reader reader, int prefixBits) throws IOException {
+		final int index = reader.readInt(prefixBits);
+		return 0 == index ? reader.readString() : getEntry(index)[0];
+	}
+
+	/**
+	 * 根据索引获取静态表或动态表中的条目
+	 *
+	 * @param index 索引，从1开始
+	 * @return 条目，{名称, 值}
+	 * @throws IOException 索引无效
+	 */
+	private String[] getEntry(int index) throws IOException {
+		if (index >= 1 && index <= Hpack.STATIC_TABLE.length) {
+			return Hpack.STATIC_TABLE[index - 1];
+		}
+		final int dynamicIndex = index - Hpack.STATIC_TABLE.length - 1;
+		if (dynamicIndex >= 0 && dynamicIndex < this.table.length()) {
+			return this.table.get(dynamicIndex);
+		}
+		throw new IOException("Invalid HPACK index: " + index);
+	}
+}
@@ -0,0 +1,113 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.lang.Pair;
+
+import java.util.List;
+
+/**
+ * HPACK头部编码器，一个连接一个，编码须按头信息块的发送顺序进行<br>
+ * 完全匹配静态表或动态表的头信息使用索引，其余头信息加入动态表，后续请求重复的头信息（如User-Agent、Cookie）只需一两个字节。
+ * 敏感的头信息（如Authorization）不加入动态表，并标记为不可索引。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class HpackEncoder {
+
+	private final Hpack.DynamicTable table = new Hpack.DynamicTable();
+	/**
+	 * 对端允许的动态表最大大小变小后，需在下一个头信息块开头通知对端
+	 */
+	private int pendingTableSize = -1;
+
+	/**
+	 * 对端通过SETTINGS_HEADER_TABLE_SIZE设置的动态表最大大小，不超过默认大小
+	 *
+	 * @param maxSize 最大大小
+	 */
+	void setMaxTableSize(int maxSize) {
+		final int newSize = Math.min(maxSize, Hpack.DEFAULT_TABLE_SIZE);
+		if (newSize != this.table.getMaxSize()) {
+			this.table.setMaxSize(newSize);
+			this.pendingTableSize = newSize;
+		}
+	}
+
+	/**
+	 * 编码头信息块
+	 *
+	 * @param headers 头信息，名称需为小写
+	 * @return 头信息块
+	 */
+	byte[] encode(List<Pair<String, String>> headers) {
+		final FastByteArrayOutputStream out = new FastByteArrayOutputStream(256);
+		if (this.pendingTableSize >= 0) {
+			Hpack.writeInt(this.pendingTableSize, 5, 0x20, out);
+			this.pendingTableSize = -1;
+		}
+		for (Pair<String, String> header : headers) {
+			encodeHeader(header.getKey(), header.getValue(), out);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * 编码单个头信息
+	 *
+	 * @param name  名称
+	 * @param value 值
+	 * @param out   输出
+	 */
+	private void encodeHeader(String name, String value, FastByteArrayOutputStream out) {
+		int nameIndex = 0;
+		// 静态表
+		final Integer staticIndex = Hpack.STATIC_NAME_INDEX.get(name);
+		if (null != staticIndex) {
+			nameIndex = staticIndex;
+			for (int i = staticIndex - 1; i < Hpack.STATIC_TABLE.length && Hpack.STATIC_TABLE[i][0].equals(name); i++) {
+				if (Hpack.STATIC_TABLE[i][1].equals(value)) {
+					Hpack.writeInt(i + 1, 7, 0x80, out);
+					return;
+				}
+			}
+		}
+		// 动态表
+		for (int i = 0; i < this.table.length(); i++) {
+			final String[] entry = this.table.get(i);
+			if (entry[0].equals(name)) {
+				final int index = Hpack.STATIC_TABLE.length + 1 + i;
+				if (entry[1].equals(value)) {
+					Hpack.writeInt(index, 7, 0x80, out);
+					return;
+				}
+				if (0 == nameIndex) {
+					nameIndex = index;
+				}
+			}
+		}
+
+		if (isSensitive(name)) {
+			// 不可索引的字面量
+			Hpack.writeInt(nameIndex, 4, 0x10, out);
+		} else {
+			// 加入动态表的字面量
+			Hpack.writeInt(nameIndex, 6, 0x40, out);
+			this.table.add(name, value);
+		}
+		if (0 == nameIndex) {
+			Hpack.writeString(name, out);
+		}
+		Hpack.writeString(value, out);
+	}
+
+	/**
+	 * 是否为敏感的头信息，敏感的头信息不加入动态表，中间代理也不能压缩
+	 *
+	 * @param name 名称
+	 * @return 是否敏感
+	 */
+	private static boolean isSensitive(String name) {
+		return "authorization".equals(name) || "proxy-authorization".equals(name);
+	}
+}
@@ -0,0 +1,795 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Pair;
+
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSession;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTTP/2连接，多个请求以流的形式在同一个连接上并发收发<br>
+ * 由一个读取线程读取并分发所有帧，业务线程发送HEADERS和DATA帧后在各自的{@link Http2Stream}上等待响应。
+ * 实现说明：
+ * <ul>
+ *     <li>发送请求体时遵守服务端的连接级别和流级别流控窗口；</li>
+ *     <li>接收时连接级别窗口收到数据即归还，流级别窗口在响应体被读取后归还，每个流最多缓存一个窗口的数据；</li>
+ *     <li>并发流数量达到服务端的SETTINGS_MAX_CONCURRENT_STREAMS时，新请求等待其它流结束；</li>
+ *     <li>收到GOAWAY后不再创建新流，未被服务端处理的流可在新连接上重试，进行中的流结束后关闭连接；</li>
+ *     <li>禁用服务端推送，忽略优先级。</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class Http2Connection implements Closeable {
+
+	/**
+	 * 本端流级别接收窗口
+	 */
+	static final int LOCAL_STREAM_WINDOW = 1 << 20;
+	/**
+	 * 本端连接级别接收窗口
+	 */
+	private static final int LOCAL_CONNECTION_WINDOW = 16 << 20;
+	/**
+	 * 本端允许的响应头最大大小
+	 */
+	private static final int MAX_HEADER_LIST_SIZE = 256 * 1024;
+	private static final long MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+	final Route route;
+	private final Http2Engine engine;
+	private final Socket socket;
+	private final InputStream in;
+	private final OutputStream out;
+	private final Map<Integer, Http2Stream> streams = new ConcurrentHashMap<>();
+
+	/**
+	 * 写出锁，保证帧完整写出，以及HPACK编码、流ID分配与HEADERS帧的发送顺序一致
+	 */
+	private final Object writeLock = new Object();
+	private final HpackEncoder encoder = new HpackEncoder();
+	private int nextStreamId = 1;
+
+	// 以下字段由this保护
+	private long sendWindow = Http2Frame.DEFAULT_WINDOW_SIZE;
+	private int peerInitialWindowSize = Http2Frame.DEFAULT_WINDOW_SIZE;
+	private int peerMaxFrameSize = Http2Frame.DEFAULT_MAX_FRAME_SIZE;
+	private int peerMaxConcurrentStreams = Integer.MAX_VALUE;
+	private int activeStreams;
+	/**
+	 * 是否不再接受新流，收到GOAWAY或连接失败后为{@code true}
+	 */
+	private boolean shutdown;
+	private IOException failure;
+
+	// 以下字段仅在读取线程中使用
+	private final HpackDecoder decoder = new HpackDecoder(MAX_HEADER_LIST_SIZE);
+	private int receivedUnacked;
+	private int headerStreamId;
+	private boolean headerEndStream;
+	private FastByteArrayOutputStream headerBlock;
+
+	/**
+	 * 构造，协议协商已完成
+	 *
+	 * @param engine 所属引擎
+	 * @param route  路由
+	 * @param socket 已建立的连接
+	 * @throws IOException IO异常
+	 */
+	Http2Connection(Http2Engine engine, Route route, Socket socket) throws IOException {
+		this.engine = engine;
+		this.route = route;
+		this.socket = socket;
+		this.in = new BufferedInputStream(socket.getInputStream(), 16 * 1024);
+		this.out = new BufferedOutputStream(socket.getOutputStream(), 16 * 1024);
+	}
+
+	/**
+	 * 发送连接前言和设置，启动读取线程
+	 *
+	 * @throws IOException IO异常
+	 */
+	void start() throws IOException {
+		final byte[] settings = new byte[18];
+		putSetting(settings, 0, Http2Frame.SETTINGS_ENABLE_PUSH, 0);
+		putSetting(settings, 6, Http2Frame.SETTINGS_INITIAL_WINDOW_SIZE, LOCAL_STREAM_WINDOW);
+		putSetting(settings, 12, Http2Frame.SETTINGS_MAX_HEADER_LIST_SIZE, MAX_HEADER_LIST_SIZE);
+		synchronized (this.writeLock) {
+			this.out.write(Http2Frame.CONNECTION_PREFACE);
+			Http2Frame.write(this.out, Http2Frame.SETTINGS, 0, 0, settings, 0, settings.length);
+			final byte[] increment = Http2Frame.putInt(LOCAL_CONNECTION_WINDOW - Http2Frame.DEFAULT_WINDOW_SIZE, new byte[4], 0);
+			Http2Frame.write(this.out, Http2Frame.WINDOW_UPDATE, 0, 0, increment, 0, 4);
+			this.out.flush();
+		}
+		this.engine.newReaderThread(this::readLoop).start();
+	}
+
+	/**
+	 * 是否可创建新流
+	 *
+	 * @return 是否可创建新流
+	 */
+	synchronized boolean isUsable() {
+		return false == this.shutdown;
+	}
+
+	/**
+	 * 获取HTTPS连接的{@link SSLSession}
+	 *
+	 * @return {@link SSLSession}，HTTP连接返回{@code null}
+	 */
+	SSLSession getSslSession() {
+		return this.socket instanceof SSLSocket ? ((SSLSocket) this.socket).getSession() : null;
+	}
+
+	/**
+	 * 创建新流并发送请求头，并发流数量达到上限时等待
+	 *
+	 * @param headers   请求头，包括伪头
+	 * @param endStream 是否无请求体
+	 * @param timeout   等待超时，单位毫秒，0表示不超时
+	 * @return 新流，连接已不可用时返回{@code null}
+	 * @throws IOException IO异常或等待超时
+	 */
+	Http2Stream newStream(List<Pair<String, String>> headers, boolean endStream, int timeout) throws IOException {
+		final int maxFrameSize;
+		final long initialWindow;
+		synchronized (this) {
+			final long deadline = System.currentTimeMillis() + timeout;
+			while (false == this.shutdown && this.activeStreams >= this.peerMaxConcurrentStreams) {
+				if (false == await(deadline, timeout)) {
+					throw new SocketTimeoutException("Timeout waiting for HTTP/2 stream");
+				}
+			}
+			if (this.shutdown) {
+				return null;
+			}
+			this.activeStreams++;
+			maxFrameSize = this.peerMaxFrameSize;
+			initialWindow = this.peerInitialWindowSize;
+		}
+
+		final Http2Stream stream;
+		synchronized (this.writeLock) {
+			if (this.nextStreamId < 0) {
+				// 流ID用尽，关闭连接，新请求使用新连接
+				synchronized (this) {
+					this.activeStreams--;
+					this.shutdown = true;
+				}
+				this.engine.remove(this);
+				return null;
+			}
+			stream = new Http2Stream(this, this.nextStreamId, initialWindow);
+			this.nextStreamId += 2;
+			this.streams.put(stream.id, stream);
+			if (false == isUsable()) {
+				// 注册前已收到GOAWAY或连接已失败，GOAWAY处理时未看到此流，由调用方重试
+				removeStream(stream);
+				return null;
+			}
+			try {
+				writeHeaders(stream.id, this.encoder.encode(headers), endStream, maxFrameSize);
+			} catch (IOException e) {
+				fail(e);
+				throw e;
+			}
+		}
+		return stream;
+	}
+
+	/**
+	 * 发送请求体，流控窗口不足时等待服务端的WINDOW_UPDATE
+	 *
+	 * @param stream    流
+	 * @param data      数据
+	 * @param offset    开始位置
+	 * @param length    长度
+	 * @param endStream 是否为请求体的最后部分
+	 * @param timeout   等待窗口的超时，单位毫秒，0表示不超时
+	 * @throws IOException IO异常、流失败或等待超时
+	 */
+	void writeData(Http2Stream stream, byte[] data, int offset, int length, boolean endStream, int timeout) throws IOException {
+		do {
+			if (stream.isRemoteClosed()) {
+				// 服务端已响应完毕或流已失败，无需继续发送
+				return;
+			}
+			final int n;
+			synchronized (this) {
+				final long deadline = System.currentTimeMillis() + timeout;
+				while (length > 0 && (this.sendWindow <= 0 || stream.sendWindow <= 0)) {
+					checkFailure();
+					if (false == this.streams.containsKey(stream.id)) {
+						return;
+					}
+					if (false == await(deadline, timeout)) {
+						throw new SocketTimeoutException("Timeout waiting for HTTP/2 flow control window");
+					}
+				}
+				checkFailure();
+				if (length > 0) {
+					n = (int) Math.min(Math.min(length, this.peerMaxFrameSize), Math.min(this.sendWindow, stream.sendWindow));
+					this.sendWindow -= n;
+					stream.sendWindow -= n;
+				} else {
+					// 空的最后一帧
+					n = 0;
+				}
+			}
+			writeFrame(Http2Frame.DATA, endStream && n == length ? Http2Frame.FLAG_END_STREAM : 0, stream.id, data, offset, n);
+			offset += n;
+			length -= n;
+		} while (length > 0);
+	}
+
+	/**
+	 * 重置流，并从连接中移除
+	 *
+	 * @param stream    流
+	 * @param errorCode 错误码
+	 */
+	void resetStream(Http2Stream stream, int errorCode) {
+		if (removeStream(stream)) {
+			try {
+				writeFrame(Http2Frame.RST_STREAM, 0, stream.id, Http2Frame.putInt(errorCode, new byte[4], 0), 0, 4);
+			} catch (IOException e) {
+				// 连接已失败，忽略
+			}
+		}
+	}
+
+	/**
+	 * 归还流级别的接收窗口
+	 *
+	 * @param streamId  流ID
+	 * @param increment 增量
+	 */
+	void sendWindowUpdate(int streamId, int increment) {
+		try {
+			writeFrame(Http2Frame.WINDOW_UPDATE, 0, streamId, Http2Frame.putInt(increment, new byte[4], 0), 0, 4);
+		} catch (IOException e) {
+			// 连接已失败，读取的流会收到异常
+		}
+	}
+
+	/**
+	 * 关闭连接，进行中的流失败
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			if (null != this.failure) {
+				return;
+			}
+		}
+		try {
+			writeFrame(Http2Frame.GOAWAY, 0, 0, new byte[8], 0, 8);
+		} catch (IOException e) {
+			// ignore
+		}
+		fail(new IOException("HTTP/2 connection closed"));
+	}
+
+	/**
+	 * 读取线程，读取并处理帧直到连接关闭
+	 */
+	private void readLoop() {
+		try {
+			while (true) {
+				handleFrame(Http2Frame.read(this.in, Http2Frame.DEFAULT_MAX_FRAME_SIZE));
+			}
+		} catch (ConnectionError e) {
+			try {
+				// 服务端不会创建流，最后处理的流ID为0
+				writeFrame(Http2Frame.GOAWAY, 0, 0, Http2Frame.putInt(e.errorCode, new byte[8], 4), 0, 8);
+			} catch (IOException ignore) {
+				// ignore
+			}
+			fail(e);
+		} catch (IOException e) {
+			fail(e);
+		} catch (RuntimeException e) {
+			fail(new IOException(e));
+		}
+	}
+
+	/**
+	 * 处理一个帧
+	 *
+	 * @param frame 帧
+	 * @throws IOException IO异常或连接级别的协议错误
+	 */
+	private void handleFrame(Http2Frame frame) throws IOException {
+		if (null != this.headerBlock && (Http2Frame.CONTINUATION != frame.type || frame.streamId != this.headerStreamId)) {
+			throw new ConnectionError(Http2Frame.PROTOCOL_ERROR, "Expected CONTINUATION frame");
+		}
+		switch (frame.type) {
+			case Http2Frame.DATA:
+				onData(frame);
+				break;
+			case Http2Frame.HEADERS:
+				onHeaders(frame);
+				break;
+			case Http2Frame.CONTINUATION:
+				if (null == this.headerBlock) {
+					throw new ConnectionError(Http2Frame.PROTOCOL_ERROR, "Unexpected CONTINUATION frame");
+				}
+				if (this.headerBlock.size() + frame.payload.length > MAX_HEADER_LIST_SIZE) {
+					// 压缩后的头信息块不会超过解码后的大小，超出说明对端持续发送CONTINUATION帧
+					throw new ConnectionError(Http2Frame.ENHANCE_YOUR_CALM, "Header block exceeds " + MAX_HEADER_LIST_SIZE + " bytes");
+				}
+				this.headerBlock.write(frame.payload, 0, frame.payload.length);
+				if (frame.hasFlag(Http2Frame.FLAG_END_HEADERS)) {
+					onHeaderBlock();
+				}
+				break;
+			case Http2Frame.RST_STREAM:
+				checkLength(frame, 4);
+				onReset(frame.streamId, frame.readInt(0));
+				break;
+			case Http2Frame.SETTINGS:
+				onSettings(frame);
+				break;
+			case Http2Frame.PUSH_PROMISE:
+				throw new ConnectionError(Http2Frame.PROTOCOL_ERROR, "Server push is disabled");
+			case Http2Frame.PING:
+				checkLength(frame, 8);
+				if (false == frame.hasFlag(Http2Frame.FLAG_ACK)) {
+					writeFrame(Http2Frame.PING, Http2Frame.FLAG_ACK, 0, frame.payload, 0, 8);
+				}
+				break;
+			case Http2Frame.GOAWAY:
+				if (frame.payload.length < 8) {
+					throw new ConnectionError(Http2Frame.FRAME_SIZE_ERROR, "Invalid GOAWAY frame");
+				}
+				onGoAway(frame.readInt(0) & 0x7FFFFFFF);
+				break;
+			case Http2Frame.WINDOW_UPDATE:
+				checkLength(frame, 4);
+				onWindowUpdate(frame.streamId, frame.readInt(0) & 0x7FFFFFFF);
+				break;
+			default:
+				// PRIORITY和未知类型的帧忽略
+		}
+	}
+
+	/**
+	 * 处理DATA帧
+	 *
+	 * @param frame 帧
+	 * @throws IOException IO异常或协议错误
+	 */
+	private void onData(Http2Frame frame) throws IOException {
+		if (0 == frame.streamId) {
+			throw new ConnectionError(Http2Frame.PROTOCOL_ERROR, "DATA frame on stream 0");
+		}
+		// 连接级别窗口收到即归还，包括填充
+		this.receivedUnacked += frame.payload.length;
+		if (this.receivedUnacked >= LOCAL_CONNECTION_WINDOW / 2) {
+			sendWindowUpdate(0, this.receivedUnacked);
+			this.receivedUnacked = 0;
+		}
+
+		final Http2Stream stream = this.streams.get(frame.streamId);
+		if (null == stream) {
+			// 已取消或已结束的流
+			return;
+		}
+		final boolean padded = frame.hasFlag(Http2Frame.FLAG_PADDED);
+		final int padding = padded ? readPadding(frame) : 0;
+		final int offset = padded ? 1 : 0;
+		try {
+			if (stream.onData(frame.payload, offset, frame.payload.length - offset - padding, frame.hasFlag(Http2Frame.FLAG_END_STREAM))) {
+				removeStream(stream);
+			}
+		} catch (ProtocolException e) {
+			stream.fail(e, false);
+			resetStream(stream, Http2Frame.PROTOCOL_ERROR);
+		}
+	}
+
+	/**
+	 * 处理HEADERS帧，头信息块完整时解码
+	 *
+	 * @param frame 帧
+	 * @throws IOException IO异常或协议错误
+	 */
+	private void onHeaders(Http2Frame frame) throws IOException {
+		if (0 == frame.streamId) {
+			throw new ConnectionError(Http2Frame.PROTOCOL_ERROR, "HEADERS frame on stream 0");
+		}
+		int offset = 0;
+		int padding = 0;
+		if (frame.hasFlag(Http2Frame.FLAG_PADDED)) {
+			padding = readPadding(frame);
+			offset++;
+		}
+		if (frame.hasFlag(Http2Frame.FLAG_PRIORITY)) {
+			offset += 5;
+		}
+		final int length = frame.payload.length - offset - padding;
+		if (length < 0) {
+			throw new ConnectionError(Http2Frame.PROTOCOL_ERROR, "Invalid HEADERS frame");
+		}
+		if (length > MAX_HEADER_LIST_SIZE) {
+			throw new ConnectionError(Http2Frame.ENHANCE_YOUR_CALM, "Header block exceeds " + MAX_HEADER_LIST_SIZE + " bytes");
+		}
+		this.headerStreamId = frame.streamId;
+		this.headerEndStream = frame.hasFlag(Http2Frame.FLAG_END_STREAM);
+		this.headerBlock = new FastByteArrayOutputStream(length);
+		this.headerBlock.write(frame.payload, offset, length);
+		if (frame.hasFlag(Http2Frame.FLAG_END_HEADERS)) {
+			onHeaderBlock();
+		}
+	}
+
+	/**
+	 * 头信息块完整，解码并交给对应的流，已结束的流也需解码以保持HPACK状态一致
+	 *
+	 * @throws IOException IO异常或解码错误
+	 */
+	private void onHeaderBlock() throws IOException {
+		final byte[] block = this.headerBlock.toByteArray();
+		this.headerBlock = null;
+		final List<Pair<String, String>> headers;
+		try {
+			headers = this.decoder.decode(block, 0, block.length);
+		} catch (IOException e) {
+			throw new ConnectionError(Http2Frame.COMPRESSION_ERROR, e.getMessage());
+		}
+
+		final Http2Stream stream = this.streams.get(this.headerStreamId);
+		if (null == stream) {
+			return;
+		}
+		try {
+			if (stream.onHeaders(headers, this.headerEndStream)) {
+				removeStream(stream);
+			}
+		} catch (ProtocolException e) {
+			stream.fail(e, false);
+			resetStream(stream, Http2Frame.PROTOCOL_ERROR);
+		}
+	}
+
+	/**
+	 * 处理RST_STREAM帧
+	 *
+	 * @param streamId  流ID
+	 * @param errorCode 错误码
+	 */
+	private void onReset(int streamId, int errorCode) {
+		final Http2Stream stream = this.streams.get(streamId);
+		if (null != stream && removeStream(stream)) {
+			stream.fail(new IOException("HTTP/2 stream reset by server, error code: " + errorCode),
+					Http2Frame.REFUSED_STREAM == errorCode);
+		}
+	}
+
+	/**
+	 * 处理SETTINGS帧，应用后回复ACK
+	 *
+	 * @param frame 帧
+	 * @throws IOException IO异常或设置值无效
+	 */
+	private void onSettings(Http2Frame frame) throws IOException {
+		if (0 != frame.streamId) {
+			throw new ConnectionError(Http2Frame.PROTOCOL_ERROR, "SETTINGS frame on stream " + frame.streamId);
+		}
+		if (frame.hasFlag(Http2Frame.FLAG_ACK)) {
+			return;
+		}
+		if (frame.payload.length % 6 != 0) {
+			throw new ConnectionError(Http2Frame.FRAME_SIZE_ERROR, "Invalid SETTINGS frame");
+		}
+		for (int i = 0; i < frame.payload.length; i += 6) {
+			final int id = ((frame.payload[i] & 0xFF) << 8) | (frame.payload[i + 1] & 0xFF);
+			final int value = frame.readInt(i + 2);
+			switch (id) {
+				case Http2Frame.SETTINGS_HEADER_TABLE_SIZE:
+					synchronized (this.writeLock) {
+						this.encoder.setMaxTableSize(value < 0 ? Integer.MAX_VALUE : value);
+					}
+					break;
+				case Http2Frame.SETTINGS_MAX_CONCURRENT_STREAMS:
+					synchronized (this) {
+						this.peerMaxConcurrentStreams = value < 0 ? Integer.MAX_VALUE : value;
+						notifyAll();
+					}
+					break;
+				case Http2Frame.SETTINGS_INITIAL_WINDOW_SIZE:
+					if (value < 0) {
+						throw new ConnectionError(Http2Frame.FLOW_CONTROL_ERROR, "Invalid initial window size");
+					}
+					synchronized (this) {
+						// 调整所有流的发送窗口
+						final int delta = value - this.peerInitialWindowSize;
+						for (Http2Stream stream : this.streams.values()) {
+							stream.sendWindow += delta;
+						}
+						this.peerInitialWindowSize = value;
+						notifyAll();
+					}
+					break;
+				case Http2Frame.SETTINGS_MAX_FRAME_SIZE:
+					if (value < Http2Frame.DEFAULT_MAX_FRAME_SIZE || value > 0xFFFFFF) {
+						throw new ConnectionError(Http2Frame.PROTOCOL_ERROR, "Invalid max frame size: " + value);
+					}
+					synchronized (this) {
+						this.peerMaxFrameSize = value;
+					}
+					break;
+				default:
+					// 其它设置不影响客户端
+			}
+		}
+		writeFrame(Http2Frame.SETTINGS, Http2Frame.FLAG_ACK, 0, null, 0, 0);
+	}
+
+	/**
+	 * 处理GOAWAY帧，服务端未处理的流标记为被拒绝，可在新连接上重试
+	 *
+	 * @param lastStreamId 服务端处理的最后一个流ID
+	 */
+	private void onGoAway(int lastStreamId) {
+		synchronized (this) {
+			this.shutdown = true;
+			notifyAll();
+		}
+		this.engine.remove(this);
+		for (Http2Stream stream : new ArrayList<>(this.streams.values())) {
+			if (stream.id > lastStreamId && removeStream(stream)) {
+				stream.fail(new IOException("HTTP/2 stream refused by GOAWAY"), true);
+			}
+		}
+		closeIfIdle();
+	}
+
+	/**
+	 * 处理WINDOW_UPDATE帧
+	 *
+	 * @param streamId  流ID，0表示连接级别
+	 * @param increment 增量
+	 * @throws IOException 增量无效
+	 */
+	private void onWindowUpdate(int streamId, int increment) throws IOException {
+		if (0 == streamId) {
+			if (0 == increment) {
+				throw new ConnectionError(Http2Frame.PROTOCOL_ERROR, "Invalid window increment");
+			}
+			synchronized (this) {
+				this.sendWindow += increment;
+				if (this.sendWindow > MAX_WINDOW_SIZE) {
+					throw new ConnectionError(Http2Frame.FLOW_CONTROL_ERROR, "Connection window overflow");
+				}
+				notifyAll();
+			}
+			return;
+		}
+
+		final Http2Stream stream = this.streams.get(streamId);
+		if (null == stream) {
+			return;
+		}
+		boolean overflow = 0 == increment;
+		synchronized (this) {
+			stream.sendWindow += increment;
+			overflow |= stream.sendWindow > MAX_WINDOW_SIZE;
+			notifyAll();
+		}
+		if (overflow) {
+			stream.fail(new ProtocolException("Invalid stream window increment"), false);
+			resetStream(stream, Http2Frame.FLOW_CONTROL_ERROR);
+		}
+	}
+
+	/**
+	 * 从连接中移除流
+	 *
+	 * @param stream 流
+	 * @return 是否移除，已移除时返回{@code false}
+	 */
+	private boolean removeStream(Http2Stream stream) {
+		if (null == this.streams.remove(stream.id)) {
+			return false;
+		}
+		synchronized (this) {
+			this.activeStreams--;
+			notifyAll();
+		}
+		closeIfIdle();
+		return true;
+	}
+
+	/**
+	 * 收到GOAWAY后，所有流结束时关闭连接
+	 */
+	private void closeIfIdle() {
+		final boolean idle;
+		synchronized (this) {
+			idle = this.shutdown && null == this.failure && 0 == this.activeStreams;
+		}
+		if (idle && this.streams.isEmpty()) {
+			fail(new IOException("HTTP/2 connection closed"));
+		}
+	}
+
+	/**
+	 * 连接失败，关闭连接，所有进行中的流失败
+	 *
+	 * @param e 异常
+	 */
+	private void fail(IOException e) {
+		synchronized (this) {
+			if (null != this.failure) {
+				return;
+			}
+			this.failure = e;
+			this.shutdown = true;
+			notifyAll();
+		}
+		this.engine.remove(this);
+		IoUtil.close(this.socket);
+		for (Http2Stream stream : this.streams.values()) {
+			stream.fail(e, false);
+		}
+		this.streams.clear();
+	}
+
+	/**
+	 * 写出并刷新一个帧
+	 *
+	 * @param type     帧类型
+	 * @param flags    标志
+	 * @param streamId 流ID
+	 * @param payload  负载
+	 * @param offset   开始位置
+	 * @param length   长度
+	 * @throws IOException IO异常，此时连接失败
+	 */
+	private void writeFrame(int type, int flags, int streamId, byte[] payload, int offset, int length) throws IOException {
+		synchronized (this.writeLock) {
+			try {
+				Http2Frame.write(this.out, type, flags, streamId, payload, offset, length);
+				this.out.flush();
+			} catch (IOException e) {
+				fail(e);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * 写出头信息块，超过最大帧大小时拆分为HEADERS和CONTINUATION帧，需持有写出锁
+	 *
+	 * @param streamId     流ID
+	 * @param block        头信息块
+	 * @param endStream    是否无请求体
+	 * @param maxFrameSize 最大帧大小
+	 * @throws IOException IO异常
+	 */
+	private void writeHeaders(int streamId, byte[] block, boolean endStream, int maxFrameSize) throws IOException {
+		int offset = 0;
+		int type = Http2Frame.HEADERS;
+		do {
+			final int length = Math.min(block.length - offset, maxFrameSize);
+			int flags = offset + length == block.length ? Http2Frame.FLAG_END_HEADERS : 0;
+			if (endStream && Http2Frame.HEADERS == type) {
+				flags |= Http2Frame.FLAG_END_STREAM;
+			}
+			Http2Frame.write(this.out, type, flags, streamId, block, offset, length);
+			offset += length;
+			type = Http2Frame.CONTINUATION;
+		} while (offset < block.length);
+		this.out.flush();
+	}
+
+	/**
+	 * 检查连接是否已失败，需持有this
+	 *
+	 * @throws IOException 连接已失败
+	 */
+	private void checkFailure() throws IOException {
+		if (null != this.failure) {
+			throw this.failure;
+		}
+	}
+
+	/**
+	 * 在this上等待，需持有this
+	 *
+	 * @param deadline 截止时间
+	 * @param timeout  超时，0表示不超时
+	 * @return 是否未超时
+	 * @throws IOException 等待被中断
+	 */
+	private boolean await(long deadline, int timeout) throws IOException {
+		try {
+			if (timeout <= 0) {
+				wait();
+				return true;
+			}
+			final long remaining = deadline - System.currentTimeMillis();
+			if (remaining <= 0) {
+				return false;
+			}
+			wait(remaining);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * 读取填充长度
+	 *
+	 * @param frame 帧
+	 * @return 填充长度
+	 * @throws ConnectionError 填充长度无效
+	 */
+	private static int readPadding(Http2Frame frame) throws ConnectionError {
+		if (frame.payload.length < 1 || (frame.payload[0] & 0xFF) >= frame.payload.length) {
+			throw new ConnectionError(Http2Frame.PROTOCOL_ERROR, "Invalid padding");
+		}
+		return frame.payload[0] & 0xFF;
+	}
+
+	/**
+	 * 检查帧负载长度
+	 *
+	 * @param frame  帧
+	 * @param length 期望的长度
+	 * @throws ConnectionError 长度不符
+	 */
+	private static void checkLength(Http2Frame frame, int length) throws ConnectionError {
+		if (frame.payload.length != length) {
+			throw new ConnectionError(Http2Frame.FRAME_SIZE_ERROR, "Invalid frame length for type " + frame.type);
+		}
+	}
+
+	/**
+	 * 写入设置项
+	 *
+	 * @param dest   目标数组
+	 * @param offset 位置
+	 * @param id     设置项ID
+	 * @param value  值
+	 */
+	private static void putSetting(byte[] dest, int offset, int id, int value) {
+		dest[offset] = (byte) (id >>> 8);
+		dest[offset + 1] = (byte) id;
+		Http2Frame.putInt(value, dest, offset + 2);
+	}
+
+	/**
+	 * 连接级别的协议错误，发送GOAWAY后关闭连接
+	 */
+	private static final class ConnectionError extends ProtocolException {
+		private static final long serialVersionUID = 1L;
+
+		final int errorCode;
+
+		ConnectionError(int errorCode, String message) {
+			super(message);
+			this.errorCode = errorCode;
+		}
+	}
+}
@@ -0,0 +1,275 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSocket;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.Socket;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 支持HTTP/2的Http客户端引擎<br>
+ * 相同路由的请求在同一个HTTP/2连接上多路复用：多个线程的并发请求共享一次TCP连接和TLS握手，请求头使用HPACK压缩。
+ * 引擎持有连接，应全局共享一个实例：
+ *
+ * <pre>
+ * Http2Engine engine = new Http2Engine();
+ * // 全局使用
+ * HttpGlobalConfig.setEngine(engine);
+ * // 或单个请求使用
+ * HttpRequest.get("https://example.com").setEngine(engine).execute();
+ * </pre>
+ * <p>
+ * 说明：
+ * <ul>
+ *     <li>HTTPS通过ALPN协商协议，需JDK 8u252及以上版本；服务端不支持HTTP/2时，此路由的请求改由HTTP/1.1引擎处理；</li>
+ *     <li>HTTP默认使用HTTP/1.1引擎，构造时开启priorKnowledge后直接使用HTTP/2明文协议（h2c）；</li>
+ *     <li>使用代理（包括系统代理）或非http/https协议的请求由HTTP/1.1引擎处理；</li>
+ *     <li>请求体缓存在内存中，响应体按需读取，未读取的数据每个请求最多缓存1MB。</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class Http2Engine implements HttpEngine {
+
+	private static final String H2 = "h2";
+	private static final Method SET_APPLICATION_PROTOCOLS;
+	private static final Method GET_APPLICATION_PROTOCOL;
+
+	static {
+		// ALPN相关方法在JDK 8u252和JDK 9中加入，通过反射调用以兼容编译版本
+		Method setter = null;
+		Method getter = null;
+		try {
+			setter = SSLParameters.class.getMethod("setApplicationProtocols", String[].class);
+			getter = SSLSocket.class.getMethod("getApplicationProtocol");
+		} catch (NoSuchMethodException e) {
+			// 不支持ALPN，HTTPS只能使用HTTP/1.1
+		}
+		SET_APPLICATION_PROTOCOLS = setter;
+		GET_APPLICATION_PROTOCOL = getter;
+	}
+
+	private final HttpEngine http1Engine;
+	private final boolean priorKnowledge;
+	private final ThreadFactory threadFactory;
+	private final Map<Route, Http2Connection> connections = new ConcurrentHashMap<>();
+	/**
+	 * 新建连接时按路由加锁，保证同一路由的并发请求只建立一个连接
+	 */
+	private final Map<Route, Object> locks = new ConcurrentHashMap<>();
+	/**
+	 * 不支持HTTP/2的路由，即协议、主机和端口
+	 */
+	private final Set<String> http1Routes = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * 构造，HTTP/1.1请求使用{@link JdkHttpEngine}，HTTP请求不使用HTTP/2
+	 */
+	public Http2Engine() {
+		this(JdkHttpEngine.INSTANCE, false);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param http1Engine    不能使用HTTP/2时的引擎，如{@link PooledHttpEngine}
+	 * @param priorKnowledge HTTP请求是否直接使用HTTP/2明文协议（h2c），服务端需支持
+	 */
+	public Http2Engine(HttpEngine http1Engine, boolean priorKnowledge) {
+		this.http1Engine = Assert.notNull(http1Engine, "HTTP/1.1 engine must be not null!");
+		this.priorKnowledge = priorKnowledge;
+		this.threadFactory = ThreadFactoryBuilder.create().setNamePrefix("hutool-http2-reader-").setDaemon(true).build();
+	}
+
+	@Override
+	public HttpURLConnection open(URL url, Proxy proxy) throws IOException {
+		final String protocol = url.getProtocol().toLowerCase();
+		final boolean http2 = "https".equals(protocol) ? null != SET_APPLICATION_PROTOCOLS
+				: "http".equals(protocol) && this.priorKnowledge;
+		if (http2 && Route.isDirect(url, proxy) && false == this.http1Routes.contains(routeKey(url))) {
+			// 与JDK一致，只有HTTPS请求返回HttpsURLConnection
+			return "https".equals(protocol) ? new DelegatingHttpsURLConnection(url, owner -> new Http2URLConnection(url, this, owner))
+					: new Http2URLConnection(url, this, null);
+		}
+		return this.http1Engine.open(url, proxy);
+	}
+
+	/**
+	 * 获取当前打开的HTTP/2连接数
+	 *
+	 * @return 连接数
+	 */
+	public int getConnectionCount() {
+		return this.connections.size();
+	}
+
+	/**
+	 * 关闭所有HTTP/2连接和HTTP/1.1引擎
+	 */
+	@Override
+	public void close() {
+		for (Http2Connection connection : new ArrayList<>(this.connections.values())) {
+			connection.close();
+		}
+		this.connections.clear();
+		this.http1Engine.close();
+	}
+
+	/**
+	 * 获取路由对应的HTTP/2连接，不存在时新建
+	 *
+	 * @param route          路由
+	 * @param connectTimeout 连接超时，单位毫秒
+	 * @param readTimeout    TLS握手的读取超时，单位毫秒
+	 * @return HTTP/2连接，服务端不支持HTTP/2时返回{@code null}
+	 * @throws IOException IO异常
+	 */
+	Http2Connection getConnection(Route route, int connectTimeout, int readTimeout) throws IOException {
+		Http2Connection connection = this.connections.get(route);
+		if (null != connection && connection.isUsable()) {
+			return connection;
+		}
+		synchronized (this.locks.computeIfAbsent(route, key -> new Object())) {
+			connection = this.connections.get(route);
+			if (null != connection && connection.isUsable()) {
+				return connection;
+			}
+			if (this.http1Routes.contains(route.toString())) {
+				return null;
+			}
+			final Socket socket = connect(route, connectTimeout, readTimeout);
+			if (null == socket) {
+				this.http1Routes.add(route.toString());
+				return null;
+			}
+			connection = new Http2Connection(this, route, socket);
+			try {
+				connection.start();
+			} catch (IOException e) {
+				IoUtil.close(socket);
+				throw e;
+			}
+			this.connections.put(route, connection);
+			return connection;
+		}
+	}
+
+	/**
+	 * 获取不能使用HTTP/2时的引擎
+	 *
+	 * @return HTTP/1.1引擎
+	 */
+	HttpEngine getHttp1Engine() {
+		return this.http1Engine;
+	}
+
+	/**
+	 * 移除不再接受新流的连接
+	 *
+	 * @param connection 连接
+	 */
+	void remove(Http2Connection connection) {
+		this.connections.remove(connection.route, connection);
+	}
+
+	/**
+	 * 创建连接的读取线程
+	 *
+	 * @param task 读取任务
+	 * @return 线程，未启动
+	 */
+	Thread newReaderThread(Runnable task) {
+		return this.threadFactory.newThread(task);
+	}
+
+	/**
+	 * 建立连接，HTTPS时完成握手、域名验证和ALPN协商
+	 *
+	 * @param route          路由
+	 * @param connectTimeout 连接超时，单位毫秒
+	 * @param readTimeout    TLS握手的读取超时，单位毫秒
+	 * @return 连接，服务端不支持HTTP/2时关闭连接并返回{@code null}
+	 * @throws IOException IO异常
+	 */
+	private Socket connect(Route route, int connectTimeout, int readTimeout) throws IOException {
+		Socket socket = new Socket();
+		try {
+			socket.setTcpNoDelay(true);
+			socket.connect(new InetSocketAddress(route.host, route.port), connectTimeout);
+			if (route.isHttps()) {
+				final SSLSocket sslSocket = (SSLSocket) route.ssf.createSocket(socket, route.host, route.port, true);
+				socket = sslSocket;
+				final boolean defaultVerifier = route.hostnameVerifier == HttpsURLConnection.getDefaultHostnameVerifier();
+				final SSLParameters parameters = sslSocket.getSSLParameters();
+				if (defaultVerifier) {
+					// 默认验证器总是返回false，使用JDK标准的域名验证
+					parameters.setEndpointIdentificationAlgorithm("HTTPS");
+				}
+				invoke(SET_APPLICATION_PROTOCOLS, parameters, (Object) new String[]{H2, "http/1.1"});
+				sslSocket.setSSLParameters(parameters);
+				sslSocket.setSoTimeout(readTimeout);
+				sslSocket.startHandshake();
+				if (false == defaultVerifier && false == route.hostnameVerifier.verify(route.host, sslSocket.getSession())) {
+					throw new SSLPeerUnverifiedException("Hostname " + route.host + " not verified");
+				}
+				if (false == H2.equals(invoke(GET_APPLICATION_PROTOCOL, sslSocket))) {
+					IoUtil.close(socket);
+					return null;
+				}
+			}
+			// 读取线程持续阻塞读取，超时由各个流自行控制
+			socket.setSoTimeout(0);
+			return socket;
+		} catch (IOException | RuntimeException e) {
+			IoUtil.close(socket);
+			throw e;
+		}
+	}
+
+	/**
+	 * 调用ALPN相关方法
+	 *
+	 * @param method 方法
+	 * @param target 对象
+	 * @param args   参数
+	 * @return 返回值
+	 * @throws IOException 调用失败
+	 */
+	private static Object invoke(Method method, Object target, Object... args) throws IOException {
+		try {
+			return method.invoke(target, args);
+		} catch (IllegalAccessException e) {
+			throw new IOException(e);
+		} catch (InvocationTargetException e) {
+			final Throwable cause = e.getCause();
+			throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+		}
+	}
+
+	/**
+	 * 获取URL对应的路由标识，与{@link Route#toString()}一致
+	 *
+	 * @param url URL
+	 * @return 路由标识
+	 */
+	private static String routeKey(URL url) {
+		return url.getProtocol().toLowerCase() + "://" + url.getHost() + ":" + (-1 == url.getPort() ? url.getDefaultPort() : url.getPort());
+	}
+}
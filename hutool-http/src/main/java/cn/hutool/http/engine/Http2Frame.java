@@ -0,0 +1,201 @@
+package cn.hutool.http.engine;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * HTTP/2帧，见RFC 7540 4.1，包括帧类型、标志、错误码和设置项等常量
+ *
+ * <pre>
+ * +-----------------------------------------------+
+ * |                 Length (24)                   |
+ * +---------------+---------------+---------------+
+ * |   Type (8)    |   Flags (8)   |
+ * +-+-------------+---------------+-------------------------------+
+ * |R|                 Stream Identifier (31)                      |
+ * +=+=============================================================+
+ * |                   Frame Payload (0...)                      ...
+ * +---------------------------------------------------------------+
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class Http2Frame {
+
+	/**
+	 * 连接前言，客户端在连接建立后首先发送
+	 */
+	static final byte[] CONNECTION_PREFACE = "PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n".getBytes();
+	static final int HEADER_LENGTH = 9;
+	/**
+	 * 帧最大负载长度的默认值
+	 */
+	static final int DEFAULT_MAX_FRAME_SIZE = 16384;
+	/**
+	 * 流控窗口的默认值
+	 */
+	static final int DEFAULT_WINDOW_SIZE = 65535;
+
+	// 帧类型
+	static final int DATA = 0x0;
+	static final int HEADERS = 0x1;
+	static final int PRIORITY = 0x2;
+	static final int RST_STREAM = 0x3;
+	static final int SETTINGS = 0x4;
+	static final int PUSH_PROMISE = 0x5;
+	static final int PING = 0x6;
+	static final int GOAWAY = 0x7;
+	static final int WINDOW_UPDATE = 0x8;
+	static final int CONTINUATION = 0x9;
+
+	// 帧标志
+	static final int FLAG_END_STREAM = 0x1;
+	static final int FLAG_ACK = 0x1;
+	static final int FLAG_END_HEADERS = 0x4;
+	static final int FLAG_PADDED = 0x8;
+	static final int FLAG_PRIORITY = 0x20;
+
+	// 设置项
+	static final int SETTINGS_HEADER_TABLE_SIZE = 0x1;
+	static final int SETTINGS_ENABLE_PUSH = 0x2;
+	static final int SETTINGS_MAX_CONCURRENT_STREAMS = 0x3;
+	static final int SETTINGS_INITIAL_WINDOW_SIZE = 0x4;
+	static final int SETTINGS_MAX_FRAME_SIZE = 0x5;
+	static final int SETTINGS_MAX_HEADER_LIST_SIZE = 0x6;
+
+	// 错误码
+	static final int NO_ERROR = 0x0;
+	static final int PROTOCOL_ERROR = 0x1;
+	static final int INTERNAL_ERROR = 0x2;
+	static final int FLOW_CONTROL_ERROR = 0x3;
+	static final int STREAM_CLOSED = 0x5;
+	static final int FRAME_SIZE_ERROR = 0x6;
+	static final int REFUSED_STREAM = 0x7;
+	static final int CANCEL = 0x8;
+	static final int COMPRESSION_ERROR = 0x9;
+	static final int ENHANCE_YOUR_CALM = 0xb;
+
+	final int type;
+	final int flags;
+	final int streamId;
+	final byte[] payload;
+
+	/**
+	 * 构造
+	 *
+	 * @param type     帧类型
+	 * @param flags    标志
+	 * @param streamId 流ID，0表示连接级别的帧
+	 * @param payload  负载
+	 */
+	Http2Frame(int type, int flags, int streamId, byte[] payload) {
+		this.type = type;
+		this.flags = flags;
+		this.streamId = streamId;
+		this.payload = payload;
+	}
+
+	/**
+	 * 是否包含指定标志
+	 *
+	 * @param flag 标志
+	 * @return 是否包含
+	 */
+	boolean hasFlag(int flag) {
+		return (this.flags & flag) != 0;
+	}
+
+	/**
+	 * 读取负载中指定位置的32位整数
+	 *
+	 * @param offset 位置
+	 * @return 整数
+	 */
+	int readInt(int offset) {
+		return ((payload[offset] & 0xFF) << 24) | ((payload[offset + 1] & 0xFF) << 16)
+				| ((payload[offset + 2] & 0xFF) << 8) | (payload[offset + 3] & 0xFF);
+	}
+
+	/**
+	 * 读取一个帧
+	 *
+	 * @param in           输入流
+	 * @param maxFrameSize 允许的最大负载长度
+	 * @return 帧
+	 * @throws IOException 连接已关闭或帧过大
+	 */
+	static Http2Frame read(InputStream in, int maxFrameSize) throws IOException {
+		final byte[] header = new byte[HEADER_LENGTH];
+		readFully(in, header);
+		final int length = ((header[0] & 0xFF) << 16) | ((header[1] & 0xFF) << 8) | (header[2] & 0xFF);
+		if (length > maxFrameSize) {
+			throw new IOException("HTTP/2 frame too large: " + length);
+		}
+		final int streamId = (((header[5] & 0x7F) << 24) | ((header[6] & 0xFF) << 16)
+				| ((header[7] & 0xFF) << 8) | (header[8] & 0xFF));
+		final byte[] payload = new byte[length];
+		readFully(in, payload);
+		return new Http2Frame(header[3] & 0xFF, header[4] & 0xFF, streamId, payload);
+	}
+
+	/**
+	 * 写出一个帧，不刷新
+	 *
+	 * @param out      输出流
+	 * @param type     帧类型
+	 * @param flags    标志
+	 * @param streamId 流ID
+	 * @param payload  负载
+	 * @param offset   负载开始位置
+	 * @param length   负载长度
+	 * @throws IOException IO异常
+	 */
+	static void write(OutputStream out, int type, int flags, int streamId, byte[] payload, int offset, int length) throws IOException {
+		final byte[] header = {
+				(byte) (length >>> 16), (byte) (length >>> 8), (byte) length,
+				(byte) type, (byte) flags,
+				(byte) (streamId >>> 24), (byte) (streamId >>> 16), (byte) (streamId >>> 8), (byte) streamId
+		};
+		out.write(header);
+		if (length > 0) {
+			out.write(payload, offset, length);
+		}
+	}
+
+	/**
+	 * 将32位整数写入数组
+	 *
+	 * @param value  值
+	 * @param dest   目标数组
+	 * @param offset 位置
+	 * @return 目标数组
+	 */
+	static byte[] putInt(int value, byte[] dest, int offset) {
+		dest[offset] = (byte) (value >>> 24);
+		dest[offset + 1] = (byte) (value >>> 16);
+		dest[offset + 2] = (byte) (value >>> 8);
+		dest[offset + 3] = (byte) value;
+		return dest;
+	}
+
+	/**
+	 * 读满数组
+	 *
+	 * @param in   输入流
+	 * @param dest 目标数组
+	 * @throws IOException 连接已关闭
+	 */
+	private static void readFully(InputStream in, byte[] dest) throws IOException {
+		int offset = 0;
+		while (offset < dest.length) {
+			final int n = in.read(dest, offset, dest.length - offset);
+			if (n < 0) {
+				throw new EOFException("HTTP/2 connection closed");
+			}
+			offset += n;
+		}
+	}
+}
@@ -0,0 +1,312 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.lang.Pair;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ProtocolException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * HTTP/2流，即一次请求响应交换<br>
+ * 响应头和响应体由{@link Http2Connection}的读取线程写入，业务线程阻塞等待；
+ * 响应体读取后才向服务端发送流级别的WINDOW_UPDATE，未读取的数据不超过一个接收窗口。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class Http2Stream {
+
+	final int id;
+	private final Http2Connection connection;
+	/**
+	 * 发送窗口，由{@link Http2Connection}的监视器锁保护
+	 */
+	long sendWindow;
+
+	private ResponseHead head;
+	private final ArrayDeque<byte[]> chunks = new ArrayDeque<>();
+	/**
+	 * 第一个数据块已读取的位置
+	 */
+	private int chunkPosition;
+	private int bufferedBytes;
+	/**
+	 * 已读取但未通知服务端的字节数
+	 */
+	private int unackedBytes;
+	/**
+	 * 是否已收到服务端的END_STREAM
+	 */
+	private boolean remoteClosed;
+	private IOException failure;
+	/**
+	 * 服务端是否未处理此流即拒绝，此时可在新连接上重试
+	 */
+	private boolean refused;
+
+	/**
+	 * 构造
+	 *
+	 * @param connection 所属连接
+	 * @param id         流ID
+	 * @param sendWindow 初始发送窗口
+	 */
+	Http2Stream(Http2Connection connection, int id, long sendWindow) {
+		this.connection = connection;
+		this.id = id;
+		this.sendWindow = sendWindow;
+	}
+
+	/**
+	 * 等待响应头
+	 *
+	 * @param timeout 超时，单位毫秒，0表示不超时
+	 * @return 响应头
+	 * @throws IOException 流失败或超时
+	 */
+	ResponseHead awaitHead(int timeout) throws IOException {
+		synchronized (this) {
+			final long deadline = System.currentTimeMillis() + timeout;
+			while (null == this.head && null == this.failure) {
+				if (false == await(deadline, timeout)) {
+					break;
+				}
+			}
+			if (null != this.head) {
+				return this.head;
+			}
+			if (null != this.failure) {
+				throw this.failure;
+			}
+		}
+		cancel();
+		throw new SocketTimeoutException("Read timed out");
+	}
+
+	/**
+	 * 获取响应体流
+	 *
+	 * @param timeout 读取超时，单位毫秒，0表示不超时
+	 * @return 响应体流
+	 */
+	InputStream getInputStream(int timeout) {
+		return new BodyInputStream(timeout);
+	}
+
+	/**
+	 * 服务端是否未处理此流即拒绝（GOAWAY或REFUSED_STREAM），此时请求可安全地在新连接上重试
+	 *
+	 * @return 是否被拒绝
+	 */
+	synchronized boolean isRefused() {
+		return this.refused;
+	}
+
+	/**
+	 * 服务端是否已结束发送，此时无需继续发送请求体
+	 *
+	 * @return 是否已结束
+	 */
+	synchronized boolean isRemoteClosed() {
+		return this.remoteClosed || null != this.failure;
+	}
+
+	/**
+	 * 取消流，响应未完整接收时向服务端发送RST_STREAM
+	 */
+	void cancel() {
+		synchronized (this) {
+			this.chunks.clear();
+			this.bufferedBytes = 0;
+			if (this.remoteClosed || null != this.failure) {
+				return;
+			}
+			this.failure = new IOException("Stream cancelled");
+			notifyAll();
+		}
+		this.connection.resetStream(this, Http2Frame.CANCEL);
+	}
+
+	/**
+	 * 收到头信息块，第一个非1xx的为响应头，之后的为trailers（忽略）
+	 *
+	 * @param headers   头信息
+	 * @param endStream 是否为流的最后一帧
+	 * @return 流是否已结束
+	 * @throws ProtocolException 缺少:status
+	 */
+	synchronized boolean onHeaders(List<Pair<String, String>> headers, boolean endStream) throws ProtocolException {
+		if (null == this.head) {
+			String status = null;
+			for (Pair<String, String> header : headers) {
+				if (":status".equals(header.getKey())) {
+					status = header.getValue();
+				}
+			}
+			if (null == status) {
+				throw new ProtocolException("Missing :status in HTTP/2 response");
+			}
+			final ResponseHead head = new ResponseHead("HTTP/2 " + status);
+			if (head.isInformational()) {
+				// 临时响应后还有最终响应
+				return false;
+			}
+			for (Pair<String, String> header : headers) {
+				if (false == header.getKey().startsWith(":")) {
+					head.addHeader(header.getKey(), header.getValue());
+				}
+			}
+			this.head = head;
+		}
+		if (endStream) {
+			this.remoteClosed = true;
+		}
+		notifyAll();
+		return this.remoteClosed;
+	}
+
+	/**
+	 * 收到响应体数据
+	 *
+	 * @param data      数据
+	 * @param offset    开始位置
+	 * @param length    长度
+	 * @param endStream 是否为流的最后一帧
+	 * @return 流是否已结束
+	 * @throws ProtocolException 超出接收窗口或响应头之前收到数据
+	 */
+	synchronized boolean onData(byte[] data, int offset, int length, boolean endStream) throws ProtocolException {
+		if (null == this.head) {
+			throw new ProtocolException("DATA before HEADERS");
+		}
+		if (this.bufferedBytes + length > Http2Connection.LOCAL_STREAM_WINDOW) {
+			throw new ProtocolException("Stream flow control window exceeded");
+		}
+		if (null == this.failure && length > 0) {
+			this.chunks.add(Arrays.copyOfRange(data, offset, offset + length));
+			this.bufferedBytes += length;
+		}
+		if (endStream) {
+			this.remoteClosed = true;
+		}
+		notifyAll();
+		return this.remoteClosed;
+	}
+
+	/**
+	 * 流失败，已完整接收的响应不受影响
+	 *
+	 * @param e       异常
+	 * @param refused 服务端是否未处理此流
+	 */
+	synchronized void fail(IOException e, boolean refused) {
+		if (this.remoteClosed || null != this.failure) {
+			return;
+		}
+		this.failure = e;
+		this.refused = refused;
+		notifyAll();
+	}
+
+	/**
+	 * 在监视器上等待
+	 *
+	 * @param deadline 截止时间
+	 * @param timeout  超时，0表示不超时
+	 * @return 是否未超时
+	 * @throws IOException 等待被中断
+	 */
+	private boolean await(long deadline, int timeout) throws IOException {
+		try {
+			if (timeout <= 0) {
+				wait();
+				return true;
+			}
+			final long remaining = deadline - System.currentTimeMillis();
+			if (remaining <= 0) {
+				return false;
+			}
+			wait(remaining);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * 响应体流，读取后向服务端发送WINDOW_UPDATE
+	 */
+	private final class BodyInputStream extends InputStream {
+
+		private final int timeout;
+
+		BodyInputStream(int timeout) {
+			this.timeout = timeout;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final byte[] b = new byte[1];
+			return -1 == read(b, 0, 1) ? -1 : b[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (0 == len) {
+				return 0;
+			}
+			final int n;
+			int windowUpdate = 0;
+			synchronized (Http2Stream.this) {
+				final long deadline = System.currentTimeMillis() + this.timeout;
+				while (chunks.isEmpty() && false == remoteClosed && null == failure) {
+					if (false == await(deadline, this.timeout)) {
+						throw new SocketTimeoutException("Read timed out");
+					}
+				}
+				if (chunks.isEmpty()) {
+					if (remoteClosed) {
+						return -1;
+					}
+					throw failure;
+				}
+				final byte[] chunk = chunks.peek();
+				n = Math.min(len, chunk.length - chunkPosition);
+				System.arraycopy(chunk, chunkPosition, b, off, n);
+				chunkPosition += n;
+				if (chunkPosition == chunk.length) {
+					chunks.poll();
+					chunkPosition = 0;
+				}
+				bufferedBytes -= n;
+				unackedBytes += n;
+				if (false == remoteClosed && unackedBytes >= Http2Connection.LOCAL_STREAM_WINDOW / 2) {
+					windowUpdate = unackedBytes;
+					unackedBytes = 0;
+				}
+			}
+			if (windowUpdate > 0) {
+				connection.sendWindowUpdate(id, windowUpdate);
+			}
+			return n;
+		}
+
+		@Override
+		public int available() {
+			synchronized (Http2Stream.this) {
+				return bufferedBytes;
+			}
+		}
+
+		@Override
+		public void close() {
+			// 未读完时取消流，避免服务端继续发送
+			cancel();
+		}
+	}
+}
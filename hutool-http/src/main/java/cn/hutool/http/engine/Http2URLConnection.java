@@ -0,0 +1,434 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.lang.Pair;
+import cn.hutool.core.util.StrUtil;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ProtocolException;
+import java.net.Proxy;
+import java.net.URL;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@link Http2Engine}使用的{@link HttpURLConnection}实现，请求作为HTTP/2流发送<br>
+ * 请求体缓存在内存中，读取响应时发送请求。服务端协商结果为HTTP/1.1时，本次请求转由HTTP/1.1引擎打开的连接处理。<br>
+ * HTTPS请求由{@link DelegatingHttpsURLConnection}包装，HTTPS配置从包装的连接获取。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class Http2URLConnection extends HttpURLConnection implements SecureConnection {
+
+	/**
+	 * HTTP/2中不允许的连接相关请求头，见RFC 7540 8.1.2.2
+	 */
+	private static final String[] CONNECTION_HEADERS = {
+			"connection", "keep-alive", "proxy-connection", "transfer-encoding", "upgrade", "host", "content-length"
+	};
+	/**
+	 * 服务端拒绝流时的最大尝试次数
+	 */
+	private static final int MAX_ATTEMPTS = 5;
+
+	private final Http2Engine engine;
+	/**
+	 * 包装此连接的HTTPS连接，HTTP请求为{@code null}
+	 */
+	private final HttpsURLConnection https;
+	private Route route;
+	private Map<String, List<String>> requestHeaders;
+	private FastByteArrayOutputStream bufferedBody;
+
+	private Http2Connection connection;
+	private Http2Stream stream;
+	private ResponseHead responseHead;
+	private InputStream bodyStream;
+	private IOException failure;
+	/**
+	 * 服务端不支持HTTP/2时实际处理请求的连接
+	 */
+	private HttpURLConnection delegate;
+
+	/**
+	 * 构造
+	 *
+	 * @param url    URL
+	 * @param engine HTTP/2引擎
+	 * @param https  包装此连接的HTTPS连接，HTTP请求为{@code null}
+	 */
+	Http2URLConnection(URL url, Http2Engine engine, HttpsURLConnection https) {
+		super(url);
+		this.engine = engine;
+		this.https = https;
+	}
+
+	@Override
+	public void setRequestMethod(String method) throws ProtocolException {
+		if (connected) {
+			throw new ProtocolException("Can't reset method: already connected");
+		}
+		if (StrUtil.isBlank(method)) {
+			throw new ProtocolException("Invalid HTTP method: " + method);
+		}
+		this.method = method;
+	}
+
+	@Override
+	public void setRequestProperty(String key, String value) {
+		HttpCodec.checkHeader(key, value);
+		super.setRequestProperty(key, value);
+	}
+
+	@Override
+	public void addRequestProperty(String key, String value) {
+		HttpCodec.checkHeader(key, value);
+		super.addRequestProperty(key, value);
+	}
+
+	@Override
+	public boolean usingProxy() {
+		return false;
+	}
+
+	@Override
+	public void connect() {
+		if (connected) {
+			return;
+		}
+		final String scheme = url.getProtocol().toLowerCase();
+		final int port = -1 == url.getPort() ? url.getDefaultPort() : url.getPort();
+		this.route = null != this.https
+				? new Route(scheme, url.getHost(), port, this.https.getSSLSocketFactory(), this.https.getHostnameVerifier())
+				: new Route(scheme, url.getHost(), port, null, null);
+		// 实际连接在发送请求时建立或复用
+		this.requestHeaders = getRequestProperties();
+		HttpCodec.checkRequestHead(method, url, this.requestHeaders);
+		connected = true;
+	}
+
+	@Override
+	public void disconnect() {
+		if (null != this.delegate) {
+			this.delegate.disconnect();
+		} else if (null != this.stream) {
+			this.stream.cancel();
+		}
+	}
+
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		if (false == doOutput) {
+			throw new ProtocolException("cannot write to a URLConnection if doOutput=false - call setDoOutput(true)");
+		}
+		if (null != this.responseHead || null != this.delegate || null != this.failure) {
+			throw new ProtocolException("Cannot write output after reading input.");
+		}
+		connect();
+		if (null == this.bufferedBody) {
+			this.bufferedBody = new FastByteArrayOutputStream();
+		}
+		return this.bufferedBody;
+	}
+
+	@Override
+	public int getResponseCode() throws IOException {
+		exchange();
+		return null != this.delegate ? this.delegate.getResponseCode() : this.responseHead.code;
+	}
+
+	@Override
+	public String getResponseMessage() throws IOException {
+		exchange();
+		return null != this.delegate ? this.delegate.getResponseMessage() : this.responseHead.message;
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		if (false == doInput) {
+			throw new ProtocolException("Cannot read from URLConnection if doInput=false (call setDoInput(true))");
+		}
+		exchange();
+		if (null != this.delegate) {
+			return this.delegate.getInputStream();
+		}
+		final int code = this.responseHead.code;
+		if (code >= HTTP_BAD_REQUEST) {
+			if (HTTP_NOT_FOUND == code || HTTP_GONE == code) {
+				throw new FileNotFoundException(url.toString());
+			}
+			throw new IOException(StrUtil.format("Server returned HTTP response code: {} for URL: {}", code, url));
+		}
+		return getBodyStream();
+	}
+
+	@Override
+	public InputStream getErrorStream() {
+		if (null != this.delegate) {
+			return this.delegate.getErrorStream();
+		}
+		if (null != this.responseHead && this.responseHead.code >= HTTP_BAD_REQUEST) {
+			return getBodyStream();
+		}
+		return null;
+	}
+
+	@Override
+	public Map<String, List<String>> getHeaderFields() {
+		try {
+			exchange();
+		} catch (IOException e) {
+			return Collections.emptyMap();
+		}
+		return null != this.delegate ? this.delegate.getHeaderFields() : this.responseHead.getHeaderFields();
+	}
+
+	@Override
+	public String getHeaderField(String name) {
+		try {
+			exchange();
+		} catch (IOException e) {
+			return null;
+		}
+		return null != this.delegate ? this.delegate.getHeaderField(name) : this.responseHead.getHeaderField(name);
+	}
+
+	@Override
+	public String getHeaderFieldKey(int n) {
+		try {
+			exchange();
+		} catch (IOException e) {
+			return null;
+		}
+		return null != this.delegate ? this.delegate.getHeaderFieldKey(n) : this.responseHead.getHeaderFieldKey(n);
+	}
+
+	@Override
+	public String getHeaderField(int n) {
+		try {
+			exchange();
+		} catch (IOException e) {
+			return null;
+		}
+		return null != this.delegate ? this.delegate.getHeaderField(n) : this.responseHead.getHeaderField(n);
+	}
+
+	@Override
+	public String getCipherSuite() {
+		if (this.delegate instanceof HttpsURLConnection) {
+			return ((HttpsURLConnection) this.delegate).getCipherSuite();
+		}
+		return getSslSession().getCipherSuite();
+	}
+
+	@Override
+	public Certificate[] getLocalCertificates() {
+		if (this.delegate instanceof HttpsURLConnection) {
+			return ((HttpsURLConnection) this.delegate).getLocalCertificates();
+		}
+		return getSslSession().getLocalCertificates();
+	}
+
+	@Override
+	public Certificate[] getServerCertificates() throws SSLPeerUnverifiedException {
+		if (this.delegate instanceof HttpsURLConnection) {
+			return ((HttpsURLConnection) this.delegate).getServerCertificates();
+		}
+		return getSslSession().getPeerCertificates();
+	}
+
+	/**
+	 * 发送请求并等待响应头，已发送时直接返回
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void exchange() throws IOException {
+		if (null != this.responseHead || null != this.delegate) {
+			return;
+		}
+		if (null != this.failure) {
+			throw this.failure;
+		}
+		connect();
+		try {
+			for (int attempt = 1; ; attempt++) {
+				final Http2Connection connection = this.engine.getConnection(this.route, getConnectTimeout(), getReadTimeout());
+				if (null == connection) {
+					this.delegate = openHttp1();
+					return;
+				}
+				if (sendRequest(connection) || attempt >= MAX_ATTEMPTS) {
+					break;
+				}
+				// 服务端未处理此流或连接已关闭，在新连接上重试
+			}
+			if (null == this.responseHead) {
+				throw new IOException("HTTP/2 stream refused by server: " + url);
+			}
+		} catch (IOException e) {
+			this.failure = e;
+			throw e;
+		}
+	}
+
+	/**
+	 * 在连接上发送请求并等待响应头
+	 *
+	 * @param connection HTTP/2连接
+	 * @return 是否已处理，{@code false}表示可在新连接上重试
+	 * @throws IOException IO异常
+	 */
+	private boolean sendRequest(Http2Connection connection) throws IOException {
+		final boolean hasBody = null != this.bufferedBody && this.bufferedBody.size() > 0;
+		final Http2Stream stream = connection.newStream(encodeHeaders(), false == hasBody, getConnectTimeout());
+		if (null == stream) {
+			return false;
+		}
+		this.connection = connection;
+		this.stream = stream;
+		try {
+			if (hasBody) {
+				final byte[] body = this.bufferedBody.toByteArray();
+				connection.writeData(stream, body, 0, body.length, true, getReadTimeout());
+			}
+			this.responseHead = stream.awaitHead(getReadTimeout());
+			return true;
+		} catch (IOException e) {
+			if (stream.isRefused()) {
+				return false;
+			}
+			stream.cancel();
+			throw e;
+		}
+	}
+
+	/**
+	 * 编码HTTP/2请求头，包括伪头，去掉连接相关的请求头，名称转为小写
+	 *
+	 * @return 请求头
+	 */
+	private List<Pair<String, String>> encodeHeaders() {
+		final List<Pair<String, String>> headers = new ArrayList<>(this.requestHeaders.size() + 5);
+		final String file = url.getFile();
+		String authority = HttpCodec.getHeader(this.requestHeaders, "Host");
+		if (null == authority) {
+			authority = -1 == url.getPort() || url.getPort() == url.getDefaultPort()
+					? url.getHost() : url.getHost() + ":" + url.getPort();
+		}
+		headers.add(new Pair<>(":method", method));
+		headers.add(new Pair<>(":scheme", this.route.scheme));
+		headers.add(new Pair<>(":authority", authority));
+		headers.add(new Pair<>(":path", StrUtil.isEmpty(file) ? "/" : file));
+
+		for (Map.Entry<String, List<String>> entry : this.requestHeaders.entrySet()) {
+			if (null == entry.getKey()) {
+				continue;
+			}
+			final String name = entry.getKey().trim().toLowerCase(Locale.ROOT);
+			if (isConnectionHeader(name)) {
+				continue;
+			}
+			for (String value : entry.getValue()) {
+				// TE只允许trailers
+				if (null != value && (false == "te".equals(name) || "trailers".equalsIgnoreCase(value.trim()))) {
+					// RFC 9113 8.2.1，名和值不能包含CR、LF和NUL
+					HttpCodec.checkHeader(name, value);
+					headers.add(new Pair<>(name, value));
+				}
+			}
+		}
+
+		if (null != this.bufferedBody) {
+			headers.add(new Pair<>("content-length", String.valueOf(this.bufferedBody.size())));
+		} else if ("POST".equals(method) || "PUT".equals(method)) {
+			headers.add(new Pair<>("content-length", "0"));
+		}
+		return headers;
+	}
+
+	/**
+	 * 服务端不支持HTTP/2时，使用HTTP/1.1引擎打开连接并发送请求
+	 *
+	 * @return HTTP/1.1连接
+	 * @throws IOException IO异常
+	 */
+	private HttpURLConnection openHttp1() throws IOException {
+		final HttpURLConnection conn = this.engine.getHttp1Engine().open(url, Proxy.NO_PROXY);
+		conn.setRequestMethod(method);
+		conn.setConnectTimeout(getConnectTimeout());
+		conn.setReadTimeout(getReadTimeout());
+		conn.setInstanceFollowRedirects(getInstanceFollowRedirects());
+		conn.setUseCaches(getUseCaches());
+		conn.setDoInput(getDoInput());
+		conn.setDoOutput(getDoOutput());
+		if (null != this.https && conn instanceof HttpsURLConnection) {
+			((HttpsURLConnection) conn).setSSLSocketFactory(this.https.getSSLSocketFactory());
+			((HttpsURLConnection) conn).setHostnameVerifier(this.https.getHostnameVerifier());
+		}
+		for (Map.Entry<String, List<String>> entry : this.requestHeaders.entrySet()) {
+			if (null != entry.getKey()) {
+				for (String value : entry.getValue()) {
+					conn.addRequestProperty(entry.getKey(), value);
+				}
+			}
+		}
+		if (null != this.bufferedBody) {
+			try (final OutputStream out = conn.getOutputStream()) {
+				this.bufferedBody.writeTo(out);
+			}
+		}
+		return conn;
+	}
+
+	/**
+	 * 获取响应体流
+	 *
+	 * @return 响应体流
+	 */
+	private InputStream getBodyStream() {
+		if (null == this.bodyStream) {
+			this.bodyStream = this.stream.getInputStream(getReadTimeout());
+		}
+		return this.bodyStream;
+	}
+
+	/**
+	 * 获取HTTPS连接的{@link SSLSession}
+	 *
+	 * @return {@link SSLSession}
+	 */
+	private SSLSession getSslSession() {
+		final SSLSession session = null == this.connection ? null : this.connection.getSslSession();
+		if (null == session) {
+			throw new IllegalStateException("connection not yet open");
+		}
+		return session;
+	}
+
+	/**
+	 * 是否为HTTP/2中不允许的连接相关请求头
+	 *
+	 * @param name 小写的请求头名
+	 * @return 是否不允许
+	 */
+	private static boolean isConnectionHeader(String name) {
+		for (String header : CONNECTION_HEADERS) {
+			if (header.equals(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,169 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.util.StrUtil;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP/1.1报文编码相关工具
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class HttpCodec {
+
+	private HttpCodec() {
+	}
+
+	/**
+	 * 编码请求行和请求头<br>
+	 * 未设置Host和Connection时自动补充，Content-Length和Transfer-Encoding根据请求体计算，忽略用户设置的值。<br>
+	 * 请求方法、路径和请求头中包含CR、LF等非法字符时抛出异常，避免请求头注入
+	 *
+	 * @param method            请求方法
+	 * @param url               URL
+	 * @param headers           请求头
+	 * @param contentLength     请求体长度，-1表示无请求体或使用分块传输
+	 * @param chunked           是否使用分块传输
+	 * @param defaultConnection 未设置Connection时的默认值
+	 * @return 请求行和请求头的字节
+	 * @throws IllegalArgumentException 包含非法字符
+	 */
+	static byte[] encodeRequestHead(String method, URL url, Map<String, List<String>> headers,
+									long contentLength, boolean chunked, String defaultConnection) {
+		checkRequestHead(method, url, headers);
+		final StringBuilder head = new StringBuilder(256);
+		final String file = url.getFile();
+		head.append(method).append(' ').append(StrUtil.isEmpty(file) ? "/" : file).append(" HTTP/1.1\r\n");
+
+		if (null == getHeader(headers, "Host")) {
+			head.append("Host: ").append(url.getHost());
+			if (-1 != url.getPort() && url.getPort() != url.getDefaultPort()) {
+				head.append(':').append(url.getPort());
+			}
+			head.append("\r\n");
+		}
+		if (null == getHeader(headers, "Connection")) {
+			head.append("Connection: ").append(defaultConnection).append("\r\n");
+		}
+		for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+			final String name = entry.getKey();
+			if (null == name || "Content-Length".equalsIgnoreCase(name) || "Transfer-Encoding".equalsIgnoreCase(name)) {
+				continue;
+			}
+			for (String value : entry.getValue()) {
+				if (null != value) {
+					head.append(name).append(": ").append(value).append("\r\n");
+				}
+			}
+		}
+
+		if (chunked) {
+			head.append("Transfer-Encoding: chunked\r\n");
+		} else if (contentLength >= 0) {
+			head.append("Content-Length: ").append(contentLength).append("\r\n");
+		} else if ("POST".equals(method) || "PUT".equals(method)) {
+			head.append("Content-Length: 0\r\n");
+		}
+		head.append("\r\n");
+
+		return head.toString().getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * 检查请求方法、URL和请求头中是否包含CR、LF等非法字符，避免请求头注入<br>
+	 * 连接建立前调用，请求头非法时不占用连接
+	 *
+	 * @param method  请求方法
+	 * @param url     URL
+	 * @param headers 请求头
+	 * @throws IllegalArgumentException 包含非法字符
+	 */
+	static void checkRequestHead(String method, URL url, Map<String, List<String>> headers) {
+		if (hasIllegalChar(method) || method.indexOf(' ') >= 0) {
+			throw new IllegalArgumentException("Illegal character(s) in HTTP method: " + method);
+		}
+		if (hasIllegalChar(url.getFile()) || hasIllegalChar(url.getHost())) {
+			throw new IllegalArgumentException("Illegal character(s) in URL: " + url);
+		}
+		for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+			for (String value : entry.getValue()) {
+				checkHeader(entry.getKey(), value);
+			}
+		}
+	}
+
+	/**
+	 * 检查请求头名和值，与JDK的{@code HttpURLConnection}一样在设置请求头时调用，避免请求头注入（CRLF注入）<br>
+	 * 名和值不能包含CR、LF和NUL，名不能包含冒号；不支持已废弃的多行值（obs-fold）
+	 *
+	 * @param name  请求头名，{@code null}忽略
+	 * @param value 请求头值，{@code null}忽略
+	 * @throws IllegalArgumentException 包含非法字符
+	 */
+	static void checkHeader(String name, String value) {
+		if (null != name && (hasIllegalChar(name) || name.indexOf(':') >= 0)) {
+			throw new IllegalArgumentException("Illegal character(s) in message header field: " + name);
+		}
+		if (null != value && hasIllegalChar(value)) {
+			throw new IllegalArgumentException("Illegal character(s) in message header value: " + value);
+		}
+	}
+
+	/**
+	 * 是否包含报文中不允许的字符，即CR、LF和NUL
+	 *
+	 * @param str 字符串，{@code null}返回{@code false}
+	 * @return 是否包含
+	 */
+	static boolean hasIllegalChar(String str) {
+		if (null == str) {
+			return false;
+		}
+		for (int i = 0; i < str.length(); i++) {
+			final char c = str.charAt(i);
+			if ('\r' == c || '\n' == c || '\0' == c) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 获取请求头的第一个值，忽略大小写
+	 *
+	 * @param headers 请求头
+	 * @param name    请求头名
+	 * @return 值，不存在返回{@code null}
+	 */
+	static String getHeader(Map<String, List<String>> headers, String name) {
+		for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+			if (null != entry.getKey() && entry.getKey().equalsIgnoreCase(name) && false == entry.getValue().isEmpty()) {
+				return entry.getValue().get(0);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 逗号分隔的头信息值中是否包含指定值，忽略大小写
+	 *
+	 * @param value 头信息值
+	 * @param token 指定值
+	 * @return 是否包含
+	 */
+	static boolean containsToken(String value, String token) {
+		if (null == value) {
+			return false;
+		}
+		for (String part : StrUtil.splitTrim(value, ',')) {
+			if (part.equalsIgnoreCase(token)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,38 @@
+package cn.hutool.http.engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.Proxy;
+import java.net.URL;
+
+/**
+ * Http客户端引擎接口<br>
+ * 引擎负责为每次请求打开一个{@link HttpURLConnection}，{@link cn.hutool.http.HttpRequest}的各项设置（方法、请求头、超时、HTTPS等）
+ * 均通过{@link HttpURLConnection}的标准方法设置，因此替换引擎后原有API无需修改。<br>
+ * 全局引擎通过{@link cn.hutool.http.HttpGlobalConfig#setEngine(HttpEngine)}设置，
+ * 未设置时通过SPI（META-INF/services/cn.hutool.http.engine.HttpEngine）查找，找不到时使用{@link JdkHttpEngine}。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public interface HttpEngine extends Closeable {
+
+	/**
+	 * 打开Http连接，此时不建立网络连接
+	 *
+	 * @param url   URL
+	 * @param proxy 代理，无代理传{@code null}
+	 * @return {@link HttpURLConnection}，HTTPS请求应返回{@link javax.net.ssl.HttpsURLConnection}
+	 * @throws IOException IO异常
+	 */
+	HttpURLConnection open(URL url, Proxy proxy) throws IOException;
+
+	/**
+	 * 关闭引擎，释放引擎持有的连接等资源，默认无操作
+	 */
+	@Override
+	default void close() {
+		// do nothing
+	}
+}
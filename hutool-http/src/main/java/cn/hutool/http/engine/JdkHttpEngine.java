@@ -0,0 +1,34 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.http.HttpException;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.Proxy;
+import java.net.URL;
+import java.net.URLConnection;
+
+/**
+ * 基于JDK的{@link HttpURLConnection}的Http客户端引擎，连接复用由JDK的Keep-Alive缓存管理<br>
+ * 支持URL中自定义的{@link java.net.URLStreamHandler}
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class JdkHttpEngine implements HttpEngine {
+
+	/**
+	 * 单例
+	 */
+	public static final JdkHttpEngine INSTANCE = new JdkHttpEngine();
+
+	@Override
+	public HttpURLConnection open(URL url, Proxy proxy) throws IOException {
+		final URLConnection conn = (null == proxy) ? url.openConnection() : url.openConnection(proxy);
+		if (false == conn instanceof HttpURLConnection) {
+			// 防止其它协议造成的转换异常
+			throw new HttpException("'{}' of URL [{}] is not a http connection, make sure URL is format for http.", conn.getClass().getName(), url);
+		}
+		return (HttpURLConnection) conn;
+	}
+}
@@ -0,0 +1,52 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.io.IoUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 明文连接的异步传输层，读写超时时抛出{@link java.nio.channels.InterruptedByTimeoutException}
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class PlainTransport implements AsyncTransport {
+
+	private final AsynchronousSocketChannel channel;
+	private final long timeout;
+
+	/**
+	 * 构造
+	 *
+	 * @param channel 已连接的通道
+	 * @param timeout 单次读写的超时时间，单位毫秒，小于等于0表示不超时
+	 */
+	PlainTransport(AsynchronousSocketChannel channel, long timeout) {
+		this.channel = channel;
+		this.timeout = Math.max(0, timeout);
+	}
+
+	@Override
+	public void read(ByteBuffer dst, CompletionHandler<Integer, Void> handler) {
+		this.channel.read(dst, this.timeout, TimeUnit.MILLISECONDS, null, handler);
+	}
+
+	@Override
+	public void write(ByteBuffer src, CompletionHandler<Void, Void> handler) {
+		this.channel.write(src, this.timeout, TimeUnit.MILLISECONDS, null, AsyncTransport.handler(n -> {
+			if (src.hasRemaining()) {
+				write(src, handler);
+			} else {
+				handler.completed(null, null);
+			}
+		}, e -> handler.failed(e, null)));
+	}
+
+	@Override
+	public void close() {
+		IoUtil.close(this.channel);
+	}
+}
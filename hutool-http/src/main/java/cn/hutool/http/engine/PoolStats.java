@@ -0,0 +1,110 @@
+package cn.hutool.http.engine;
+
+import java.io.Serializable;
+
+/**
+ * 连接池统计信息，为获取时的快照
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class PoolStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final int leased;
+	private final int idle;
+	private final int pending;
+	private final int max;
+	private final long created;
+	private final long reused;
+
+	/**
+	 * 构造
+	 *
+	 * @param leased  使用中的连接数
+	 * @param idle    空闲的连接数
+	 * @param pending 等待获取连接的请求数
+	 * @param max     最大连接数
+	 * @param created 累计新建的连接数
+	 * @param reused  累计复用连接的次数
+	 */
+	public PoolStats(int leased, int idle, int pending, int max, long created, long reused) {
+		this.leased = leased;
+		this.idle = idle;
+		this.pending = pending;
+		this.max = max;
+		this.created = created;
+		this.reused = reused;
+	}
+
+	/**
+	 * 获取使用中的连接数
+	 *
+	 * @return 使用中的连接数
+	 */
+	public int getLeased() {
+		return leased;
+	}
+
+	/**
+	 * 获取空闲的连接数
+	 *
+	 * @return 空闲的连接数
+	 */
+	public int getIdle() {
+		return idle;
+	}
+
+	/**
+	 * 获取等待获取连接的请求数
+	 *
+	 * @return 等待获取连接的请求数
+	 */
+	public int getPending() {
+		return pending;
+	}
+
+	/**
+	 * 获取最大连接数
+	 *
+	 * @return 最大连接数
+	 */
+	public int getMax() {
+		return max;
+	}
+
+	/**
+	 * 获取累计新建的连接数
+	 *
+	 * @return 累计新建的连接数
+	 */
+	public long getCreated() {
+		return created;
+	}
+
+	/**
+	 * 获取累计复用连接的次数
+	 *
+	 * @return 累计复用连接的次数
+	 */
+	public long getReused() {
+		return reused;
+	}
+
+	/**
+	 * 与另一统计信息相加
+	 *
+	 * @param other 另一统计信息
+	 * @return 新的统计信息
+	 */
+	PoolStats add(PoolStats other) {
+		return new PoolStats(leased + other.leased, idle + other.idle, pending + other.pending,
+				max + other.max, created + other.created, reused + other.reused);
+	}
+
+	@Override
+	public String toString() {
+		return "[leased: " + leased + "; idle: " + idle + "; pending: " + pending + "; max: " + max
+				+ "; created: " + created + "; reused: " + reused + "]";
+	}
+}
@@ -0,0 +1,70 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.io.IoUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+
+/**
+ * 连接池中的连接，持有Socket及其读写缓冲流<br>
+ * 读缓冲流在多次请求间保留，连接只有在上次响应体完整读取后才能复用
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class PooledConnection implements Closeable {
+
+	final Route route;
+	final Socket socket;
+	final InputStream in;
+	final OutputStream out;
+	/**
+	 * 最后一次归还到连接池的时间
+	 */
+	long idleSince;
+	/**
+	 * 是否为复用的连接，复用的连接可能已被服务端关闭
+	 */
+	boolean reused;
+
+	/**
+	 * 构造
+	 *
+	 * @param route  路由
+	 * @param socket 已建立连接的{@link Socket}
+	 * @throws IOException IO异常
+	 */
+	PooledConnection(Route route, Socket socket) throws IOException {
+		this.route = route;
+		this.socket = socket;
+		this.in = new BufferedInputStream(socket.getInputStream());
+		this.out = new BufferedOutputStream(socket.getOutputStream());
+	}
+
+	/**
+	 * 连接是否可用，即未关闭且服务端未关闭连接
+	 *
+	 * @return 是否可用
+	 */
+	boolean isOpen() {
+		if (this.socket.isClosed() || this.socket.isInputShutdown() || this.socket.isOutputShutdown()) {
+			return false;
+		}
+		// 空闲连接不应有未读数据，可读到数据说明服务端已关闭连接（EOF）或发送了多余数据
+		try {
+			return 0 == this.in.available();
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public void close() {
+		IoUtil.close(this.socket);
+	}
+}
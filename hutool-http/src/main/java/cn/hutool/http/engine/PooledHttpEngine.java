@@ -0,0 +1,71 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.lang.Assert;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.Proxy;
+import java.net.URL;
+
+/**
+ * 基于连接池的Http客户端引擎<br>
+ * 相同路由的请求复用连接池中的持久连接，可限制每个路由的最大连接数，并通过{@link ConnectionPool#getStats()}查看连接池状态。<br>
+ * 使用代理（包括系统代理）或非http/https协议的请求由{@link JdkHttpEngine}处理。
+ *
+ * <pre>
+ * PooledHttpEngine engine = new PooledHttpEngine(new ConnectionPool(50, 60000, 10000));
+ * HttpGlobalConfig.setEngine(engine);
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class PooledHttpEngine implements HttpEngine {
+
+	private final ConnectionPool pool;
+
+	/**
+	 * 构造，使用默认配置的连接池
+	 */
+	public PooledHttpEngine() {
+		this(new ConnectionPool());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param pool 连接池
+	 */
+	public PooledHttpEngine(ConnectionPool pool) {
+		this.pool = Assert.notNull(pool, "Connection pool must be not null!");
+	}
+
+	/**
+	 * 获取连接池
+	 *
+	 * @return 连接池
+	 */
+	public ConnectionPool getPool() {
+		return this.pool;
+	}
+
+	@Override
+	public HttpURLConnection open(URL url, Proxy proxy) throws IOException {
+		final String protocol = url.getProtocol().toLowerCase();
+		final boolean https = "https".equals(protocol);
+		if ((https || "http".equals(protocol)) && Route.isDirect(url, proxy)) {
+			// 与JDK一致，只有HTTPS请求返回HttpsURLConnection
+			return https ? new DelegatingHttpsURLConnection(url, owner -> new PooledHttpURLConnection(url, this.pool, owner))
+					: new PooledHttpURLConnection(url, this.pool, null);
+		}
+		return JdkHttpEngine.INSTANCE.open(url, proxy);
+	}
+
+	/**
+	 * 关闭连接池
+	 */
+	@Override
+	public void close() {
+		this.pool.close();
+	}
+}
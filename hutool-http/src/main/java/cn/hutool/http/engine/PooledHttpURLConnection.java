@@ -0,0 +1,836 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.StrUtil;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSocket;
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.Certificate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于{@link ConnectionPool}的{@link HttpURLConnection}实现，实现了HTTP/1.1的持久连接<br>
+ * HTTPS请求由{@link DelegatingHttpsURLConnection}包装，HTTPS配置从包装的连接获取。<br>
+ * 实现说明：
+ * <ul>
+ *     <li>请求体默认缓存在内存中，发送请求时一次写出，复用的连接已被服务端关闭时可在新连接上重发；</li>
+ *     <li>设置固定长度或分块（chunked）流模式时，请求体直接写出到连接，不缓存；</li>
+ *     <li>响应体完整读取或关闭（剩余数据较少时自动读完）后连接归还连接池，未读完的连接直接关闭；</li>
+ *     <li>不支持自动重定向（{@link #setInstanceFollowRedirects(boolean)}无效）、代理和缓存，由{@link cn.hutool.http.HttpRequest}自行处理；</li>
+ *     <li>HTTPS自定义{@link javax.net.ssl.HostnameVerifier}时仅使用自定义的验证器验证域名，否则使用JDK标准的域名验证。</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class PooledHttpURLConnection extends HttpURLConnection implements SecureConnection {
+
+	/**
+	 * 关闭未读完的响应体时最多读取的字节数，超过则关闭连接
+	 */
+	private static final int MAX_DRAIN_BYTES = 64 * 1024;
+	/**
+	 * 状态行和头信息单行最大长度
+	 */
+	private static final int MAX_LINE_LENGTH = 64 * 1024;
+	private static final byte[] CRLF = {'\r', '\n'};
+
+	private final ConnectionPool pool;
+	/**
+	 * 包装此连接的HTTPS连接，HTTP请求为{@code null}
+	 */
+	private final HttpsURLConnection https;
+	private Route route;
+	private PooledConnection conn;
+	/**
+	 * 连接是否已归还连接池
+	 */
+	private boolean released;
+
+	/**
+	 * 缓存模式下的请求体
+	 */
+	private FastByteArrayOutputStream bufferedBody;
+	/**
+	 * 流模式下的请求体输出流
+	 */
+	private OutputStream streamingBody;
+	/**
+	 * 流模式下请求头是否已写出
+	 */
+	private boolean streaming;
+	private IOException failure;
+	/**
+	 * 连接时保存的请求头，连接后{@link #getRequestProperties()}不可用
+	 */
+	private Map<String, List<String>> requestHeaders;
+
+	private ResponseHead responseHead;
+	private boolean keepAlive;
+	private InputStream bodyStream;
+
+	/**
+	 * 构造
+	 *
+	 * @param url   URL
+	 * @param pool  连接池
+	 * @param https 包装此连接的HTTPS连接，HTTP请求为{@code null}
+	 */
+	PooledHttpURLConnection(URL url, ConnectionPool pool, HttpsURLConnection https) {
+		super(url);
+		this.pool = pool;
+		this.https = https;
+	}
+
+	@Override
+	public void setRequestMethod(String method) throws ProtocolException {
+		if (connected) {
+			throw new ProtocolException("Can't reset method: already connected");
+		}
+		// 不限制方法名，直接支持PATCH等方法
+		if (StrUtil.isBlank(method)) {
+			throw new ProtocolException("Invalid HTTP method: " + method);
+		}
+		this.method = method;
+	}
+
+	@Override
+	public void setRequestProperty(String key, String value) {
+		HttpCodec.checkHeader(key, value);
+		super.setRequestProperty(key, value);
+	}
+
+	@Override
+	public void addRequestProperty(String key, String value) {
+		HttpCodec.checkHeader(key, value);
+		super.addRequestProperty(key, value);
+	}
+
+	@Override
+	public boolean usingProxy() {
+		return false;
+	}
+
+	@Override
+	public void connect() throws IOException {
+		if (connected) {
+			return;
+		}
+		final String scheme = url.getProtocol().toLowerCase();
+		final int port = -1 == url.getPort() ? url.getDefaultPort() : url.getPort();
+		this.route = null != this.https
+				? new Route(scheme, url.getHost(), port, this.https.getSSLSocketFactory(), this.https.getHostnameVerifier())
+				: new Route(scheme, url.getHost(), port, null, null);
+		this.requestHeaders = getRequestProperties();
+		HttpCodec.checkRequestHead(method, url, this.requestHeaders);
+		lease(false);
+		connected = true;
+	}
+
+	@Override
+	public void disconnect() {
+		// 连接未归还时说明响应未完整读取，不能复用
+		releaseConnection(false);
+	}
+
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		if (false == doOutput) {
+			throw new ProtocolException("cannot write to a URLConnection if doOutput=false - call setDoOutput(true)");
+		}
+		if (null != responseHead || null != failure) {
+			throw new ProtocolException("Cannot write output after reading input.");
+		}
+		if (null != this.streamingBody) {
+			return this.streamingBody;
+		}
+		if (null != this.bufferedBody) {
+			return this.bufferedBody;
+		}
+
+		connect();
+		final long fixedLength = fixedContentLengthLong >= 0 ? fixedContentLengthLong : fixedContentLength;
+		if (fixedLength >= 0 || chunkLength > 0) {
+			this.streaming = true;
+			try {
+				writeRequestHead(fixedLength);
+			} catch (IOException e) {
+				fail(e);
+			}
+			this.streamingBody = fixedLength >= 0 ? new FixedLengthOutputStream(fixedLength) : new ChunkedOutputStream(chunkLength);
+			return this.streamingBody;
+		}
+
+		this.bufferedBody = new FastByteArrayOutputStream();
+		return this.bufferedBody;
+	}
+
+	@Override
+	public int getResponseCode() throws IOException {
+		ensureResponse();
+		return this.responseHead.code;
+	}
+
+	@Override
+	public String getResponseMessage() throws IOException {
+		ensureResponse();
+		return this.responseHead.message;
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		if (false == doInput) {
+			throw new ProtocolException("Cannot read from URLConnection if doInput=false (call setDoInput(true))");
+		}
+		ensureResponse();
+		final int code = this.responseHead.code;
+		if (code >= HTTP_BAD_REQUEST) {
+			if (HTTP_NOT_FOUND == code || HTTP_GONE == code) {
+				throw new FileNotFoundException(url.toString());
+			}
+			throw new IOException(StrUtil.format("Server returned HTTP response code: {} for URL: {}", code, url));
+		}
+		return this.bodyStream;
+	}
+
+	@Override
+	public InputStream getErrorStream() {
+		if (null != this.responseHead && this.responseHead.code >= HTTP_BAD_REQUEST) {
+			return this.bodyStream;
+		}
+		return null;
+	}
+
+	@Override
+	public Map<String, List<String>> getHeaderFields() {
+		try {
+			ensureResponse();
+		} catch (IOException e) {
+			return Collections.emptyMap();
+		}
+		return this.responseHead.getHeaderFields();
+	}
+
+	@Override
+	public String getHeaderField(String name) {
+		try {
+			ensureResponse();
+		} catch (IOException e) {
+			return null;
+		}
+		return this.responseHead.getHeaderField(name);
+	}
+
+	@Override
+	public String getHeaderFieldKey(int n) {
+		try {
+			ensureResponse();
+		} catch (IOException e) {
+			return null;
+		}
+		return this.responseHead.getHeaderFieldKey(n);
+	}
+
+	@Override
+	public String getHeaderField(int n) {
+		try {
+			ensureResponse();
+		} catch (IOException e) {
+			return null;
+		}
+		return this.responseHead.getHeaderField(n);
+	}
+
+	@Override
+	public String getCipherSuite() {
+		return getSslSocket().getSession().getCipherSuite();
+	}
+
+	@Override
+	public Certificate[] getLocalCertificates() {
+		return getSslSocket().getSession().getLocalCertificates();
+	}
+
+	@Override
+	public Certificate[] getServerCertificates() throws SSLPeerUnverifiedException {
+		return getSslSocket().getSession().getPeerCertificates();
+	}
+
+	// --------------------------------------------------------------- Private method start
+
+	/**
+	 * 获取HTTPS连接的{@link SSLSocket}
+	 *
+	 * @return {@link SSLSocket}
+	 */
+	private SSLSocket getSslSocket() {
+		if (null == this.conn || false == this.conn.socket instanceof SSLSocket) {
+			throw new IllegalStateException("connection not yet open");
+		}
+		return (SSLSocket) this.conn.socket;
+	}
+
+	/**
+	 * 从连接池获取连接，并设置本次请求的读取超时
+	 *
+	 * @param forceNew 是否强制新建连接
+	 * @throws IOException IO异常
+	 */
+	private void lease(boolean forceNew) throws IOException {
+		this.conn = this.pool.lease(this.route, forceNew, this::createConnection);
+		this.released = false;
+		try {
+			this.conn.socket.setSoTimeout(getReadTimeout());
+		} catch (IOException e) {
+			releaseConnection(false);
+			throw e;
+		}
+	}
+
+	/**
+	 * 新建连接，HTTPS时完成握手和域名验证
+	 *
+	 * @param route 路由
+	 * @return 连接
+	 * @throws IOException IO异常
+	 */
+	private PooledConnection createConnection(Route route) throws IOException {
+		Socket socket = new Socket();
+		try {
+			socket.setTcpNoDelay(true);
+			socket.connect(new InetSocketAddress(route.host, route.port), getConnectTimeout());
+			if (route.isHttps()) {
+				socket = createSslSocket(route, socket);
+			}
+			return new PooledConnection(route, socket);
+		} catch (IOException | RuntimeException e) {
+			IoUtil.close(socket);
+			throw e;
+		}
+	}
+
+	/**
+	 * 在已建立的连接上创建{@link SSLSocket}并握手
+	 *
+	 * @param route  路由
+	 * @param socket 已建立的连接
+	 * @return {@link SSLSocket}
+	 * @throws IOException IO异常
+	 */
+	private SSLSocket createSslSocket(Route route, Socket socket) throws IOException {
+		final SSLSocket sslSocket = (SSLSocket) route.ssf.createSocket(socket, route.host, route.port, true);
+		final boolean defaultVerifier = route.hostnameVerifier == HttpsURLConnection.getDefaultHostnameVerifier();
+		if (defaultVerifier) {
+			// 默认验证器总是返回false，使用JDK标准的域名验证
+			final SSLParameters parameters = sslSocket.getSSLParameters();
+			parameters.setEndpointIdentificationAlgorithm("HTTPS");
+			sslSocket.setSSLParameters(parameters);
+		}
+		sslSocket.setSoTimeout(getReadTimeout());
+		sslSocket.startHandshake();
+		if (false == defaultVerifier && false == route.hostnameVerifier.verify(route.host, sslSocket.getSession())) {
+			throw new SSLPeerUnverifiedException("Hostname " + route.host + " not verified");
+		}
+		return sslSocket;
+	}
+
+	/**
+	 * 归还连接，已归还时忽略
+	 *
+	 * @param reusable 是否可复用
+	 */
+	private void releaseConnection(boolean reusable) {
+		if (null != this.conn && false == this.released) {
+			this.released = true;
+			this.pool.release(this.conn, reusable);
+		}
+	}
+
+	/**
+	 * 记录失败并关闭连接
+	 *
+	 * @param e 异常
+	 * @throws IOException 抛出传入的异常
+	 */
+	private void fail(IOException e) throws IOException {
+		this.failure = e;
+		releaseConnection(false);
+		throw e;
+	}
+
+	/**
+	 * 发送请求并读取响应头，已读取时直接返回
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void ensureResponse() throws IOException {
+		if (null != this.responseHead) {
+			return;
+		}
+		if (null != this.failure) {
+			throw this.failure;
+		}
+
+		try {
+			connect();
+			if (this.streaming) {
+				// 流模式下请求体未关闭时自动结束
+				this.streamingBody.close();
+				readResponseHead();
+			} else {
+				sendBufferedRequest();
+			}
+		} catch (IOException e) {
+			fail(e);
+		}
+		this.bodyStream = createBodyStream();
+	}
+
+	/**
+	 * 发送缓存模式的请求并读取响应头<br>
+	 * 复用的连接可能已被服务端关闭，在收到任何响应数据之前失败时，使用新建的连接重发一次
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void sendBufferedRequest() throws IOException {
+		while (true) {
+			final ResponseState state = new ResponseState();
+			try {
+				writeRequestHead(null == this.bufferedBody ? -1 : this.bufferedBody.size());
+				if (null != this.bufferedBody) {
+					this.bufferedBody.writeTo(this.conn.out);
+				}
+				this.conn.out.flush();
+				readResponseHead(state);
+				return;
+			} catch (IOException e) {
+				if (false == this.conn.reused || state.started || e instanceof SocketTimeoutException) {
+					throw e;
+				}
+				releaseConnection(false);
+				lease(true);
+			}
+		}
+	}
+
+	/**
+	 * 写出请求行和请求头
+	 *
+	 * @param contentLength 请求体长度，-1表示无请求体或使用分块传输
+	 * @throws IOException IO异常
+	 */
+	private void writeRequestHead(long contentLength) throws IOException {
+		this.conn.out.write(HttpCodec.encodeRequestHead(method, url, this.requestHeaders,
+				contentLength, this.streaming && contentLength < 0, "keep-alive"));
+	}
+
+	/**
+	 * 读取响应状态行和响应头
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void readResponseHead() throws IOException {
+		readResponseHead(new ResponseState());
+	}
+
+	/**
+	 * 读取响应状态行和响应头，跳过1xx响应
+	 *
+	 * @param state 读取状态，用于判断是否已收到响应数据
+	 * @throws IOException IO异常
+	 */
+	private void readResponseHead(ResponseState state) throws IOException {
+		final InputStream in = this.conn.in;
+		final int first = in.read();
+		if (-1 == first) {
+			throw new EOFException("Unexpected end of stream: no response from server");
+		}
+		state.started = true;
+
+		ResponseHead head = new ResponseHead((char) first + readLine(in));
+		while (true) {
+			String line;
+			while (StrUtil.isNotEmpty(line = readLine(in))) {
+				head.addHeaderLine(line);
+			}
+			// 临时响应后继续读取最终响应
+			if (false == head.isInformational()) {
+				break;
+			}
+			head = new ResponseHead(readLine(in));
+		}
+
+		this.keepAlive = head.isKeepAlive(HttpCodec.getHeader(this.requestHeaders, "Connection"));
+		this.responseHead = head;
+	}
+
+	/**
+	 * 根据响应头创建响应体输入流，无响应体时直接归还连接
+	 *
+	 * @return 响应体输入流
+	 */
+	private InputStream createBodyStream() {
+		if (false == this.responseHead.hasBody(method)) {
+			releaseConnection(this.keepAlive);
+			return new BodyInputStream(false, 0);
+		}
+		if (this.responseHead.isChunked()) {
+			return new BodyInputStream(true, 0);
+		}
+		final long contentLength = this.responseHead.getContentLength();
+		if (contentLength >= 0) {
+			if (0 == contentLength) {
+				releaseConnection(this.keepAlive);
+			}
+			return new BodyInputStream(false, contentLength);
+		}
+		// 无长度信息时读取到连接关闭为止，连接不能复用
+		this.keepAlive = false;
+		return new BodyInputStream(false, -1);
+	}
+
+	/**
+	 * 读取一行，去掉结尾的CRLF或LF
+	 *
+	 * @param in 输入流
+	 * @return 行，已读到流结尾返回空串
+	 * @throws IOException IO异常
+	 */
+	private static String readLine(InputStream in) throws IOException {
+		final StringBuilder line = new StringBuilder();
+		int b;
+		while (-1 != (b = in.read())) {
+			if ('\n' == b) {
+				break;
+			}
+			if (line.length() >= MAX_LINE_LENGTH) {
+				throw new ProtocolException("Header line too long");
+			}
+			line.append((char) b);
+		}
+		if (-1 == b && 0 == line.length()) {
+			throw new EOFException("Unexpected end of stream");
+		}
+		final int length = line.length();
+		if (length > 0 && '\r' == line.charAt(length - 1)) {
+			line.setLength(length - 1);
+		}
+		return line.toString();
+	}
+
+	// --------------------------------------------------------------- Private method end
+
+	/**
+	 * 读取响应头的状态
+	 */
+	private static class ResponseState {
+		/**
+		 * 是否已收到响应数据
+		 */
+		boolean started;
+	}
+
+	/**
+	 * 响应体输入流，读取结束后归还连接
+	 */
+	private class BodyInputStream extends InputStream {
+		private final boolean chunked;
+		/**
+		 * 剩余字节数，分块传输时为当前块的剩余字节数，-1表示读取到连接关闭为止
+		 */
+		private long remaining;
+		private boolean eof;
+		private boolean closed;
+
+		/**
+		 * 构造
+		 *
+		 * @param chunked 是否分块传输
+		 * @param length  响应体长度，-1表示读取到连接关闭为止
+		 */
+		BodyInputStream(boolean chunked, long length) {
+			this.chunked = chunked;
+			this.remaining = length;
+			this.eof = false == chunked && 0 == length;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final byte[] b = new byte[1];
+			final int n = read(b, 0, 1);
+			return -1 == n ? -1 : b[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (this.closed) {
+				throw new IOException("Stream closed");
+			}
+			if (this.eof) {
+				return -1;
+			}
+			if (0 == len) {
+				return 0;
+			}
+			if (this.chunked && 0 == this.remaining && false == readChunkSize()) {
+				return -1;
+			}
+
+			final int toRead = this.remaining < 0 ? len : (int) Math.min(len, this.remaining);
+			final int n;
+			try {
+				n = conn.in.read(b, off, toRead);
+			} catch (IOException e) {
+				this.eof = true;
+				releaseConnection(false);
+				throw e;
+			}
+
+			if (-1 == n) {
+				this.eof = true;
+				releaseConnection(false);
+				if (this.remaining < 0) {
+					return -1;
+				}
+				throw new EOFException("Unexpected end of HTTP response body");
+			}
+
+			if (this.remaining > 0) {
+				this.remaining -= n;
+				if (0 == this.remaining) {
+					if (this.chunked) {
+						// 块数据后的CRLF
+						readLine(conn.in);
+					} else {
+						finish();
+					}
+				}
+			}
+			return n;
+		}
+
+		@Override
+		public int available() throws IOException {
+			if (this.closed || this.eof) {
+				return 0;
+			}
+			final int available = conn.in.available();
+			return this.remaining < 0 ? available : (int) Math.min(available, this.remaining);
+		}
+
+		@Override
+		public void close() {
+			if (this.closed) {
+				return;
+			}
+			// 剩余数据较少时读完，使连接可以复用
+			if (false == this.eof && this.remaining >= 0) {
+				final byte[] buffer = new byte[IoUtil.DEFAULT_BUFFER_SIZE];
+				int drained = 0;
+				try {
+					int n;
+					while (drained < MAX_DRAIN_BYTES && -1 != (n = read(buffer, 0, buffer.length))) {
+						drained += n;
+					}
+				} catch (IOException e) {
+					// ignore
+				}
+			}
+			this.closed = true;
+			if (false == this.eof) {
+				this.eof = true;
+				releaseConnection(false);
+			}
+		}
+
+		/**
+		 * 读取块大小，最后一块时读取尾部头信息并结束
+		 *
+		 * @return 是否还有数据
+		 * @throws IOException IO异常
+		 */
+		private boolean readChunkSize() throws IOException {
+			String line = readLine(conn.in);
+			final int index = line.indexOf(';');
+			if (index >= 0) {
+				line = line.substring(0, index);
+			}
+			try {
+				this.remaining = Long.parseLong(line.trim(), 16);
+			} catch (NumberFormatException e) {
+				this.eof = true;
+				releaseConnection(false);
+				throw new ProtocolException("Invalid chunk size: " + line);
+			}
+			if (this.remaining < 0) {
+				throw new ProtocolException("Invalid chunk size: " + line);
+			}
+			if (0 == this.remaining) {
+				// 跳过尾部头信息
+				//noinspection StatementWithEmptyBody
+				while (StrUtil.isNotEmpty(readLine(conn.in))) {
+				}
+				finish();
+				return false;
+			}
+			return true;
+		}
+
+		/**
+		 * 响应体读取完毕，归还连接
+		 */
+		private void finish() {
+			this.eof = true;
+			releaseConnection(keepAlive);
+		}
+	}
+
+	/**
+	 * 固定长度的请求体输出流
+	 */
+	private class FixedLengthOutputStream extends OutputStream {
+		private final long length;
+		private long written;
+		private boolean closed;
+
+		FixedLengthOutputStream(long length) {
+			this.length = length;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[]{(byte) b}, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (this.closed) {
+				throw new IOException("Stream is closed");
+			}
+			if (this.written + len > this.length) {
+				throw new IOException("too many bytes written");
+			}
+			try {
+				conn.out.write(b, off, len);
+			} catch (IOException e) {
+				fail(e);
+			}
+			this.written += len;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			conn.out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			if (this.written < this.length) {
+				fail(new IOException("insufficient data written"));
+			}
+			try {
+				conn.out.flush();
+			} catch (IOException e) {
+				fail(e);
+			}
+		}
+	}
+
+	/**
+	 * 分块传输的请求体输出流，数据缓存到块大小后写出一块
+	 */
+	private class ChunkedOutputStream extends OutputStream {
+		private final byte[] buffer;
+		private int count;
+		private boolean closed;
+
+		ChunkedOutputStream(int chunkSize) {
+			this.buffer = new byte[chunkSize];
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[]{(byte) b}, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (this.closed) {
+				throw new IOException("Stream is closed");
+			}
+			while (len > 0) {
+				final int n = Math.min(len, this.buffer.length - this.count);
+				System.arraycopy(b, off, this.buffer, this.count, n);
+				this.count += n;
+				off += n;
+				len -= n;
+				if (this.count == this.buffer.length) {
+					writeChunk();
+				}
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			writeChunk();
+			conn.out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			writeChunk();
+			try {
+				// 最后一块
+				conn.out.write(new byte[]{'0', '\r', '\n', '\r', '\n'});
+				conn.out.flush();
+			} catch (IOException e) {
+				fail(e);
+			}
+		}
+
+		/**
+		 * 写出缓存的数据为一块
+		 *
+		 * @throws IOException IO异常
+		 */
+		private void writeChunk() throws IOException {
+			if (0 == this.count) {
+				return;
+			}
+			try {
+				conn.out.write(Integer.toHexString(this.count).getBytes(StandardCharsets.ISO_8859_1));
+				conn.out.write(CRLF);
+				conn.out.write(this.buffer, 0, this.count);
+				conn.out.write(CRLF);
+			} catch (IOException e) {
+				fail(e);
+			}
+			this.count = 0;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.util.StrUtil;
+
+import java.net.HttpURLConnection;
+import java.net.ProtocolException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP响应头，包括状态行和头信息，HTTP/2响应使用“HTTP/2 状态码”形式的状态行<br>
+ * 头信息按接收顺序保存，第0个为状态行（key为{@code null}），与{@link HttpURLConnection#getHeaderField(int)}的约定一致
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class ResponseHead {
+
+	final String version;
+	final int code;
+	final String message;
+
+	private final List<String> keys = new ArrayList<>();
+	private final List<String> values = new ArrayList<>();
+	private Map<String, List<String>> fields;
+
+	/**
+	 * 构造，解析状态行，如：HTTP/1.1 200 OK
+	 *
+	 * @param statusLine 状态行
+	 * @throws ProtocolException 格式错误
+	 */
+	ResponseHead(String statusLine) throws ProtocolException {
+		final List<String> parts = StrUtil.split(statusLine, ' ', 3);
+		if (parts.size() < 2 || false == parts.get(0).startsWith("HTTP/")) {
+			throw new ProtocolException("Invalid status line: " + statusLine);
+		}
+		this.version = parts.get(0);
+		try {
+			this.code = Integer.parseInt(parts.get(1));
+		} catch (NumberFormatException e) {
+			throw new ProtocolException("Invalid status line: " + statusLine);
+		}
+		this.message = parts.size() > 2 ? parts.get(2) : null;
+
+		this.keys.add(null);
+		this.values.add(statusLine);
+	}
+
+	/**
+	 * 增加一行头信息，格式错误的行忽略
+	 *
+	 * @param line 头信息行，如：Content-Type: text/html
+	 */
+	void addHeaderLine(String line) {
+		final int index = line.indexOf(':');
+		if (index > 0) {
+			addHeader(line.substring(0, index).trim(), line.substring(index + 1).trim());
+		}
+	}
+
+	/**
+	 * 增加一个头信息
+	 *
+	 * @param name  头信息名
+	 * @param value 值
+	 */
+	void addHeader(String name, String value) {
+		this.keys.add(name);
+		this.values.add(value);
+		this.fields = null;
+	}
+
+	/**
+	 * 是否为临时响应（1xx，101切换协议除外），临时响应后还有最终响应
+	 *
+	 * @return 是否为临时响应
+	 */
+	boolean isInformational() {
+		return this.code >= 100 && this.code < 200 && 101 != this.code;
+	}
+
+	/**
+	 * 获取头信息，忽略大小写，同名头信息返回最后一个值（与JDK一致）
+	 *
+	 * @param name 头信息名
+	 * @return 值，不存在返回{@code null}
+	 */
+	String getHeaderField(String name) {
+		for (int i = this.keys.size() - 1; i > 0; i--) {
+			if (this.keys.get(i).equalsIgnoreCase(name)) {
+				return this.values.get(i);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 获取第n个头信息的名称，第0个为状态行，名称为{@code null}
+	 *
+	 * @param n 序号
+	 * @return 名称
+	 */
+	String getHeaderFieldKey(int n) {
+		return n >= 0 && n < this.keys.size() ? this.keys.get(n) : null;
+	}
+
+	/**
+	 * 获取第n个头信息的值，第0个为状态行
+	 *
+	 * @param n 序号
+	 * @return 值
+	 */
+	String getHeaderField(int n) {
+		return n >= 0 && n < this.values.size() ? this.values.get(n) : null;
+	}
+
+	/**
+	 * 获取所有头信息，key为{@code null}的值为状态行，同名（忽略大小写）的头信息合并
+	 *
+	 * @return 不可修改的头信息Map
+	 */
+	Map<String, List<String>> getHeaderFields() {
+		if (null == this.fields) {
+			final Map<String, List<String>> result = new LinkedHashMap<>();
+			for (int i = 0; i < this.keys.size(); i++) {
+				final String key = i == 0 ? null : findKey(result, this.keys.get(i));
+				result.computeIfAbsent(key, k -> new ArrayList<>(1)).add(this.values.get(i));
+			}
+			result.replaceAll((k, v) -> Collections.unmodifiableList(v));
+			this.fields = Collections.unmodifiableMap(result);
+		}
+		return this.fields;
+	}
+
+	/**
+	 * 响应是否有响应体
+	 *
+	 * @param method 请求方法
+	 * @return 是否有响应体
+	 */
+	boolean hasBody(String method) {
+		return false == "HEAD".equals(method) && false == (this.code >= 100 && this.code < 200)
+				&& HttpURLConnection.HTTP_NO_CONTENT != this.code && HttpURLConnection.HTTP_NOT_MODIFIED != this.code;
+	}
+
+	/**
+	 * 响应体是否为分块传输
+	 *
+	 * @return 是否为分块传输
+	 */
+	boolean isChunked() {
+		return HttpCodec.containsToken(getHeaderField("Transfer-Encoding"), "chunked");
+	}
+
+	/**
+	 * 获取响应体长度
+	 *
+	 * @return 长度，无长度信息或格式错误返回-1
+	 */
+	long getContentLength() {
+		final String value = getHeaderField("Content-Length");
+		if (null == value) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * 连接在响应结束后是否可复用
+	 *
+	 * @param requestConnection 请求的Connection头
+	 * @return 是否可复用
+	 */
+	boolean isKeepAlive(String requestConnection) {
+		final String connection = getHeaderField("Connection");
+		if (HttpCodec.containsToken(requestConnection, "close") || HttpCodec.containsToken(connection, "close")) {
+			return false;
+		}
+		// HTTP/1.0默认不复用连接
+		return "HTTP/1.1".equals(this.version) || HttpCodec.containsToken(connection, "keep-alive");
+	}
+
+	/**
+	 * 查找已存在的同名（忽略大小写）key，不存在返回原key
+	 *
+	 * @param map Map
+	 * @param key key
+	 * @return 已存在的key或原key
+	 */
+	private static String findKey(Map<String, ?> map, String key) {
+		for (String existKey : map.keySet()) {
+			if (null != existKey && existKey.equalsIgnoreCase(key)) {
+				return existKey;
+			}
+		}
+		return key;
+	}
+}
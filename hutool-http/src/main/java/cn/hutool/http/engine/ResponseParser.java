@@ -0,0 +1,221 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.io.FastByteArrayOutputStream;
+
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+/**
+ * HTTP/1.x响应的增量解析器，数据可分多次传入，响应体完整读取到内存中<br>
+ * 支持Content-Length、分块传输（chunked）和读取到连接关闭为止三种响应体格式，自动跳过1xx临时响应。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class ResponseParser {
+
+	/**
+	 * 状态行和头信息单行最大长度
+	 */
+	private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+	private enum State {
+		STATUS_LINE, HEADERS, BODY_LENGTH, CHUNK_SIZE, CHUNK_DATA, CHUNK_END, TRAILERS, BODY_EOF, DONE
+	}
+
+	private final String method;
+	private final StringBuilder line = new StringBuilder();
+	private final FastByteArrayOutputStream body = new FastByteArrayOutputStream();
+	private State state = State.STATUS_LINE;
+	private ResponseHead head;
+	/**
+	 * 响应体或当前块剩余的字节数
+	 */
+	private long remaining;
+
+	/**
+	 * 构造
+	 *
+	 * @param method 请求方法，HEAD请求的响应无响应体
+	 */
+	ResponseParser(String method) {
+		this.method = method;
+	}
+
+	/**
+	 * 解析读取到的数据
+	 *
+	 * @param buffer 读取到的数据，读模式，解析后全部被消费
+	 * @return 响应是否已完整
+	 * @throws IOException 格式错误
+	 */
+	boolean feed(ByteBuffer buffer) throws IOException {
+		String l;
+		while (buffer.hasRemaining() && State.DONE != this.state) {
+			switch (this.state) {
+				case STATUS_LINE:
+					if (null == (l = readLine(buffer))) {
+						return false;
+					}
+					this.head = new ResponseHead(l);
+					this.state = State.HEADERS;
+					break;
+				case HEADERS:
+					if (null == (l = readLine(buffer))) {
+						return false;
+					}
+					if (l.isEmpty()) {
+						onHeadComplete();
+					} else {
+						this.head.addHeaderLine(l);
+					}
+					break;
+				case CHUNK_SIZE:
+					if (null == (l = readLine(buffer))) {
+						return false;
+					}
+					this.remaining = parseChunkSize(l);
+					this.state = 0 == this.remaining ? State.TRAILERS : State.CHUNK_DATA;
+					break;
+				case BODY_LENGTH:
+				case CHUNK_DATA:
+					copyBody(buffer);
+					if (0 == this.remaining) {
+						this.state = State.BODY_LENGTH == this.state ? State.DONE : State.CHUNK_END;
+					}
+					break;
+				case CHUNK_END:
+					if (null == readLine(buffer)) {
+						return false;
+					}
+					this.state = State.CHUNK_SIZE;
+					break;
+				case TRAILERS:
+					if (null == (l = readLine(buffer))) {
+						return false;
+					}
+					if (l.isEmpty()) {
+						this.state = State.DONE;
+					}
+					break;
+				default:
+					// BODY_EOF
+					this.body.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+					buffer.position(buffer.limit());
+			}
+		}
+		return State.DONE == this.state;
+	}
+
+	/**
+	 * 连接已关闭，读取到连接关闭为止的响应体此时完整
+	 *
+	 * @return 响应是否已完整
+	 */
+	boolean onEof() {
+		if (State.BODY_EOF == this.state) {
+			this.state = State.DONE;
+		}
+		return State.DONE == this.state;
+	}
+
+	/**
+	 * 获取响应头，响应完整后调用
+	 *
+	 * @return 响应头
+	 */
+	ResponseHead getHead() {
+		return this.head;
+	}
+
+	/**
+	 * 获取响应体，响应完整后调用
+	 *
+	 * @return 响应体
+	 */
+	byte[] getBody() {
+		return this.body.toByteArray();
+	}
+
+	/**
+	 * 响应头读取完毕，根据响应头确定响应体格式
+	 */
+	private void onHeadComplete() {
+		if (this.head.isInformational()) {
+			// 临时响应后继续读取最终响应
+			this.state = State.STATUS_LINE;
+		} else if (false == this.head.hasBody(this.method)) {
+			this.state = State.DONE;
+		} else if (this.head.isChunked()) {
+			this.state = State.CHUNK_SIZE;
+		} else {
+			this.remaining = this.head.getContentLength();
+			if (this.remaining < 0) {
+				this.state = State.BODY_EOF;
+			} else {
+				this.state = 0 == this.remaining ? State.DONE : State.BODY_LENGTH;
+			}
+		}
+	}
+
+	/**
+	 * 复制响应体数据，不超过剩余字节数
+	 *
+	 * @param buffer 读取到的数据
+	 */
+	private void copyBody(ByteBuffer buffer) {
+		final int n = (int) Math.min(this.remaining, buffer.remaining());
+		this.body.write(buffer.array(), buffer.arrayOffset() + buffer.position(), n);
+		buffer.position(buffer.position() + n);
+		this.remaining -= n;
+	}
+
+	/**
+	 * 读取一行，数据不足一行时缓存已读取的部分
+	 *
+	 * @param buffer 读取到的数据
+	 * @return 去掉CRLF的行，数据不足一行返回{@code null}
+	 * @throws ProtocolException 行过长
+	 */
+	private String readLine(ByteBuffer buffer) throws ProtocolException {
+		while (buffer.hasRemaining()) {
+			final byte b = buffer.get();
+			if ('\n' == b) {
+				int length = this.line.length();
+				if (length > 0 && '\r' == this.line.charAt(length - 1)) {
+					length--;
+				}
+				final String result = this.line.substring(0, length);
+				this.line.setLength(0);
+				return result;
+			}
+			if (this.line.length() >= MAX_LINE_LENGTH) {
+				throw new ProtocolException("Header line too long");
+			}
+			this.line.append((char) (b & 0xFF));
+		}
+		return null;
+	}
+
+	/**
+	 * 解析块大小行，忽略块扩展
+	 *
+	 * @param line 块大小行
+	 * @return 块大小
+	 * @throws ProtocolException 格式错误
+	 */
+	private static long parseChunkSize(String line) throws ProtocolException {
+		final int index = line.indexOf(';');
+		final String size = (index >= 0 ? line.substring(0, index) : line).trim();
+		try {
+			final long result = Long.parseLong(size, 16);
+			if (result >= 0) {
+				return result;
+			}
+		} catch (NumberFormatException e) {
+			// ignore
+		}
+		throw new ProtocolException("Invalid chunk size: " + line);
+	}
+}
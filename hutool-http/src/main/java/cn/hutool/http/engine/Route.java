@@ -0,0 +1,99 @@
+package cn.hutool.http.engine;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLSocketFactory;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 连接路由，即连接的目标，相同路由的连接可以复用<br>
+ * HTTPS连接的路由还包括{@link SSLSocketFactory}和{@link HostnameVerifier}，不同证书配置的连接不会混用
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class Route {
+
+	final String scheme;
+	final String host;
+	final int port;
+	final SSLSocketFactory ssf;
+	final HostnameVerifier hostnameVerifier;
+
+	/**
+	 * 构造
+	 *
+	 * @param scheme           协议，http或https
+	 * @param host             主机
+	 * @param port             端口
+	 * @param ssf              {@link SSLSocketFactory}，http时为{@code null}
+	 * @param hostnameVerifier {@link HostnameVerifier}，http时为{@code null}
+	 */
+	Route(String scheme, String host, int port, SSLSocketFactory ssf, HostnameVerifier hostnameVerifier) {
+		this.scheme = scheme;
+		this.host = host;
+		this.port = port;
+		this.ssf = ssf;
+		this.hostnameVerifier = hostnameVerifier;
+	}
+
+	/**
+	 * 是否为HTTPS
+	 *
+	 * @return 是否为HTTPS
+	 */
+	boolean isHttps() {
+		return "https".equals(this.scheme);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		final Route route = (Route) o;
+		return port == route.port && scheme.equals(route.scheme) && host.equals(route.host)
+				&& ssf == route.ssf && hostnameVerifier == route.hostnameVerifier;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(scheme, host, port);
+	}
+
+	@Override
+	public String toString() {
+		return scheme + "://" + host + ":" + port;
+	}
+
+	/**
+	 * 是否直接连接，即不使用代理，未指定代理时检查系统代理设置
+	 *
+	 * @param url   URL
+	 * @param proxy 代理，{@code null}表示未指定
+	 * @return 是否直接连接
+	 */
+	static boolean isDirect(URL url, Proxy proxy) {
+		if (null != proxy) {
+			return Proxy.Type.DIRECT == proxy.type();
+		}
+		final ProxySelector selector = ProxySelector.getDefault();
+		if (null == selector) {
+			return true;
+		}
+		final List<Proxy> proxies;
+		try {
+			proxies = selector.select(url.toURI());
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			return false;
+		}
+		return proxies.isEmpty() || Proxy.Type.DIRECT == proxies.get(0).type();
+	}
+}
@@ -0,0 +1,38 @@
+package cn.hutool.http.engine;
+
+import javax.net.ssl.SSLPeerUnverifiedException;
+import java.security.cert.Certificate;
+
+/**
+ * HTTPS连接的TLS信息，由{@link DelegatingHttpsURLConnection}包装的{@link java.net.HttpURLConnection}实现
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+interface SecureConnection {
+
+	/**
+	 * 获取使用的加密套件
+	 *
+	 * @return 加密套件
+	 * @throws IllegalStateException 连接未建立
+	 */
+	String getCipherSuite();
+
+	/**
+	 * 获取发送给服务端的证书
+	 *
+	 * @return 证书，未发送时为{@code null}
+	 * @throws IllegalStateException 连接未建立
+	 */
+	Certificate[] getLocalCertificates();
+
+	/**
+	 * 获取服务端证书
+	 *
+	 * @return 证书
+	 * @throws SSLPeerUnverifiedException 服务端未验证
+	 * @throws IllegalStateException      连接未建立
+	 */
+	Certificate[] getServerCertificates() throws SSLPeerUnverifiedException;
+}
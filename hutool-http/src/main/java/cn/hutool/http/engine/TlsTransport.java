@@ -0,0 +1,262 @@
+package cn.hutool.http.engine;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CompletionHandler;
+import java.util.function.Consumer;
+
+/**
+ * 基于{@link SSLEngine}的TLS异步传输层，在明文传输层之上加解密
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+final class TlsTransport implements AsyncTransport {
+
+	private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+	private final PlainTransport raw;
+	private final SSLEngine engine;
+	/**
+	 * 收到的密文，写模式
+	 */
+	private ByteBuffer netIn;
+	/**
+	 * 待发送的密文
+	 */
+	private ByteBuffer netOut;
+	/**
+	 * 已解密未读取的明文，写模式
+	 */
+	private ByteBuffer appIn;
+
+	/**
+	 * 构造
+	 *
+	 * @param raw    明文传输层
+	 * @param engine 客户端模式的{@link SSLEngine}
+	 */
+	TlsTransport(PlainTransport raw, SSLEngine engine) {
+		this.raw = raw;
+		this.engine = engine;
+		this.netIn = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+		this.netOut = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+		this.appIn = ByteBuffer.allocate(engine.getSession().getApplicationBufferSize());
+	}
+
+	/**
+	 * 异步握手
+	 *
+	 * @param handler 回调，握手完成后调用
+	 */
+	void handshake(CompletionHandler<Void, Void> handler) {
+		try {
+			this.engine.beginHandshake();
+		} catch (SSLException e) {
+			handler.failed(e, null);
+			return;
+		}
+		continueHandshake(handler);
+	}
+
+	@Override
+	public void read(ByteBuffer dst, CompletionHandler<Integer, Void> handler) {
+		final Consumer<Throwable> onError = e -> handler.failed(e, null);
+		try {
+			while (true) {
+				if (this.appIn.position() > 0) {
+					handler.completed(transfer(dst), null);
+					return;
+				}
+				if (this.engine.isInboundDone()) {
+					handler.completed(-1, null);
+					return;
+				}
+				switch (this.engine.getHandshakeStatus()) {
+					case NEED_TASK:
+						runDelegatedTasks();
+						continue;
+					case NEED_WRAP:
+						// 如TLS1.3的密钥更新
+						wrapAndWrite(EMPTY, () -> read(dst, handler), onError);
+						return;
+					default:
+						break;
+				}
+				if (false == unwrap()) {
+					this.raw.read(this.netIn, AsyncTransport.handler(n -> {
+						if (n < 0) {
+							handler.completed(-1, null);
+						} else {
+							read(dst, handler);
+						}
+					}, onError));
+					return;
+				}
+			}
+		} catch (SSLException e) {
+			onError.accept(e);
+		}
+	}
+
+	@Override
+	public void write(ByteBuffer src, CompletionHandler<Void, Void> handler) {
+		try {
+			wrapAndWrite(src, () -> {
+				if (src.hasRemaining()) {
+					write(src, handler);
+				} else {
+					handler.completed(null, null);
+				}
+			}, e -> handler.failed(e, null));
+		} catch (SSLException e) {
+			handler.failed(e, null);
+		}
+	}
+
+	@Override
+	public void close() {
+		this.engine.closeOutbound();
+		this.raw.close();
+	}
+
+	/**
+	 * 继续握手，需要收发数据时异步等待后再次调用
+	 *
+	 * @param handler 回调
+	 */
+	private void continueHandshake(CompletionHandler<Void, Void> handler) {
+		final Consumer<Throwable> onError = e -> handler.failed(e, null);
+		try {
+			while (true) {
+				switch (this.engine.getHandshakeStatus()) {
+					case NEED_TASK:
+						runDelegatedTasks();
+						break;
+					case NEED_WRAP:
+						wrapAndWrite(EMPTY, () -> continueHandshake(handler), onError);
+						return;
+					case NEED_UNWRAP:
+						if (this.engine.isInboundDone()) {
+							throw new SSLException("Connection closed by peer during handshake");
+						}
+						if (false == unwrap()) {
+							this.raw.read(this.netIn, AsyncTransport.handler(n -> {
+								if (n < 0) {
+									handler.failed(new EOFException("Connection closed by peer during handshake"), null);
+								} else {
+									continueHandshake(handler);
+								}
+							}, onError));
+							return;
+						}
+						break;
+					default:
+						// FINISHED或NOT_HANDSHAKING
+						handler.completed(null, null);
+						return;
+				}
+			}
+		} catch (SSLException e) {
+			onError.accept(e);
+		}
+	}
+
+	/**
+	 * 解密收到的密文到明文缓存
+	 *
+	 * @return 是否解密了数据，{@code false}表示需要读取更多密文
+	 * @throws SSLException SSL异常
+	 */
+	private boolean unwrap() throws SSLException {
+		this.netIn.flip();
+		final SSLEngineResult result;
+		try {
+			result = this.engine.unwrap(this.netIn, this.appIn);
+		} finally {
+			this.netIn.compact();
+		}
+		switch (result.getStatus()) {
+			case BUFFER_UNDERFLOW:
+				final int packetSize = this.engine.getSession().getPacketBufferSize();
+				if (this.netIn.capacity() < packetSize) {
+					this.netIn = enlarge(this.netIn, packetSize);
+				}
+				return false;
+			case BUFFER_OVERFLOW:
+				this.appIn = enlarge(this.appIn, this.appIn.capacity() + this.engine.getSession().getApplicationBufferSize());
+				return true;
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * 加密数据并写出
+	 *
+	 * @param src     明文，可能未全部加密
+	 * @param next    写出后的处理
+	 * @param onError 失败时的处理
+	 * @throws SSLException SSL异常
+	 */
+	private void wrapAndWrite(ByteBuffer src, Runnable next, Consumer<Throwable> onError) throws SSLException {
+		SSLEngineResult result;
+		while (true) {
+			this.netOut.clear();
+			result = this.engine.wrap(src, this.netOut);
+			if (SSLEngineResult.Status.BUFFER_OVERFLOW != result.getStatus()) {
+				break;
+			}
+			this.netOut = ByteBuffer.allocate(this.netOut.capacity() + this.engine.getSession().getPacketBufferSize());
+		}
+		if (SSLEngineResult.Status.CLOSED == result.getStatus() && 0 == result.bytesProduced()) {
+			throw new SSLException("SSLEngine is closed");
+		}
+		this.netOut.flip();
+		this.raw.write(this.netOut, AsyncTransport.handler(v -> next.run(), onError));
+	}
+
+	/**
+	 * 执行握手的耗时任务，在当前线程执行
+	 */
+	private void runDelegatedTasks() {
+		Runnable task;
+		while (null != (task = this.engine.getDelegatedTask())) {
+			task.run();
+		}
+	}
+
+	/**
+	 * 将明文缓存的数据转移到目标缓存
+	 *
+	 * @param dst 目标缓存
+	 * @return 转移的字节数
+	 */
+	private int transfer(ByteBuffer dst) {
+		this.appIn.flip();
+		final int n = Math.min(this.appIn.remaining(), dst.remaining());
+		final int limit = this.appIn.limit();
+		this.appIn.limit(this.appIn.position() + n);
+		dst.put(this.appIn);
+		this.appIn.limit(limit);
+		this.appIn.compact();
+		return n;
+	}
+
+	/**
+	 * 扩容缓存，保留已有数据
+	 *
+	 * @param buffer   写模式的缓存
+	 * @param capacity 新容量
+	 * @return 新缓存
+	 */
+	private static ByteBuffer enlarge(ByteBuffer buffer, int capacity) {
+		final ByteBuffer result = ByteBuffer.allocate(capacity);
+		buffer.flip();
+		result.put(buffer);
+		return result;
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * Http客户端引擎，{@link cn.hutool.http.engine.HttpEngine}定义了打开Http连接的扩展点，
+ * 默认使用JDK的{@link java.net.HttpURLConnection}，{@link cn.hutool.http.engine.PooledHttpEngine}提供基于连接池的实现
+ *
+ * @author looly
+ *
+ */
+package cn.hutool.http.engine;
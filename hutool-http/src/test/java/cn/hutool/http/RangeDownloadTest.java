@@ -0,0 +1,227 @@
+package cn.hutool.http;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.StreamProgress;
+import cn.hutool.core.net.NetUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.http.server.HttpServerRequest;
+import cn.hutool.http.server.HttpServerResponse;
+import cn.hutool.http.server.SimpleServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分段并行下载单元测试
+ *
+ * @author looly
+ */
+public class RangeDownloadTest {
+
+	private static final byte[] DATA = RandomUtil.randomBytes(5 * 1024 * 1024 + 123);
+
+	private static SimpleServer server;
+	private static String baseUrl;
+	private static final AtomicInteger rangeRequests = new AtomicInteger();
+	private static final AtomicLong servedBytes = new AtomicLong();
+	/**
+	 * 为true时非首段的响应只发送一半
+	 */
+	private static final AtomicBoolean broken = new AtomicBoolean();
+	/**
+	 * 为true时不返回ETag
+	 */
+	private static final AtomicBoolean noValidator = new AtomicBoolean();
+	/**
+	 * 为true时首段缓慢发送，非首段返回错误
+	 */
+	private static final AtomicBoolean slowFirst = new AtomicBoolean();
+
+	@BeforeAll
+	public static void startServer() {
+		final int port = NetUtil.getUsableLocalPort();
+		server = HttpUtil.createServer(port)
+				.addAction("/range.bin", RangeDownloadTest::serveRange)
+				.addAction("/plain.bin", (req, res) -> res.write(DATA));
+		server.start();
+		baseUrl = "http://127.0.0.1:" + port;
+	}
+
+	@AfterAll
+	public static void stopServer() {
+		server.getRawServer().stop(0);
+	}
+
+	@Test
+	public void parallelTest() {
+		final File dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), IdUtil.fastSimpleUUID()));
+		try {
+			rangeRequests.set(0);
+			final List<Long> progress = new ArrayList<>();
+			final long size = HttpUtil.downloadFileParallel(baseUrl + "/range.bin", dir, 4, -1, new StreamProgress() {
+				@Override
+				public void start() {
+				}
+
+				@Override
+				public void progress(long total, long progressSize) {
+					assertEquals(DATA.length, total);
+					progress.add(progressSize);
+				}
+
+				@Override
+				public void finish() {
+				}
+			});
+
+			assertEquals(DATA.length, size);
+			assertArrayEquals(DATA, FileUtil.readBytes(FileUtil.file(dir, "range.bin")));
+			assertEquals(DATA.length, (long) progress.get(progress.size() - 1));
+			// 探测请求和4个分段请求
+			assertEquals(5, rangeRequests.get());
+			// 临时文件和状态文件已删除
+			assertEquals(1, FileUtil.ls(dir.getAbsolutePath()).length);
+		} finally {
+			FileUtil.del(dir);
+		}
+	}
+
+	@Test
+	public void resumeTest() {
+		final File dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), IdUtil.fastSimpleUUID()));
+		final File target = FileUtil.file(dir, "data.bin");
+		try {
+			broken.set(true);
+			// 服务端发送一半后停止，读取超时后中断下载
+			assertThrows(RuntimeException.class, () -> HttpUtil.downloadFileParallel(baseUrl + "/range.bin", target, 4, 1000, null));
+			assertTrue(FileUtil.exist(FileUtil.file(dir, "data.bin.temp.range")));
+			assertFalse(FileUtil.exist(target));
+
+			broken.set(false);
+			servedBytes.set(0);
+			final long size = HttpUtil.downloadFileParallel(baseUrl + "/range.bin", target, 4, -1, null);
+			assertEquals(DATA.length, size);
+			assertArrayEquals(DATA, FileUtil.readBytes(target));
+			// 首段已完整下载，其它段从中断的位置继续
+			assertTrue(servedBytes.get() < DATA.length * 3 / 4, "served: " + servedBytes.get());
+			assertEquals(1, FileUtil.ls(dir.getAbsolutePath()).length);
+		} finally {
+			broken.set(false);
+			FileUtil.del(dir);
+		}
+	}
+
+	@Test
+	public void noValidatorTest() {
+		final File dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), IdUtil.fastSimpleUUID()));
+		final File target = FileUtil.file(dir, "data.bin");
+		try {
+			noValidator.set(true);
+			broken.set(true);
+			assertThrows(RuntimeException.class, () -> HttpUtil.downloadFileParallel(baseUrl + "/range.bin", target, 4, 1000, null));
+
+			broken.set(false);
+			servedBytes.set(0);
+			final long size = HttpUtil.downloadFileParallel(baseUrl + "/range.bin", target, 4, -1, null);
+			assertEquals(DATA.length, size);
+			assertArrayEquals(DATA, FileUtil.readBytes(target));
+			// 无法判断文件是否改变，全部重新下载
+			assertTrue(servedBytes.get() >= DATA.length, "served: " + servedBytes.get());
+			assertEquals(1, FileUtil.ls(dir.getAbsolutePath()).length);
+		} finally {
+			broken.set(false);
+			noValidator.set(false);
+			FileUtil.del(dir);
+		}
+	}
+
+	@Test
+	public void failFastTest() {
+		final File dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), IdUtil.fastSimpleUUID()));
+		final File target = FileUtil.file(dir, "data.bin");
+		try {
+			slowFirst.set(true);
+			final long begin = System.currentTimeMillis();
+			assertThrows(HttpException.class, () -> HttpUtil.downloadFileParallel(baseUrl + "/range.bin", target, 4, -1, null));
+			// 其它段失败后首段立即停止，不等待首段下载完成（约3秒）
+			final long cost = System.currentTimeMillis() - begin;
+			assertTrue(cost < 1500, "cost: " + cost);
+		} finally {
+			slowFirst.set(false);
+			FileUtil.del(dir);
+		}
+	}
+
+	@Test
+	public void noRangeTest() {
+		final File dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), IdUtil.fastSimpleUUID()));
+		try {
+			final long size = HttpUtil.downloadFileParallel(baseUrl + "/plain.bin", dir, 4, -1, null);
+			assertEquals(DATA.length, size);
+			assertArrayEquals(DATA, FileUtil.readBytes(FileUtil.file(dir, "plain.bin")));
+		} finally {
+			FileUtil.del(dir);
+		}
+	}
+
+	private static void serveRange(HttpServerRequest req, HttpServerResponse res) {
+		res.setHeader(Header.ACCEPT_RANGES, "bytes");
+		if (false == noValidator.get()) {
+			res.setHeader(Header.ETAG, "\"v1\"");
+		}
+		final String range = req.getHeader(Header.RANGE);
+		if (null == range) {
+			res.write(DATA);
+			return;
+		}
+		rangeRequests.incrementAndGet();
+		final String spec = StrUtil.removePrefix(range, "bytes=");
+		final int start = Integer.parseInt(StrUtil.subBefore(spec, '-', false));
+		final String endStr = StrUtil.subAfter(spec, '-', false);
+		final int end = StrUtil.isEmpty(endStr) ? DATA.length - 1 : Integer.parseInt(endStr);
+		final int length = end - start + 1;
+
+		if (slowFirst.get() && start > 0) {
+			res.sendError(HttpStatus.HTTP_INTERNAL_ERROR, "error");
+			return;
+		}
+
+		res.setHeader(Header.CONTENT_RANGE, StrUtil.format("bytes {}-{}/{}", start, end, DATA.length));
+		res.send(HttpStatus.HTTP_PARTIAL, length);
+		try {
+			if (slowFirst.get()) {
+				// 每40毫秒发送16KB
+				for (int i = start; i <= end; i += 16 * 1024) {
+					res.getOut().write(DATA, i, Math.min(16 * 1024, end + 1 - i));
+					res.getOut().flush();
+					ThreadUtil.sleep(40);
+				}
+				return;
+			}
+			if (broken.get() && start > 0) {
+				// 只发送一半，之后客户端读取超时
+				res.getOut().write(DATA, start, length / 2);
+				servedBytes.addAndGet(length / 2);
+				res.getOut().close();
+				return;
+			}
+			res.getOut().write(DATA, start, length);
+			servedBytes.addAndGet(length);
+		} catch (IOException e) {
+			// 客户端断开
+		}
+	}
+}
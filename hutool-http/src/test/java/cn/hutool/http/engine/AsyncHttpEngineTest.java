@@ -0,0 +1,138 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.net.NetUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.http.Header;
+import cn.hutool.http.HttpRequest;
+import cn.hutool.http.HttpResponse;
+import cn.hutool.http.HttpUtil;
+import cn.hutool.http.server.SimpleServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncHttpEngineTest {
+
+	private static SimpleServer server;
+	private static String baseUrl;
+
+	@BeforeAll
+	public static void startServer() {
+		final int port = NetUtil.getUsableLocalPort();
+		server = HttpUtil.createServer(port)
+				.addAction("/hello", (req, res) -> res.write("Hello " + StrUtil.nullToEmpty(req.getParam("name"))))
+				.addAction("/echo", (req, res) -> res.write(req.getBody()))
+				.addAction("/missing", (req, res) -> res.send(404, 0))
+				.addAction("/redirect", (req, res) -> {
+					res.setHeader(Header.LOCATION, "/hello?name=redirect");
+					res.send(302, 0);
+				});
+		server.start();
+		baseUrl = "http://127.0.0.1:" + port;
+	}
+
+	@AfterAll
+	public static void stopServer() {
+		server.getRawServer().stop(0);
+	}
+
+	@Test
+	public void concurrentTest() {
+		// 2个IO线程同时处理大量请求
+		try (final AsyncHttpEngine engine = new AsyncHttpEngine(2, null)) {
+			final List<CompletableFuture<HttpResponse>> futures = new ArrayList<>();
+			for (int i = 0; i < 50; i++) {
+				futures.add(HttpRequest.get(baseUrl + "/hello?name=" + i).sendAsync(engine));
+			}
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+			for (int i = 0; i < futures.size(); i++) {
+				final HttpResponse response = futures.get(i).join();
+				assertEquals(200, response.getStatus());
+				assertEquals("Hello " + i, response.body());
+			}
+		}
+	}
+
+	@Test
+	public void postTest() {
+		final String data = StrUtil.repeat("hutool", 10000);
+		final HttpResponse response = HttpRequest.post(baseUrl + "/echo").body(data).sendAsync().join();
+		assertEquals(data, response.body());
+	}
+
+	@Test
+	public void headerInjectionTest() throws IOException {
+		try (final AsyncHttpEngine engine = new AsyncHttpEngine(1, null)) {
+			final HttpURLConnection conn = engine.open(new URL(baseUrl + "/hello"), null);
+			assertThrows(IllegalArgumentException.class, () -> conn.setRequestProperty("X-Test", "a\r\nX-Injected: b"));
+			assertThrows(IllegalArgumentException.class, () -> conn.addRequestProperty("X-Test\r\nX-Injected", "b"));
+			conn.setRequestProperty("X-Test", "a");
+			assertEquals(200, conn.getResponseCode());
+		}
+	}
+
+	@Test
+	public void errorStatusTest() {
+		final HttpResponse response = HttpRequest.get(baseUrl + "/missing").sendAsync().join();
+		assertEquals(404, response.getStatus());
+		assertFalse(response.isOk());
+	}
+
+	@Test
+	public void redirectTest() {
+		final HttpResponse response = HttpRequest.get(baseUrl + "/redirect")
+				.setFollowRedirects(true).sendAsync().join();
+		assertEquals("Hello redirect", response.body());
+	}
+
+	@Test
+	public void parseChunkedTest() throws Exception {
+		final String raw = "HTTP/1.1 100 Continue\r\n\r\n" +
+				"HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\nX-Test: a\r\n\r\n" +
+				"5;ext=1\r\nHello\r\n7\r\n, world\r\n0\r\nX-Trailer: b\r\n\r\n";
+		final ResponseParser parser = feedInPieces(new ResponseParser("GET"), raw);
+		assertEquals(200, parser.getHead().code);
+		assertEquals("a", parser.getHead().getHeaderField("x-test"));
+		assertEquals("Hello, world", new String(parser.getBody(), StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void parseLengthAndEofTest() throws Exception {
+		ResponseParser parser = feedInPieces(new ResponseParser("GET"), "HTTP/1.1 200 OK\r\nContent-Length: 3\r\n\r\nabc");
+		assertEquals("abc", new String(parser.getBody(), StandardCharsets.US_ASCII));
+
+		// 无长度的响应体读取到连接关闭为止
+		parser = new ResponseParser("GET");
+		assertFalse(parser.feed(ByteBuffer.wrap("HTTP/1.0 200 OK\r\n\r\nabc".getBytes(StandardCharsets.US_ASCII))));
+		assertTrue(parser.onEof());
+		assertEquals("abc", new String(parser.getBody(), StandardCharsets.US_ASCII));
+
+		// HEAD请求无响应体
+		parser = new ResponseParser("HEAD");
+		assertTrue(parser.feed(ByteBuffer.wrap("HTTP/1.1 200 OK\r\nContent-Length: 3\r\n\r\n".getBytes(StandardCharsets.US_ASCII))));
+		assertEquals(0, parser.getBody().length);
+	}
+
+	/**
+	 * 每次传入一个字节，模拟数据分多次到达
+	 */
+	private static ResponseParser feedInPieces(ResponseParser parser, String raw) throws Exception {
+		final byte[] bytes = raw.getBytes(StandardCharsets.US_ASCII);
+		for (int i = 0; i < bytes.length; i++) {
+			final boolean done = parser.feed(ByteBuffer.wrap(bytes, i, 1));
+			assertEquals(i == bytes.length - 1, done);
+		}
+		return parser;
+	}
+}
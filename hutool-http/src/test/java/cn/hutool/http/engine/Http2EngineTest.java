@@ -0,0 +1,368 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Pair;
+import cn.hutool.core.util.HexUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.http.HttpException;
+import cn.hutool.http.HttpRequest;
+import cn.hutool.http.HttpResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.HttpsURLConnection;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Http2EngineTest {
+
+	private static MiniHttp2Server server;
+	private static String baseUrl;
+
+	@BeforeAll
+	public static void startServer() throws IOException {
+		server = new MiniHttp2Server();
+		baseUrl = "http://127.0.0.1:" + server.serverSocket.getLocalPort();
+	}
+
+	@AfterAll
+	public static void stopServer() {
+		server.close();
+	}
+
+	@Test
+	public void multiplexTest() {
+		try (final Http2Engine engine = new Http2Engine(JdkHttpEngine.INSTANCE, true)) {
+			final int before = server.connections.get();
+			final List<CompletableFuture<String>> futures = new ArrayList<>();
+			final ExecutorService executor = Executors.newFixedThreadPool(10);
+			for (int i = 0; i < 50; i++) {
+				final int index = i;
+				futures.add(CompletableFuture.supplyAsync(() ->
+						HttpRequest.get(baseUrl + "/hello?name=" + index).setEngine(engine).execute().body(), executor));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				assertEquals("Hello " + i, futures.get(i).join());
+			}
+			executor.shutdown();
+
+			// 所有请求共享一个连接
+			assertEquals(1, engine.getConnectionCount());
+			assertEquals(before + 1, server.connections.get());
+		}
+	}
+
+	@Test
+	public void flowControlTest() {
+		try (final Http2Engine engine = new Http2Engine(JdkHttpEngine.INSTANCE, true)) {
+			// 请求体超过服务端的初始窗口
+			final String data = StrUtil.repeat("hutool", 50000);
+			assertEquals(data, HttpRequest.post(baseUrl + "/echo").body(data).setEngine(engine).execute().body());
+
+			// 响应体超过客户端的流级别窗口
+			final HttpResponse response = HttpRequest.get(baseUrl + "/big").setEngine(engine).execute();
+			assertEquals(200, response.getStatus());
+			assertEquals("text/plain", response.header("Content-Type"));
+			assertEquals(MiniHttp2Server.BIG_SIZE, response.bodyBytes().length);
+		}
+	}
+
+	@Test
+	public void statusTest() {
+		try (final Http2Engine engine = new Http2Engine(JdkHttpEngine.INSTANCE, true)) {
+			final HttpResponse response = HttpRequest.get(baseUrl + "/missing").setEngine(engine).execute();
+			assertEquals(404, response.getStatus());
+			assertEquals("Not Found", response.body());
+		}
+	}
+
+	@Test
+	public void continuationFloodTest() {
+		try (final Http2Engine engine = new Http2Engine(JdkHttpEngine.INSTANCE, true)) {
+			// 服务端持续发送CONTINUATION帧，超过头信息最大大小时中断连接
+			final HttpException e = assertThrows(HttpException.class,
+					() -> HttpRequest.get(baseUrl + "/flood").setEngine(engine).timeout(5000).execute());
+			assertTrue(ExceptionUtil.getRootCauseMessage(e).contains("Header block exceeds"), ExceptionUtil.getRootCauseMessage(e));
+		}
+	}
+
+	@Test
+	public void headerInjectionTest() throws IOException {
+		try (final Http2Engine engine = new Http2Engine(JdkHttpEngine.INSTANCE, true)) {
+			final HttpURLConnection conn = engine.open(new URL(baseUrl + "/hello"), null);
+			assertThrows(IllegalArgumentException.class, () -> conn.setRequestProperty("X-Test", "a\r\nX-Injected: b"));
+			assertThrows(IllegalArgumentException.class, () -> conn.addRequestProperty("X-Test", "a\u0000b"));
+			conn.setRequestProperty("X-Test", "a");
+			assertEquals(200, conn.getResponseCode());
+		}
+	}
+
+	@Test
+	public void connectionTypeTest() throws IOException {
+		try (final Http2Engine engine = new Http2Engine(JdkHttpEngine.INSTANCE, true)) {
+			// 明文HTTP/2请求不能作为HTTPS处理
+			final HttpURLConnection conn = engine.open(new URL(baseUrl + "/hello"), null);
+			assertFalse(conn instanceof HttpsURLConnection);
+			assertEquals(200, conn.getResponseCode());
+
+			final HttpURLConnection httpsConn = engine.open(new URL("https://127.0.0.1:1/hello"), null);
+			assertInstanceOf(HttpsURLConnection.class, httpsConn);
+			assertThrows(IllegalStateException.class, () -> ((HttpsURLConnection) httpsConn).getCipherSuite());
+		}
+	}
+
+	@Test
+	public void hpackTest() throws IOException {
+		// RFC 7541 C.4，同一连接上的三个请求
+		final List<List<Pair<String, String>>> requests = ListUtil.of(
+				ListUtil.of(new Pair<>(":method", "GET"), new Pair<>(":scheme", "http"),
+						new Pair<>(":path", "/"), new Pair<>(":authority", "www.example.com")),
+				ListUtil.of(new Pair<>(":method", "GET"), new Pair<>(":scheme", "http"),
+						new Pair<>(":path", "/"), new Pair<>(":authority", "www.example.com"),
+						new Pair<>("cache-control", "no-cache")),
+				ListUtil.of(new Pair<>(":method", "GET"), new Pair<>(":scheme", "https"),
+						new Pair<>(":path", "/index.html"), new Pair<>(":authority", "www.example.com"),
+						new Pair<>("custom-key", "custom-value")));
+		final String[] expected = {
+				"828684418cf1e3c2e5f23a6ba0ab90f4ff",
+				"828684be5886a8eb10649cbf",
+				"828785bf408825a849e95ba97d7f8925a849e95bb8e8b4bf"
+		};
+
+		final HpackEncoder encoder = new HpackEncoder();
+		final HpackDecoder decoder = new HpackDecoder(4096);
+		for (int i = 0; i < expected.length; i++) {
+			final byte[] block = encoder.encode(requests.get(i));
+			assertEquals(expected[i], HexUtil.encodeHexStr(block));
+			assertEquals(requests.get(i), decoder.decode(block, 0, block.length));
+		}
+	}
+
+	@Test
+	public void huffmanTest() throws IOException {
+		final Random random = new Random(0);
+		for (int i = 0; i < 100; i++) {
+			final byte[] data = new byte[random.nextInt(100)];
+			random.nextBytes(data);
+			final FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+			Huffman.encode(data, out);
+			assertEquals(Huffman.encodedLength(data), out.size());
+			assertArrayEquals(data, Huffman.decode(out.toByteArray(), 0, out.size()));
+		}
+		// 填充不是EOS的前缀
+		assertThrows(IOException.class, () -> Huffman.decode(new byte[]{0x00}, 0, 1));
+	}
+
+	/**
+	 * 用于测试的HTTP/2明文（h2c）服务端，支持流控，每个请求在线程池中响应
+	 */
+	private static class MiniHttp2Server {
+		static final int BIG_SIZE = 3 * 1024 * 1024;
+
+		final ServerSocket serverSocket;
+		final AtomicInteger connections = new AtomicInteger();
+		final ExecutorService executor = Executors.newCachedThreadPool();
+
+		MiniHttp2Server() throws IOException {
+			this.serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+			this.executor.execute(() -> {
+				while (false == this.serverSocket.isClosed()) {
+					try {
+						final Socket socket = this.serverSocket.accept();
+						this.connections.incrementAndGet();
+						this.executor.execute(() -> new ServerConnection(socket).run());
+					} catch (IOException e) {
+						return;
+					}
+				}
+			});
+		}
+
+		void close() {
+			IoUtil.close(this.serverSocket);
+			this.executor.shutdownNow();
+		}
+
+		private class ServerConnection {
+			private final Socket socket;
+			private OutputStream out;
+			private final HpackEncoder encoder = new HpackEncoder();
+			private final HpackDecoder decoder = new HpackDecoder(65536);
+			private final Map<Integer, List<Pair<String, String>>> requestHeaders = new HashMap<>();
+			private final Map<Integer, FastByteArrayOutputStream> requestBodies = new HashMap<>();
+			private final Map<Integer, Long> streamWindows = new HashMap<>();
+			private long connectionWindow = Http2Frame.DEFAULT_WINDOW_SIZE;
+			private long initialWindow = Http2Frame.DEFAULT_WINDOW_SIZE;
+
+			ServerConnection(Socket socket) {
+				this.socket = socket;
+			}
+
+			void run() {
+				try {
+					final InputStream in = new BufferedInputStream(this.socket.getInputStream());
+					this.out = this.socket.getOutputStream();
+					assertEquals(Http2Frame.CONNECTION_PREFACE.length, in.read(new byte[Http2Frame.CONNECTION_PREFACE.length]));
+					final byte[] settings = {0, Http2Frame.SETTINGS_MAX_CONCURRENT_STREAMS, 0, 0, 0, 100};
+					write(Http2Frame.SETTINGS, 0, 0, settings, settings.length);
+					while (true) {
+						handle(Http2Frame.read(in, Http2Frame.DEFAULT_MAX_FRAME_SIZE));
+					}
+				} catch (IOException e) {
+					IoUtil.close(this.socket);
+				}
+			}
+
+			private void handle(Http2Frame frame) throws IOException {
+				switch (frame.type) {
+					case Http2Frame.SETTINGS:
+						if (false == frame.hasFlag(Http2Frame.FLAG_ACK)) {
+							for (int i = 0; i < frame.payload.length; i += 6) {
+								if (Http2Frame.SETTINGS_INITIAL_WINDOW_SIZE == frame.payload[i + 1]) {
+									synchronized (this) {
+										this.initialWindow = frame.readInt(i + 2);
+									}
+								}
+							}
+							write(Http2Frame.SETTINGS, Http2Frame.FLAG_ACK, 0, null, 0);
+						}
+						break;
+					case Http2Frame.HEADERS:
+						this.requestHeaders.put(frame.streamId, this.decoder.decode(frame.payload, 0, frame.payload.length));
+						this.requestBodies.put(frame.streamId, new FastByteArrayOutputStream());
+						synchronized (this) {
+							this.streamWindows.put(frame.streamId, this.initialWindow);
+						}
+						if (frame.hasFlag(Http2Frame.FLAG_END_STREAM)) {
+							respondAsync(frame.streamId);
+						}
+						break;
+					case Http2Frame.DATA:
+						this.requestBodies.get(frame.streamId).write(frame.payload, 0, frame.payload.length);
+						if (frame.payload.length > 0) {
+							final byte[] increment = Http2Frame.putInt(frame.payload.length, new byte[4], 0);
+							write(Http2Frame.WINDOW_UPDATE, 0, 0, increment, 4);
+							write(Http2Frame.WINDOW_UPDATE, 0, frame.streamId, increment, 4);
+						}
+						if (frame.hasFlag(Http2Frame.FLAG_END_STREAM)) {
+							respondAsync(frame.streamId);
+						}
+						break;
+					case Http2Frame.WINDOW_UPDATE:
+						synchronized (this) {
+							if (0 == frame.streamId) {
+								this.connectionWindow += frame.readInt(0);
+							} else {
+								this.streamWindows.merge(frame.streamId, (long) frame.readInt(0), Long::sum);
+							}
+							notifyAll();
+						}
+						break;
+					default:
+				}
+			}
+
+			private void respondAsync(int streamId) {
+				final List<Pair<String, String>> headers = this.requestHeaders.remove(streamId);
+				final byte[] requestBody = this.requestBodies.remove(streamId).toByteArray();
+				executor.execute(() -> {
+					try {
+						respond(streamId, headers, requestBody);
+					} catch (IOException | InterruptedException e) {
+						IoUtil.close(this.socket);
+					}
+				});
+			}
+
+			private void respond(int streamId, List<Pair<String, String>> headers, byte[] requestBody) throws IOException, InterruptedException {
+				String path = null;
+				for (Pair<String, String> header : headers) {
+					if (":path".equals(header.getKey())) {
+						path = header.getValue();
+					}
+				}
+				if ("/flood".equals(path)) {
+					flood(streamId);
+					return;
+				}
+				String status = "200";
+				final byte[] body;
+				if (StrUtil.startWith(path, "/hello")) {
+					body = ("Hello " + StrUtil.subAfter(path, "name=", false)).getBytes(StandardCharsets.UTF_8);
+				} else if ("/echo".equals(path)) {
+					body = requestBody;
+				} else if ("/big".equals(path)) {
+					body = new byte[BIG_SIZE];
+				} else {
+					status = "404";
+					body = "Not Found".getBytes(StandardCharsets.UTF_8);
+				}
+
+				synchronized (this) {
+					final byte[] block = this.encoder.encode(ListUtil.of(new Pair<>(":status", status),
+							new Pair<>("content-type", "text/plain")));
+					write(Http2Frame.HEADERS, Http2Frame.FLAG_END_HEADERS, streamId, block, block.length);
+				}
+				int offset = 0;
+				do {
+					final int n;
+					synchronized (this) {
+						while (this.connectionWindow <= 0 || this.streamWindows.get(streamId) <= 0) {
+							wait();
+						}
+						n = (int) Math.min(Math.min(body.length - offset, Http2Frame.DEFAULT_MAX_FRAME_SIZE),
+								Math.min(this.connectionWindow, this.streamWindows.get(streamId)));
+						this.connectionWindow -= n;
+						this.streamWindows.merge(streamId, (long) -n, Long::sum);
+					}
+					final int flags = offset + n == body.length ? Http2Frame.FLAG_END_STREAM : 0;
+					write(Http2Frame.DATA, flags, streamId, body, offset, n);
+					offset += n;
+				} while (offset < body.length);
+			}
+
+			/**
+			 * 发送不结束的头信息块，直到客户端关闭连接
+			 */
+			private void flood(int streamId) throws IOException {
+				final byte[] block = new byte[Http2Frame.DEFAULT_MAX_FRAME_SIZE];
+				write(Http2Frame.HEADERS, 0, streamId, block, block.length);
+				for (int i = 0; i < 1024; i++) {
+					write(Http2Frame.CONTINUATION, 0, streamId, block, block.length);
+				}
+			}
+
+			private void write(int type, int flags, int streamId, byte[] payload, int length) throws IOException {
+				write(type, flags, streamId, payload, 0, length);
+			}
+
+			private synchronized void write(int type, int flags, int streamId, byte[] payload, int offset, int length) throws IOException {
+				Http2Frame.write(this.out, type, flags, streamId, payload, offset, length);
+				this.out.flush();
+			}
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package cn.hutool.http.engine;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.net.NetUtil;
+import cn.hutool.core.net.SSLUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.http.HttpException;
+import cn.hutool.http.HttpRequest;
+import cn.hutool.http.HttpResponse;
+import cn.hutool.http.HttpUtil;
+import cn.hutool.http.server.SimpleServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.HttpsURLConnection;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.Socket;
+import java.net.URL;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PooledHttpEngineTest {
+
+	private static SimpleServer server;
+	private static String baseUrl;
+
+	@BeforeAll
+	public static void startServer() {
+		final int port = NetUtil.getUsableLocalPort();
+		server = HttpUtil.createServer(port)
+				.addAction("/hello", (req, res) -> res.write("Hello " + StrUtil.nullToEmpty(req.getParam("name"))))
+				.addAction("/echo", (req, res) -> res.write(req.getBody()))
+				.addAction("/missing", (req, res) -> res.send(404, 0));
+		server.start();
+		baseUrl = "http://127.0.0.1:" + port;
+	}
+
+	@AfterAll
+	public static void stopServer() {
+		server.getRawServer().stop(0);
+	}
+
+	@Test
+	public void reuseTest() {
+		try (final PooledHttpEngine engine = new PooledHttpEngine()) {
+			for (int i = 0; i < 5; i++) {
+				final String body = HttpRequest.get(baseUrl + "/hello?name=" + i).setEngine(engine).execute().body();
+				assertEquals("Hello " + i, body);
+			}
+
+			final PoolStats stats = engine.getPool().getStats();
+			assertEquals(1, stats.getCreated());
+			assertEquals(4, stats.getReused());
+			assertEquals(0, stats.getLeased());
+			assertEquals(1, stats.getIdle());
+			assertEquals(1, engine.getPool().getRouteStats().size());
+		}
+	}
+
+	@Test
+	public void postTest() {
+		try (final PooledHttpEngine engine = new PooledHttpEngine()) {
+			final String data = StrUtil.repeat("hutool", 1000);
+			assertEquals(data, HttpRequest.post(baseUrl + "/echo").body(data).setEngine(engine).execute().body());
+			// 分块传输的请求体
+			assertEquals(data, HttpRequest.post(baseUrl + "/echo").body(data)
+					.setChunkedStreamingMode(1024).setEngine(engine).execute().body());
+			assertEquals("Hello ", HttpRequest.get(baseUrl + "/hello").setEngine(engine).execute().body());
+
+			assertEquals(1, engine.getPool().getStats().getCreated());
+		}
+	}
+
+	@Test
+	public void errorStatusTest() {
+		try (final PooledHttpEngine engine = new PooledHttpEngine()) {
+			final HttpResponse response = HttpRequest.get(baseUrl + "/missing").setEngine(engine).execute();
+			assertEquals(404, response.getStatus());
+			assertEquals("Hello ", HttpRequest.get(baseUrl + "/hello").setEngine(engine).execute().body());
+			assertEquals(1, engine.getPool().getStats().getCreated());
+		}
+	}
+
+	@Test
+	public void maxPerRouteTest() throws Exception {
+		try (final PooledHttpEngine engine = new PooledHttpEngine(new ConnectionPool(1, 30000, 200))) {
+			final HttpURLConnection conn1 = engine.open(new URL(baseUrl + "/hello"), null);
+			final InputStream in = conn1.getInputStream();
+			assertEquals(1, engine.getPool().getStats().getLeased());
+
+			// 唯一的连接未归还，获取连接超时
+			final HttpURLConnection conn2 = engine.open(new URL(baseUrl + "/hello"), null);
+			assertThrows(HttpException.class, conn2::getResponseCode);
+
+			assertEquals("Hello ", IoUtil.readUtf8(in));
+			assertEquals(0, engine.getPool().getStats().getLeased());
+
+			final HttpURLConnection conn3 = engine.open(new URL(baseUrl + "/hello"), null);
+			assertEquals(200, conn3.getResponseCode());
+			IoUtil.close(conn3.getInputStream());
+			assertEquals(1, engine.getPool().getStats().getReused());
+		}
+	}
+
+	@Test
+	public void evictIdleTest() {
+		try (final PooledHttpEngine engine = new PooledHttpEngine(new ConnectionPool(10, 100, 1000))) {
+			HttpRequest.get(baseUrl + "/hello").setEngine(engine).execute().body();
+			assertEquals(1, engine.getPool().getStats().getIdle());
+
+			ThreadUtil.sleep(200);
+			engine.getPool().evictIdle();
+			assertEquals(0, engine.getPool().getStats().getIdle());
+			// 没有连接的路由连同统计信息一起移除
+			assertTrue(engine.getPool().getRouteStats().isEmpty());
+
+			HttpRequest.get(baseUrl + "/hello").setEngine(engine).execute().body();
+			assertEquals(1, engine.getPool().getStats().getCreated());
+		}
+	}
+
+	@Test
+	public void headerInjectionTest() throws IOException {
+		try (final PooledHttpEngine engine = new PooledHttpEngine()) {
+			final HttpURLConnection conn = engine.open(new URL(baseUrl + "/hello"), null);
+			assertThrows(IllegalArgumentException.class, () -> conn.setRequestProperty("X-Test", "a\r\nX-Injected: b"));
+			assertThrows(IllegalArgumentException.class, () -> conn.addRequestProperty("X-Test\r\nX-Injected", "b"));
+			assertThrows(IllegalArgumentException.class, () -> conn.setRequestProperty("X-Test", "a\nb"));
+			assertThrows(IllegalArgumentException.class, () -> conn.setRequestProperty("X-Test:", "a"));
+			conn.setRequestProperty("X-Test", "a");
+			assertEquals(200, conn.getResponseCode());
+			IoUtil.close(conn.getInputStream());
+		}
+
+		// 编码时同样检查
+		final URL url = new URL(baseUrl + "/hello");
+		assertThrows(IllegalArgumentException.class, () -> HttpCodec.encodeRequestHead("GET", url,
+				MapUtil.of("X-Test", ListUtil.of("a\r\nX-Injected: b")), -1, false, "close"));
+		assertThrows(IllegalArgumentException.class, () -> HttpCodec.encodeRequestHead("GET / HTTP/1.1\r\nX-Injected:", url,
+				MapUtil.empty(), -1, false, "close"));
+	}
+
+	@Test
+	public void connectionTypeTest() throws IOException {
+		try (final PooledHttpEngine engine = new PooledHttpEngine()) {
+			// HTTP请求不能作为HTTPS处理
+			final HttpURLConnection conn = engine.open(new URL(baseUrl + "/hello"), null);
+			assertFalse(conn instanceof HttpsURLConnection);
+			assertEquals(200, conn.getResponseCode());
+			IoUtil.close(conn.getInputStream());
+
+			final HttpURLConnection httpsConn = engine.open(new URL("https://127.0.0.1:1/hello"), null);
+			assertInstanceOf(HttpsURLConnection.class, httpsConn);
+			assertThrows(IllegalStateException.class, () -> ((HttpsURLConnection) httpsConn).getCipherSuite());
+			// 设置项交给被包装的连接
+			httpsConn.setRequestMethod("PATCH");
+			httpsConn.setRequestProperty("X-Test", "a");
+			httpsConn.setReadTimeout(1000);
+			assertEquals("PATCH", httpsConn.getRequestMethod());
+			assertEquals("a", httpsConn.getRequestProperty("X-Test"));
+			assertEquals(1000, httpsConn.getReadTimeout());
+			assertThrows(IllegalArgumentException.class, () -> httpsConn.setRequestProperty("X-Test", "a\r\nX-Injected: b"));
+		}
+	}
+
+	@Test
+	public void evictRouteTest() throws IOException {
+		final URL url = new URL(baseUrl);
+		try (final ConnectionPool pool = new ConnectionPool(10, 100, 1000)) {
+			for (int i = 0; i < 10; i++) {
+				// 每次新建SSLSocketFactory时路由各不相同，无法复用
+				final Route route = new Route("https", url.getHost(), url.getPort(),
+						SSLUtil.createSSLContext("TLSv1.2").getSocketFactory(), null);
+				final PooledConnection conn = pool.lease(route, false,
+						r -> new PooledConnection(r, new Socket(url.getHost(), url.getPort())));
+				pool.release(conn, true);
+			}
+			assertEquals(10, pool.getStats().getIdle());
+
+			ThreadUtil.sleep(200);
+			pool.evictIdle();
+			assertEquals(0, pool.getStats().getIdle());
+			assertTrue(pool.getRouteStats().isEmpty());
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package cn.hutool.socket;
+
+import cn.hutool.core.lang.Assert;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 固定大小的{@link ByteBuffer}池，线程安全<br>
+ * 会话创建时从池中获取读写缓存，关闭时归还，避免大量连接反复分配缓存。默认使用直接内存（Direct Buffer），
+ * 读写时无需在堆内存和直接内存之间复制数据；直接内存的分配和回收代价较高，因此更适合池化复用。<br>
+ * 池中最多缓存指定数量的空闲缓存，超出部分归还时直接丢弃，由GC回收。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class BufferPool {
+
+	private final int bufferSize;
+	private final int maxIdle;
+	private final boolean direct;
+	private final Queue<ByteBuffer> idleBuffers = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger idleCount = new AtomicInteger();
+
+	/**
+	 * 构造，使用直接内存
+	 *
+	 * @param bufferSize 每个缓存的大小
+	 * @param maxIdle    最多缓存的空闲缓存数
+	 */
+	public BufferPool(int bufferSize, int maxIdle) {
+		this(bufferSize, maxIdle, true);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bufferSize 每个缓存的大小
+	 * @param maxIdle    最多缓存的空闲缓存数
+	 * @param direct     是否使用直接内存
+	 */
+	public BufferPool(int bufferSize, int maxIdle, boolean direct) {
+		Assert.isTrue(bufferSize > 0, "Buffer size must be > 0!");
+		Assert.isTrue(maxIdle >= 0, "Max idle must be >= 0!");
+		this.bufferSize = bufferSize;
+		this.maxIdle = maxIdle;
+		this.direct = direct;
+	}
+
+	/**
+	 * 获取每个缓存的大小
+	 *
+	 * @return 每个缓存的大小
+	 */
+	public int getBufferSize() {
+		return this.bufferSize;
+	}
+
+	/**
+	 * 获取当前池中空闲缓存数
+	 *
+	 * @return 空闲缓存数
+	 */
+	public int getIdleCount() {
+		return this.idleCount.get();
+	}
+
+	/**
+	 * 从池中获取一个已清空的缓存，池中无空闲缓存时新建
+	 *
+	 * @return {@link ByteBuffer}
+	 */
+	public ByteBuffer acquire() {
+		final ByteBuffer buffer = this.idleBuffers.poll();
+		if (null == buffer) {
+			return this.direct ? ByteBuffer.allocateDirect(this.bufferSize) : ByteBuffer.allocate(this.bufferSize);
+		}
+		this.idleCount.decrementAndGet();
+		buffer.clear();
+		return buffer;
+	}
+
+	/**
+	 * 归还缓存，归还后调用者不可再使用此缓存<br>
+	 * 非此池创建的缓存（大小或类型不同）及超出空闲数量的缓存被丢弃
+	 *
+	 * @param buffer {@link ByteBuffer}，{@code null}时忽略
+	 */
+	public void release(ByteBuffer buffer) {
+		if (null == buffer || buffer.capacity() != this.bufferSize || buffer.isDirect() != this.direct) {
+			return;
+		}
+		if (this.idleCount.incrementAndGet() > this.maxIdle) {
+			this.idleCount.decrementAndGet();
+			return;
+		}
+		this.idleBuffers.offer(buffer);
+	}
+}
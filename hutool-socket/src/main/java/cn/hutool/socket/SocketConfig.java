@@ -17,7 +17,7 @@ public class SocketConfig implements Serializable{
 	/** CPU核心数 */
 	private static final int CPU_COUNT = RuntimeUtil.getProcessorCount();
 
-	/** 共享线程池大小，此线程池用于接收和处理用户连接 */
+	/** 共享线程池大小，此线程池用于接收和处理用户连接，NIO服务端中为处理读写的工作线程数 */
 	private int threadPoolSize = CPU_COUNT;
 
 	/** 读取超时时长，小于等于0表示默认 */
@@ -29,9 +29,17 @@ public class SocketConfig implements Serializable{
 	private int readBufferSize = IoUtil.DEFAULT_BUFFER_SIZE;
 	/** 写出缓存大小 */
 	private int writeBufferSize = IoUtil.DEFAULT_BUFFER_SIZE;
+	/** 读写缓存池，{@code null}表示每个会话单独分配 */
+	private transient BufferPool bufferPool;
+
+	/** 写出队列高水位，待写出的数据超过此值时暂停读取 */
+	private int writeHighWatermark = 64 * 1024;
+	/** 写出队列低水位，待写出的数据降到此值以下时恢复读取 */
+	private int writeLowWatermark = 32 * 1024;
 	
 	/**
-	 * 获取共享线程池大小，此线程池用于接收和处理用户连接
+	 * 获取共享线程池大小，此线程池用于接收和处理用户连接<br>
+	 * {@link cn.hutool.socket.nio.NioServer}中为处理读写的工作线程（Selector）数
 	 * 
 	 * @return 共享线程池大小，此线程池用于接收和处理用户连接
 	 */
@@ -115,4 +123,67 @@ public class SocketConfig implements Serializable{
 	public void setWriteBufferSize(int writeBufferSize) {
 		this.writeBufferSize = writeBufferSize;
 	}
+
+	/**
+	 * 获取读写缓存池
+	 *
+	 * @return 读写缓存池，{@code null}表示每个会话单独分配
+	 * @since 5.8.36
+	 */
+	public BufferPool getBufferPool() {
+		return bufferPool;
+	}
+
+	/**
+	 * 设置读写缓存池，多个会话共享<br>
+	 * 设置后{@link cn.hutool.socket.aio.AioSession}的读写缓存从池中获取，大小为池中缓存的大小，会话关闭时归还
+	 *
+	 * @param bufferPool 读写缓存池，{@code null}表示每个会话单独分配
+	 * @since 5.8.36
+	 */
+	public void setBufferPool(BufferPool bufferPool) {
+		this.bufferPool = bufferPool;
+	}
+
+	/**
+	 * 获取写出队列高水位，单位字节
+	 *
+	 * @return 写出队列高水位
+	 * @since 5.8.36
+	 */
+	public int getWriteHighWatermark() {
+		return writeHighWatermark;
+	}
+
+	/**
+	 * 设置写出队列高水位，单位字节<br>
+	 * 会话待写出的数据超过此值时不可写，并暂停读取，直到降到低水位以下
+	 *
+	 * @param writeHighWatermark 写出队列高水位
+	 * @since 5.8.36
+	 */
+	public void setWriteHighWatermark(int writeHighWatermark) {
+		this.writeHighWatermark = writeHighWatermark;
+	}
+
+	/**
+	 * 获取写出队列低水位，单位字节
+	 *
+	 * @return 写出队列低水位
+	 * @since 5.8.36
+	 */
+	public int getWriteLowWatermark() {
+		return writeLowWatermark;
+	}
+
+	/**
+	 * 设置写出队列低水位，单位字节<br>
+	 * 会话不可写时，待写出的数据降到此值以下后恢复可写和读取
+	 *
+	 * @param writeLowWatermark 写出队列低水位
+	 * @since 5.8.36
+	 */
+	public void setWriteLowWatermark(int writeLowWatermark) {
+		this.writeLowWatermark = writeLowWatermark;
+	}
 }
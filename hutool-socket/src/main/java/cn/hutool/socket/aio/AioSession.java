@@ -2,6 +2,7 @@ package cn.hutool.socket.aio;
 
 import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
+import cn.hutool.socket.BufferPool;
 import cn.hutool.socket.SocketConfig;
 import cn.hutool.socket.SocketUtil;
 
@@ -11,12 +12,21 @@ import java.net.SocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousSocketChannel;
 import java.nio.channels.CompletionHandler;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * AIO会话<br>
- * 每个客户端对应一个会话对象
+ * 每个客户端对应一个会话对象<br>
+ * {@link #send(ByteBuffer)}将数据加入写出队列，可多线程并发调用，队列中的数据合并为一次聚集写（Gathering Write）写出；
+ * 待写出的数据超过高水位时会话不可写，并暂停读取，直到降到低水位以下。<br>
+ * 使用{@link BufferPool}时，读写缓存在会话关闭且没有正在进行的读取（包括读取完成后的回调）和写出时归还到池中，
+ * 避免缓存被其它会话复用时仍在被读写。
  * 
  * @author looly
  *
@@ -24,6 +34,33 @@ import java.util.concurrent.TimeUnit;
 public class AioSession implements Closeable{
 
 	private static final ReadHandler READ_HANDLER = new ReadHandler();
+	private static final WriteHandler WRITE_HANDLER = new WriteHandler();
+	/**
+	 * 读取完成回调，调用读取时传入的回调，回调结束后结束本次读取
+	 */
+	private static final CompletionHandler<Integer, AioSession> TRACKED_READ_HANDLER = new CompletionHandler<Integer, AioSession>() {
+		@Override
+		public void completed(Integer result, AioSession session) {
+			try {
+				session.readHandler.completed(result, session);
+			} finally {
+				session.endIo();
+			}
+		}
+
+		@Override
+		public void failed(Throwable exc, AioSession session) {
+			try {
+				session.readHandler.failed(exc, session);
+			} finally {
+				session.endIo();
+			}
+		}
+	};
+	/**
+	 * 每次聚集写最多合并的缓存数
+	 */
+	private static final int MAX_GATHER_SIZE = 64;
 
 	private final AsynchronousSocketChannel channel;
 	private final IoAction<ByteBuffer> ioAction;
@@ -33,6 +70,29 @@ public class AioSession implements Closeable{
 	private final long readTimeout;
 	/** 写出超时时长，小于等于0表示默认 */
 	private final long writeTimeout;
+	/** 读写缓存池，{@code null}表示单独分配 */
+	private final BufferPool bufferPool;
+	private final AtomicBoolean closed = new AtomicBoolean();
+	/** 读写缓存是否已归还 */
+	private final AtomicBoolean released = new AtomicBoolean();
+	/** 正在进行的读写数，读取在完成回调结束后才算结束 */
+	private final AtomicInteger pendingIo = new AtomicInteger();
+	/** 正在进行的读取的回调，同一时间只有一个读取 */
+	private volatile CompletionHandler<Integer, AioSession> readHandler;
+
+	/** 写出队列，队列本身作为写出状态的锁 */
+	private final Deque<ByteBuffer> writeQueue = new ArrayDeque<>();
+	/** 写出队列中待写出的字节数 */
+	private long pendingWriteBytes;
+	/** 是否有正在进行的写出 */
+	private boolean writing;
+	/** 因超过高水位暂停的读取，恢复可写后继续 */
+	private CompletionHandler<Integer, AioSession> suspendedReadHandler;
+	private volatile boolean writable = true;
+	private final int writeHighWatermark;
+	private final int writeLowWatermark;
+	/** 附件，保存连接独立的状态 */
+	private volatile Object attachment;
 
 	/**
 	 * 构造
@@ -45,10 +105,18 @@ public class AioSession implements Closeable{
 		this.channel = channel;
 		this.ioAction = ioAction;
 
-		this.readBuffer = ByteBuffer.allocate(config.getReadBufferSize());
-		this.writeBuffer = ByteBuffer.allocate(config.getWriteBufferSize());
+		this.bufferPool = config.getBufferPool();
+		if (null == this.bufferPool) {
+			this.readBuffer = ByteBuffer.allocate(config.getReadBufferSize());
+			this.writeBuffer = ByteBuffer.allocate(config.getWriteBufferSize());
+		} else {
+			this.readBuffer = this.bufferPool.acquire();
+			this.writeBuffer = this.bufferPool.acquire();
+		}
 		this.readTimeout = config.getReadTimeout();
 		this.writeTimeout = config.getWriteTimeout();
+		this.writeHighWatermark = config.getWriteHighWatermark();
+		this.writeLowWatermark = config.getWriteLowWatermark();
 	}
 
 	/**
@@ -70,7 +138,8 @@ public class AioSession implements Closeable{
 	}
 
 	/**
-	 * 获取写Buffer
+	 * 获取写Buffer<br>
+	 * 使用{@link #write(ByteBuffer)}写出此缓存时，需等待写出完成后再关闭会话
 	 * 
 	 * @return 写Buffer
 	 */
@@ -87,6 +156,30 @@ public class AioSession implements Closeable{
 		return this.ioAction;
 	}
 
+	/**
+	 * 获取附件，如连接独立的{@link cn.hutool.socket.protocol.FramePipeline}
+	 *
+	 * @param <T> 附件类型
+	 * @return 附件
+	 * @since 5.8.36
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getAttachment() {
+		return (T) this.attachment;
+	}
+
+	/**
+	 * 设置附件，用于保存连接独立的状态，如{@link cn.hutool.socket.protocol.FramePipeline}
+	 *
+	 * @param attachment 附件
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public AioSession setAttachment(Object attachment) {
+		this.attachment = attachment;
+		return this;
+	}
+
 	/**
 	 * 获取远程主机（客户端）地址和端口
 	 * 
@@ -112,9 +205,22 @@ public class AioSession implements Closeable{
 	 * @return this
 	 */
 	public AioSession read(CompletionHandler<Integer, AioSession> handler) {
-		if (isOpen()) {
-			this.readBuffer.clear();
-			this.channel.read(this.readBuffer, Math.max(this.readTimeout, 0L), TimeUnit.MILLISECONDS, this, handler);
+		synchronized (this.writeQueue) {
+			if (false == this.writable) {
+				// 写出队列超过高水位，暂停读取，恢复可写后继续
+				this.suspendedReadHandler = handler;
+				return this;
+			}
+		}
+		if (beginIo()) {
+			this.readHandler = handler;
+			try {
+				this.readBuffer.clear();
+				this.channel.read(this.readBuffer, Math.max(this.readTimeout, 0L), TimeUnit.MILLISECONDS, this, TRACKED_READ_HANDLER);
+			} catch (RuntimeException e) {
+				endIo();
+				throw e;
+			}
 		}
 		return this;
 	}
@@ -148,10 +254,85 @@ public class AioSession implements Closeable{
 	 * @return this
 	 */
 	public AioSession write(ByteBuffer data, CompletionHandler<Integer, AioSession> handler) {
-		this.channel.write(data, Math.max(this.writeTimeout, 0L), TimeUnit.MILLISECONDS, this, handler);
+		// 写出的数据可能是写缓存，完成前不归还
+		this.pendingIo.incrementAndGet();
+		try {
+			this.channel.write(data, Math.max(this.writeTimeout, 0L), TimeUnit.MILLISECONDS, this, new CompletionHandler<Integer, AioSession>() {
+				@Override
+				public void completed(Integer result, AioSession session) {
+					try {
+						handler.completed(result, session);
+					} finally {
+						endIo();
+					}
+				}
+
+				@Override
+				public void failed(Throwable exc, AioSession session) {
+					try {
+						handler.failed(exc, session);
+					} finally {
+						endIo();
+					}
+				}
+			});
+		} catch (RuntimeException e) {
+			endIo();
+			throw e;
+		}
+		return this;
+	}
+
+	/**
+	 * 将数据加入写出队列并异步写出，可多线程并发调用<br>
+	 * 数据按加入顺序写出，加入后调用者不可再修改数据；写出失败时关闭会话并回调{@link IoAction#failed(Throwable, AioSession)}。<br>
+	 * 加入后待写出的数据超过高水位时，{@link #isWritable()}返回{@code false}，调用者应暂停发送。
+	 *
+	 * @param data 数据
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public AioSession send(ByteBuffer data) {
+		final ByteBuffer[] srcs;
+		synchronized (this.writeQueue) {
+			this.writeQueue.add(data);
+			this.pendingWriteBytes += data.remaining();
+			if (this.pendingWriteBytes > this.writeHighWatermark) {
+				this.writable = false;
+			}
+			if (this.writing) {
+				// 正在写出的数据完成后继续写出
+				return this;
+			}
+			this.writing = true;
+			srcs = peekWriteBuffers();
+		}
+		doWrite(srcs);
 		return this;
 	}
 
+	/**
+	 * 是否可写，即写出队列中待写出的数据未超过高水位
+	 *
+	 * @return 是否可写
+	 * @since 5.8.36
+	 */
+	public boolean isWritable() {
+		return this.writable;
+	}
+
+	/**
+	 * 获取写出队列中待写出的字节数
+	 *
+	 * @return 待写出的字节数
+	 * @since 5.8.36
+	 */
+	public long getPendingWriteBytes() {
+		synchronized (this.writeQueue) {
+			return this.pendingWriteBytes;
+		}
+	}
+
 	/**
 	 * 会话是否打开状态<br>
 	 * 当Socket保持连接时会话始终打开
@@ -195,13 +376,20 @@ public class AioSession implements Closeable{
 	}
 
 	/**
-	 * 关闭会话
+	 * 关闭会话<br>
+	 * 有正在进行的读写时，读写缓存在读写结束后释放，因此读取回调中关闭会话不影响回调中对读缓存的使用
 	 */
 	@Override
 	public void close() {
 		IoUtil.close(this.channel);
-		this.readBuffer = null;
-		this.writeBuffer = null;
+		synchronized (this.writeQueue) {
+			this.writeQueue.clear();
+			this.pendingWriteBytes = 0;
+			this.suspendedReadHandler = null;
+		}
+		if (this.closed.compareAndSet(false, true) && 0 == this.pendingIo.get()) {
+			releaseBuffers();
+		}
 	}
 
 	/**
@@ -211,4 +399,115 @@ public class AioSession implements Closeable{
 		readBuffer.flip();// 读模式
 		ioAction.doAction(this, readBuffer);
 	}
+
+	/**
+	 * 写出队列的数据写出完成回调，移除已写完的数据，继续写出剩余数据
+	 *
+	 * @param written 写出的字节数
+	 */
+	protected void callbackWrite(long written) {
+		final ByteBuffer[] srcs;
+		CompletionHandler<Integer, AioSession> resumeReadHandler = null;
+		synchronized (this.writeQueue) {
+			this.pendingWriteBytes -= written;
+			while (false == this.writeQueue.isEmpty() && false == this.writeQueue.peekFirst().hasRemaining()) {
+				this.writeQueue.pollFirst();
+			}
+			if (false == this.writable && this.pendingWriteBytes <= this.writeLowWatermark) {
+				this.writable = true;
+				resumeReadHandler = this.suspendedReadHandler;
+				this.suspendedReadHandler = null;
+			}
+			if (this.writeQueue.isEmpty() || false == isOpen()) {
+				this.writing = false;
+				srcs = null;
+			} else {
+				srcs = peekWriteBuffers();
+			}
+		}
+		if (null != resumeReadHandler) {
+			read(resumeReadHandler);
+		}
+		if (null != srcs) {
+			doWrite(srcs);
+		}
+	}
+
+	/**
+	 * 写出队列的数据写出失败回调，关闭会话
+	 *
+	 * @param exc 异常
+	 */
+	protected void callbackWriteFailed(Throwable exc) {
+		synchronized (this.writeQueue) {
+			this.writing = false;
+		}
+		close();
+		ioAction.failed(exc, this);
+	}
+
+	/**
+	 * 开始一次读写，会话已关闭时返回{@code false}，不可使用读写缓存
+	 *
+	 * @return 是否可以读写
+	 */
+	private boolean beginIo() {
+		this.pendingIo.incrementAndGet();
+		if (this.closed.get() || false == isOpen()) {
+			endIo();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 结束一次读写，会话已关闭且没有其它正在进行的读写时释放读写缓存
+	 */
+	private void endIo() {
+		if (0 == this.pendingIo.decrementAndGet() && this.closed.get()) {
+			releaseBuffers();
+		}
+	}
+
+	/**
+	 * 释放读写缓存，使用缓存池时归还到池中，只执行一次
+	 */
+	private void releaseBuffers() {
+		if (false == this.released.compareAndSet(false, true)) {
+			return;
+		}
+		if (null != this.bufferPool) {
+			this.bufferPool.release(this.readBuffer);
+			this.bufferPool.release(this.writeBuffer);
+		}
+		this.readBuffer = null;
+		this.writeBuffer = null;
+	}
+
+	/**
+	 * 取出写出队列头部的数据（不移除），用于一次聚集写，需在持有队列锁时调用
+	 *
+	 * @return 待写出的数据
+	 */
+	private ByteBuffer[] peekWriteBuffers() {
+		final ByteBuffer[] srcs = new ByteBuffer[Math.min(this.writeQueue.size(), MAX_GATHER_SIZE)];
+		final Iterator<ByteBuffer> iterator = this.writeQueue.iterator();
+		for (int i = 0; i < srcs.length; i++) {
+			srcs[i] = iterator.next();
+		}
+		return srcs;
+	}
+
+	/**
+	 * 聚集写出数据
+	 *
+	 * @param srcs 待写出的数据
+	 */
+	private void doWrite(ByteBuffer[] srcs) {
+		try {
+			this.channel.write(srcs, 0, srcs.length, Math.max(this.writeTimeout, 0L), TimeUnit.MILLISECONDS, this, WRITE_HANDLER);
+		} catch (Exception e) {
+			callbackWriteFailed(e);
+		}
+	}
 }
@@ -0,0 +1,23 @@
+package cn.hutool.socket.aio;
+
+import java.nio.channels.CompletionHandler;
+
+/**
+ * 写出队列数据写出完成回调，继续写出队列中剩余的数据，单例使用
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class WriteHandler implements CompletionHandler<Long, AioSession> {
+
+	@Override
+	public void completed(Long result, AioSession session) {
+		session.callbackWrite(result);
+	}
+
+	@Override
+	public void failed(Throwable exc, AioSession session) {
+		session.callbackWriteFailed(exc);
+	}
+
+}
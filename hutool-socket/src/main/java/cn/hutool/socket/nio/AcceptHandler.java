@@ -21,13 +21,17 @@ public class AcceptHandler implements CompletionHandler<ServerSocketChannel, Nio
 		try {
 			// 获取连接到此服务器的客户端通道
 			socketChannel = serverSocketChannel.accept();
+			if (null == socketChannel) {
+				// 非阻塞模式下无待接入连接
+				return;
+			}
 			StaticLog.debug("Client [{}] accepted.", socketChannel.getRemoteAddress());
 		} catch (IOException e) {
 			throw new IORuntimeException(e);
 		}
 
-		// SocketChannel通道的可读事件注册到Selector中
-		NioUtil.registerChannel(nioServer.getSelector(), socketChannel, Operation.READ);
+		// 轮询分配到工作线程，由工作线程的Selector监听可读事件
+		nioServer.nextWorker().register(socketChannel);
 	}
 
 	@Override
@@ -16,4 +16,17 @@ public interface ChannelHandler {
 	 * @throws Exception 可能的处理异常
 	 */
 	void handle(SocketChannel socketChannel) throws Exception;
+
+	/**
+	 * 处理NIO会话数据，{@link NioServer}调用此方法<br>
+	 * 默认调用{@link #handle(SocketChannel)}，需要使用连接独立的读写缓存时重写此方法，
+	 * 通过{@link NioSession#read()}读取数据，{@link NioSession#write(java.nio.ByteBuffer)}非阻塞写出数据
+	 *
+	 * @param session {@link NioSession}
+	 * @throws Exception 可能的处理异常
+	 * @since 5.8.36
+	 */
+	default void handle(NioSession session) throws Exception {
+		handle(session.getChannel());
+	}
 }
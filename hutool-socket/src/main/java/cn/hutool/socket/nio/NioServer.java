@@ -2,7 +2,9 @@ package cn.hutool.socket.nio;
 
 import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.log.Log;
+import cn.hutool.socket.SocketConfig;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -10,11 +12,16 @@ import java.net.InetSocketAddress;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
-import java.nio.channels.SocketChannel;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * 基于NIO的Socket服务端实现
+ * 基于NIO的Socket服务端实现<br>
+ * 使用主从Reactor模型：调用{@link #listen()}的线程只负责接入连接，接入的连接按轮询方式分配给多个工作线程，
+ * 每个工作线程使用独立的{@link Selector}处理读写事件，工作线程数见{@link SocketConfig#getThreadPoolSize()}。<br>
+ * 默认数据处理器在工作线程中执行，处理耗时较长时可通过{@link #setHandlerExecutor(ExecutorService)}交给独立线程池，
+ * 避免阻塞同一工作线程上的其它连接。
  *
  * @author looly
  *
@@ -27,6 +34,10 @@ public class NioServer implements Closeable {
 	private Selector selector;
 	private ServerSocketChannel serverSocketChannel;
 	private ChannelHandler handler;
+	private ExecutorService handlerExecutor;
+	private final SocketConfig config;
+	private volatile NioWorker[] workers;
+	private final AtomicInteger workerIndex = new AtomicInteger();
 
 	/**
 	 * 构造
@@ -34,7 +45,19 @@ public class NioServer implements Closeable {
 	 * @param port 端口
 	 */
 	public NioServer(int port) {
-		init(new InetSocketAddress(port));
+		this(new InetSocketAddress(port), new SocketConfig());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param address 地址和端口
+	 * @param config  {@link SocketConfig} 配置项，线程池大小即工作线程数，读写缓存大小即每个连接的读写缓存大小
+	 * @since 5.8.36
+	 */
+	public NioServer(InetSocketAddress address, SocketConfig config) {
+		this.config = config;
+		init(address);
 	}
 
 	/**
@@ -78,7 +101,20 @@ public class NioServer implements Closeable {
 	}
 
 	/**
-	 * 获取{@link Selector}
+	 * 设置执行数据处理器的线程池，需在{@link #listen()}前设置<br>
+	 * 未设置时数据处理器在工作线程中直接执行；设置后处理期间暂停监听此连接的读事件，同一连接的数据仍按顺序处理
+	 *
+	 * @param handlerExecutor 执行数据处理器的线程池，{@code null}表示在工作线程中执行
+	 * @return this
+	 * @since 5.8.36
+	 */
+	public NioServer setHandlerExecutor(ExecutorService handlerExecutor) {
+		this.handlerExecutor = handlerExecutor;
+		return this;
+	}
+
+	/**
+	 * 获取接入连接的{@link Selector}
 	 *
 	 * @return {@link Selector}
 	 */
@@ -99,6 +135,7 @@ public class NioServer implements Closeable {
 	 * 开始监听
 	 */
 	public void listen() {
+		startWorkers();
 		try {
 			doListen();
 		} catch (IOException e) {
@@ -106,6 +143,31 @@ public class NioServer implements Closeable {
 		}
 	}
 
+	/**
+	 * 轮询获取下一个工作线程
+	 *
+	 * @return 工作线程
+	 */
+	NioWorker nextWorker() {
+		final NioWorker[] workers = this.workers;
+		return workers[Math.floorMod(workerIndex.getAndIncrement(), workers.length)];
+	}
+
+	/**
+	 * 创建并启动工作线程
+	 */
+	private synchronized void startWorkers() {
+		if (null != this.workers) {
+			return;
+		}
+		final NioWorker[] workers = new NioWorker[Math.max(1, config.getThreadPoolSize())];
+		for (int i = 0; i < workers.length; i++) {
+			workers[i] = new NioWorker(this.handler, this.handlerExecutor, this.config);
+			ThreadUtil.newThread(workers[i], "Hutool-nio-worker-" + i).start();
+		}
+		this.workers = workers;
+	}
+
 	/**
 	 * 开始监听
 	 *
@@ -132,21 +194,16 @@ public class NioServer implements Closeable {
 		if (key.isAcceptable()) {
 			ACCEPT_HANDLER.completed((ServerSocketChannel) key.channel(), this);
 		}
-
-		// 读事件就绪
-		if (key.isReadable()) {
-			final SocketChannel socketChannel = (SocketChannel) key.channel();
-			try{
-				handler.handle(socketChannel);
-			} catch (Exception e){
-				IoUtil.close(socketChannel);
-				log.error(e);
-			}
-		}
 	}
 
 	@Override
 	public void close() {
+		final NioWorker[] workers = this.workers;
+		if (null != workers) {
+			for (NioWorker worker : workers) {
+				IoUtil.close(worker);
+			}
+		}
 		IoUtil.close(this.selector);
 		IoUtil.close(this.serverSocketChannel);
 	}
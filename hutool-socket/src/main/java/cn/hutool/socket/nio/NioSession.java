@@ -0,0 +1,221 @@
+package cn.hutool.socket.nio;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.socket.SocketConfig;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * NIO会话<br>
+ * 每个客户端连接对应一个会话对象，持有此连接独立的读写缓存：
+ * <ul>
+ *     <li>读缓存：{@link #read()}读取的数据追加到未消费的数据之后，未处理完的半包数据保留到下次读取</li>
+ *     <li>写缓存：{@link #write(ByteBuffer)}无法立即写出的数据暂存，在连接可写时由工作线程继续写出，写出不阻塞</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class NioSession implements Closeable {
+
+	private final SocketChannel channel;
+	private final SelectionKey key;
+	private final NioWorker worker;
+	/**
+	 * 读缓存，始终处于读模式
+	 */
+	private final ByteBuffer readBuffer;
+	/**
+	 * 写缓存，始终处于写模式，存放未写出的数据
+	 */
+	private ByteBuffer writeBuffer;
+	/**
+	 * 附件，保存连接独立的状态
+	 */
+	private volatile Object attachment;
+
+	/**
+	 * 构造
+	 *
+	 * @param channel {@link SocketChannel}
+	 * @param key     通道在工作线程{@link java.nio.channels.Selector}中的{@link SelectionKey}
+	 * @param worker  所属工作线程
+	 * @param config  配置项
+	 */
+	NioSession(SocketChannel channel, SelectionKey key, NioWorker worker, SocketConfig config) {
+		this.channel = channel;
+		this.key = key;
+		this.worker = worker;
+		this.readBuffer = ByteBuffer.allocate(config.getReadBufferSize());
+		this.readBuffer.flip();
+		this.writeBuffer = ByteBuffer.allocate(config.getWriteBufferSize());
+	}
+
+	/**
+	 * 获取{@link SocketChannel}
+	 *
+	 * @return {@link SocketChannel}
+	 */
+	public SocketChannel getChannel() {
+		return this.channel;
+	}
+
+	/**
+	 * 获取读缓存，处于读模式，包含已读取但未消费的数据
+	 *
+	 * @return 读缓存
+	 */
+	public ByteBuffer getReadBuffer() {
+		return this.readBuffer;
+	}
+
+	/**
+	 * 获取附件，如连接独立的{@link cn.hutool.socket.protocol.FramePipeline}
+	 *
+	 * @param <T> 附件类型
+	 * @return 附件
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getAttachment() {
+		return (T) this.attachment;
+	}
+
+	/**
+	 * 设置附件，用于保存连接独立的状态，如{@link cn.hutool.socket.protocol.FramePipeline}
+	 *
+	 * @param attachment 附件
+	 * @return this
+	 */
+	public NioSession setAttachment(Object attachment) {
+		this.attachment = attachment;
+		return this;
+	}
+
+	/**
+	 * 获取远程主机（客户端）地址和端口
+	 *
+	 * @return 远程主机（客户端）地址和端口
+	 * @throws IORuntimeException IO异常
+	 */
+	public SocketAddress getRemoteAddress() throws IORuntimeException {
+		try {
+			return this.channel.getRemoteAddress();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 从通道读取数据到读缓存，读缓存中未消费的数据保留在前面
+	 *
+	 * @return 读取的字节数，-1表示连接已关闭
+	 * @throws IORuntimeException IO异常
+	 */
+	public int read() throws IORuntimeException {
+		this.readBuffer.compact();
+		try {
+			return this.channel.read(this.readBuffer);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			this.readBuffer.flip();
+		}
+	}
+
+	/**
+	 * 写数据到客户端，不阻塞<br>
+	 * 之前有未写完的数据，或通道无法立即写出全部数据时，剩余数据存入写缓存，在通道可写时继续写出。
+	 *
+	 * @param data 数据
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public synchronized NioSession write(ByteBuffer data) throws IORuntimeException {
+		try {
+			// 有待写出的数据时直接追加，保证顺序
+			if (0 == this.writeBuffer.position()) {
+				//noinspection StatementWithEmptyBody
+				while (data.hasRemaining() && this.channel.write(data) > 0) {
+				}
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+
+		if (data.hasRemaining()) {
+			ensureWritable(data.remaining());
+			this.writeBuffer.put(data);
+			this.worker.execute(() -> {
+				if (key.isValid()) {
+					key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+				}
+			});
+		}
+		return this;
+	}
+
+	/**
+	 * 是否有未写出的数据
+	 *
+	 * @return 是否有未写出的数据
+	 */
+	public synchronized boolean hasPendingWrite() {
+		return this.writeBuffer.position() > 0;
+	}
+
+	/**
+	 * 会话是否打开状态
+	 *
+	 * @return 会话是否打开状态
+	 */
+	public boolean isOpen() {
+		return this.channel.isOpen();
+	}
+
+	/**
+	 * 关闭会话
+	 */
+	@Override
+	public void close() {
+		IoUtil.close(this.channel);
+	}
+
+	/**
+	 * 写出写缓存中的数据，由工作线程在通道可写时调用<br>
+	 * 全部写出后不再监听写事件
+	 *
+	 * @throws IOException IO异常
+	 */
+	synchronized void flush() throws IOException {
+		this.writeBuffer.flip();
+		try {
+			this.channel.write(this.writeBuffer);
+		} finally {
+			this.writeBuffer.compact();
+		}
+		if (0 == this.writeBuffer.position()) {
+			key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+		}
+	}
+
+	/**
+	 * 确保写缓存有足够空间，不足时扩容
+	 *
+	 * @param size 需要的空间
+	 */
+	private void ensureWritable(int size) {
+		if (this.writeBuffer.remaining() < size) {
+			final int capacity = Math.max(this.writeBuffer.capacity() << 1, this.writeBuffer.position() + size);
+			final ByteBuffer newBuffer = ByteBuffer.allocate(capacity);
+			this.writeBuffer.flip();
+			newBuffer.put(this.writeBuffer);
+			this.writeBuffer = newBuffer;
+		}
+	}
+}
@@ -0,0 +1,187 @@
+package cn.hutool.socket.nio;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.log.Log;
+import cn.hutool.socket.SocketConfig;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * NIO工作线程（Worker Reactor）<br>
+ * 每个工作线程持有一个独立的{@link Selector}，负责分配给它的连接的读写事件。<br>
+ * 对{@link Selector}和{@link SelectionKey}的修改（注册新连接、修改监听事件）均通过任务队列交给工作线程执行，
+ * 避免其它线程修改时与{@link Selector#select()}竞争。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+class NioWorker implements Runnable, Closeable {
+	private static final Log log = Log.get();
+
+	private final Selector selector;
+	private final ChannelHandler handler;
+	private final ExecutorService handlerExecutor;
+	private final SocketConfig config;
+	/**
+	 * 待工作线程执行的任务
+	 */
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+	private volatile Thread thread;
+
+	/**
+	 * 构造
+	 *
+	 * @param handler         数据处理器
+	 * @param handlerExecutor 执行数据处理器的线程池，{@code null}表示在工作线程中直接执行
+	 * @param config          配置项
+	 */
+	NioWorker(ChannelHandler handler, ExecutorService handlerExecutor, SocketConfig config) {
+		this.handler = handler;
+		this.handlerExecutor = handlerExecutor;
+		this.config = config;
+		try {
+			this.selector = Selector.open();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 注册新接入的连接，监听读事件
+	 *
+	 * @param socketChannel {@link SocketChannel}
+	 */
+	void register(SocketChannel socketChannel) {
+		execute(() -> {
+			try {
+				socketChannel.configureBlocking(false);
+				final SelectionKey key = socketChannel.register(this.selector, SelectionKey.OP_READ);
+				key.attach(new NioSession(socketChannel, key, this, this.config));
+			} catch (IOException e) {
+				IoUtil.close(socketChannel);
+				log.error(e);
+			}
+		});
+	}
+
+	/**
+	 * 在工作线程中执行任务，当前线程为工作线程时直接执行
+	 *
+	 * @param task 任务
+	 */
+	void execute(Runnable task) {
+		if (Thread.currentThread() == this.thread) {
+			task.run();
+		} else {
+			this.tasks.add(task);
+			this.selector.wakeup();
+		}
+	}
+
+	@Override
+	public void run() {
+		this.thread = Thread.currentThread();
+		try {
+			while (this.selector.isOpen()) {
+				this.selector.select();
+				runTasks();
+				final Iterator<SelectionKey> keyIter = this.selector.selectedKeys().iterator();
+				while (keyIter.hasNext()) {
+					handle(keyIter.next());
+					keyIter.remove();
+				}
+			}
+		} catch (ClosedSelectorException ignore) {
+			// 关闭
+		} catch (IOException e) {
+			log.error(e, "Nio worker stopped");
+		}
+	}
+
+	@Override
+	public void close() {
+		if (this.selector.isOpen()) {
+			for (SelectionKey key : this.selector.keys()) {
+				IoUtil.close(key.channel());
+			}
+		}
+		IoUtil.close(this.selector);
+	}
+
+	/**
+	 * 执行队列中的任务
+	 */
+	private void runTasks() {
+		Runnable task;
+		while (null != (task = this.tasks.poll())) {
+			task.run();
+		}
+	}
+
+	/**
+	 * 处理SelectionKey
+	 *
+	 * @param key SelectionKey
+	 */
+	private void handle(SelectionKey key) {
+		final NioSession session = (NioSession) key.attachment();
+		// 写事件就绪，写出缓存中剩余的数据
+		if (key.isValid() && key.isWritable()) {
+			try {
+				session.flush();
+			} catch (Exception e) {
+				IoUtil.close(session);
+				log.error(e);
+			}
+		}
+
+		// 读事件就绪
+		if (key.isValid() && key.isReadable()) {
+			if (null == this.handlerExecutor) {
+				doHandle(session);
+			} else {
+				// 处理期间暂停监听读事件，避免同一连接被多个线程同时处理
+				key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+				try {
+					this.handlerExecutor.execute(() -> {
+						doHandle(session);
+						execute(() -> {
+							if (key.isValid()) {
+								key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+							}
+						});
+					});
+				} catch (RejectedExecutionException e) {
+					// 线程池饱和或已关闭，关闭此连接，避免恢复监听后反复触发读事件空转，也避免异常终止工作线程
+					IoUtil.close(session);
+					log.error(e, "Handler executor rejected, close session.");
+				}
+			}
+		}
+	}
+
+	/**
+	 * 调用数据处理器，异常时关闭连接
+	 *
+	 * @param session {@link NioSession}
+	 */
+	private void doHandle(NioSession session) {
+		try {
+			handler.handle(session);
+		} catch (Exception e) {
+			IoUtil.close(session);
+			log.error(e);
+		}
+	}
+}
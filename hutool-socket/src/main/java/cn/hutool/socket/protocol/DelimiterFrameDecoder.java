@@ -0,0 +1,104 @@
+package cn.hutool.socket.protocol;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ArrayUtil;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 分隔符帧解码器，按分隔符切分消息，如按换行符切分的文本协议
+ *
+ * <pre>
+ * new DelimiterFrameDecoder("\r\n".getBytes())
+ *
+ * +--------------+      +-----+-----+
+ * | ABC\r\nDE\r\n |  -&gt;  | ABC | DE  |
+ * +--------------+      +-----+-----+
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class DelimiterFrameDecoder extends FrameDecoder {
+
+	private final byte[] delimiter;
+	private final boolean stripDelimiter;
+	/**
+	 * 当前帧已查找过的字节数，数据不足一帧时下次从此处继续查找，避免重复扫描
+	 */
+	private int searchedBytes;
+
+	/**
+	 * 构造，解码后的帧不包含分隔符
+	 *
+	 * @param delimiter 分隔符
+	 */
+	public DelimiterFrameDecoder(byte[] delimiter) {
+		this(DEFAULT_MAX_FRAME_LENGTH, true, delimiter);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param maxFrameLength 最大帧长度，不包括分隔符
+	 * @param stripDelimiter 解码后的帧是否去掉分隔符
+	 * @param delimiter      分隔符
+	 */
+	public DelimiterFrameDecoder(int maxFrameLength, boolean stripDelimiter, byte[] delimiter) {
+		super(maxFrameLength);
+		Assert.isTrue(ArrayUtil.isNotEmpty(delimiter), "Delimiter must be not empty!");
+		this.delimiter = delimiter.clone();
+		this.stripDelimiter = stripDelimiter;
+	}
+
+	@Override
+	protected ByteBuffer decodeFrame(ByteBuffer buffer) {
+		final int start = buffer.position();
+		final int end = buffer.limit() - this.delimiter.length;
+		for (int i = start + this.searchedBytes; i <= end; i++) {
+			if (isDelimiter(buffer, i)) {
+				final int frameLength = i - start;
+				checkFrameLength(frameLength);
+				final ByteBuffer frame = slice(buffer, 0, this.stripDelimiter ? frameLength : frameLength + this.delimiter.length);
+				buffer.position(i + this.delimiter.length);
+				this.searchedBytes = 0;
+				return frame;
+			}
+		}
+		// 最后不足分隔符长度的字节可能是分隔符的开头，下次重新查找
+		this.searchedBytes = Math.max(0, end + 1 - start);
+		return null;
+	}
+
+	/**
+	 * 最大长度的帧之后可能还有不完整的分隔符，未解码的数据最多为最大帧长度加分隔符长度减1
+	 *
+	 * @return 不足一帧的数据允许的最大字节数
+	 */
+	@Override
+	protected long maxBufferedLength() {
+		return (long) this.maxFrameLength + this.delimiter.length - 1;
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+		this.searchedBytes = 0;
+	}
+
+	/**
+	 * 给定位置是否为分隔符
+	 *
+	 * @param buffer 缓存
+	 * @param index  位置
+	 * @return 是否为分隔符
+	 */
+	private boolean isDelimiter(ByteBuffer buffer, int index) {
+		for (int i = 0; i < this.delimiter.length; i++) {
+			if (buffer.get(index + i) != this.delimiter[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,37 @@
+package cn.hutool.socket.protocol;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 定长帧解码器，按固定长度切分消息
+ *
+ * <pre>
+ * +---+----+------+----+      +-----+-----+-----+
+ * | A | BC | DEFG | HI |  -&gt;  | ABC | DEF | GHI |
+ * +---+----+------+----+      +-----+-----+-----+
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class FixedLengthFrameDecoder extends FrameDecoder {
+
+	/**
+	 * 构造
+	 *
+	 * @param frameLength 帧长度
+	 */
+	public FixedLengthFrameDecoder(int frameLength) {
+		super(frameLength);
+	}
+
+	@Override
+	protected ByteBuffer decodeFrame(ByteBuffer buffer) {
+		if (buffer.remaining() < this.maxFrameLength) {
+			return null;
+		}
+		final ByteBuffer frame = slice(buffer, 0, this.maxFrameLength);
+		buffer.position(buffer.position() + this.maxFrameLength);
+		return frame;
+	}
+}
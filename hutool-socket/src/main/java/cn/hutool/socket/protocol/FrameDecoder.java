@@ -0,0 +1,178 @@
+package cn.hutool.socket.protocol;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.socket.SocketRuntimeException;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * 帧解码器，将连续的字节流切分为完整的消息帧（处理半包和粘包）<br>
+ * 读取到的数据中包含完整的帧时，直接切分读缓存得到帧（共享读缓存的数据，不复制）；
+ * 不足一帧的剩余数据复制到累积缓存，与下次读取的数据合并后继续切分。<br>
+ * 解码器保存连接的累积状态，每个连接使用独立的解码器对象，非线程安全。<br>
+ * 传给处理器的帧数据仅在回调期间有效，回调结束后读缓存会被复用，需保留时应复制。
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public abstract class FrameDecoder {
+
+	/**
+	 * 默认最大帧长度，1MB
+	 */
+	public static final int DEFAULT_MAX_FRAME_LENGTH = 1024 * 1024;
+
+	/**
+	 * 最大帧长度，超出时抛出异常，避免异常数据耗尽内存
+	 */
+	protected final int maxFrameLength;
+	/**
+	 * 累积缓存，写模式，保存不足一帧的数据
+	 */
+	private ByteBuffer cumulation;
+
+	/**
+	 * 构造
+	 *
+	 * @param maxFrameLength 最大帧长度
+	 */
+	protected FrameDecoder(int maxFrameLength) {
+		Assert.isTrue(maxFrameLength > 0, "Max frame length must be > 0!");
+		this.maxFrameLength = maxFrameLength;
+	}
+
+	/**
+	 * 解码读取到的数据，每得到一个完整的帧调用一次处理器，数据全部被消费
+	 *
+	 * @param in      读取到的数据，读模式
+	 * @param handler 帧处理器
+	 * @throws SocketRuntimeException 帧长度超出最大帧长度
+	 */
+	public void decode(ByteBuffer in, Consumer<ByteBuffer> handler) throws SocketRuntimeException {
+		if (null == this.cumulation || 0 == this.cumulation.position()) {
+			// 无累积数据时直接切分读缓存
+			decodeFrames(in, handler);
+			if (in.hasRemaining()) {
+				checkBufferedLength(in.remaining());
+				cumulate(in);
+			}
+			return;
+		}
+
+		cumulate(in);
+		this.cumulation.flip();
+		try {
+			decodeFrames(this.cumulation, handler);
+			checkBufferedLength(this.cumulation.remaining());
+		} finally {
+			this.cumulation.compact();
+		}
+	}
+
+	/**
+	 * 获取累积缓存中未解码的字节数
+	 *
+	 * @return 未解码的字节数
+	 */
+	public int getCumulatedBytes() {
+		return null == this.cumulation ? 0 : this.cumulation.position();
+	}
+
+	/**
+	 * 清空累积的数据，如连接异常后重置解码器
+	 */
+	public void reset() {
+		this.cumulation = null;
+	}
+
+	/**
+	 * 从缓存当前位置解码一个帧<br>
+	 * 数据足够时返回帧并将缓存位置移动到帧之后；数据不足时返回{@code null}，不移动缓存位置。
+	 *
+	 * @param buffer 缓存，读模式
+	 * @return 帧，{@code null}表示数据不足一帧
+	 * @throws SocketRuntimeException 帧格式错误或长度超出最大帧长度
+	 */
+	protected abstract ByteBuffer decodeFrame(ByteBuffer buffer) throws SocketRuntimeException;
+
+	/**
+	 * 切分缓存，返回的缓存与原缓存共享数据
+	 *
+	 * @param buffer 缓存
+	 * @param offset 相对当前位置的偏移
+	 * @param length 长度
+	 * @return 切分的缓存
+	 */
+	protected static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+		final ByteBuffer duplicate = buffer.duplicate();
+		duplicate.position(buffer.position() + offset);
+		duplicate.limit(buffer.position() + offset + length);
+		return duplicate.slice();
+	}
+
+	/**
+	 * 检查帧长度
+	 *
+	 * @param length 帧长度
+	 * @throws SocketRuntimeException 帧长度超出最大帧长度
+	 */
+	protected void checkFrameLength(long length) throws SocketRuntimeException {
+		if (length > this.maxFrameLength) {
+			throw new SocketRuntimeException("Frame length {} exceeds max frame length {}", length, this.maxFrameLength);
+		}
+	}
+
+	/**
+	 * 不足一帧的数据允许的最大字节数，默认为最大帧长度<br>
+	 * 未解码的数据可能包含帧之外的字节时（如分隔符），子类应返回包含这部分字节的长度，避免合法数据被误判为超长
+	 *
+	 * @return 不足一帧的数据允许的最大字节数
+	 */
+	protected long maxBufferedLength() {
+		return this.maxFrameLength;
+	}
+
+	/**
+	 * 检查不足一帧的数据长度，超出{@link #maxBufferedLength()}时说明无法组成合法的帧
+	 *
+	 * @param length 未解码的字节数
+	 * @throws SocketRuntimeException 超出最大长度
+	 */
+	private void checkBufferedLength(int length) throws SocketRuntimeException {
+		if (length > maxBufferedLength()) {
+			throw new SocketRuntimeException("Frame length {} exceeds max frame length {}", length, this.maxFrameLength);
+		}
+	}
+
+	/**
+	 * 依次解码缓存中的所有完整帧
+	 *
+	 * @param buffer  缓存
+	 * @param handler 帧处理器
+	 */
+	private void decodeFrames(ByteBuffer buffer, Consumer<ByteBuffer> handler) {
+		ByteBuffer frame;
+		while (buffer.hasRemaining() && null != (frame = decodeFrame(buffer))) {
+			handler.accept(frame);
+		}
+	}
+
+	/**
+	 * 将数据追加到累积缓存，空间不足时扩容
+	 *
+	 * @param in 数据
+	 */
+	private void cumulate(ByteBuffer in) {
+		final int size = in.remaining();
+		if (null == this.cumulation) {
+			this.cumulation = ByteBuffer.allocate(Math.max(size, 256));
+		} else if (this.cumulation.remaining() < size) {
+			final ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(this.cumulation.capacity() << 1, this.cumulation.position() + size));
+			this.cumulation.flip();
+			newBuffer.put(this.cumulation);
+			this.cumulation = newBuffer;
+		}
+		this.cumulation.put(in);
+	}
+}
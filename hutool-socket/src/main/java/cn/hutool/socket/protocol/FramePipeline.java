@@ -0,0 +1,122 @@
+package cn.hutool.socket.protocol;
+
+import cn.hutool.core.lang.Assert;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 帧处理管道<br>
+ * 由一个{@link FrameDecoder}和若干处理阶段组成：读取到的数据先切分为帧，再依次经过各处理阶段转换，最后交给业务处理器。
+ * 某个阶段返回{@code null}时丢弃此消息，不再传递（可用于过滤或聚合多帧）。<br>
+ * 管道持有解码器的累积状态，每个连接创建独立的管道，可保存在会话的附件中：
+ *
+ * <pre>
+ * // 会话建立时
+ * session.setAttachment(FramePipeline.of(new LengthFieldFrameDecoder(4))
+ * 		.map(StrUtil::utf8Str)
+ * 		.handler(msg -&gt; Console.log(msg)));
+ *
+ * // 读取到数据时
+ * session.&lt;FramePipeline&lt;String&gt;&gt;getAttachment().fireRead(readBuffer);
+ * </pre>
+ *
+ * @param <T> 管道输出的消息类型
+ * @author looly
+ * @since 5.8.36
+ */
+public class FramePipeline<T> {
+
+	private final FrameDecoder decoder;
+	private final List<Function<Object, Object>> stages;
+	private Consumer<? super T> handler;
+
+	/**
+	 * 创建管道，输出解码后的帧
+	 *
+	 * @param decoder 帧解码器
+	 * @return FramePipeline
+	 */
+	public static FramePipeline<ByteBuffer> of(FrameDecoder decoder) {
+		return new FramePipeline<>(decoder, Collections.emptyList());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param decoder 帧解码器
+	 * @param stages  处理阶段
+	 */
+	private FramePipeline(FrameDecoder decoder, List<Function<Object, Object>> stages) {
+		this.decoder = Assert.notNull(decoder, "Frame decoder must be not null!");
+		this.stages = stages;
+	}
+
+	/**
+	 * 增加处理阶段，返回新的管道<br>
+	 * 第一个阶段的输入为帧，帧数据仅在调用期间有效，转换为需保留的对象时应复制数据
+	 *
+	 * @param <R>   转换后的消息类型
+	 * @param stage 处理阶段，返回{@code null}表示丢弃此消息
+	 * @return 新的管道
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> FramePipeline<R> map(Function<? super T, ? extends R> stage) {
+		final List<Function<Object, Object>> stages = new ArrayList<>(this.stages.size() + 1);
+		stages.addAll(this.stages);
+		stages.add((Function<Object, Object>) stage);
+		return new FramePipeline<>(this.decoder, stages);
+	}
+
+	/**
+	 * 设置业务处理器
+	 *
+	 * @param handler 业务处理器
+	 * @return this
+	 */
+	public FramePipeline<T> handler(Consumer<? super T> handler) {
+		this.handler = handler;
+		return this;
+	}
+
+	/**
+	 * 获取帧解码器
+	 *
+	 * @return 帧解码器
+	 */
+	public FrameDecoder getDecoder() {
+		return this.decoder;
+	}
+
+	/**
+	 * 处理读取到的数据，数据全部被消费，完整的帧依次经过各处理阶段后交给业务处理器
+	 *
+	 * @param readBuffer 读取到的数据，读模式
+	 */
+	public void fireRead(ByteBuffer readBuffer) {
+		this.decoder.decode(readBuffer, this::fireFrame);
+	}
+
+	/**
+	 * 处理一个帧
+	 *
+	 * @param frame 帧
+	 */
+	@SuppressWarnings("unchecked")
+	private void fireFrame(ByteBuffer frame) {
+		Object msg = frame;
+		for (Function<Object, Object> stage : this.stages) {
+			msg = stage.apply(msg);
+			if (null == msg) {
+				return;
+			}
+		}
+		if (null != this.handler) {
+			this.handler.accept((T) msg);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package cn.hutool.socket.protocol;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.socket.SocketRuntimeException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 长度字段帧解码器，根据消息头中的长度字段（大端）切分消息<br>
+ * 帧总长度 = 长度字段之前的字节数 + 长度字段长度 + 长度字段的值 + 长度调整值。<br>
+ * 例如长度字段为2字节，值为内容长度，解码时去掉长度字段：
+ *
+ * <pre>
+ * new LengthFieldFrameDecoder(2)
+ *
+ * +--------+----------------+      +----------------+
+ * | 0x000C | "HELLO, WORLD" |  -&gt;  | "HELLO, WORLD" |
+ * +--------+----------------+      +----------------+
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.36
+ */
+public class LengthFieldFrameDecoder extends FrameDecoder {
+
+	private final int lengthFieldOffset;
+	private final int lengthFieldLength;
+	private final int lengthAdjustment;
+	private final int initialBytesToStrip;
+
+	/**
+	 * 构造，长度字段位于帧开头，值为内容长度，解码后去掉长度字段
+	 *
+	 * @param lengthFieldLength 长度字段的字节数，支持1、2、3、4、8
+	 */
+	public LengthFieldFrameDecoder(int lengthFieldLength) {
+		this(DEFAULT_MAX_FRAME_LENGTH, 0, lengthFieldLength, 0, lengthFieldLength);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param maxFrameLength      最大帧长度
+	 * @param lengthFieldOffset   长度字段的偏移
+	 * @param lengthFieldLength   长度字段的字节数，支持1、2、3、4、8
+	 * @param lengthAdjustment    长度调整值，如长度字段的值包含消息头长度时为负的消息头长度
+	 * @param initialBytesToStrip 解码后从帧开头去掉的字节数，如去掉消息头
+	 */
+	public LengthFieldFrameDecoder(int maxFrameLength, int lengthFieldOffset, int lengthFieldLength,
+								   int lengthAdjustment, int initialBytesToStrip) {
+		super(maxFrameLength);
+		Assert.isTrue(lengthFieldOffset >= 0, "Length field offset must be >= 0!");
+		Assert.isTrue(lengthFieldLength == 1 || lengthFieldLength == 2 || lengthFieldLength == 3
+				|| lengthFieldLength == 4 || lengthFieldLength == 8, "Length field length must be 1, 2, 3, 4 or 8!");
+		Assert.isTrue(initialBytesToStrip >= 0, "Initial bytes to strip must be >= 0!");
+		this.lengthFieldOffset = lengthFieldOffset;
+		this.lengthFieldLength = lengthFieldLength;
+		this.lengthAdjustment = lengthAdjustment;
+		this.initialBytesToStrip = initialBytesToStrip;
+	}
+
+	@Override
+	protected ByteBuffer decodeFrame(ByteBuffer buffer) {
+		final int headerLength = this.lengthFieldOffset + this.lengthFieldLength;
+		if (buffer.remaining() < headerLength) {
+			return null;
+		}
+
+		final long frameLength = readLength(buffer, buffer.position() + this.lengthFieldOffset) + this.lengthAdjustment + headerLength;
+		if (frameLength < headerLength || frameLength < this.initialBytesToStrip) {
+			throw new SocketRuntimeException("Invalid frame length: {}", frameLength);
+		}
+		// 长度字段读取后即可检查，无需等待数据全部到达
+		checkFrameLength(frameLength);
+		if (buffer.remaining() < frameLength) {
+			return null;
+		}
+
+		final ByteBuffer frame = slice(buffer, this.initialBytesToStrip, (int) frameLength - this.initialBytesToStrip);
+		buffer.position(buffer.position() + (int) frameLength);
+		return frame;
+	}
+
+	/**
+	 * 读取长度字段的值，无符号
+	 *
+	 * @param buffer 缓存
+	 * @param index  长度字段的位置
+	 * @return 长度
+	 */
+	private long readLength(ByteBuffer buffer, int index) {
+		switch (this.lengthFieldLength) {
+			case 1:
+				return buffer.get(index) & 0xFF;
+			case 2:
+				return ((buffer.get(index) & 0xFF) << 8) | (buffer.get(index + 1) & 0xFF);
+			case 3:
+				return ((buffer.get(index) & 0xFF) << 16) | ((buffer.get(index + 1) & 0xFF) << 8) | (buffer.get(index + 2) & 0xFF);
+			case 4:
+				return ((long) (buffer.get(index) & 0xFF) << 24) | ((buffer.get(index + 1) & 0xFF) << 16)
+						| ((buffer.get(index + 2) & 0xFF) << 8) | (buffer.get(index + 3) & 0xFF);
+			default:
+				long length = 0;
+				for (int i = 0; i < 8; i++) {
+					length = (length << 8) | (buffer.get(index + i) & 0xFF);
+				}
+				return length;
+		}
+	}
+}
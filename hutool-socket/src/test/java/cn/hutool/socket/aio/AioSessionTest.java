@@ -0,0 +1,189 @@
+package cn.hutool.socket.aio;
+
+import cn.hutool.core.net.NetUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.socket.BufferPool;
+import cn.hutool.socket.SocketConfig;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AioSessionTest {
+
+	@Test
+	public void bufferPoolTest() {
+		final BufferPool pool = new BufferPool(1024, 1);
+		final ByteBuffer buffer1 = pool.acquire();
+		final ByteBuffer buffer2 = pool.acquire();
+		assertTrue(buffer1.isDirect());
+		assertEquals(1024, buffer1.capacity());
+
+		buffer1.put((byte) 1);
+		pool.release(buffer1);
+		// 超出空闲数量的丢弃
+		pool.release(buffer2);
+		// 非此池的缓存丢弃
+		pool.release(ByteBuffer.allocate(1024));
+		assertEquals(1, pool.getIdleCount());
+
+		final ByteBuffer reused = pool.acquire();
+		assertSame(buffer1, reused);
+		assertEquals(0, reused.position());
+		assertEquals(0, pool.getIdleCount());
+	}
+
+	@Test
+	public void concurrentSendTest() throws Exception {
+		final int threads = 8;
+		final int count = 2000;
+		final BufferPool pool = new BufferPool(1024, 16);
+		final SocketConfig config = new SocketConfig();
+		config.setBufferPool(pool);
+		config.setWriteHighWatermark(Integer.MAX_VALUE);
+
+		final AtomicReference<AioSession> sessionRef = new AtomicReference<>();
+		final int port = NetUtil.getUsableLocalPort();
+		final AioServer server = createServer(port, config, session -> {
+			sessionRef.set(session);
+			for (int t = 0; t < threads; t++) {
+				final int threadId = t;
+				ThreadUtil.execute(() -> {
+					for (int i = 0; i < count; i++) {
+						final ByteBuffer data = ByteBuffer.allocate(8);
+						data.putInt(threadId).putInt(i).flip();
+						session.send(data);
+					}
+				});
+			}
+		});
+
+		try (final Socket socket = new Socket("127.0.0.1", port)) {
+			final DataInputStream in = new DataInputStream(socket.getInputStream());
+			final int[] next = new int[threads];
+			for (int i = 0; i < threads * count; i++) {
+				final int threadId = in.readInt();
+				// 同一线程发送的数据按顺序到达，且不交错
+				assertEquals(next[threadId]++, in.readInt());
+			}
+		} finally {
+			server.close();
+		}
+
+		sessionRef.get().close();
+		// 读写缓存在正在进行的读取结束后归还到池中，重复关闭不重复归还
+		sessionRef.get().close();
+		waitForIdle(pool, 2);
+		assertEquals(2, pool.getIdleCount());
+	}
+
+	@Test
+	public void closeInCallbackTest() throws Exception {
+		final BufferPool pool = new BufferPool(1024, 16);
+		final SocketConfig config = new SocketConfig();
+		config.setBufferPool(pool);
+
+		final CountDownLatch done = new CountDownLatch(1);
+		final AtomicInteger idleInCallback = new AtomicInteger(-1);
+		final AtomicReference<String> dataInCallback = new AtomicReference<>();
+		final int port = NetUtil.getUsableLocalPort();
+		final AioServer server = new AioServer(new InetSocketAddress("127.0.0.1", port), config);
+		server.setIoAction(new SimpleIoAction() {
+			@Override
+			public void doAction(AioSession session, ByteBuffer data) {
+				// 回调中关闭会话，回调结束前读缓存不归还
+				session.close();
+				idleInCallback.set(pool.getIdleCount());
+				dataInCallback.set(StrUtil.utf8Str(data));
+				done.countDown();
+			}
+		});
+		server.start(false);
+
+		try (final Socket socket = new Socket("127.0.0.1", port)) {
+			socket.getOutputStream().write(StrUtil.utf8Bytes("hutool"));
+			assertTrue(done.await(5, TimeUnit.SECONDS));
+			assertEquals(0, idleInCallback.get());
+			assertEquals("hutool", dataInCallback.get());
+			waitForIdle(pool, 2);
+			assertEquals(2, pool.getIdleCount());
+		} finally {
+			server.close();
+		}
+	}
+
+	@Test
+	public void watermarkTest() throws Exception {
+		final SocketConfig config = new SocketConfig();
+		config.setWriteHighWatermark(64 * 1024);
+		config.setWriteLowWatermark(16 * 1024);
+
+		final CountDownLatch unwritable = new CountDownLatch(1);
+		final AtomicReference<AioSession> sessionRef = new AtomicReference<>();
+		final AtomicLong pendingWhenUnwritable = new AtomicLong();
+		final AtomicLong sentBytes = new AtomicLong();
+		final int port = NetUtil.getUsableLocalPort();
+		final AioServer server = createServer(port, config, session -> {
+			sessionRef.set(session);
+			// 客户端不读取，持续发送直到超过高水位
+			while (session.isWritable()) {
+				session.send(ByteBuffer.allocate(8 * 1024));
+				sentBytes.addAndGet(8 * 1024);
+			}
+			pendingWhenUnwritable.set(session.getPendingWriteBytes());
+			unwritable.countDown();
+		});
+
+		try (final Socket socket = new Socket("127.0.0.1", port)) {
+			assertTrue(unwritable.await(10, TimeUnit.SECONDS));
+			assertTrue(pendingWhenUnwritable.get() > 64 * 1024);
+
+			// 客户端读取全部数据后，待写出的数据降到低水位以下，恢复可写
+			final DataInputStream in = new DataInputStream(socket.getInputStream());
+			in.readFully(new byte[(int) sentBytes.get()]);
+			final AioSession session = sessionRef.get();
+			final long deadline = System.currentTimeMillis() + 5000;
+			while (false == session.isWritable() && System.currentTimeMillis() < deadline) {
+				ThreadUtil.sleep(10);
+			}
+			assertTrue(session.isWritable());
+			assertEquals(0, session.getPendingWriteBytes());
+		} finally {
+			server.close();
+		}
+	}
+
+	private static void waitForIdle(BufferPool pool, int count) {
+		final long deadline = System.currentTimeMillis() + 5000;
+		while (pool.getIdleCount() < count && System.currentTimeMillis() < deadline) {
+			ThreadUtil.sleep(10);
+		}
+	}
+
+	private static AioServer createServer(int port, SocketConfig config, Consumer<AioSession> onAccept) {
+		final AioServer server = new AioServer(new InetSocketAddress("127.0.0.1", port), config);
+		server.setIoAction(new SimpleIoAction() {
+			@Override
+			public void accept(AioSession session) {
+				ThreadUtil.execute(() -> onAccept.accept(session));
+			}
+
+			@Override
+			public void doAction(AioSession session, ByteBuffer data) {
+			}
+		});
+		server.start(false);
+		return server;
+	}
+}
@@ -4,14 +4,93 @@ import cn.hutool.core.io.BufferUtil;
 import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.lang.Console;
+import cn.hutool.core.net.NetUtil;
+import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.StrUtil;
+import cn.hutool.socket.SocketConfig;
+import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class NioServerTest {
 
+	@Test
+	public void multiWorkerEchoTest() throws Exception {
+		echoTest(null);
+	}
+
+	@Test
+	public void handlerExecutorEchoTest() throws Exception {
+		final ExecutorService executor = ThreadUtil.newExecutor(4);
+		try {
+			echoTest(executor);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static void echoTest(ExecutorService executor) throws Exception {
+		final int port = NetUtil.getUsableLocalPort();
+		final SocketConfig config = new SocketConfig();
+		config.setThreadPoolSize(2);
+		config.setReadBufferSize(16);
+		config.setWriteBufferSize(16);
+		final NioServer server = new NioServer(new InetSocketAddress("127.0.0.1", port), config);
+		server.setHandlerExecutor(executor);
+		server.setChannelHandler(new ChannelHandler() {
+			@Override
+			public void handle(SocketChannel socketChannel) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public void handle(NioSession session) {
+				if (session.read() < 0) {
+					session.close();
+					return;
+				}
+				// 回写读缓存中的全部数据，超出写缓存大小的部分在可写时继续写出
+				final ByteBuffer readBuffer = session.getReadBuffer();
+				final ByteBuffer data = ByteBuffer.allocate(readBuffer.remaining());
+				data.put(readBuffer).flip();
+				session.write(data);
+			}
+		});
+		ThreadUtil.execute(server::listen);
+
+		try {
+			final byte[] message = StrUtil.repeat("hutool-", 1000).getBytes();
+			for (int i = 0; i < 4; i++) {
+				try (final Socket socket = new Socket("127.0.0.1", port)) {
+					final OutputStream out = socket.getOutputStream();
+					out.write(message);
+					out.flush();
+
+					final InputStream in = socket.getInputStream();
+					final byte[] received = new byte[message.length];
+					int read = 0;
+					while (read < received.length) {
+						final int n = in.read(received, read, received.length - read);
+						assertTrue(n > 0);
+						read += n;
+					}
+					assertArrayEquals(message, received);
+				}
+			}
+		} finally {
+			server.close();
+		}
+	}
+
 	public static void main(String[] args) {
 		NioServer server = new NioServer(8080);
 		server.setChannelHandler((sc)->{
@@ -0,0 +1,145 @@
+package cn.hutool.socket.protocol;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.socket.SocketRuntimeException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameDecoderTest {
+
+	@Test
+	public void lengthFieldTest() {
+		final ByteBuffer data = ByteBuffer.allocate(4096);
+		final List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			final byte[] body = StrUtil.repeat("x", i).concat("-" + i).getBytes(StandardCharsets.UTF_8);
+			data.putShort((short) body.length).put(body);
+			expected.add(StrUtil.utf8Str(body));
+		}
+		data.flip();
+
+		assertEquals(expected, decodeInChunks(new LengthFieldFrameDecoder(2), data));
+	}
+
+	@Test
+	public void lengthFieldWithHeaderTest() {
+		// 1字节类型 + 4字节长度（包含消息头5字节），解码后保留消息头
+		final ByteBuffer data = ByteBuffer.allocate(64);
+		data.put((byte) 7).putInt(5 + 3).put("abc".getBytes(StandardCharsets.UTF_8));
+		data.flip();
+
+		final List<ByteBuffer> frames = new ArrayList<>();
+		new LengthFieldFrameDecoder(1024, 1, 4, -5, 0).decode(data, frames::add);
+		assertEquals(1, frames.size());
+		assertEquals(8, frames.get(0).remaining());
+		assertEquals(7, frames.get(0).get(0));
+	}
+
+	@Test
+	public void lengthFieldTooLongTest() {
+		final ByteBuffer data = ByteBuffer.allocate(4);
+		data.putInt(1025).flip();
+		assertThrows(SocketRuntimeException.class,
+				() -> new LengthFieldFrameDecoder(1024, 0, 4, 0, 4).decode(data, frame -> fail("Unexpected frame")));
+	}
+
+	@Test
+	public void delimiterTest() {
+		final StringBuilder text = new StringBuilder();
+		final List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			final String line = StrUtil.repeat("y", i) + i;
+			text.append(line).append("\r\n");
+			expected.add(line);
+		}
+		final ByteBuffer data = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+
+		assertEquals(expected, decodeInChunks(new DelimiterFrameDecoder("\r\n".getBytes()), data));
+	}
+
+	@Test
+	public void delimiterMaxLengthTest() {
+		// 最大长度的帧后跟不完整的分隔符，不应判断为超长
+		final DelimiterFrameDecoder decoder = new DelimiterFrameDecoder(4, true, "\r\n".getBytes());
+		final List<String> frames = new ArrayList<>();
+		decoder.decode(ByteBuffer.wrap("ABCD\r".getBytes(StandardCharsets.UTF_8)), frame -> frames.add(StrUtil.utf8Str(frame)));
+		decoder.decode(ByteBuffer.wrap("\nEFGH\r".getBytes(StandardCharsets.UTF_8)), frame -> frames.add(StrUtil.utf8Str(frame)));
+		decoder.decode(ByteBuffer.wrap("\n".getBytes(StandardCharsets.UTF_8)), frame -> frames.add(StrUtil.utf8Str(frame)));
+		assertEquals(ListUtil.of("ABCD", "EFGH"), frames);
+
+		// 超出最大长度且无法组成帧
+		assertThrows(SocketRuntimeException.class,
+				() -> decoder.decode(ByteBuffer.wrap("ABCDEF".getBytes(StandardCharsets.UTF_8)), frame -> fail("Unexpected frame")));
+	}
+
+	@Test
+	public void fixedLengthTest() {
+		final ByteBuffer data = ByteBuffer.wrap("ABCDEFGHI".getBytes(StandardCharsets.UTF_8));
+		final List<String> frames = new ArrayList<>();
+		final FrameDecoder decoder = new FixedLengthFrameDecoder(3);
+		decoder.decode(slice(data, 0, 1), frame -> frames.add(StrUtil.utf8Str(frame)));
+		decoder.decode(slice(data, 1, 3), frame -> frames.add(StrUtil.utf8Str(frame)));
+		decoder.decode(slice(data, 4, 5), frame -> frames.add(StrUtil.utf8Str(frame)));
+		assertEquals(3, frames.size());
+		assertEquals("ABC", frames.get(0));
+		assertEquals("DEF", frames.get(1));
+		assertEquals("GHI", frames.get(2));
+		assertEquals(0, decoder.getCumulatedBytes());
+	}
+
+	@Test
+	public void zeroCopyTest() {
+		final byte[] bytes = "abcdef".getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer data = ByteBuffer.wrap(bytes);
+		new FixedLengthFrameDecoder(3).decode(data, frame -> {
+			// 完整的帧直接共享读缓存的数据
+			assertSame(bytes, frame.array());
+		});
+	}
+
+	@Test
+	public void pipelineTest() {
+		final List<Integer> lengths = new ArrayList<>();
+		final FramePipeline<Integer> pipeline = FramePipeline.of(new DelimiterFrameDecoder("\n".getBytes()))
+				.map(StrUtil::utf8Str)
+				// 丢弃空行
+				.map(line -> line.isEmpty() ? null : line)
+				.map(String::length)
+				.handler(lengths::add);
+
+		pipeline.fireRead(ByteBuffer.wrap("a\n\nbb\nc".getBytes()));
+		pipeline.fireRead(ByteBuffer.wrap("cc\n".getBytes()));
+		assertEquals(ListUtil.of(1, 2, 3), lengths);
+	}
+
+	/**
+	 * 将数据随机切分为多次读取后解码
+	 */
+	private static List<String> decodeInChunks(FrameDecoder decoder, ByteBuffer data) {
+		final Random random = new Random(0);
+		final List<String> frames = new ArrayList<>();
+		final int length = data.remaining();
+		int offset = 0;
+		while (offset < length) {
+			final int size = Math.min(length - offset, 1 + random.nextInt(40));
+			decoder.decode(slice(data, offset, size), frame -> frames.add(StrUtil.utf8Str(frame)));
+			offset += size;
+		}
+		assertEquals(0, decoder.getCumulatedBytes());
+		return frames;
+	}
+
+	private static ByteBuffer slice(ByteBuffer data, int offset, int length) {
+		final ByteBuffer buffer = ByteBuffer.allocate(length);
+		buffer.put(data.array(), offset, length).flip();
+		return buffer;
+	}
+}